@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import java.util.Objects;
+
+/**
+ * A typed field of the static metamodel of an entity. It has the column name, so a query built from an
+ * attribute is checked at compile time and does not parse method names.
+ *
+ * @param <E> the entity type
+ * @param <V> the field value type
+ * @see EntityModel
+ */
+public interface Attribute<E, V> {
+
+    /**
+     * Returns the entity model that has this attribute
+     *
+     * @return the entity model
+     */
+    EntityModel<E> getEntity();
+
+    /**
+     * Returns the Java field name
+     *
+     * @return the field name
+     */
+    String getFieldName();
+
+    /**
+     * Returns the column name, see {@link Column#value()}
+     *
+     * @return the column name
+     */
+    String getName();
+
+    /**
+     * Creates an attribute
+     *
+     * @param entity    the entity model
+     * @param fieldName the Java field name
+     * @param name      the column name
+     * @param <E>       the entity type
+     * @param <V>       the field value type
+     * @return the attribute instance
+     * @throws NullPointerException when there is null parameter
+     */
+    static <E, V> Attribute<E, V> of(EntityModel<E> entity, String fieldName, String name)
+            throws NullPointerException {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(fieldName, "fieldName is required");
+        Objects.requireNonNull(name, "name is required");
+        return new DefaultAttribute<>(entity, fieldName, name);
+    }
+}
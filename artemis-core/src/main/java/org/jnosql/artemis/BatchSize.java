@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * The number of entities sent to the database in each round trip when a repository saves or updates
+ * an {@link Iterable} of entities. By default it is {@link BatchSize#DEFAULT_SIZE}, to use another size specialize
+ * this bean calling {@link BatchSize#BatchSize(int)}. The chunks of an In condition have their own size, see
+ * {@link ChunkSize}, and so do the key-value async batches, see {@link org.jnosql.artemis.key.KeyValueBatchSize}.
+ */
+@ApplicationScoped
+public class BatchSize {
+
+    /**
+     * The default number of entities in each round trip
+     */
+    public static final int DEFAULT_SIZE = 500;
+
+    private final int size;
+
+    public BatchSize() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates a {@link BatchSize} instance
+     *
+     * @param size the number of entities in each round trip
+     * @throws IllegalArgumentException when size is not positive
+     */
+    public BatchSize(int size) throws IllegalArgumentException {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive: " + size);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of entities in each round trip
+     *
+     * @return the batch size
+     */
+    public int get() {
+        return size;
+    }
+}
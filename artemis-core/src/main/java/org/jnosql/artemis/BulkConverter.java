@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import javax.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Converts lists of entities in bulk. Lists up to the threshold are converted in the caller thread,
+ * the larger ones are split in chunks: the chunks are forked to the executor, the first one is converted
+ * in the caller thread and then the results are joined keeping the original order.
+ * By default the threshold is {@link BulkConverter#DEFAULT_THRESHOLD} and the executor is the common
+ * {@link ForkJoinPool}, to use another threshold or executor specialize this bean calling
+ * {@link BulkConverter#BulkConverter(int, Executor)}.
+ */
+@ApplicationScoped
+public class BulkConverter {
+
+    /**
+     * The default size up to which a list is converted sequentially
+     */
+    public static final int DEFAULT_THRESHOLD = 1_000;
+
+    private final int threshold;
+
+    private final Executor executor;
+
+    public BulkConverter() {
+        this(DEFAULT_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link BulkConverter} instance
+     *
+     * @param threshold the size up to which a list is converted sequentially
+     * @param executor  the executor to the forked chunks
+     * @throws NullPointerException     when executor is null
+     * @throws IllegalArgumentException when threshold is not positive
+     */
+    public BulkConverter(int threshold, Executor executor) throws NullPointerException, IllegalArgumentException {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("The threshold must be positive: " + threshold);
+        }
+        this.threshold = threshold;
+        this.executor = requireNonNull(executor, "executor is required");
+    }
+
+    /**
+     * Returns the size up to which a list is converted sequentially
+     *
+     * @return the threshold
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Returns the executor to the forked chunks
+     *
+     * @return the executor
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Converts each element of the list keeping the order
+     *
+     * @param values    the values to be converted
+     * @param converter the converter to each element, it must be thread safe
+     * @param <T>       the source type
+     * @param <R>       the target type
+     * @return the converted list
+     * @throws NullPointerException when either values or converter is null
+     */
+    public <T, R> List<R> convert(List<T> values, Function<? super T, ? extends R> converter)
+            throws NullPointerException {
+        requireNonNull(values, "values is required");
+        requireNonNull(converter, "converter is required");
+        List<T> source = values instanceof RandomAccess ? values : new ArrayList<>(values);
+        int size = source.size();
+        if (size <= threshold) {
+            return convert(source, 0, size, converter);
+        }
+
+        int chunk = Math.max(threshold, ceil(size, Runtime.getRuntime().availableProcessors() * 4));
+        List<CompletableFuture<List<R>>> forks = new ArrayList<>();
+        for (int start = chunk; start < size; start += chunk) {
+            int from = start;
+            int to = Math.min(size, start + chunk);
+            forks.add(CompletableFuture.supplyAsync(() -> convert(source, from, to, converter), executor));
+        }
+
+        List<R> result = new ArrayList<>(size);
+        result.addAll(convert(source, 0, chunk, converter));
+        for (CompletableFuture<List<R>> fork : forks) {
+            result.addAll(join(fork));
+        }
+        return result;
+    }
+
+    private static <T, R> List<R> convert(List<T> values, int from, int to, Function<? super T, ? extends R> converter) {
+        List<R> result = new ArrayList<>(to - from);
+        for (int index = from; index < to; index++) {
+            result.add(converter.apply(values.get(index)));
+        }
+        return result;
+    }
+
+    private static <R> List<R> join(CompletableFuture<List<R>> fork) {
+        try {
+            return fork.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            if (exception.getCause() instanceof Error) {
+                throw (Error) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    private static int ceil(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
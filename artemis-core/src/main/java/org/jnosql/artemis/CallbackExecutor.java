@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Typed;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The executor where the asynchronous repositories convert the entities and call the callbacks, instead of the
+ * thread where the database driver completes the operation, that usually is its I/O event loop. By default the
+ * hop is not done and they run on the driver thread, to use another executor specialize this bean calling
+ * {@link CallbackExecutor#CallbackExecutor(Executor)}, or produce it with the {@link Database} qualifier to use it
+ * just on the repositories of that provider, e.g.:
+ * <pre>{@code
+ * @Produces
+ * @Database(value = DatabaseType.COLUMN, provider = "cassandra")
+ * private CallbackExecutor executor = new CallbackExecutor(Executors.newFixedThreadPool(4));
+ * }</pre>
+ * It measures the hop: the number of tasks waiting in the executor and the latency between a driver
+ * delivering a result and the executor starting to handle it. The bean type is just {@link CallbackExecutor},
+ * so it does not take part on the resolution of {@link Executor} injection points.
+ */
+@ApplicationScoped
+@Typed(CallbackExecutor.class)
+public class CallbackExecutor implements Executor {
+
+    private final Executor executor;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder totalLatency = new LongAdder();
+
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    public CallbackExecutor() {
+        this(Runnable::run);
+    }
+
+    /**
+     * Creates a {@link CallbackExecutor} instance
+     *
+     * @param executor the executor that converts the entities and calls the callbacks
+     * @throws NullPointerException when executor is null
+     */
+    public CallbackExecutor(Executor executor) throws NullPointerException {
+        this.executor = requireNonNull(executor, "executor is required");
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        requireNonNull(command, "command is required");
+        long submitted = System.nanoTime();
+        maxQueueDepth.accumulateAndGet(queueDepth.incrementAndGet(), Math::max);
+        try {
+            executor.execute(() -> {
+                queueDepth.decrementAndGet();
+                long latency = System.nanoTime() - submitted;
+                count.increment();
+                totalLatency.add(latency);
+                maxLatency.accumulateAndGet(latency, Math::max);
+                command.run();
+            });
+        } catch (RuntimeException exception) {
+            queueDepth.decrementAndGet();
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns the number of tasks submitted that the executor has not started yet
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns the highest queue depth since this executor was created
+     *
+     * @return the max queue depth
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * Returns the number of tasks the executor has started
+     *
+     * @return the number of hops
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the average time between submitting a task and the executor starting it
+     *
+     * @return the average latency, {@link Duration#ZERO} when no task has started
+     */
+    public Duration getAverageLatency() {
+        long started = count.sum();
+        if (started == 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(totalLatency.sum() / started);
+    }
+
+    /**
+     * Returns the longest time between submitting a task and the executor starting it
+     *
+     * @return the max latency
+     */
+    public Duration getMaxLatency() {
+        return Duration.ofNanos(maxLatency.get());
+    }
+}
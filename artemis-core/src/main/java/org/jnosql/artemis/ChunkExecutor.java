@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import javax.enterprise.context.ApplicationScoped;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * The executor where the chunks of the In condition of a find dynamic query method, such as findByIdIn, run.
+ * By default the chunks run sequentially on the caller thread, to run them concurrently specialize this bean
+ * calling {@link ChunkExecutor#ChunkExecutor(Executor)} with a bounded executor of its own, e.g.:
+ * <pre>{@code
+ * @Specializes
+ * public class FourChunkExecutor extends ChunkExecutor {
+ *     public FourChunkExecutor() {
+ *         super(Executors.newFixedThreadPool(4));
+ *     }
+ * }
+ * }</pre>
+ * A shared pool, such as {@link java.util.concurrent.ForkJoinPool#commonPool()}, is not recommended, as the chunks
+ * block waiting for the database. The chunks of a delete dynamic query method, such as deleteByIdIn, always run
+ * sequentially.
+ */
+@ApplicationScoped
+public class ChunkExecutor {
+
+    private final Executor executor;
+
+    public ChunkExecutor() {
+        this(Runnable::run);
+    }
+
+    /**
+     * Creates a {@link ChunkExecutor} instance
+     *
+     * @param executor the executor that runs the chunks
+     * @throws NullPointerException when executor is null
+     */
+    public ChunkExecutor(Executor executor) throws NullPointerException {
+        this.executor = Objects.requireNonNull(executor, "executor is required");
+    }
+
+    /**
+     * Returns the executor that runs the chunks
+     *
+     * @return the executor
+     */
+    public Executor get() {
+        return executor;
+    }
+}
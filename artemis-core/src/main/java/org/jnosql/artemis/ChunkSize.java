@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * The number of values in each chunk of the In condition of a dynamic query method, such as findByIdIn,
+ * every chunk is a query of its own, so a delete in chunks, such as deleteByIdIn, is not atomic. By default it is
+ * {@link ChunkSize#DEFAULT_SIZE}, to use another size specialize this bean calling {@link ChunkSize#ChunkSize(int)}.
+ */
+@ApplicationScoped
+public class ChunkSize {
+
+    /**
+     * The default number of values in each chunk
+     */
+    public static final int DEFAULT_SIZE = 500;
+
+    private final int size;
+
+    public ChunkSize() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates a {@link ChunkSize} instance
+     *
+     * @param size the number of values in each chunk
+     * @throws IllegalArgumentException when size is not positive
+     */
+    public ChunkSize(int size) throws IllegalArgumentException {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive: " + size);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of values in each chunk
+     *
+     * @return the chunk size
+     */
+    public int get() {
+        return size;
+    }
+}
@@ -29,10 +29,12 @@ import java.lang.annotation.Target;
  * Is used to specify a mapped column for a persistent property or field.
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
 public @interface Column {
     /**
      * (Optional) The name of the column. Defaults to the property or field name.
+     * When it is used in a constructor parameter, it binds the parameter to the field with this column name,
+     * or to the field with the parameter name when it is empty.
      * @return the name
      */
     String value() default "";
@@ -23,6 +23,9 @@ package org.jnosql.artemis;
 import org.jnosql.diana.api.ExecuteAsyncQueryException;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 /**
@@ -43,6 +46,9 @@ import java.util.function.Consumer;
  * <p><b>OrderBy</b></p>
  * <p><b>OrderBy____Desc</b></p>
  * <p><b>OrderBy_____ASC</b></p>
+ * The query methods either receive a {@link Consumer} as the last parameter or return a {@link CompletionStage},
+ * e.g.: {@code CompletionStage<List<Person>> findByName(String name)}. A find method might also return an
+ * {@link org.reactivestreams.Publisher} that converts the entities as the subscriber requests them.
  *
  * @param <T> the bean type
  */
@@ -160,4 +166,95 @@ public interface CrudRepositoryAsync <T> {
      */
     void update(Iterable<T> entities) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException;
 
+    /**
+     * Saves an entity asynchronously, by default it's just run {@link CrudRepositoryAsync#save(Object, Consumer)},
+     * each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param entity entity to be saved
+     * @return the stage of the saved entity, it completes exceptionally when the database fails
+     * @throws UnsupportedOperationException when the database does not have support to save asynchronous
+     * @throws NullPointerException          when entity is null
+     */
+    default CompletionStage<T> saveAsync(T entity) throws UnsupportedOperationException, NullPointerException {
+        Objects.requireNonNull(entity, "entity is required");
+        return CrudStages.of(callBack -> save(entity, callBack));
+    }
+
+    /**
+     * Saves an entity asynchronously with time to live, by default it's just run
+     * {@link CrudRepositoryAsync#save(Object, Duration, Consumer)}
+     *
+     * @param entity entity to be saved
+     * @param ttl    the time to live
+     * @return the stage of the saved entity, it completes exceptionally when the database fails
+     * @throws UnsupportedOperationException when the database does not have support to save asynchronous
+     * @throws NullPointerException          when either entity or ttl are null
+     */
+    default CompletionStage<T> saveAsync(T entity, Duration ttl) throws UnsupportedOperationException,
+            NullPointerException {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CrudStages.of(callBack -> save(entity, ttl, callBack));
+    }
+
+    /**
+     * Saves entities asynchronously, by default it's just run {@link CrudRepositoryAsync#saveAsync(Object)}
+     * to each entity and waits all of them
+     *
+     * @param entities entities to be saved
+     * @return the stage of the saved entities in the same order
+     * @throws UnsupportedOperationException when the database does not have support to save asynchronous
+     * @throws NullPointerException          when entities is null
+     */
+    default CompletionStage<List<T>> saveAsync(Iterable<T> entities) throws UnsupportedOperationException,
+            NullPointerException {
+        Objects.requireNonNull(entities, "entities is required");
+        return CrudStages.allOf(entities, this::saveAsync);
+    }
+
+    /**
+     * Saves entities asynchronously with time to live, by default it's just run
+     * {@link CrudRepositoryAsync#saveAsync(Object, Duration)} to each entity and waits all of them
+     *
+     * @param entities entities to be saved
+     * @param ttl      time to live
+     * @return the stage of the saved entities in the same order
+     * @throws UnsupportedOperationException when the database does not have support to save asynchronous
+     * @throws NullPointerException          when either entities or ttl are null
+     */
+    default CompletionStage<List<T>> saveAsync(Iterable<T> entities, Duration ttl) throws
+            UnsupportedOperationException, NullPointerException {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return CrudStages.allOf(entities, e -> saveAsync(e, ttl));
+    }
+
+    /**
+     * Updates an entity asynchronously, by default it's just run {@link CrudRepositoryAsync#update(Object, Consumer)}
+     *
+     * @param entity entity to be updated
+     * @return the stage of the updated entity, it completes exceptionally when the database fails
+     * @throws UnsupportedOperationException when the database does not have support to update asynchronous
+     * @throws NullPointerException          when entity is null
+     */
+    default CompletionStage<T> updateAsync(T entity) throws UnsupportedOperationException, NullPointerException {
+        Objects.requireNonNull(entity, "entity is required");
+        return CrudStages.of(callBack -> update(entity, callBack));
+    }
+
+    /**
+     * Updates entities asynchronously, by default it's just run {@link CrudRepositoryAsync#updateAsync(Object)}
+     * to each entity and waits all of them
+     *
+     * @param entities entities to be updated
+     * @return the stage of the updated entities in the same order
+     * @throws UnsupportedOperationException when the database does not have support to update asynchronous
+     * @throws NullPointerException          when entities is null
+     */
+    default CompletionStage<List<T>> updateAsync(Iterable<T> entities) throws UnsupportedOperationException,
+            NullPointerException {
+        Objects.requireNonNull(entities, "entities is required");
+        return CrudStages.allOf(entities, this::updateAsync);
+    }
+
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Utilitarian class to adapt the callback methods of {@link CrudRepositoryAsync} to {@link CompletionStage}
+ */
+final class CrudStages {
+
+    private CrudStages() {
+    }
+
+    /**
+     * Creates a stage completed by the callback given to the operation, an error thrown by the operation
+     * completes the stage exceptionally
+     */
+    static <T> CompletionStage<T> of(Consumer<Consumer<T>> operation) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            operation.accept(future::complete);
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
+    /**
+     * Runs the operation to each entity and combines the stages keeping the entities order
+     */
+    static <T> CompletionStage<List<T>> allOf(Iterable<T> entities, Function<T, CompletionStage<T>> operation) {
+        List<CompletableFuture<T>> futures = StreamSupport.stream(entities.spliterator(), false)
+                .map(operation)
+                .map(CompletionStage::toCompletableFuture)
+                .collect(toList());
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).collect(toList()));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The position of a keyset pagination: instead of skipping the previous rows, like {@link Pagination} does,
+ * the next page is read from the rows that come after the sort keys of the last row of the previous page.
+ * So the cost of a page does not grow with the page number.
+ * The query paged by a cursor must be sorted, and the last sort should be unique, e.g. the id.
+ *
+ * @see Page
+ */
+public interface Cursor {
+
+    /**
+     * Returns the max number of entities in a page
+     *
+     * @return the page size
+     */
+    int getSize();
+
+    /**
+     * Returns the sort key values of the last row of the previous page, in the order of the query sorts
+     *
+     * @return the sort key values or an empty list when it is the first page
+     */
+    List<Object> getKeys();
+
+    /**
+     * Returns an opaque token that represents this cursor, it might be sent to a client
+     * and read back with {@link Cursor#of(String, int)}
+     *
+     * @return the token
+     */
+    String getToken();
+
+    /**
+     * Creates a cursor to the first page
+     *
+     * @param size the page size
+     * @return the cursor instance
+     * @throws IllegalArgumentException when size is not positive
+     */
+    static Cursor first(int size) throws IllegalArgumentException {
+        return new DefaultCursor(size, Collections.emptyList());
+    }
+
+    /**
+     * Creates a cursor to the page after the row with these sort key values
+     *
+     * @param keys the sort key values of the last row, in the order of the query sorts
+     * @param size the page size
+     * @return the cursor instance
+     * @throws NullPointerException     when keys is null
+     * @throws IllegalArgumentException when size is not positive or a key type is not supported
+     */
+    static Cursor after(List<Object> keys, int size) throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(keys, "keys is required");
+        CursorTokens.encode(keys);
+        return new DefaultCursor(size, keys);
+    }
+
+    /**
+     * Reads a cursor from the token returned by {@link Cursor#getToken()}
+     *
+     * @param token the token
+     * @param size  the page size
+     * @return the cursor instance
+     * @throws NullPointerException     when token is null
+     * @throws IllegalArgumentException when size is not positive or the token is invalid
+     */
+    static Cursor of(String token, int size) throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(token, "token is required");
+        return new DefaultCursor(size, CursorTokens.decode(token));
+    }
+}
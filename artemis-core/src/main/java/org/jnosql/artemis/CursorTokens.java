@@ -0,0 +1,192 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Encodes the sort key values of a {@link Cursor} to an URL safe token and back.
+ * Every value is written with a type tag, so a token never needs Java deserialization
+ * and a token changed by a client can only move the page position.
+ */
+final class CursorTokens {
+
+    private static final byte VERSION = 1;
+
+    private static final byte STRING = 's';
+    private static final byte BOOLEAN = 'z';
+    private static final byte CHARACTER = 'c';
+    private static final byte BYTE = 'b';
+    private static final byte SHORT = 'h';
+    private static final byte INTEGER = 'i';
+    private static final byte LONG = 'l';
+    private static final byte FLOAT = 'f';
+    private static final byte DOUBLE = 'd';
+    private static final byte BIG_INTEGER = 'I';
+    private static final byte BIG_DECIMAL = 'D';
+    private static final byte INSTANT = 't';
+    private static final byte LOCAL_DATE = 'a';
+    private static final byte LOCAL_DATE_TIME = 'e';
+    private static final byte DATE = 'u';
+
+    private CursorTokens() {
+    }
+
+    static String encode(List<Object> keys) throws IllegalArgumentException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(VERSION);
+            output.writeInt(keys.size());
+            for (Object key : keys) {
+                write(output, key);
+            }
+        } catch (IOException exception) {
+            throw new IllegalStateException("Error when the cursor token was written", exception);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    static List<Object> decode(String token) throws IllegalArgumentException {
+        try (DataInputStream input = new DataInputStream(
+                new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            if (input.readByte() != VERSION) {
+                throw new IllegalArgumentException("The cursor token version is not supported: " + token);
+            }
+            int size = input.readInt();
+            if (size < 0) {
+                throw new IllegalArgumentException("Invalid cursor token: " + token);
+            }
+            List<Object> keys = new ArrayList<>();
+            for (int index = 0; index < size; index++) {
+                keys.add(read(input, token));
+            }
+            if (input.available() > 0) {
+                throw new IllegalArgumentException("Invalid cursor token: " + token);
+            }
+            return keys;
+        } catch (IOException | DateTimeParseException | NumberFormatException exception) {
+            throw new IllegalArgumentException("Invalid cursor token: " + token, exception);
+        }
+    }
+
+    private static void write(DataOutputStream output, Object key) throws IOException {
+        if (key instanceof String) {
+            output.writeByte(STRING);
+            output.writeUTF((String) key);
+        } else if (key instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) key);
+        } else if (key instanceof Character) {
+            output.writeByte(CHARACTER);
+            output.writeChar((Character) key);
+        } else if (key instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) key);
+        } else if (key instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) key);
+        } else if (key instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) key);
+        } else if (key instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) key);
+        } else if (key instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) key);
+        } else if (key instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) key);
+        } else if (key instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            output.writeUTF(key.toString());
+        } else if (key instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeUTF(key.toString());
+        } else if (key instanceof Instant) {
+            output.writeByte(INSTANT);
+            output.writeUTF(key.toString());
+        } else if (key instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE);
+            output.writeUTF(key.toString());
+        } else if (key instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeUTF(key.toString());
+        } else if (key instanceof Date) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) key).getTime());
+        } else {
+            throw new IllegalArgumentException("The cursor does not support the sort key: " + key);
+        }
+    }
+
+    private static Object read(DataInputStream input, String token) throws IOException {
+        byte tag = input.readByte();
+        switch (tag) {
+            case STRING:
+                return input.readUTF();
+            case BOOLEAN:
+                return input.readBoolean();
+            case CHARACTER:
+                return input.readChar();
+            case BYTE:
+                return input.readByte();
+            case SHORT:
+                return input.readShort();
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BIG_INTEGER:
+                return new BigInteger(input.readUTF());
+            case BIG_DECIMAL:
+                return new BigDecimal(input.readUTF());
+            case INSTANT:
+                return Instant.parse(input.readUTF());
+            case LOCAL_DATE:
+                return LocalDate.parse(input.readUTF());
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.parse(input.readUTF());
+            case DATE:
+                return new Date(input.readLong());
+            default:
+                throw new IllegalArgumentException("Invalid cursor token: " + token);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import java.util.Objects;
+
+class DefaultAttribute<E, V> implements Attribute<E, V> {
+
+    private final EntityModel<E> entity;
+
+    private final String fieldName;
+
+    private final String name;
+
+    DefaultAttribute(EntityModel<E> entity, String fieldName, String name) {
+        this.entity = entity;
+        this.fieldName = fieldName;
+        this.name = name;
+    }
+
+    @Override
+    public EntityModel<E> getEntity() {
+        return entity;
+    }
+
+    @Override
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || !Attribute.class.isInstance(o)) {
+            return false;
+        }
+        Attribute<?, ?> that = (Attribute<?, ?>) o;
+        return Objects.equals(entity, that.getEntity()) &&
+                Objects.equals(fieldName, that.getFieldName()) &&
+                Objects.equals(name, that.getName());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entity, fieldName, name);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultAttribute{");
+        sb.append("entity=").append(entity.getName());
+        sb.append(", fieldName='").append(fieldName).append('\'');
+        sb.append(", name='").append(name).append('\'');
+        sb.append('}');
+        return sb.toString();
+    }
+}
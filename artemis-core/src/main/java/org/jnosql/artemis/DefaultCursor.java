@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+class DefaultCursor implements Cursor {
+
+    private final int size;
+
+    private final List<Object> keys;
+
+    DefaultCursor(int size, List<Object> keys) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The cursor size must be positive");
+        }
+        this.size = size;
+        this.keys = Collections.unmodifiableList(new ArrayList<>(keys));
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public List<Object> getKeys() {
+        return keys;
+    }
+
+    @Override
+    public String getToken() {
+        return CursorTokens.encode(keys);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || !Cursor.class.isInstance(o)) {
+            return false;
+        }
+        Cursor that = (Cursor) o;
+        return size == that.getSize() &&
+                Objects.equals(keys, that.getKeys());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(size, keys);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultCursor{");
+        sb.append("size=").append(size);
+        sb.append(", keys=").append(keys);
+        sb.append('}');
+        return sb.toString();
+    }
+}
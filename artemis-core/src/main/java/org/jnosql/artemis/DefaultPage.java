@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+class DefaultPage<T> implements Page<T> {
+
+    private final List<T> content;
+
+    private final Cursor next;
+
+    DefaultPage(List<T> content, Cursor next) {
+        this.content = Collections.unmodifiableList(content);
+        this.next = next;
+    }
+
+    @Override
+    public List<T> getContent() {
+        return content;
+    }
+
+    @Override
+    public Optional<Cursor> getNext() {
+        return Optional.ofNullable(next);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || !Page.class.isInstance(o)) {
+            return false;
+        }
+        Page<?> that = (Page<?>) o;
+        return Objects.equals(content, that.getContent()) &&
+                Objects.equals(getNext(), that.getNext());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(content, next);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultPage{");
+        sb.append("content=").append(content);
+        sb.append(", next=").append(next);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import java.util.Objects;
+
+/**
+ * The static metamodel of an entity, it has the entity class and its name, the column family or the collection.
+ * The artemis-processor generates a class to each {@link Entity}, such as Person_, that has this model as the
+ * ENTITY constant and an {@link Attribute} constant to each field.
+ *
+ * @param <E> the entity type
+ * @see Attribute
+ */
+public interface EntityModel<E> {
+
+    /**
+     * Returns the entity class
+     *
+     * @return the entity class
+     */
+    Class<E> getEntityClass();
+
+    /**
+     * Returns the entity name, the column family or the collection name, see {@link Entity#value()}
+     *
+     * @return the entity name
+     */
+    String getName();
+
+    /**
+     * Creates an entity model
+     *
+     * @param entityClass the entity class
+     * @param name        the entity name
+     * @param <E>         the entity type
+     * @return the entity model instance
+     * @throws NullPointerException when there is null parameter
+     */
+    static <E> EntityModel<E> of(Class<E> entityClass, String name) throws NullPointerException {
+        Objects.requireNonNull(entityClass, "entityClass is required");
+        Objects.requireNonNull(name, "name is required");
+        return new DefaultEntityModel<>(entityClass, name);
+    }
+}
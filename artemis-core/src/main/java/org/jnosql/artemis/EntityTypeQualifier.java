@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import javax.enterprise.util.AnnotationLiteral;
+import java.util.Objects;
+
+/**
+ * Utilitarian class to select the {@link EntityType}
+ */
+public class EntityTypeQualifier extends AnnotationLiteral<EntityType> implements EntityType {
+
+    private final Class<?> value;
+
+    private EntityTypeQualifier(Class<?> value) {
+        this.value = value;
+    }
+
+    @Override
+    public Class<?> value() {
+        return value;
+    }
+
+    /**
+     * Returns the qualifier filter to the entity type
+     *
+     * @param value the entity type
+     * @return the qualifier filter instance
+     * @throws NullPointerException when value is null
+     */
+    public static EntityTypeQualifier of(Class<?> value) throws NullPointerException {
+        Objects.requireNonNull(value, "value is required");
+        return new EntityTypeQualifier(value);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Default;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Tells whether the persist events have observers, so the event managers skip both the event creation
+ * and the fire when nobody listens to it. The observers are resolved through
+ * {@link BeanManager#resolveObserverMethods(Object, Annotation...)} on the first event of each type,
+ * and of each entity type to the qualified events, and the result is cached.
+ * The events are resolved with the qualifiers they are fired with: {@link Default} to the events fired from the
+ * default {@link javax.enterprise.event.Event} and the {@link EntityType} of the entity type to the entity events,
+ * that are fired from the event selected with it.
+ */
+@ApplicationScoped
+public class EventObservers {
+
+    private static final Annotation DEFAULT = new AnnotationLiteral<Default>() {
+    };
+
+    private final Map<Class<?>, Boolean> events = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Map<Class<?>, Boolean>> entityEvents = new ConcurrentHashMap<>();
+
+    @Inject
+    private BeanManager beanManager;
+
+    /**
+     * Checks if there is an observer to the event type
+     *
+     * @param eventType the event type
+     * @param source    the value to the event
+     * @param event     creates the event from the source, it is called only when the event type is not cached
+     * @param <T>       the source type
+     * @return true when there is an observer to the event
+     * @throws NullPointerException when there is a null parameter
+     */
+    public <T> boolean isObserved(Class<?> eventType, T source, Function<T, ?> event) throws NullPointerException {
+        requireNonNull(eventType, "eventType is required");
+        Boolean observed = events.get(eventType);
+        if (observed == null) {
+            observed = resolve(event.apply(requireNonNull(source, "source is required")), DEFAULT);
+            events.putIfAbsent(eventType, observed);
+        }
+        return observed;
+    }
+
+    /**
+     * Checks if there is an observer to the event type fired with the {@link EntityType} of the entity type,
+     * including the observers without qualifier
+     *
+     * @param eventType  the event type
+     * @param entityType the entity type
+     * @param source     the value to the event
+     * @param event      creates the event from the source, it is called only when the types are not cached
+     * @param <T>        the source type
+     * @return true when there is an observer to the event
+     * @throws NullPointerException when there is a null parameter
+     */
+    public <T> boolean isObserved(Class<?> eventType, Class<?> entityType, T source, Function<T, ?> event)
+            throws NullPointerException {
+        requireNonNull(eventType, "eventType is required");
+        requireNonNull(entityType, "entityType is required");
+        Map<Class<?>, Boolean> entities = entityEvents.get(eventType);
+        if (entities == null) {
+            entities = new ConcurrentHashMap<>();
+            Map<Class<?>, Boolean> current = entityEvents.putIfAbsent(eventType, entities);
+            if (current != null) {
+                entities = current;
+            }
+        }
+        Boolean observed = entities.get(entityType);
+        if (observed == null) {
+            observed = resolve(event.apply(requireNonNull(source, "source is required")),
+                    EntityTypeQualifier.of(entityType));
+            entities.putIfAbsent(entityType, observed);
+        }
+        return observed;
+    }
+
+    private boolean resolve(Object event, Annotation... qualifiers) {
+        return !beanManager.resolveObserverMethods(event, qualifiers).isEmpty();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * The number of entities read from the database at a time when a dynamic query method returns a
+ * {@link java.util.stream.Stream}, an {@link java.util.Iterator} or an {@link org.reactivestreams.Publisher},
+ * so the result is read in pages instead of being loaded at once. By default it is {@link FetchSize#DEFAULT_SIZE},
+ * to use another size specialize this bean calling {@link FetchSize#FetchSize(int)}.
+ */
+@ApplicationScoped
+public class FetchSize {
+
+    /**
+     * The default number of entities read at a time
+     */
+    public static final int DEFAULT_SIZE = 100;
+
+    private final int size;
+
+    public FetchSize() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates a {@link FetchSize} instance
+     *
+     * @param size the number of entities read at a time
+     * @throws IllegalArgumentException when size is not positive
+     */
+    public FetchSize(int size) throws IllegalArgumentException {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The fetch size must be positive: " + size);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of entities read at a time
+     *
+     * @return the fetch size
+     */
+    public int get() {
+        return size;
+    }
+}
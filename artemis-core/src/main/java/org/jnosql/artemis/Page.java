@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A page of a keyset pagination, it has the entities of the page and the {@link Cursor} to the next one.
+ *
+ * @param <T> the entity type
+ * @see Cursor
+ */
+public interface Page<T> {
+
+    /**
+     * Returns the entities of this page
+     *
+     * @return the entities
+     */
+    List<T> getContent();
+
+    /**
+     * Returns the cursor to the next page
+     *
+     * @return the cursor or {@link Optional#empty()} when it is the last page
+     */
+    Optional<Cursor> getNext();
+
+    /**
+     * Checks if there is a page after this one
+     *
+     * @return true when there is a next page
+     */
+    default boolean hasNext() {
+        return getNext().isPresent();
+    }
+
+    /**
+     * Returns the opaque token of the next page, see {@link Cursor#getToken()}
+     *
+     * @return the token or {@link Optional#empty()} when it is the last page
+     */
+    default Optional<String> getToken() {
+        return getNext().map(Cursor::getToken);
+    }
+
+    /**
+     * Returns the cursor to the next page
+     *
+     * @return the cursor
+     * @throws NoSuchElementException when it is the last page
+     */
+    default Cursor next() throws NoSuchElementException {
+        return getNext().orElseThrow(() -> new NoSuchElementException("There is no page after this one"));
+    }
+
+    /**
+     * Creates a page
+     *
+     * @param content the entities
+     * @param next    the cursor to the next page or null when it is the last page
+     * @param <T>     the entity type
+     * @return the page instance
+     * @throws NullPointerException when content is null
+     */
+    static <T> Page<T> of(List<T> content, Cursor next) throws NullPointerException {
+        Objects.requireNonNull(content, "content is required");
+        return new DefaultPage<>(content, next);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Walks the pages of a keyset pagination sequentially, prefetching the next pages: while the caller
+ * processes the page N, the page N+1 is read and converted in background, so the backend round trip
+ * overlaps the processing. The pages ahead are bounded by the prefetch depth and by the max number
+ * of buffered entities, counting every prefetched page as a full page of {@link Cursor#getSize()} entities.
+ * When that bound is lesser than a page, there is no prefetch and every page is read on {@link Pager#next()}.
+ *
+ * <p>Every page is read calling the fetcher with the page cursor,
+ * e.g.: {@code cursor -> repository.find(query, cursor)}. The repositories read each page with a copy of the query,
+ * so the same query serves every call, even while the pages ahead are read.</p>
+ *
+ * <p>The pages ahead are read on the given executor, that should be one of its own, as the reads block waiting for
+ * the database, e.g.: {@code Executors.newSingleThreadExecutor()}.</p>
+ *
+ * <p>A pager is not thread safe: it is meant to a single consumer. Closing the pager cancels the pages ahead
+ * and no page is read after that, a page that is already being read is not interrupted, its result is discarded.</p>
+ *
+ * @param <T> the entity type
+ * @see Cursor
+ * @see Page
+ */
+public final class Pager<T> implements Iterator<Page<T>>, AutoCloseable {
+
+    /**
+     * The default number of pages read ahead
+     */
+    public static final int DEFAULT_DEPTH = 1;
+
+    private final Function<Cursor, CompletionStage<Page<T>>> fetcher;
+
+    private final Cursor first;
+
+    private final int capacity;
+
+    private final Deque<CompletableFuture<Page<T>>> pages = new ArrayDeque<>();
+
+    private Page<T> current;
+
+    private volatile boolean closed;
+
+    private Pager(Function<Cursor, CompletionStage<Page<T>>> fetcher, Cursor first, int depth,
+                  long maxBufferedEntities) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("The prefetch depth must not be negative: " + depth);
+        }
+        if (maxBufferedEntities < 0) {
+            throw new IllegalArgumentException("The max buffered entities must not be negative: " + maxBufferedEntities);
+        }
+        this.fetcher = fetcher;
+        this.first = first;
+        this.capacity = (int) Math.min(depth, maxBufferedEntities / first.getSize());
+        if (capacity > 0) {
+            pages.add(fetch(first));
+            fill();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        return current == null || current.hasNext();
+    }
+
+    /**
+     * Returns the next page, waiting for it when it is not read yet
+     *
+     * @return the next page
+     * @throws NoSuchElementException when there is no next page or the pager is closed
+     */
+    @Override
+    public Page<T> next() throws NoSuchElementException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There is no next page");
+        }
+        if (pages.isEmpty()) {
+            pages.add(fetch(current == null ? first : current.next()));
+        }
+        CompletableFuture<Page<T>> page = pages.poll();
+        current = join(page);
+        fill();
+        return current;
+    }
+
+    /**
+     * Cancels the pages ahead and stops reading the next pages, after that {@link Pager#hasNext()} returns false.
+     * A page that is already being read is not interrupted, its result is discarded.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        pages.forEach(p -> p.cancel(false));
+        pages.clear();
+    }
+
+    private void fill() {
+        CompletableFuture<Page<T>> last = pages.isEmpty() ? CompletableFuture.completedFuture(current) : pages.peekLast();
+        while (pages.size() < capacity) {
+            last = last.thenCompose(p -> p != null && p.hasNext() ? fetch(p.next()) : CompletableFuture.completedFuture(null));
+            pages.add(last);
+        }
+    }
+
+    private CompletableFuture<Page<T>> fetch(Cursor cursor) {
+        if (closed) {
+            CompletableFuture<Page<T>> cancelled = new CompletableFuture<>();
+            cancelled.cancel(false);
+            return cancelled;
+        }
+        try {
+            return fetcher.apply(cursor).toCompletableFuture();
+        } catch (RuntimeException exception) {
+            CompletableFuture<Page<T>> failure = new CompletableFuture<>();
+            failure.completeExceptionally(exception);
+            return failure;
+        }
+    }
+
+    private Page<T> join(CompletableFuture<Page<T>> page) {
+        try {
+            return page.join();
+        } catch (CompletionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * Creates a pager that reads one page ahead on the executor
+     *
+     * @param fetcher  the function that reads a page from its cursor
+     * @param cursor   the cursor of the first page
+     * @param executor the executor that reads the pages ahead
+     * @param <T>      the entity type
+     * @return the pager instance
+     * @throws NullPointerException when either fetcher, cursor or executor are null
+     */
+    public static <T> Pager<T> of(Function<Cursor, Page<T>> fetcher, Cursor cursor, Executor executor)
+            throws NullPointerException {
+        return of(fetcher, cursor, DEFAULT_DEPTH, Long.MAX_VALUE, executor);
+    }
+
+    /**
+     * Creates a pager that reads the pages ahead on the executor
+     *
+     * @param fetcher             the function that reads a page from its cursor
+     * @param cursor              the cursor of the first page
+     * @param depth               the max number of pages read ahead
+     * @param maxBufferedEntities the max number of entities read ahead
+     * @param executor            the executor that reads the pages ahead
+     * @param <T>                 the entity type
+     * @return the pager instance
+     * @throws NullPointerException     when either fetcher, cursor or executor are null
+     * @throws IllegalArgumentException when either depth or maxBufferedEntities are negative
+     */
+    public static <T> Pager<T> of(Function<Cursor, Page<T>> fetcher, Cursor cursor, int depth,
+                                  long maxBufferedEntities, Executor executor)
+            throws NullPointerException, IllegalArgumentException {
+        requireNonNull(fetcher, "fetcher is required");
+        requireNonNull(cursor, "cursor is required");
+        requireNonNull(executor, "executor is required");
+        return new Pager<>(c -> CompletableFuture.supplyAsync(() -> fetcher.apply(c), executor), cursor, depth,
+                maxBufferedEntities);
+    }
+
+    /**
+     * Creates a pager on top of an asynchronous repository, the pages ahead are read and converted
+     * by the repository. A page whose read fails completes exceptionally, so {@link Pager#next()} throws its error.
+     *
+     * @param fetcher             the function that reads a page from its cursor,
+     *                            e.g.: {@code cursor -> repository.findAsync(query(), cursor)}
+     * @param cursor              the cursor of the first page
+     * @param depth               the max number of pages read ahead
+     * @param maxBufferedEntities the max number of entities read ahead
+     * @param <T>                 the entity type
+     * @return the pager instance
+     * @throws NullPointerException     when either fetcher or cursor are null
+     * @throws IllegalArgumentException when either depth or maxBufferedEntities are negative
+     */
+    public static <T> Pager<T> ofAsync(Function<Cursor, CompletionStage<Page<T>>> fetcher, Cursor cursor, int depth,
+                                       long maxBufferedEntities) throws NullPointerException, IllegalArgumentException {
+        requireNonNull(fetcher, "fetcher is required");
+        requireNonNull(cursor, "cursor is required");
+        return new Pager<>(fetcher, cursor, depth, maxBufferedEntities);
+    }
+}
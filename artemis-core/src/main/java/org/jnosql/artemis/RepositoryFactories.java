@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@link RepositoryFactory} instances found in the classpath, indexed by repository interface
+ * and delegate type. The factories are loaded once, at the first use.
+ */
+public final class RepositoryFactories {
+
+    private static final Logger LOGGER = Logger.getLogger(RepositoryFactories.class.getName());
+
+    private final Map<Class<?>, Map<Class<?>, RepositoryFactory<?, ?>>> factories;
+
+    private RepositoryFactories(Map<Class<?>, Map<Class<?>, RepositoryFactory<?, ?>>> factories) {
+        this.factories = factories;
+    }
+
+    /**
+     * Returns the factory to a repository interface
+     *
+     * @param repositoryType the repository interface
+     * @param delegateType   the repository type that the implementation delegates to
+     * @param <R>            the repository interface type
+     * @param <M>            the delegate type
+     * @return the factory or {@link Optional#empty()} when there is no one to this repository
+     * @throws NullPointerException when there is null parameter
+     */
+    public <R, M> Optional<RepositoryFactory<R, M>> get(Class<R> repositoryType, Class<M> delegateType)
+            throws NullPointerException {
+        Objects.requireNonNull(repositoryType, "repositoryType is required");
+        Objects.requireNonNull(delegateType, "delegateType is required");
+        return Optional.ofNullable(factories.get(repositoryType))
+                .map(f -> (RepositoryFactory<R, M>) f.get(delegateType));
+    }
+
+    /**
+     * Returns the factories found in the classpath
+     *
+     * @return the {@link RepositoryFactories} instance
+     */
+    public static RepositoryFactories getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    static RepositoryFactories load() {
+        Map<Class<?>, Map<Class<?>, RepositoryFactory<?, ?>>> factories = new HashMap<>();
+        Iterator<RepositoryFactory> iterator = ServiceLoader.load(RepositoryFactory.class).iterator();
+        while (hasNext(iterator)) {
+            try {
+                RepositoryFactory<?, ?> factory = iterator.next();
+                factories.computeIfAbsent(factory.getRepositoryType(), k -> new HashMap<>())
+                        .put(factory.getDelegateType(), factory);
+            } catch (ServiceConfigurationError error) {
+                LOGGER.log(Level.WARNING, "There is an error to load a repository factory, the proxy will be used", error);
+            }
+        }
+        return new RepositoryFactories(Collections.unmodifiableMap(factories));
+    }
+
+    private static boolean hasNext(Iterator<RepositoryFactory> iterator) {
+        try {
+            return iterator.hasNext();
+        } catch (ServiceConfigurationError error) {
+            LOGGER.log(Level.WARNING, "There is an error to load the repository factories, the proxy will be used", error);
+            return false;
+        }
+    }
+
+    private static final class Holder {
+        private static final RepositoryFactories INSTANCE = load();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+
+import org.jnosql.artemis.reflection.ClassRepresentations;
+
+import java.util.Objects;
+
+/**
+ * The factory of a repository implementation to a repository interface, such as {@link CrudRepository}.
+ * Those factories are generated by the artemis-processor and registered to the {@link java.util.ServiceLoader},
+ * so the repository is an ordinary class instead of a {@link java.lang.reflect.Proxy}.
+ * When there is no factory to a repository interface, the proxy is used.
+ *
+ * @param <R> the repository interface type
+ * @param <M> the repository that the implementation delegates to, e.g.:
+ *            {@link org.jnosql.artemis.column.ColumnRepository}
+ * @see RepositoryFactories
+ */
+public interface RepositoryFactory<R, M> {
+
+    /**
+     * Returns the repository interface implemented
+     *
+     * @return the repository interface
+     */
+    Class<R> getRepositoryType();
+
+    /**
+     * Returns the repository type that the implementation delegates to, e.g.:
+     * {@link org.jnosql.artemis.column.ColumnRepository}
+     *
+     * @return the delegate type
+     */
+    Class<M> getDelegateType();
+
+    /**
+     * Creates the repository implementation
+     *
+     * @param repository           the repository to delegate to
+     * @param classRepresentations the class representations
+     * @return a new repository instance
+     * @throws NullPointerException when repository is null
+     */
+    R create(M repository, ClassRepresentations classRepresentations) throws NullPointerException;
+
+    /**
+     * Creates the repository implementation with the configuration of its query methods, by default it's just run
+     * {@link RepositoryFactory#create(Object, ClassRepresentations)}, that uses the default configuration
+     *
+     * @param repository           the repository to delegate to
+     * @param classRepresentations the class representations
+     * @param chunkSize            the number of values in each chunk of an In condition
+     * @param fetchSize            the number of entities read at a time by the methods that return a Stream
+     *                             or an Iterator
+     * @param chunkExecutor        the executor where the chunks of an In condition run
+     * @return a new repository instance
+     * @throws NullPointerException when there is null parameter
+     */
+    default R create(M repository, ClassRepresentations classRepresentations, ChunkSize chunkSize,
+                     FetchSize fetchSize, ChunkExecutor chunkExecutor) throws NullPointerException {
+        Objects.requireNonNull(chunkSize, "chunkSize is required");
+        Objects.requireNonNull(fetchSize, "fetchSize is required");
+        Objects.requireNonNull(chunkExecutor, "chunkExecutor is required");
+        return create(repository, classRepresentations);
+    }
+}
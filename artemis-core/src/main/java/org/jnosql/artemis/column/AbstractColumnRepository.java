@@ -20,22 +20,39 @@
 package org.jnosql.artemis.column;
 
 
+import org.jnosql.artemis.Cursor;
+import org.jnosql.artemis.Page;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnFamilyManager;
 import org.jnosql.diana.api.column.ColumnQuery;
 
 import java.time.Duration;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterators;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
 
 public abstract class AbstractColumnRepository implements ColumnRepository {
 
 
+    private final UnaryOperator<ColumnEntity> saveAction = e -> getManager().save(e);
+
+    private final UnaryOperator<ColumnEntity> updateAction = e -> getManager().update(e);
+
+    private final Function<Iterable<ColumnEntity>, Iterable<ColumnEntity>> saveAllAction =
+            e -> getManager().save(e);
+
+    private final Function<Iterable<ColumnEntity>, Iterable<ColumnEntity>> updateAllAction =
+            e -> getManager().update(e);
+
     protected abstract ColumnEntityConverter getConverter();
 
     protected abstract ColumnFamilyManager getManager();
@@ -46,8 +63,7 @@ public abstract class AbstractColumnRepository implements ColumnRepository {
     @Override
     public <T> T save(T entity) throws NullPointerException {
         requireNonNull(entity, "entity is required");
-        UnaryOperator<ColumnEntity> save = e -> getManager().save(e);
-        return getFlow().flow(entity, save);
+        return getFlow().flow(entity, saveAction);
     }
 
 
@@ -63,8 +79,26 @@ public abstract class AbstractColumnRepository implements ColumnRepository {
     @Override
     public <T> T update(T entity) {
         requireNonNull(entity, "entity is required");
-        UnaryOperator<ColumnEntity> save = e -> getManager().update(e);
-        return getFlow().flow(entity, save);
+        return getFlow().flow(entity, updateAction);
+    }
+
+    @Override
+    public <T> Iterable<T> save(Iterable<T> entities) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        return getFlow().batchFlow(entities, saveAllAction);
+    }
+
+    @Override
+    public <T> Iterable<T> save(Iterable<T> entities, Duration ttl) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return getFlow().batchFlow(entities, e -> getManager().save(e, ttl));
+    }
+
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        return getFlow().batchFlow(entities, updateAllAction);
     }
 
 
@@ -79,7 +113,44 @@ public abstract class AbstractColumnRepository implements ColumnRepository {
     public <T> List<T> find(ColumnQuery query) throws NullPointerException {
         requireNonNull(query, "query is required");
         List<ColumnEntity> entities = getManager().find(query);
-        Function<ColumnEntity, T> function = e -> getConverter().toEntity(e);
-        return entities.stream().map(function).collect(Collectors.toList());
+        return getConverter().toEntities(entities);
+    }
+
+    @Override
+    public boolean exists(ColumnQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return !getManager().find(ColumnQueries.copy(query, 1L)).isEmpty();
+    }
+
+    @Override
+    public long count(ColumnQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return getManager().find(query).size();
+    }
+
+    @Override
+    public <T> Page<T> find(ColumnQuery query, Cursor cursor) throws NullPointerException, IllegalArgumentException {
+        requireNonNull(query, "query is required");
+        requireNonNull(cursor, "cursor is required");
+        List<ColumnEntity> entities = getManager().find(ColumnKeysets.prepare(query, cursor));
+        return ColumnKeysets.page(entities, cursor, query.getSorts(), e -> getConverter().toEntities(e));
+    }
+
+    @Override
+    public <T> Stream<T> stream(ColumnQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        List<ColumnEntity> entities = getManager().find(query);
+        return entities.stream().map(e -> getConverter().toEntity(e));
+    }
+
+    @Override
+    public <T> Stream<T> stream(ColumnQuery query, int fetchSize) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetchSize must be positive");
+        }
+        Iterator<T> iterator = new ColumnQueryIterator<>(query, fetchSize, q -> getManager().find(q),
+                e -> getConverter().toEntity(e));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, ORDERED | NONNULL), false);
     }
 }
@@ -19,26 +19,79 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.artemis.CallbackExecutor;
+import org.jnosql.artemis.Cursor;
+import org.jnosql.artemis.Page;
 import org.jnosql.diana.api.ExecuteAsyncQueryException;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 import org.jnosql.diana.api.column.ColumnQuery;
+import org.reactivestreams.Publisher;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 
 public abstract class AbstractColumnRepositoryAsync implements ColumnRepositoryAsync {
 
+    private static final Executor DIRECT = Runnable::run;
+
+    private final ColumnWorkflow conversion = new ColumnWorkflow() {
+
+        @Override
+        public <T> T flow(T entity, UnaryOperator<ColumnEntity> action) throws NullPointerException {
+            requireNonNull(entity, "entity is required");
+            requireNonNull(action, "action is required");
+            return toEntity(entity, action.apply(getConverter().toColumn(entity)));
+        }
+
+        @Override
+        public <T> CompletionStage<T> flowAsync(T entity,
+                                                Function<ColumnEntity, CompletionStage<ColumnEntity>> action)
+                throws NullPointerException {
+            requireNonNull(entity, "entity is required");
+            requireNonNull(action, "action is required");
+            return action.apply(getConverter().toColumn(entity)).thenApply(e -> toEntity(entity, e));
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T toEntity(T entity, ColumnEntity response) {
+            return (T) getConverter().toEntity(entity.getClass(), response);
+        }
+    };
+
     protected abstract ColumnEntityConverter getConverter();
 
     protected abstract ColumnFamilyManagerAsync getManager();
 
+    /**
+     * Returns the workflow of the save and the update, the default one just converts the entity and the response
+     * without firing the events, the implementations replace it to fire them.
+     *
+     * @return the workflow
+     */
+    protected ColumnWorkflow getFlow() {
+        return conversion;
+    }
+
+    /**
+     * Returns the executor where the entities are converted and the callbacks are called, the default one runs
+     * them on the thread where the database completes the operation, as {@link CallbackExecutor} does by default.
+     *
+     * @return the callback executor
+     */
+    protected Executor getCallbackExecutor() {
+        return DIRECT;
+    }
+
     @Override
     public <T> void save(T entity) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
         save(entity, t -> {
@@ -55,8 +108,7 @@ public abstract class AbstractColumnRepositoryAsync implements ColumnRepositoryA
     public <T> void save(T entity, Consumer<T> callBack) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
         requireNonNull(entity, "entity is required");
         requireNonNull(callBack, "callBack is required");
-        Consumer<ColumnEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
-        getManager().save(getConverter().toColumn(entity), dianaCallBack);
+        ColumnStages.accept(saveAsync(entity), callBack);
     }
 
     @Override
@@ -64,8 +116,7 @@ public abstract class AbstractColumnRepositoryAsync implements ColumnRepositoryA
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
         requireNonNull(callBack, "callBack is required");
-        Consumer<ColumnEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
-        getManager().save(getConverter().toColumn(entity), ttl, dianaCallBack);
+        ColumnStages.accept(saveAsync(entity, ttl), callBack);
     }
 
     @Override
@@ -79,8 +130,7 @@ public abstract class AbstractColumnRepositoryAsync implements ColumnRepositoryA
     public <T> void update(T entity, Consumer<T> callBack) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
         requireNonNull(entity, "entity is required");
         requireNonNull(callBack, "callBack is required");
-        Consumer<ColumnEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
-        getManager().update(getConverter().toColumn(entity), dianaCallBack);
+        ColumnStages.accept(updateAsync(entity), callBack);
     }
 
     @Override
@@ -93,7 +143,7 @@ public abstract class AbstractColumnRepositoryAsync implements ColumnRepositoryA
     public void delete(ColumnDeleteQuery query, Consumer<Void> callBack) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
         requireNonNull(query, "query is required");
         requireNonNull(callBack, "callBack is required");
-        getManager().delete(query);
+        getManager().delete(query, hop(callBack));
     }
 
     @Override
@@ -101,13 +151,93 @@ public abstract class AbstractColumnRepositoryAsync implements ColumnRepositoryA
         requireNonNull(query, "query is required");
         requireNonNull(callBack, "callBack is required");
 
-        Consumer<List<ColumnEntity>> dianaCallBack = d -> {
-            callBack.accept(
-                    d.stream()
-                            .map(getConverter()::toEntity)
-                            .map(o -> (T) o)
-                            .collect(toList()));
-        };
-        getManager().find(query, dianaCallBack);
+        Consumer<List<ColumnEntity>> dianaCallBack = d -> callBack.accept(getConverter().toEntities(d));
+        getManager().find(query, hop(dianaCallBack));
+    }
+
+    @Override
+    public <T> void find(ColumnQuery query, Cursor cursor, Consumer<Page<T>> callBack) throws
+            ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException, IllegalArgumentException {
+        requireNonNull(query, "query is required");
+        requireNonNull(cursor, "cursor is required");
+        requireNonNull(callBack, "callBack is required");
+        ColumnQuery page = ColumnKeysets.prepare(query, cursor);
+        Consumer<List<ColumnEntity>> dianaCallBack = d -> callBack.accept(ColumnKeysets.page(d, cursor,
+                page.getSorts(), e -> getConverter().toEntities(e)));
+        getManager().find(page, hop(dianaCallBack));
+    }
+
+    @Override
+    public <T> CompletionStage<T> saveAsync(T entity) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        return getFlow().flowAsync(entity, e -> stage(c -> getManager().save(e, c)));
+    }
+
+    @Override
+    public <T> CompletionStage<T> saveAsync(T entity, Duration ttl) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return getFlow().flowAsync(entity, e -> stage(c -> getManager().save(e, ttl, c)));
+    }
+
+    @Override
+    public <T> CompletionStage<T> updateAsync(T entity) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        return getFlow().flowAsync(entity, e -> stage(c -> getManager().update(e, c)));
+    }
+
+    @Override
+    public CompletionStage<Void> deleteAsync(ColumnDeleteQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return stage(c -> getManager().delete(query, c));
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> findAsync(ColumnQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return this.<List<ColumnEntity>>stage(c -> getManager().find(query, c))
+                .thenApply(e -> getConverter().toEntities(e));
+    }
+
+    @Override
+    public <T> CompletionStage<Page<T>> findAsync(ColumnQuery query, Cursor cursor) throws NullPointerException,
+            IllegalArgumentException {
+        requireNonNull(query, "query is required");
+        requireNonNull(cursor, "cursor is required");
+        ColumnQuery page = ColumnKeysets.prepare(query, cursor);
+        return this.<List<ColumnEntity>>stage(c -> getManager().find(page, c))
+                .thenApply(d -> ColumnKeysets.page(d, cursor, page.getSorts(), e -> getConverter().toEntities(e)));
+    }
+
+    @Override
+    public CompletionStage<Boolean> existsAsync(ColumnQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        ColumnQuery first = ColumnQueries.copy(query, 1L);
+        return this.<List<ColumnEntity>>stage(c -> getManager().find(first, c)).thenApply(e -> !e.isEmpty());
+    }
+
+    @Override
+    public CompletionStage<Long> countAsync(ColumnQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return this.<List<ColumnEntity>>stage(c -> getManager().find(query, c)).thenApply(e -> (long) e.size());
+    }
+
+    @Override
+    public <T> Publisher<T> publish(ColumnQuery query, int fetchSize) throws NullPointerException,
+            IllegalArgumentException {
+        requireNonNull(query, "query is required");
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetchSize must be positive");
+        }
+        return new ColumnQueryPublisher<ColumnEntity, T>(query, fetchSize, (q, c) -> getManager().find(q, c),
+                e -> getConverter().toEntity(e), getCallbackExecutor());
+    }
+
+    private <T> CompletionStage<T> stage(Consumer<Consumer<T>> operation) {
+        return ColumnStages.of(getCallbackExecutor(), operation);
+    }
+
+    private <T> Consumer<T> hop(Consumer<T> callBack) {
+        return ColumnStages.hop(getCallbackExecutor(), callBack);
     }
 }
@@ -21,6 +21,11 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.diana.api.column.ColumnEntity;
 
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
 
 /**
  * This interface represents the converter between an entity and the {@link ColumnEntity}
@@ -54,4 +59,47 @@ public interface ColumnEntityConverter {
      * @return the instance from {@link ColumnEntity}
      */
     <T> T toEntity(ColumnEntity entity);
+
+    /**
+     * Converts the entities to {@link ColumnEntity} keeping the order, the default implementation
+     * converts them sequentially using {@link ColumnEntityConverter#toColumn(Object)}
+     *
+     * @param entities the entities
+     * @return the {@link ColumnEntity} list
+     * @throws NullPointerException when entities is null
+     */
+    default List<ColumnEntity> toColumns(List<?> entities) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        return entities.stream().map(this::toColumn).collect(toList());
+    }
+
+    /**
+     * Converts the {@link ColumnEntity} list to entities keeping the order, the default implementation
+     * converts them sequentially using {@link ColumnEntityConverter#toEntity(Class, ColumnEntity)}
+     *
+     * @param entityClass the entity class
+     * @param entities    the {@link ColumnEntity} list to be converted
+     * @param <T>         the entity type
+     * @return the entities
+     * @throws NullPointerException when either entityClass or entities is null
+     */
+    default <T> List<T> toEntities(Class<T> entityClass, List<ColumnEntity> entities) throws NullPointerException {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(entities, "entities is required");
+        return entities.stream().map(e -> toEntity(entityClass, e)).collect(toList());
+    }
+
+    /**
+     * Similar to {@link ColumnEntityConverter#toEntities(Class, List)}, but
+     * search the instance type from {@link ColumnEntity#getName()}
+     *
+     * @param entities the {@link ColumnEntity} list to be converted
+     * @param <T>      the entity type
+     * @return the entities
+     * @throws NullPointerException when entities is null
+     */
+    default <T> List<T> toEntities(List<ColumnEntity> entities) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        return entities.stream().map(e -> this.<T>toEntity(e)).collect(toList());
+    }
 }
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.column;
+
+
+import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.EmbeddedFieldRepresentation;
+import org.jnosql.artemis.reflection.FieldRepresentation;
+import org.jnosql.diana.api.Value;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
+
+/**
+ * The conversion plan between {@link ColumnEntity} and an entity, it is created once to each {@link ClassRepresentation}.
+ * The steps are indexed by column name, so the entity is filled in a single pass over the columns,
+ * and the plans to the embedded fields are resolved the first time they are used, so an entity that embeds
+ * itself, directly or through another entity, does not resolve its own plan while it is created.
+ * An embedded field without its own column is read from the columns of the entity itself, unless the embedded
+ * entity is already being read from those columns, which would never end for such a cycle.
+ * The entity is written to a {@link ColumnEntity} in a single indexed loop over the same steps.
+ * When the entity is created from its constructor parameters, the values are first collected by field ordinal,
+ * then the constructor is invoked and the remaining fields are written.
+ */
+final class ColumnEntityPlan {
+
+    private final ClassRepresentation representation;
+
+    private final Map<String, Step> steps;
+
+    private final Step[] ordered;
+
+    private final Step[] embedded;
+
+    private final boolean byConstructor;
+
+    private ColumnEntityPlan(ClassRepresentation representation, Map<String, Step> steps, Step[] ordered,
+                             Step[] embedded) {
+        this.representation = representation;
+        this.steps = steps;
+        this.ordered = ordered;
+        this.embedded = embedded;
+        this.byConstructor = !representation.getConstructorParameters().isEmpty();
+    }
+
+    ClassRepresentation getRepresentation() {
+        return representation;
+    }
+
+    ColumnEntity toColumn(Object instance, ColumnEntityConverter converter) {
+        ColumnEntity entity = ColumnEntity.of(representation.getName());
+        for (Step step : ordered) {
+            Column column = step.toColumn(instance, converter);
+            if (column != null) {
+                entity.add(column);
+            }
+        }
+        return entity;
+    }
+
+    <T> T toEntity(ColumnEntity entity, ColumnEntityConverter converter) {
+        return toEntity(entity, converter, Collections.emptySet());
+    }
+
+    /**
+     * Converts the entity, reading is the classes that are already being read from the same columns
+     */
+    private <T> T toEntity(ColumnEntity entity, ColumnEntityConverter converter, Set<Class<?>> reading) {
+        if (byConstructor) {
+            return toEntityByConstructor(entity, converter, reading);
+        }
+        T instance = representation.newInstance();
+        boolean[] embeddedFound = embedded.length == 0 ? null : new boolean[embedded.length];
+        for (Column column : entity.getColumns()) {
+            Step step = steps.get(column.getName());
+            if (step != null) {
+                step.write(instance, column.getValue(), converter);
+                if (step.embeddedIndex >= 0) {
+                    embeddedFound[step.embeddedIndex] = true;
+                }
+            }
+        }
+        Set<Class<?>> path = null;
+        for (int index = 0; index < embedded.length; index++) {
+            if (!embeddedFound[index]) {
+                path = path == null ? path(reading) : path;
+                embedded[index].writeEmbedded(instance, entity, converter, path);
+            }
+        }
+        return instance;
+    }
+
+    private <T> T toEntityByConstructor(ColumnEntity entity, ColumnEntityConverter converter,
+                                        Set<Class<?>> reading) {
+        Value[] values = new Value[ordered.length];
+        for (Column column : entity.getColumns()) {
+            Step step = steps.get(column.getName());
+            if (step != null) {
+                values[step.ordinal] = column.getValue();
+            }
+        }
+
+        Set<Class<?>> path = null;
+        Object[] arguments = representation.newConstructorArguments();
+        for (Step step : ordered) {
+            if (step.parameter >= 0) {
+                Value value = values[step.ordinal];
+                if (value != null) {
+                    arguments[step.parameter] = step.read(value, converter);
+                } else if (step.embeddedIndex >= 0) {
+                    path = path == null ? path(reading) : path;
+                    arguments[step.parameter] = step.readEmbedded(entity, converter, path);
+                }
+            }
+        }
+
+        T instance = representation.newInstance(arguments);
+        for (Step step : ordered) {
+            if (step.parameter < 0) {
+                Value value = values[step.ordinal];
+                if (value != null) {
+                    step.write(instance, value, converter);
+                } else if (step.embeddedIndex >= 0) {
+                    path = path == null ? path(reading) : path;
+                    step.writeEmbedded(instance, entity, converter, path);
+                }
+            }
+        }
+        return instance;
+    }
+
+    private Set<Class<?>> path(Set<Class<?>> reading) {
+        Set<Class<?>> path = new HashSet<>(reading);
+        path.add(representation.getClassInstance());
+        return path;
+    }
+
+    static ColumnEntityPlan of(ClassRepresentation representation, Function<Class<?>, ColumnEntityPlan> resolver) {
+        Map<String, Step> steps = new HashMap<>();
+        List<Step> ordered = new ArrayList<>();
+        List<Step> embedded = new ArrayList<>();
+        List<FieldRepresentation> parameters = representation.getConstructorParameters();
+        for (FieldRepresentation field : representation.getFields()) {
+            Class<?> type = field.getField().getType();
+            int ordinal = ordered.size();
+            int parameter = parameters.indexOf(field);
+            Step step;
+            if (EMBEDDED.equals(field.getType())) {
+                EmbeddedFieldRepresentation embeddedField = (EmbeddedFieldRepresentation) field;
+                step = new EmbeddedStep(field, ordinal, parameter, embedded.size(), embeddedField.getEntityName(),
+                        type, resolver);
+                embedded.add(step);
+            } else if (long.class.equals(type)) {
+                step = new LongStep(field, ordinal, parameter);
+            } else if (int.class.equals(type)) {
+                step = new IntStep(field, ordinal, parameter);
+            } else if (double.class.equals(type)) {
+                step = new DoubleStep(field, ordinal, parameter);
+            } else {
+                step = new Step(field, ordinal, parameter, -1);
+            }
+            ordered.add(step);
+            steps.put(field.getName(), step);
+        }
+        return new ColumnEntityPlan(representation, Collections.unmodifiableMap(steps),
+                ordered.toArray(new Step[ordered.size()]), embedded.toArray(new Step[embedded.size()]));
+    }
+
+    /**
+     * A read and write step to a single field
+     */
+    private static class Step {
+
+        protected final FieldRepresentation field;
+
+        protected final String name;
+
+        protected final int ordinal;
+
+        protected final int parameter;
+
+        protected final int embeddedIndex;
+
+        private Step(FieldRepresentation field, int ordinal, int parameter, int embeddedIndex) {
+            this.field = field;
+            this.name = field.getName();
+            this.ordinal = ordinal;
+            this.parameter = parameter;
+            this.embeddedIndex = embeddedIndex;
+        }
+
+        Object read(Value value, ColumnEntityConverter converter) {
+            return field.getValue(value);
+        }
+
+        Object readEmbedded(ColumnEntity entity, ColumnEntityConverter converter, Set<Class<?>> reading) {
+            throw new UnsupportedOperationException("This step is not to an embedded field: " + field.getName());
+        }
+
+        void write(Object instance, Value value, ColumnEntityConverter converter) {
+            field.write(instance, read(value, converter));
+        }
+
+        void writeEmbedded(Object instance, ColumnEntity entity, ColumnEntityConverter converter,
+                           Set<Class<?>> reading) {
+            field.write(instance, readEmbedded(entity, converter, reading));
+        }
+
+        Column toColumn(Object instance, ColumnEntityConverter converter) {
+            Object value = field.read(instance);
+            if (value == null) {
+                return null;
+            }
+            return Column.of(name, value);
+        }
+    }
+
+    /**
+     * The step to an embedded field, the nested plan is used when the sub entity has the expected name.
+     * The nested plan is resolved on the first use and then kept.
+     */
+    private static final class EmbeddedStep extends Step {
+
+        private final String entityName;
+
+        private final Class<?> type;
+
+        private final Function<Class<?>, ColumnEntityPlan> resolver;
+
+        private volatile ColumnEntityPlan plan;
+
+        private EmbeddedStep(FieldRepresentation field, int ordinal, int parameter, int embeddedIndex,
+                             String entityName, Class<?> type, Function<Class<?>, ColumnEntityPlan> resolver) {
+            super(field, ordinal, parameter, embeddedIndex);
+            this.entityName = entityName;
+            this.type = type;
+            this.resolver = resolver;
+        }
+
+        private ColumnEntityPlan plan() {
+            ColumnEntityPlan plan = this.plan;
+            if (plan == null) {
+                plan = resolver.apply(type);
+                this.plan = plan;
+            }
+            return plan;
+        }
+
+        @Override
+        Object read(Value value, ColumnEntityConverter converter) {
+            ColumnEntity subEntity = value.get(ColumnEntity.class);
+            if (entityName.equalsIgnoreCase(subEntity.getName())) {
+                return plan().toEntity(subEntity, converter);
+            }
+            return converter.toEntity(subEntity);
+        }
+
+        @Override
+        Object readEmbedded(ColumnEntity entity, ColumnEntityConverter converter, Set<Class<?>> reading) {
+            if (reading.contains(type)) {
+                return null;
+            }
+            return plan().toEntity(entity, converter, reading);
+        }
+
+        @Override
+        Column toColumn(Object instance, ColumnEntityConverter converter) {
+            Object value = field.read(instance);
+            if (value == null) {
+                return null;
+            }
+            if (value.getClass().equals(type)) {
+                return Column.of(name, plan().toColumn(value, converter));
+            }
+            return Column.of(name, converter.toColumn(value));
+        }
+    }
+
+    /**
+     * The step to a long field, it does not box the value when it is already a {@link Number}
+     */
+    private static final class LongStep extends Step {
+
+        private LongStep(FieldRepresentation field, int ordinal, int parameter) {
+            super(field, ordinal, parameter, -1);
+        }
+
+        @Override
+        void write(Object instance, Value value, ColumnEntityConverter converter) {
+            Object raw = value.get();
+            if (raw instanceof Number) {
+                field.setLong(instance, ((Number) raw).longValue());
+            } else {
+                super.write(instance, value, converter);
+            }
+        }
+
+        @Override
+        Column toColumn(Object instance, ColumnEntityConverter converter) {
+            return Column.of(name, field.getLong(instance));
+        }
+    }
+
+    /**
+     * The step to an int field, it does not box the value when it is already a {@link Number}
+     */
+    private static final class IntStep extends Step {
+
+        private IntStep(FieldRepresentation field, int ordinal, int parameter) {
+            super(field, ordinal, parameter, -1);
+        }
+
+        @Override
+        void write(Object instance, Value value, ColumnEntityConverter converter) {
+            Object raw = value.get();
+            if (raw instanceof Number) {
+                field.setInt(instance, ((Number) raw).intValue());
+            } else {
+                super.write(instance, value, converter);
+            }
+        }
+
+        @Override
+        Column toColumn(Object instance, ColumnEntityConverter converter) {
+            return Column.of(name, field.getInt(instance));
+        }
+    }
+
+    /**
+     * The step to a double field, it does not box the value when it is already a {@link Number}
+     */
+    private static final class DoubleStep extends Step {
+
+        private DoubleStep(FieldRepresentation field, int ordinal, int parameter) {
+            super(field, ordinal, parameter, -1);
+        }
+
+        @Override
+        void write(Object instance, Value value, ColumnEntityConverter converter) {
+            Object raw = value.get();
+            if (raw instanceof Number) {
+                field.setDouble(instance, ((Number) raw).doubleValue());
+            } else {
+                super.write(instance, value, converter);
+            }
+        }
+
+        @Override
+        Column toColumn(Object instance, ColumnEntityConverter converter) {
+            return Column.of(name, field.getDouble(instance));
+        }
+    }
+}
@@ -64,4 +64,50 @@ public interface ColumnEventPersistManager {
      */
     <T> void firePostEntity(T entity);
 
+    /**
+     * Checks whether nobody observes the event fired by {@link ColumnEventPersistManager#firePreColumn(ColumnEntity)},
+     * the {@link ColumnWorkflow} removes the stages that nobody observes. By default every event is observed.
+     *
+     * @return true when the event has no observer
+     */
+    default boolean isPreColumnUnobserved() {
+        return false;
+    }
+
+    /**
+     * Checks whether nobody observes the event fired by {@link ColumnEventPersistManager#firePostColumn(ColumnEntity)}
+     *
+     * @return true when the event has no observer
+     * @see ColumnEventPersistManager#isPreColumnUnobserved()
+     */
+    default boolean isPostColumnUnobserved() {
+        return false;
+    }
+
+    /**
+     * Checks whether nobody observes the event fired by {@link ColumnEventPersistManager#firePreEntity(Object)}
+     * to the type of the entity, the observers are resolved with the event of the given entity and the
+     * result applies to every entity of its type
+     *
+     * @param entity an entity of the type
+     * @return true when the event has no observer
+     * @see ColumnEventPersistManager#isPreColumnUnobserved()
+     */
+    default boolean isPreEntityUnobserved(Object entity) {
+        return false;
+    }
+
+    /**
+     * Checks whether nobody observes the event fired by {@link ColumnEventPersistManager#firePostEntity(Object)}
+     * to the type of the entity, the observers are resolved with the event of the given entity and the
+     * result applies to every entity of its type
+     *
+     * @param entity an entity of the type
+     * @return true when the event has no observer
+     * @see ColumnEventPersistManager#isPreColumnUnobserved()
+     */
+    default boolean isPostEntityUnobserved(Object entity) {
+        return false;
+    }
+
 }
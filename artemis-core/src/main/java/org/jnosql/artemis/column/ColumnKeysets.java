@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.column;
+
+
+import org.jnosql.artemis.Cursor;
+import org.jnosql.artemis.Page;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnCondition;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.api.column.ColumnQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Utilitarian class to the keyset pagination of {@link org.jnosql.artemis.Cursor} on a column family
+ */
+final class ColumnKeysets {
+
+    private ColumnKeysets() {
+    }
+
+    /**
+     * Checks the query is sorted and creates the query of the page: a copy of the query limited to a page plus
+     * one entity and, when the cursor has keys, with the condition of the rows after them. The query start only
+     * applies to the first page, the next pages start right after the keys. The query itself is not changed,
+     * so it can be paged again with the next cursor.
+     */
+    static ColumnQuery prepare(ColumnQuery query, Cursor cursor) {
+        List<Sort> sorts = query.getSorts();
+        if (sorts.isEmpty()) {
+            throw new IllegalArgumentException("The keyset pagination requires a sorted query: " + query);
+        }
+        if (cursor.getKeys().isEmpty()) {
+            return ColumnQueries.copy(query, query.getStart(), cursor.getSize() + 1L);
+        }
+        ColumnQuery page = ColumnQueries.copy(query, 0L, cursor.getSize() + 1L);
+        page.and(after(sorts, cursor.getKeys()));
+        return page;
+    }
+
+    /**
+     * Creates the page from the entities found by a query prepared by
+     * {@link ColumnKeysets#prepare(ColumnQuery, Cursor)}, the extra entity just tells there is a next page.
+     */
+    static <T> Page<T> page(List<ColumnEntity> entities, Cursor cursor, List<Sort> sorts,
+                            Function<List<ColumnEntity>, List<T>> converter) {
+        int size = cursor.getSize();
+        if (entities.size() <= size) {
+            return Page.of(converter.apply(entities), null);
+        }
+        List<ColumnEntity> content = entities.subList(0, size);
+        Cursor next = Cursor.after(keys(content.get(size - 1), sorts), size);
+        return Page.of(converter.apply(content), next);
+    }
+
+    /**
+     * Creates the condition of the rows after the sort keys, for the sorts a, b and the keys x, y:
+     * {@code a > x OR (a = x AND b > y)}, where a descending sort uses lesser than.
+     */
+    static ColumnCondition after(List<Sort> sorts, List<Object> keys) {
+        if (sorts.size() != keys.size()) {
+            throw new IllegalArgumentException(String.format("The cursor has %d sort keys, but the query has %d sorts",
+                    keys.size(), sorts.size()));
+        }
+        ColumnCondition condition = null;
+        ColumnCondition equals = null;
+        for (int index = 0; index < sorts.size(); index++) {
+            Sort sort = sorts.get(index);
+            Column column = Column.of(sort.getName(), keys.get(index));
+            ColumnCondition next = Sort.SortType.DESC.equals(sort.getType()) ?
+                    ColumnCondition.lt(column) : ColumnCondition.gt(column);
+            if (equals != null) {
+                next = equals.and(next);
+            }
+            condition = condition == null ? next : condition.or(next);
+            ColumnCondition eq = ColumnCondition.eq(column);
+            equals = equals == null ? eq : equals.and(eq);
+        }
+        return condition;
+    }
+
+    static List<Object> keys(ColumnEntity entity, List<Sort> sorts) {
+        List<Object> keys = new ArrayList<>(sorts.size());
+        for (Sort sort : sorts) {
+            Object key = entity.find(sort.getName()).map(c -> c.getValue().get()).orElse(null);
+            if (key == null) {
+                throw new IllegalArgumentException(String.format("The sort key %s is null at the entity %s",
+                        sort.getName(), entity.getName()));
+            }
+            keys.add(key);
+        }
+        return keys;
+    }
+}
@@ -20,15 +20,19 @@
 package org.jnosql.artemis.column;
 
 
+import org.jnosql.artemis.Cursor;
+import org.jnosql.artemis.Page;
 import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
 
 import java.time.Duration;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -139,7 +143,71 @@ public interface ColumnRepository {
     <T> List<T> find(ColumnQuery query) throws NullPointerException;
 
     /**
-     * Returns a single entity from query
+     * Finds a page of entities from query with keyset pagination: the query is limited to the cursor size
+     * and, from the second page on, rewritten with a condition of the rows after the sort keys of the cursor.
+     * The query must be sorted, the query instance is not changed by this method.
+     *
+     * @param query  - query to figure out entities
+     * @param cursor the page position
+     * @param <T>    the instance type
+     * @return the page with the entities found by query and the cursor to the next page
+     * @throws NullPointerException          when either query or cursor are null
+     * @throws IllegalArgumentException      when the query has no sort or the cursor does not match its sorts
+     * @throws UnsupportedOperationException when the repository does not support keyset pagination
+     */
+    default <T> Page<T> find(ColumnQuery query, Cursor cursor) throws NullPointerException, IllegalArgumentException,
+            UnsupportedOperationException {
+        throw new UnsupportedOperationException("The keyset pagination is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Finds entities from query as a {@link Stream} that converts each entity when it is pulled,
+     * so the converted entities are never accumulated in memory
+     *
+     * @param query - query to figure out entities
+     * @param <T>   the instance type
+     * @return entities found by query
+     * @throws NullPointerException when query is null
+     */
+    default <T> Stream<T> stream(ColumnQuery query) throws NullPointerException {
+        return this.<T>find(query).stream();
+    }
+
+    /**
+     * Finds entities from query as a {@link Stream} that reads the result in pages of fetchSize entities,
+     * each page is read with a copy of the query that moves the start and limit window, so the query itself is
+     * not changed. The query must have a stable order, otherwise an entity might be read twice or be skipped
+     * between pages, and the database must support the query start.
+     *
+     * @param query     - query to figure out entities
+     * @param fetchSize the number of entities read from the manager at a time
+     * @param <T>       the instance type
+     * @return entities found by query
+     * @throws NullPointerException     when query is null
+     * @throws IllegalArgumentException when fetchSize is not positive
+     */
+    default <T> Stream<T> stream(ColumnQuery query, int fetchSize) throws NullPointerException {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetchSize must be positive");
+        }
+        return stream(query);
+    }
+
+    /**
+     * Finds entities from query as an {@link Iterator} that converts each entity when it is pulled
+     *
+     * @param query - query to figure out entities
+     * @param <T>   the instance type
+     * @return entities found by query
+     * @throws NullPointerException when query is null
+     */
+    default <T> Iterator<T> iterate(ColumnQuery query) throws NullPointerException {
+        return this.<T>stream(query).iterator();
+    }
+
+    /**
+     * Returns a single entity from query, the query is limited to two entities,
+     * that is enough to tell the result is not unique. A copy of the query is limited, so the query is never changed
      *
      * @param query - query to figure out entities
      * @param <T>   the instance type
@@ -148,7 +216,9 @@ public interface ColumnRepository {
      * @throws NullPointerException     when query is null
      */
     default <T> Optional<T> singleResult(ColumnQuery query) throws NonUniqueResultException {
-        List<T> entities = find(query);
+        Objects.requireNonNull(query, "query is required");
+        long limit = query.getLimit();
+        List<T> entities = find(limit <= 0 || limit > 2 ? ColumnQueries.copy(query, 2L) : query);
         if (entities.isEmpty()) {
             return Optional.empty();
         }
@@ -159,4 +229,29 @@ public interface ColumnRepository {
         throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
     }
 
+    /**
+     * Checks if the query finds any entity, a copy of the query is limited to one entity,
+     * so the query is never changed
+     *
+     * @param query - query to figure out entities
+     * @return true when the query finds at least one entity
+     * @throws NullPointerException when query is null
+     */
+    default boolean exists(ColumnQuery query) throws NullPointerException {
+        Objects.requireNonNull(query, "query is required");
+        return !find(ColumnQueries.copy(query, 1L)).isEmpty();
+    }
+
+    /**
+     * Returns the number of entities found by query
+     *
+     * @param query - query to figure out entities
+     * @return the number of entities
+     * @throws NullPointerException when query is null
+     */
+    default long count(ColumnQuery query) throws NullPointerException {
+        Objects.requireNonNull(query, "query is required");
+        return find(query).size();
+    }
+
 }
@@ -20,14 +20,20 @@
 package org.jnosql.artemis.column;
 
 
+import org.jnosql.artemis.Cursor;
+import org.jnosql.artemis.FetchSize;
+import org.jnosql.artemis.Page;
 import org.jnosql.diana.api.ExecuteAsyncQueryException;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
+import org.reactivestreams.Publisher;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.StreamSupport;
 
 /**
@@ -202,4 +208,228 @@ public interface ColumnRepositoryAsync {
      */
     <T> void find(ColumnQuery query, Consumer<List<T>> callBack) throws
             ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException;
+
+    /**
+     * Finds a page of entities from query asynchronously with keyset pagination,
+     * see {@link ColumnRepository#find(ColumnQuery, Cursor)}
+     *
+     * @param query    query to find entities
+     * @param cursor   the page position
+     * @param callBack the callback, when the process is finished will call this instance returning
+     *                 the page with the entities found by query and the cursor to the next page
+     * @param <T>      the instance type
+     * @throws ExecuteAsyncQueryException    when there is a async error
+     * @throws UnsupportedOperationException when the database does not support this feature
+     * @throws NullPointerException          when either query, cursor or callBack are null
+     * @throws IllegalArgumentException      when the query has no sort or the cursor does not match its sorts
+     */
+    default <T> void find(ColumnQuery query, Cursor cursor, Consumer<Page<T>> callBack) throws
+            ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException, IllegalArgumentException {
+        throw new UnsupportedOperationException("The keyset pagination is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Saves an entity asynchronously running the whole {@link ColumnWorkflow}, so the events and the
+     * conversion are chained as stages of the database response. By default it's just run
+     * {@link ColumnRepositoryAsync#save(Object, Consumer)},
+     * each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param entity entity to be saved
+     * @param <T>    the instance type
+     * @return the stage of the saved entity, it completes exceptionally when either the workflow or the
+     * database fails
+     * @throws NullPointerException when entity is null
+     */
+    default <T> CompletionStage<T> saveAsync(T entity) throws NullPointerException {
+        Objects.requireNonNull(entity, "entity is required");
+        return ColumnStages.of(Runnable::run, callBack -> save(entity, callBack));
+    }
+
+    /**
+     * Saves an entity asynchronously with time to live, see {@link ColumnRepositoryAsync#saveAsync(Object)}.
+     * By default it's just run {@link ColumnRepositoryAsync#save(Object, Duration, Consumer)}.
+     *
+     * @param entity entity to be saved
+     * @param ttl    the time to live
+     * @param <T>    the instance type
+     * @return the stage of the saved entity
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    default <T> CompletionStage<T> saveAsync(T entity, Duration ttl) throws NullPointerException {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return ColumnStages.of(Runnable::run, callBack -> save(entity, ttl, callBack));
+    }
+
+    /**
+     * Saves entities asynchronously, by default it's just run {@link ColumnRepositoryAsync#saveAsync(Object)}
+     * to each entity and waits all of them, each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param entities entities to be saved
+     * @param <T>      the instance type
+     * @return the stage of the saved entities in the same order
+     * @throws NullPointerException when entities is null
+     */
+    default <T> CompletionStage<List<T>> saveAsync(Iterable<T> entities) throws NullPointerException {
+        Objects.requireNonNull(entities, "entities is required");
+        return ColumnStages.allOf(entities, this::saveAsync);
+    }
+
+    /**
+     * Saves entities asynchronously with time to live, by default it's just run
+     * {@link ColumnRepositoryAsync#saveAsync(Object, Duration)} to each entity and waits all of them,
+     * each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param entities entities to be saved
+     * @param ttl      time to live
+     * @param <T>      the instance type
+     * @return the stage of the saved entities in the same order
+     * @throws NullPointerException when either entities or ttl are null
+     */
+    default <T> CompletionStage<List<T>> saveAsync(Iterable<T> entities, Duration ttl) throws NullPointerException {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return ColumnStages.allOf(entities, e -> saveAsync(e, ttl));
+    }
+
+    /**
+     * Updates an entity asynchronously running the whole {@link ColumnWorkflow},
+     * see {@link ColumnRepositoryAsync#saveAsync(Object)}. By default it's just run
+     * {@link ColumnRepositoryAsync#update(Object, Consumer)}.
+     *
+     * @param entity entity to be updated
+     * @param <T>    the instance type
+     * @return the stage of the updated entity
+     * @throws NullPointerException when entity is null
+     */
+    default <T> CompletionStage<T> updateAsync(T entity) throws NullPointerException {
+        Objects.requireNonNull(entity, "entity is required");
+        return ColumnStages.of(Runnable::run, callBack -> update(entity, callBack));
+    }
+
+    /**
+     * Updates entities asynchronously, by default it's just run {@link ColumnRepositoryAsync#updateAsync(Object)}
+     * to each entity and waits all of them, each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param entities entities to be updated
+     * @param <T>      the instance type
+     * @return the stage of the updated entities in the same order
+     * @throws NullPointerException when entities is null
+     */
+    default <T> CompletionStage<List<T>> updateAsync(Iterable<T> entities) throws NullPointerException {
+        Objects.requireNonNull(entities, "entities is required");
+        return ColumnStages.allOf(entities, this::updateAsync);
+    }
+
+    /**
+     * Deletes entities asynchronously, by default it's just run
+     * {@link ColumnRepositoryAsync#delete(ColumnDeleteQuery, Consumer)}
+     *
+     * @param query query to delete the entities
+     * @return the stage that completes when the database finishes the deletion
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<Void> deleteAsync(ColumnDeleteQuery query) throws NullPointerException {
+        Objects.requireNonNull(query, "query is required");
+        return ColumnStages.of(Runnable::run, callBack -> delete(query, callBack));
+    }
+
+    /**
+     * Finds entities from query asynchronously, by default it's just run
+     * {@link ColumnRepositoryAsync#find(ColumnQuery, Consumer)}
+     *
+     * @param query query to find entities
+     * @param <T>   the instance type
+     * @return the stage of the entities found by query
+     * @throws NullPointerException when query is null
+     */
+    default <T> CompletionStage<List<T>> findAsync(ColumnQuery query) throws NullPointerException {
+        Objects.requireNonNull(query, "query is required");
+        return ColumnStages.of(Runnable::run, callBack -> find(query, callBack));
+    }
+
+    /**
+     * Finds a page of entities from query asynchronously with keyset pagination,
+     * see {@link ColumnRepository#find(ColumnQuery, Cursor)}. By default it's just run
+     * {@link ColumnRepositoryAsync#find(ColumnQuery, Cursor, Consumer)}.
+     *
+     * @param query  query to find entities
+     * @param cursor the page position
+     * @param <T>    the instance type
+     * @return the stage of the page with the entities found by query and the cursor to the next page
+     * @throws NullPointerException     when either query or cursor are null
+     * @throws IllegalArgumentException when the query has no sort or the cursor does not match its sorts
+     */
+    default <T> CompletionStage<Page<T>> findAsync(ColumnQuery query, Cursor cursor) throws NullPointerException,
+            IllegalArgumentException {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(cursor, "cursor is required");
+        return ColumnStages.of(Runnable::run, callBack -> find(query, cursor, callBack));
+    }
+
+    /**
+     * Checks asynchronously whether there is an entity from query, by default it finds the entities with
+     * {@link ColumnRepositoryAsync#findAsync(ColumnQuery)},
+     * each NoSQL vendor might replace to a more appropriate one, e.g.: limiting the query to one entity.
+     *
+     * @param query query to find entities
+     * @return the stage of true when the query finds an entity
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<Boolean> existsAsync(ColumnQuery query) throws NullPointerException {
+        return this.findAsync(query).thenApply(entities -> !entities.isEmpty());
+    }
+
+    /**
+     * Counts asynchronously the entities from query, by default it finds the entities with
+     * {@link ColumnRepositoryAsync#findAsync(ColumnQuery)},
+     * each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param query query to find entities
+     * @return the stage of the number of entities found by query
+     * @throws NullPointerException when query is null
+     */
+    default CompletionStage<Long> countAsync(ColumnQuery query) throws NullPointerException {
+        return this.findAsync(query).thenApply(entities -> (long) entities.size());
+    }
+
+    /**
+     * Finds entities from query as a {@link Publisher}, the query runs when the subscriber requests the first
+     * entity and each entity is converted when it is emitted, so a cancelled subscription converts no more entities.
+     * The result is read in pages of {@link FetchSize#DEFAULT_SIZE} entities,
+     * see {@link ColumnRepositoryAsync#publish(ColumnQuery, int)}. The publisher accepts a single subscriber.
+     *
+     * @param query query to find entities
+     * @param <T>   the instance type
+     * @return the publisher of the entities found by query
+     * @throws NullPointerException when query is null
+     */
+    default <T> Publisher<T> publish(ColumnQuery query) throws NullPointerException {
+        return publish(query, FetchSize.DEFAULT_SIZE);
+    }
+
+    /**
+     * Finds entities from query as a {@link Publisher} that reads the result in pages of fetch size entities
+     * when the query is sorted, otherwise at once, see {@link ColumnRepository#stream(ColumnQuery, int)}.
+     * A page is only read when the subscriber requests more entities than the ones already read,
+     * so a cancelled subscription stops fetching and converting.
+     * The publisher accepts a single subscriber. By default each page is read with
+     * {@link ColumnRepositoryAsync#find(ColumnQuery, Consumer)},
+     * each NoSQL vendor might replace to a more appropriate one.
+     *
+     * @param query     query to find entities
+     * @param fetchSize the number of entities read from the database at each page
+     * @param <T>       the instance type
+     * @return the publisher of the entities found by query
+     * @throws NullPointerException     when query is null
+     * @throws IllegalArgumentException when fetchSize is not positive
+     */
+    default <T> Publisher<T> publish(ColumnQuery query, int fetchSize) throws NullPointerException,
+            IllegalArgumentException {
+        Objects.requireNonNull(query, "query is required");
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetchSize must be positive");
+        }
+        return new ColumnQueryPublisher<T, T>(query, fetchSize, this::find, Function.identity(), Runnable::run);
+    }
 }
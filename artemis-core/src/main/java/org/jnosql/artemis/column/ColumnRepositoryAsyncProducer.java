@@ -22,6 +22,9 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
 /**
  * The producer of {@link ColumnRepository}
  *
@@ -38,4 +41,22 @@ public interface ColumnRepositoryAsyncProducer<T extends ColumnRepositoryAsync>
      */
     T get(ColumnFamilyManagerAsync columnFamilyManager) throws NullPointerException;
 
+    /**
+     * creates a {@link ColumnRepositoryAsync} that converts the entities and calls the callbacks
+     * on the callbackExecutor
+     *
+     * @param columnFamilyManager the columnFamilyManager
+     * @param callbackExecutor    the executor where the entities are converted and the callbacks are called
+     * @return a new instance
+     * @throws NullPointerException          when either columnFamilyManager or callbackExecutor are null
+     * @throws UnsupportedOperationException when the producer does not support a callback executor
+     * @see org.jnosql.artemis.CallbackExecutor
+     */
+    default T get(ColumnFamilyManagerAsync columnFamilyManager, Executor callbackExecutor) throws NullPointerException,
+            UnsupportedOperationException {
+        Objects.requireNonNull(columnFamilyManager, "columnFamilyManager is required");
+        Objects.requireNonNull(callbackExecutor, "callbackExecutor is required");
+        throw new UnsupportedOperationException("The callback executor is not supported by " + getClass().getName());
+    }
+
 }
@@ -20,24 +20,17 @@
 package org.jnosql.artemis.column;
 
 
+import org.jnosql.artemis.BulkConverter;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
-import org.jnosql.artemis.reflection.FieldRepresentation;
-import org.jnosql.artemis.reflection.FieldValue;
-import org.jnosql.artemis.reflection.Reflections;
-import org.jnosql.diana.api.Value;
-import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnEntity;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
-
-import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The default implementation to {@link ColumnEntityConverter}
@@ -49,72 +42,55 @@ class DefaultColumnEntityConverter implements ColumnEntityConverter {
     private ClassRepresentations classRepresentations;
 
     @Inject
-    private Reflections reflections;
+    private BulkConverter bulkConverter;
+
+    private final Map<Class<?>, ColumnEntityPlan> plans = new ConcurrentHashMap<>();
 
     @Override
     public ColumnEntity toColumn(Object entityInstance) {
         Objects.requireNonNull(entityInstance, "Object is required");
-        ClassRepresentation representation = classRepresentations.get(entityInstance.getClass());
-        ColumnEntity entity = ColumnEntity.of(representation.getName());
-        representation.getFields().stream()
-                .map(f -> to(f, entityInstance))
-                .filter(FieldValue::isNotEmpty)
-                .map(f -> f.toColumn(this))
-                .forEach(entity::add);
-        return entity;
+        return getPlan(entityInstance.getClass()).toColumn(entityInstance, this);
     }
 
     @Override
     public <T> T toEntity(Class<T> entityClass, ColumnEntity entity) {
-        ClassRepresentation representation = classRepresentations.get(entityClass);
-        T instance = reflections.newInstance(representation.getConstructor());
-        return convertEntity(entity, representation, instance);
+        return getPlan(entityClass).toEntity(entity, this);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T toEntity(ColumnEntity entity) {
         ClassRepresentation representation = classRepresentations.findByName(entity.getName());
-        T instance = reflections.newInstance(representation.getConstructor());
-        return convertEntity(entity, representation, instance);
+        return getPlan(representation.getClassInstance()).toEntity(entity, this);
     }
 
-    private FieldValue to(FieldRepresentation field, Object entityInstance) {
-        Object value = reflections.getValue(entityInstance, field.getField());
-        return new FieldValue(value, field);
+    @Override
+    public List<ColumnEntity> toColumns(List<?> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return bulkConverter.convert(entities, this::toColumn);
     }
 
-    private <T> Consumer<String> feedObject(T instance, ColumnEntity entity, Map<String, FieldRepresentation> fieldsGroupByName) {
-        return k -> {
-            Optional<Column> column = entity.find(k);
-            FieldRepresentation field = fieldsGroupByName.get(k);
-            if (EMBEDDED.equals(field.getType())) {
-                setEmbeddedField(instance, entity, column, field);
-            } else {
-                Value value = column.get().getValue();
-                reflections.setValue(instance, field.getField(), field.getValue(value));
-            }
-        };
+    @Override
+    public <T> List<T> toEntities(Class<T> entityClass, List<ColumnEntity> entities) {
+        Objects.requireNonNull(entityClass, "entityClass is required");
+        Objects.requireNonNull(entities, "entities is required");
+        ColumnEntityPlan plan = getPlan(entityClass);
+        return bulkConverter.convert(entities, e -> plan.<T>toEntity(e, this));
     }
 
-    private <T> T convertEntity(ColumnEntity entity, ClassRepresentation representation, T instance) {
-        Map<String, FieldRepresentation> fieldsGroupByName = representation.getFieldsGroupByName();
-        Predicate<String> existField = k -> entity.find(k).isPresent();
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(k -> EMBEDDED.equals(fieldsGroupByName.get(k).getType())))
-                .forEach(feedObject(instance, entity, fieldsGroupByName));
-
-        return instance;
+    @Override
+    public <T> List<T> toEntities(List<ColumnEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return bulkConverter.convert(entities, e -> this.<T>toEntity(e));
     }
 
-    private <T> void setEmbeddedField(T instance, ColumnEntity entity, Optional<Column> column, FieldRepresentation field) {
-        if (column.isPresent()) {
-            Value value = column.get().getValue();
-            ColumnEntity columnEntity = value.get(ColumnEntity.class);
-            reflections.setValue(instance, field.getField(), toEntity(columnEntity));
-        } else {
-            reflections.setValue(instance, field.getField(), toEntity(field.getField().getType(), entity));
+    private ColumnEntityPlan getPlan(Class<?> entityClass) {
+        ColumnEntityPlan plan = plans.get(entityClass);
+        if (plan == null) {
+            plan = ColumnEntityPlan.of(classRepresentations.get(entityClass), this::getPlan);
+            plans.putIfAbsent(entityClass, plan);
         }
+        return plan;
     }
 
 }
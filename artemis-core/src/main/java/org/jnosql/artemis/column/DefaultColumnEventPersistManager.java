@@ -22,11 +22,15 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.EntityPostPersit;
 import org.jnosql.artemis.EntityPrePersist;
+import org.jnosql.artemis.EntityTypeQualifier;
+import org.jnosql.artemis.EventObservers;
 import org.jnosql.diana.api.column.ColumnEntity;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The default implementation of {@link ColumnEventPersistManager}
@@ -45,23 +49,73 @@ class DefaultColumnEventPersistManager implements ColumnEventPersistManager {
     @Inject
     private Event<EntityPostPersit> entityPostPersitEvent;
 
+    @Inject
+    private EventObservers observers;
+
+    private final Map<Class<?>, Event<EntityPrePersist>> entityPrePersistEvents = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Event<EntityPostPersit>> entityPostPersitEvents = new ConcurrentHashMap<>();
+
     @Override
     public void firePreColumn(ColumnEntity entity) {
-        documentEntityPrePersistEvent.fire(ColumnEntityPrePersist.of(entity));
+        if (observers.isObserved(ColumnEntityPrePersist.class, entity, ColumnEntityPrePersist::of)) {
+            documentEntityPrePersistEvent.fire(ColumnEntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public void firePostColumn(ColumnEntity entity) {
-        documentEntityPostPersistEvent.fire(ColumnEntityPostPersist.of(entity));
+        if (observers.isObserved(ColumnEntityPostPersist.class, entity, ColumnEntityPostPersist::of)) {
+            documentEntityPostPersistEvent.fire(ColumnEntityPostPersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        Class<?> type = entity.getClass();
+        if (observers.isObserved(EntityPrePersist.class, type, entity, EntityPrePersist::of)) {
+            select(entityPrePersistEvents, entityPrePersistEvent, type).fire(EntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostEntity(T entity) {
-        entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        Class<?> type = entity.getClass();
+        if (observers.isObserved(EntityPostPersit.class, type, entity, EntityPostPersit::of)) {
+            select(entityPostPersitEvents, entityPostPersitEvent, type).fire(EntityPostPersit.of(entity));
+        }
+    }
+
+    @Override
+    public boolean isPreColumnUnobserved() {
+        return !observers.isObserved(ColumnEntityPrePersist.class, ColumnEntity.of("probe"), ColumnEntityPrePersist::of);
+    }
+
+    @Override
+    public boolean isPostColumnUnobserved() {
+        return !observers.isObserved(ColumnEntityPostPersist.class, ColumnEntity.of("probe"), ColumnEntityPostPersist::of);
+    }
+
+    @Override
+    public boolean isPreEntityUnobserved(Object entity) {
+        return !observers.isObserved(EntityPrePersist.class, entity.getClass(), entity, EntityPrePersist::of);
+    }
+
+    @Override
+    public boolean isPostEntityUnobserved(Object entity) {
+        return !observers.isObserved(EntityPostPersit.class, entity.getClass(), entity, EntityPostPersit::of);
+    }
+
+    /**
+     * Returns the event selected with the {@link org.jnosql.artemis.EntityType} of the entity type, it is selected
+     * once to each entity type
+     */
+    private static <E> Event<E> select(Map<Class<?>, Event<E>> events, Event<E> event, Class<?> type) {
+        Event<E> selected = events.get(type);
+        if (selected == null) {
+            selected = event.select(EntityTypeQualifier.of(type));
+            events.putIfAbsent(type, selected);
+        }
+        return selected;
     }
 }
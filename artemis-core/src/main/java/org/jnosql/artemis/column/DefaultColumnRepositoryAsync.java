@@ -20,10 +20,12 @@
 package org.jnosql.artemis.column;
 
 
+import org.jnosql.artemis.CallbackExecutor;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
+import java.util.concurrent.Executor;
 
 /**
  * The default implementation of {@link ColumnRepositoryAsync}
@@ -35,11 +37,22 @@ class DefaultColumnRepositoryAsync extends AbstractColumnRepositoryAsync {
 
     private Instance<ColumnFamilyManagerAsync> manager;
 
+    private ColumnWorkflow flow;
+
+    private CallbackExecutor callbackExecutor;
+
+    DefaultColumnRepositoryAsync(ColumnEntityConverter converter, Instance<ColumnFamilyManagerAsync> manager,
+                                 ColumnWorkflow flow) {
+        this(converter, manager, flow, new CallbackExecutor());
+    }
 
     @Inject
-    DefaultColumnRepositoryAsync(ColumnEntityConverter converter, Instance<ColumnFamilyManagerAsync> manager) {
+    DefaultColumnRepositoryAsync(ColumnEntityConverter converter, Instance<ColumnFamilyManagerAsync> manager,
+                                 ColumnWorkflow flow, CallbackExecutor callbackExecutor) {
         this.converter = converter;
         this.manager = manager;
+        this.flow = flow;
+        this.callbackExecutor = callbackExecutor;
     }
 
     DefaultColumnRepositoryAsync() {
@@ -55,4 +68,14 @@ class DefaultColumnRepositoryAsync extends AbstractColumnRepositoryAsync {
     protected ColumnFamilyManagerAsync getManager() {
         return manager.get();
     }
+
+    @Override
+    protected ColumnWorkflow getFlow() {
+        return flow;
+    }
+
+    @Override
+    protected Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
 }
@@ -20,11 +20,13 @@
 package org.jnosql.artemis.column;
 
 
+import org.jnosql.artemis.CallbackExecutor;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 
 import javax.enterprise.inject.Vetoed;
 import javax.inject.Inject;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * The default implementation of {@link ColumnRepositoryAsyncProducer}
@@ -34,10 +36,23 @@ class DefaultColumnRepositoryAsyncProducer implements ColumnRepositoryAsyncProdu
     @Inject
     private ColumnEntityConverter converter;
 
+    @Inject
+    private ColumnWorkflow columnWorkflow;
+
+    @Inject
+    private CallbackExecutor callbackExecutor;
+
     @Override
     public ColumnRepositoryAsync get(ColumnFamilyManagerAsync columnFamilyManager) throws NullPointerException {
+        return get(columnFamilyManager, callbackExecutor);
+    }
+
+    @Override
+    public ColumnRepositoryAsync get(ColumnFamilyManagerAsync columnFamilyManager, Executor callbackExecutor)
+            throws NullPointerException {
         Objects.requireNonNull(columnFamilyManager, "columnFamilyManager is required");
-        return new ProducerColumnRepositoryAsync(converter, columnFamilyManager);
+        Objects.requireNonNull(callbackExecutor, "callbackExecutor is required");
+        return new ProducerColumnRepositoryAsync(converter, columnWorkflow, columnFamilyManager, callbackExecutor);
     }
 
     @Vetoed
@@ -45,11 +60,18 @@ class DefaultColumnRepositoryAsyncProducer implements ColumnRepositoryAsyncProdu
 
         private ColumnEntityConverter converter;
 
+        private ColumnWorkflow columnWorkflow;
+
         private ColumnFamilyManagerAsync columnFamilyManager;
 
-        ProducerColumnRepositoryAsync(ColumnEntityConverter converter, ColumnFamilyManagerAsync columnFamilyManager) {
+        private Executor callbackExecutor;
+
+        ProducerColumnRepositoryAsync(ColumnEntityConverter converter, ColumnWorkflow columnWorkflow,
+                                      ColumnFamilyManagerAsync columnFamilyManager, Executor callbackExecutor) {
             this.converter = converter;
+            this.columnWorkflow = columnWorkflow;
             this.columnFamilyManager = columnFamilyManager;
+            this.callbackExecutor = callbackExecutor;
         }
 
         ProducerColumnRepositoryAsync() {
@@ -64,5 +86,15 @@ class DefaultColumnRepositoryAsyncProducer implements ColumnRepositoryAsyncProdu
         protected ColumnFamilyManagerAsync getManager() {
             return columnFamilyManager;
         }
+
+        @Override
+        protected ColumnWorkflow getFlow() {
+            return columnWorkflow;
+        }
+
+        @Override
+        protected Executor getCallbackExecutor() {
+            return callbackExecutor;
+        }
     }
 }
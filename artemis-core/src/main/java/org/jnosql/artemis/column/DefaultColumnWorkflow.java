@@ -22,8 +22,16 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.diana.api.column.ColumnEntity;
 
+import org.jnosql.artemis.BatchSize;
+
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -35,58 +43,89 @@ class DefaultColumnWorkflow implements ColumnWorkflow {
 
     private ColumnEntityConverter converter;
 
+    private BatchSize batchSize;
+
+    private final Map<Class<?>, ColumnWorkflowPipeline> pipelines = new ConcurrentHashMap<>();
+
     DefaultColumnWorkflow() {
     }
 
-    @Inject
     DefaultColumnWorkflow(ColumnEventPersistManager columnEventPersistManager, ColumnEntityConverter converter) {
+        this(columnEventPersistManager, converter, new BatchSize());
+    }
+
+    @Inject
+    DefaultColumnWorkflow(ColumnEventPersistManager columnEventPersistManager, ColumnEntityConverter converter, BatchSize batchSize) {
         this.columnEventPersistManager = columnEventPersistManager;
         this.converter = converter;
+        this.batchSize = batchSize;
     }
 
     public <T> T flow(T entity, UnaryOperator<ColumnEntity> action) {
-
-        Function<T, T> flow = getFlow(entity, action);
-
-        return flow.apply(entity);
-
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(action, "action is required");
+        return getPipeline(entity).apply(entity, action);
     }
 
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<ColumnEntity> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            columnEventPersistManager.firePreEntity(t);
-            return t;
-        };
-
-        Function<T, ColumnEntity> converterColumn = t -> converter.toColumn(t);
-
-        UnaryOperator<ColumnEntity> firePreDocument = t -> {
-            columnEventPersistManager.firePreColumn(t);
-            return t;
-        };
-
-        UnaryOperator<ColumnEntity> firePostDocument = t -> {
-            columnEventPersistManager.firePostColumn(t);
-            return t;
-        };
-
-        Function<ColumnEntity, T> converterEntity = t -> converter.toEntity((Class<T>) entity.getClass(), t);
+    @Override
+    public <T> CompletionStage<T> flowAsync(T entity, Function<ColumnEntity, CompletionStage<ColumnEntity>> action) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(action, "action is required");
+        ColumnWorkflowPipeline pipeline = getPipeline(entity);
+        return CompletableFuture.completedFuture(entity)
+                .thenApply(pipeline::before)
+                .thenCompose(action)
+                .thenApply(pipeline::<T>after);
+    }
 
-        UnaryOperator<T> firePostEntity = t -> {
-            columnEventPersistManager.firePostEntity(t);
-            return t;
-        };
+    @Override
+    public <T> List<T> batchFlow(Iterable<T> entities, Function<Iterable<ColumnEntity>, Iterable<ColumnEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+        int size = batchSize.get();
+        List<T> result = new ArrayList<>();
+        List<T> batch = new ArrayList<>(size);
+        for (T entity : entities) {
+            batch.add(Objects.requireNonNull(entity, "entity is required"));
+            if (batch.size() == size) {
+                batchFlow(batch, action, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchFlow(batch, action, result);
+        }
+        return result;
+    }
 
+    private <T> void batchFlow(List<T> batch, Function<Iterable<ColumnEntity>, Iterable<ColumnEntity>> action, List<T> result) {
+        ColumnWorkflowPipeline[] pipelines = new ColumnWorkflowPipeline[batch.size()];
+        List<ColumnEntity> entities = new ArrayList<>(batch.size());
+        for (int index = 0; index < pipelines.length; index++) {
+            T entity = batch.get(index);
+            pipelines[index] = getPipeline(entity);
+            entities.add(pipelines[index].before(entity));
+        }
+        int index = 0;
+        for (ColumnEntity response : action.apply(entities)) {
+            if (index < pipelines.length) {
+                result.add(pipelines[index].after(response));
+            }
+            index++;
+        }
+        if (index != pipelines.length) {
+            throw new IllegalStateException("The database returned " + index + " entities to a batch of "
+                    + pipelines.length);
+        }
+    }
 
-        return validation
-                .andThen(firePreEntity)
-                .andThen(converterColumn)
-                .andThen(firePreDocument)
-                .andThen(action)
-                .andThen(firePostDocument)
-                .andThen(converterEntity)
-                .andThen(firePostEntity);
+    private ColumnWorkflowPipeline getPipeline(Object entity) {
+        Class<?> entityClass = entity.getClass();
+        ColumnWorkflowPipeline pipeline = pipelines.get(entityClass);
+        if (pipeline == null) {
+            pipeline = ColumnWorkflowPipeline.of(entity, columnEventPersistManager, converter);
+            pipelines.putIfAbsent(entityClass, pipeline);
+        }
+        return pipeline;
     }
 }
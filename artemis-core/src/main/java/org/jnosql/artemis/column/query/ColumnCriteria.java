@@ -0,0 +1,199 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.column.query;
+
+
+import org.jnosql.artemis.Attribute;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnCondition;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A typed condition built from the {@link Attribute} of the static metamodel, e.g.:
+ * {@code ColumnCriteria.eq(Person_.name, "Ada").and(ColumnCriteria.gt(Person_.age, 20))}.
+ * The attribute has the column name, so there is neither method name parsing nor reflection to build it.
+ *
+ * @param <E> the entity type
+ * @see ColumnQueryBuilder
+ */
+public final class ColumnCriteria<E> {
+
+    private final ColumnCondition condition;
+
+    private ColumnCriteria(ColumnCondition condition) {
+        this.condition = condition;
+    }
+
+    /**
+     * Returns the condition
+     *
+     * @return the {@link ColumnCondition}
+     */
+    public ColumnCondition toCondition() {
+        return condition;
+    }
+
+    /**
+     * Creates a criteria where both this and the other one must be true
+     *
+     * @param criteria the other criteria
+     * @return a new criteria
+     * @throws NullPointerException when criteria is null
+     */
+    public ColumnCriteria<E> and(ColumnCriteria<E> criteria) throws NullPointerException {
+        Objects.requireNonNull(criteria, "criteria is required");
+        return new ColumnCriteria<>(condition.and(criteria.condition));
+    }
+
+    /**
+     * Creates a criteria where either this or the other one must be true
+     *
+     * @param criteria the other criteria
+     * @return a new criteria
+     * @throws NullPointerException when criteria is null
+     */
+    public ColumnCriteria<E> or(ColumnCriteria<E> criteria) throws NullPointerException {
+        Objects.requireNonNull(criteria, "criteria is required");
+        return new ColumnCriteria<>(condition.or(criteria.condition));
+    }
+
+    /**
+     * Creates the negation of this criteria
+     *
+     * @return a new criteria
+     */
+    public ColumnCriteria<E> negate() {
+        return new ColumnCriteria<>(condition.negate());
+    }
+
+    /**
+     * Creates an equals criteria
+     *
+     * @param attribute the attribute
+     * @param value     the value
+     * @param <E>       the entity type
+     * @param <V>       the value type
+     * @return the criteria
+     * @throws NullPointerException when attribute is null
+     */
+    public static <E, V> ColumnCriteria<E> eq(Attribute<E, V> attribute, V value) throws NullPointerException {
+        return new ColumnCriteria<>(ColumnCondition.eq(of(attribute, value)));
+    }
+
+    /**
+     * Creates a greater than criteria
+     *
+     * @param attribute the attribute
+     * @param value     the value
+     * @param <E>       the entity type
+     * @param <V>       the value type
+     * @return the criteria
+     * @throws NullPointerException when attribute is null
+     */
+    public static <E, V> ColumnCriteria<E> gt(Attribute<E, V> attribute, V value) throws NullPointerException {
+        return new ColumnCriteria<>(ColumnCondition.gt(of(attribute, value)));
+    }
+
+    /**
+     * Creates a greater equals than criteria
+     *
+     * @param attribute the attribute
+     * @param value     the value
+     * @param <E>       the entity type
+     * @param <V>       the value type
+     * @return the criteria
+     * @throws NullPointerException when attribute is null
+     */
+    public static <E, V> ColumnCriteria<E> gte(Attribute<E, V> attribute, V value) throws NullPointerException {
+        return new ColumnCriteria<>(ColumnCondition.gte(of(attribute, value)));
+    }
+
+    /**
+     * Creates a lesser than criteria
+     *
+     * @param attribute the attribute
+     * @param value     the value
+     * @param <E>       the entity type
+     * @param <V>       the value type
+     * @return the criteria
+     * @throws NullPointerException when attribute is null
+     */
+    public static <E, V> ColumnCriteria<E> lt(Attribute<E, V> attribute, V value) throws NullPointerException {
+        return new ColumnCriteria<>(ColumnCondition.lt(of(attribute, value)));
+    }
+
+    /**
+     * Creates a lesser equals than criteria
+     *
+     * @param attribute the attribute
+     * @param value     the value
+     * @param <E>       the entity type
+     * @param <V>       the value type
+     * @return the criteria
+     * @throws NullPointerException when attribute is null
+     */
+    public static <E, V> ColumnCriteria<E> lte(Attribute<E, V> attribute, V value) throws NullPointerException {
+        return new ColumnCriteria<>(ColumnCondition.lte(of(attribute, value)));
+    }
+
+    /**
+     * Creates a like criteria
+     *
+     * @param attribute the attribute
+     * @param value     the pattern
+     * @param <E>       the entity type
+     * @return the criteria
+     * @throws NullPointerException when attribute is null
+     */
+    public static <E> ColumnCriteria<E> like(Attribute<E, String> attribute, String value) throws NullPointerException {
+        return new ColumnCriteria<>(ColumnCondition.like(of(attribute, value)));
+    }
+
+    /**
+     * Creates a between criteria, both values are inclusive
+     *
+     * @param attribute the attribute
+     * @param from      the first value
+     * @param to        the last value
+     * @param <E>       the entity type
+     * @param <V>       the value type
+     * @return the criteria
+     * @throws NullPointerException when attribute is null
+     */
+    public static <E, V> ColumnCriteria<E> between(Attribute<E, V> attribute, V from, V to)
+            throws NullPointerException {
+        return new ColumnCriteria<>(ColumnCondition.between(of(attribute, Arrays.asList(from, to))));
+    }
+
+    private static Column of(Attribute<?, ?> attribute, Object value) {
+        Objects.requireNonNull(attribute, "attribute is required");
+        return Column.of(attribute.getName(), value);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ColumnCriteria{");
+        sb.append("condition=").append(condition);
+        sb.append('}');
+        return sb.toString();
+    }
+}
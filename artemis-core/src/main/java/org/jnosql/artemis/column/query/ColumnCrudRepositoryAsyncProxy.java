@@ -22,17 +22,21 @@ package org.jnosql.artemis.column.query;
 
 import org.jnosql.artemis.CrudRepositoryAsync;
 import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.FetchSize;
 import org.jnosql.artemis.column.ColumnRepositoryAsync;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.diana.api.ExecuteAsyncQueryException;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
+import org.reactivestreams.Publisher;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 /**
@@ -44,7 +48,11 @@ class ColumnCrudRepositoryAsyncProxy<T> implements InvocationHandler {
 
     private static final String SAVE = "save";
     private static final String UPDATE = "update";
-    private static final String FIND_BY = "findBy";
+    private static final String SAVE_ASYNC = "saveAsync";
+    private static final String UPDATE_ASYNC = "updateAsync";
+    private static final String FIND = "find";
+    private static final String EXISTS_BY = "existsBy";
+    private static final String COUNT_BY = "countBy";
     private static final String DELETE_BY = "deleteBy";
 
     private final Class<T> typeClass;
@@ -55,19 +63,20 @@ class ColumnCrudRepositoryAsyncProxy<T> implements InvocationHandler {
 
     private final ClassRepresentation classRepresentation;
 
-    private final ColumnQueryParser queryParser;
+    private final ColumnQueryTemplates templates;
 
-    private final ColumnQueryDeleteParser queryDeleteParser;
+    private final FetchSize fetchSize;
 
 
-    ColumnCrudRepositoryAsyncProxy(ColumnRepositoryAsync repository, ClassRepresentations classRepresentations, Class<?> repositoryType) {
+    ColumnCrudRepositoryAsyncProxy(ColumnRepositoryAsync repository, ClassRepresentations classRepresentations,
+                                Class<?> repositoryType, FetchSize fetchSize) {
         this.repository = repository;
+        this.fetchSize = fetchSize;
         this.crudRepository = new ColumnCrudRepositoryAsync(repository);
         this.typeClass = Class.class.cast(ParameterizedType.class.cast(repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0]);
         this.classRepresentation = classRepresentations.get(typeClass);
-        this.queryParser = new ColumnQueryParser();
-        this.queryDeleteParser = new ColumnQueryDeleteParser();
+        this.templates = new ColumnQueryTemplates(repositoryType, classRepresentation, classRepresentations);
     }
 
 
@@ -78,30 +87,53 @@ class ColumnCrudRepositoryAsyncProxy<T> implements InvocationHandler {
         switch (methodName) {
             case SAVE:
             case UPDATE:
+            case SAVE_ASYNC:
+            case UPDATE_ASYNC:
                 return method.invoke(crudRepository, args);
             default:
         }
 
 
-        if (methodName.startsWith(FIND_BY)) {
-            ColumnQuery query = queryParser.parse(methodName, args, classRepresentation);
-            Object callBack = args[args.length - 1];
+        if (methodName.startsWith(FIND)) {
+            ColumnQuery query = templates.get(method).toQuery(args);
+            Object callBack = getCallBack(args);
             if (Consumer.class.isInstance(callBack)) {
                 repository.find(query, Consumer.class.cast(callBack));
                 return null;
             }
+            if (Publisher.class.equals(method.getReturnType())) {
+                return repository.publish(query, fetchSize.get());
+            }
+            if (ReturnTypeConverterUtil.isStage(method)) {
+                return ReturnTypeConverterUtil.returnStage(query, repository, typeClass, method, args);
+            }
 
             throw new DynamicQueryException("On find async method you must put a java.util.function.Consumer" +
-                    " as end parameter as callback");
+                    " as end parameter as callback or return either a java.util.concurrent.CompletionStage" +
+                    " or an org.reactivestreams.Publisher");
+        }
+
+        if (methodName.startsWith(EXISTS_BY)) {
+            ColumnQuery query = templates.get(method).toQuery(args);
+            return returnStage(repository.existsAsync(query), method, args);
+        }
+
+        if (methodName.startsWith(COUNT_BY)) {
+            ColumnQuery query = templates.get(method).toQuery(args);
+            return returnStage(ReturnTypeConverterUtil.returnCountStage(repository.countAsync(query), method),
+                    method, args);
         }
 
         if (methodName.startsWith(DELETE_BY)) {
-            Object callBack = args[args.length - 1];
-            ColumnDeleteQuery query = queryDeleteParser.parse(methodName, args, classRepresentation);
+            Object callBack = getCallBack(args);
+            ColumnDeleteQuery query = templates.get(method).toDeleteQuery(args);
             if (Consumer.class.isInstance(callBack)) {
                 repository.delete(query, Consumer.class.cast(callBack));
                 return null;
             }
+            if (ReturnTypeConverterUtil.isStage(method)) {
+                return repository.deleteAsync(query);
+            }
 
             repository.delete(query);
             return null;
@@ -110,6 +142,27 @@ class ColumnCrudRepositoryAsyncProxy<T> implements InvocationHandler {
         return null;
     }
 
+    private Object getCallBack(Object[] args) {
+        if (args == null || args.length == 0) {
+            return null;
+        }
+        return args[args.length - 1];
+    }
+
+    private Object returnStage(Object stage, Method method, Object[] args) {
+        Object callBack = getCallBack(args);
+        if (Consumer.class.isInstance(callBack)) {
+            CompletionStage.class.cast(stage).thenAccept(Consumer.class.cast(callBack));
+            return null;
+        }
+        if (ReturnTypeConverterUtil.isStage(method)) {
+            return stage;
+        }
+        throw new DynamicQueryException(String.format("The async method %s must either put a " +
+                "java.util.function.Consumer as end parameter as callback or return a " +
+                "java.util.concurrent.CompletionStage", method.getName()));
+    }
+
 
     class ColumnCrudRepositoryAsync implements CrudRepositoryAsync {
 
@@ -146,7 +199,7 @@ class ColumnCrudRepositoryAsyncProxy<T> implements InvocationHandler {
 
         @Override
         public void update(Object entity) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
-            repository.save(entity);
+            repository.update(entity);
         }
 
         @Override
@@ -163,5 +216,39 @@ class ColumnCrudRepositoryAsyncProxy<T> implements InvocationHandler {
         public void save(Object entity, Consumer callBack) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
             repository.save(entity, callBack);
         }
+
+        @Override
+        public CompletionStage saveAsync(Object entity) throws UnsupportedOperationException, NullPointerException {
+            return repository.saveAsync(entity);
+        }
+
+        @Override
+        public CompletionStage saveAsync(Object entity, Duration ttl) throws UnsupportedOperationException,
+                NullPointerException {
+            return repository.saveAsync(entity, ttl);
+        }
+
+        @Override
+        public CompletionStage<List> saveAsync(Iterable entities) throws UnsupportedOperationException,
+                NullPointerException {
+            return repository.saveAsync(entities);
+        }
+
+        @Override
+        public CompletionStage<List> saveAsync(Iterable entities, Duration ttl) throws UnsupportedOperationException,
+                NullPointerException {
+            return repository.saveAsync(entities, ttl);
+        }
+
+        @Override
+        public CompletionStage updateAsync(Object entity) throws UnsupportedOperationException, NullPointerException {
+            return repository.updateAsync(entity);
+        }
+
+        @Override
+        public CompletionStage<List> updateAsync(Iterable entities) throws UnsupportedOperationException,
+                NullPointerException {
+            return repository.updateAsync(entities);
+        }
     }
 }
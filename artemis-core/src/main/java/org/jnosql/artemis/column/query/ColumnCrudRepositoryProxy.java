@@ -20,10 +20,14 @@
 package org.jnosql.artemis.column.query;
 
 
+import org.jnosql.artemis.ChunkExecutor;
+import org.jnosql.artemis.ChunkSize;
 import org.jnosql.artemis.CrudRepository;
+import org.jnosql.artemis.FetchSize;
 import org.jnosql.artemis.column.ColumnRepository;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.artemis.reflection.FieldPathResolver;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnQuery;
 
@@ -31,6 +35,7 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.time.Duration;
+import java.util.List;
 
 
 /**
@@ -42,7 +47,9 @@ class ColumnCrudRepositoryProxy<T> implements InvocationHandler {
 
     private static final String SAVE = "save";
     private static final String UPDATE = "update";
-    private static final String FIND_BY = "findBy";
+    private static final String FIND = "find";
+    private static final String EXISTS_BY = "existsBy";
+    private static final String COUNT_BY = "countBy";
     private static final String DELETE_BY = "deleteBy";
 
     private final Class<T> typeClass;
@@ -53,19 +60,35 @@ class ColumnCrudRepositoryProxy<T> implements InvocationHandler {
 
     private final ClassRepresentation classRepresentation;
 
-    private final ColumnQueryParser queryParser;
+    private final ColumnQueryTemplates templates;
 
-    private final ColumnQueryDeleteParser deleteQueryParser;
+    private final ChunkSize chunkSize;
+
+    private final FetchSize fetchSize;
+
+    private final ChunkExecutor chunkExecutor;
+
+    private final FieldPathResolver resolver;
 
 
     ColumnCrudRepositoryProxy(ColumnRepository repository, ClassRepresentations classRepresentations, Class<?> repositoryType) {
+        this(repository, classRepresentations, repositoryType, new ChunkSize(), new FetchSize(),
+                new ChunkExecutor());
+    }
+
+    ColumnCrudRepositoryProxy(ColumnRepository repository, ClassRepresentations classRepresentations,
+                              Class<?> repositoryType, ChunkSize chunkSize, FetchSize fetchSize,
+                              ChunkExecutor chunkExecutor) {
         this.repository = repository;
+        this.chunkSize = chunkSize;
+        this.fetchSize = fetchSize;
+        this.chunkExecutor = chunkExecutor;
         this.crudRepository = new ColumnCrudRepository(repository);
         this.typeClass = Class.class.cast(ParameterizedType.class.cast(repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0]);
         this.classRepresentation = classRepresentations.get(typeClass);
-        this.queryParser = new ColumnQueryParser();
-        this.deleteQueryParser = new ColumnQueryDeleteParser();
+        this.templates = new ColumnQueryTemplates(repositoryType, classRepresentation, classRepresentations);
+        this.resolver = new FieldPathResolver(classRepresentation, classRepresentations);
     }
 
 
@@ -77,21 +100,76 @@ class ColumnCrudRepositoryProxy<T> implements InvocationHandler {
             case UPDATE:
                 return method.invoke(crudRepository, args);
             default:
+                return invokeQuery(method, args);
+        }
+    }
+
+    /**
+     * Executes a dynamic query method, such as findBy, existsBy, countBy and deleteBy, from its cached template
+     *
+     * @param method the repository method
+     * @param args   the method arguments
+     * @return the method result
+     */
+    Object invokeQuery(Method method, Object[] args) {
+        String methodName = method.getName();
+        if (methodName.startsWith(FIND) || methodName.startsWith(EXISTS_BY) || methodName.startsWith(COUNT_BY)
+                || methodName.startsWith(DELETE_BY)) {
+            return invokeQuery(method, templates.get(method), args);
+        }
+        return null;
+    }
+
+    /**
+     * Binds a dynamic query method to its cached template
+     *
+     * @param method the repository method
+     * @return the query method
+     * @throws org.jnosql.artemis.DynamicQueryException when the method is not a query method of the repository
+     */
+    ColumnQueryMethod bind(Method method) {
+        return new ColumnQueryMethod(this, method, templates.get(method));
+    }
+
+    Object invokeQuery(Method method, ColumnQueryTemplate template, Object[] args) {
+        String methodName = method.getName();
+        if (methodName.startsWith(FIND)) {
+            if (ReturnTypeConverterUtil.isChunkable(method)) {
+                List<ColumnQuery> queries = template.toQueries(args, chunkSize.get());
+                if (queries.size() > 1) {
+                    return ReturnTypeConverterUtil.returnEntities(findChunks(template, queries, args), method);
+                }
+                return ReturnTypeConverterUtil.returnObject(queries.get(0), repository, typeClass, method, args,
+                        fetchSize.get());
+            }
+            ColumnQuery query = template.toQuery(args);
+            return ReturnTypeConverterUtil.returnObject(query, repository, typeClass, method, args,
+                    fetchSize.get());
+        }
+
+        if (methodName.startsWith(EXISTS_BY)) {
+            return repository.exists(template.toQuery(args));
         }
 
-        if (methodName.startsWith(FIND_BY)) {
-            ColumnQuery query = queryParser.parse(methodName, args, classRepresentation);
-            return ReturnTypeConverterUtil.returnObject(query, repository, typeClass, method);
+        if (methodName.startsWith(COUNT_BY)) {
+            return ReturnTypeConverterUtil.returnCount(repository.count(template.toQuery(args)), method);
         }
 
         if (methodName.startsWith(DELETE_BY)) {
-            ColumnDeleteQuery query = deleteQueryParser.parse(methodName, args, classRepresentation);
-            repository.delete(query);
+            List<ColumnDeleteQuery> queries = template.toDeleteQueries(args, chunkSize.get());
+            ColumnQueryChunks.delete(repository, queries);
             return null;
         }
         return null;
     }
 
+    private List<Object> findChunks(ColumnQueryTemplate template, List<ColumnQuery> queries, Object[] args) {
+        List<Object> entities = ColumnQueryChunks.find(repository, queries, chunkExecutor.get());
+        resolver.toReader(template.getInName())
+                .ifPresent(reader -> ColumnQueryChunks.sort(entities, template.getInValues(args), reader));
+        return entities;
+    }
+
 
     class ColumnCrudRepository implements CrudRepository {
 
@@ -21,8 +21,8 @@ package org.jnosql.artemis.column.query;
 
 import org.jnosql.artemis.DynamicQueryException;
 import org.jnosql.artemis.reflection.ClassRepresentation;
-import org.jnosql.diana.api.Condition;
-import org.jnosql.diana.api.column.ColumnCondition;
+import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.artemis.reflection.FieldPathResolver;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 
 /**
@@ -35,58 +35,42 @@ class ColumnQueryDeleteParser {
 
 
     ColumnDeleteQuery parse(String methodName, Object[] args, ClassRepresentation classRepresentation) {
-        ColumnDeleteQuery columnDeleteQuery = ColumnDeleteQuery.of(classRepresentation.getName());
-        String[] tokens = methodName.replace(PREFIX, ColumnQueryParserUtil.EMPTY).split("(?=AND|OR|OrderBy)");
-        String className = classRepresentation.getClassInstance().getName();
-
-        int index = 0;
-        for (String token : tokens) {
-            if (token.startsWith(ColumnQueryParserUtil.AND)) {
-                index = and(args, columnDeleteQuery, index, token, methodName);
-            } else if (token.startsWith(ColumnQueryParserUtil.OR)) {
-                index = or(args, columnDeleteQuery, index, token, methodName);
-            } else {
-                ColumnCondition condition = ColumnQueryParserUtil.toCondition(token, index, args, methodName);
-                columnDeleteQuery.and(condition);
-                index++;
-            }
-        }
-
-        return columnDeleteQuery;
+        return compile(methodName, classRepresentation).toDeleteQuery(args);
     }
 
+    ColumnDeleteQuery parse(String methodName, Object[] args, ClassRepresentation classRepresentation,
+                            ClassRepresentations classRepresentations) {
+        return compile(methodName, classRepresentation, classRepresentations).toDeleteQuery(args);
+    }
 
-    private void checkContents(int index, int argSize, int required, String method) {
-        if ((index + required) <= argSize) {
-            return;
-        }
-        throw new DynamicQueryException(String.format("There is a missed argument in the method %s",
-                method));
+    ColumnQueryTemplate compile(String methodName, ClassRepresentation classRepresentation) {
+        return compile(methodName, classRepresentation, new FieldPathResolver(classRepresentation));
     }
 
-    private int or(Object[] args, ColumnDeleteQuery columnQuery, int index, String token, String methodName) {
-        String field = token.replace(ColumnQueryParserUtil.OR, ColumnQueryParserUtil.EMPTY);
-        ColumnCondition condition = ColumnQueryParserUtil.toCondition(field, index, args, methodName);
-        columnQuery.or(condition);
-        if (Condition.BETWEEN.equals(condition.getCondition())) {
-            return index + 2;
-        } else {
-            return ++index;
-        }
+    /**
+     * Compiles the method, the fields are resolved to their column names following the embedded entities,
+     * e.g. deleteByAddressCity becomes address.city, a field that is not of the entity is a
+     * {@link DynamicQueryException}
+     */
+    ColumnQueryTemplate compile(String methodName, ClassRepresentation classRepresentation,
+                                ClassRepresentations classRepresentations) {
+        FieldPathResolver resolver = new FieldPathResolver(classRepresentation, classRepresentations);
+        return ColumnQueryParserUtil.checkFields(compile(methodName, classRepresentation, resolver), methodName,
+                resolver);
     }
 
-    private int and(Object[] args, ColumnDeleteQuery columnQuery, int index, String token,
-                    String methodName) {
-        String field = token.replace(ColumnQueryParserUtil.AND, ColumnQueryParserUtil.EMPTY);
-        ColumnCondition condition = ColumnQueryParserUtil.toCondition(field, index, args, methodName);
-        columnQuery.and(condition);
-        if (Condition.BETWEEN.equals(condition.getCondition())) {
-            return index + 2;
-        } else {
-            return ++index;
+    private ColumnQueryTemplate compile(String methodName, ClassRepresentation classRepresentation,
+                                        FieldPathResolver resolver) {
+        if (!methodName.startsWith(PREFIX)) {
+            throw new DynamicQueryException(String.format("The method %s does not start with %s",
+                    methodName, PREFIX));
         }
-
+        ColumnQueryTemplate template = ColumnQueryTemplate.compile(methodName, methodName.substring(PREFIX.length()),
+                0L, classRepresentation.getName(), ColumnQueryParserUtil.toNames(resolver));
+        if (!template.getSorts().isEmpty()) {
+            throw new DynamicQueryException(String.format("The delete method %s cannot be sorted", methodName));
+        }
+        return template;
     }
 
-
 }
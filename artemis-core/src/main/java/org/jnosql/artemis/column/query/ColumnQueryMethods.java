@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.column.query;
+
+
+import org.jnosql.artemis.ChunkExecutor;
+import org.jnosql.artemis.ChunkSize;
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.FetchSize;
+import org.jnosql.artemis.column.ColumnRepository;
+import org.jnosql.artemis.reflection.ClassRepresentations;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+/**
+ * The dynamic query methods of a repository interface, such as findBy, existsBy, countBy and deleteBy,
+ * compiled once into templates. It is used by the repositories generated by the artemis-processor,
+ * so those methods are executed without a {@link java.lang.reflect.Proxy}.
+ */
+public final class ColumnQueryMethods {
+
+    private final ColumnCrudRepositoryProxy<?> proxy;
+
+    /**
+     * Creates the query methods to a repository interface
+     *
+     * @param repository           the column repository
+     * @param classRepresentations the class representations
+     * @param repositoryType       the repository interface
+     * @throws NullPointerException  when there is null parameter
+     * @throws DynamicQueryException when there is an invalid query method
+     */
+    public ColumnQueryMethods(ColumnRepository repository, ClassRepresentations classRepresentations,
+                              Class<?> repositoryType) throws NullPointerException, DynamicQueryException {
+        this(repository, classRepresentations, repositoryType, new ChunkSize(), new FetchSize(),
+                new ChunkExecutor());
+    }
+
+    /**
+     * Creates the query methods to a repository interface
+     *
+     * @param repository           the column repository
+     * @param classRepresentations the class representations
+     * @param repositoryType       the repository interface
+     * @param chunkSize            the number of values in each chunk of an In condition
+     * @param fetchSize            the number of entities read at a time by the methods that return a Stream
+     *                             or an Iterator
+     * @param chunkExecutor        the executor where the chunks of an In condition run
+     * @throws NullPointerException  when there is null parameter
+     * @throws DynamicQueryException when there is an invalid query method
+     */
+    public ColumnQueryMethods(ColumnRepository repository, ClassRepresentations classRepresentations,
+                              Class<?> repositoryType, ChunkSize chunkSize, FetchSize fetchSize,
+                              ChunkExecutor chunkExecutor)
+            throws NullPointerException, DynamicQueryException {
+        Objects.requireNonNull(repository, "repository is required");
+        Objects.requireNonNull(classRepresentations, "classRepresentations is required");
+        Objects.requireNonNull(repositoryType, "repositoryType is required");
+        Objects.requireNonNull(chunkSize, "chunkSize is required");
+        Objects.requireNonNull(fetchSize, "fetchSize is required");
+        Objects.requireNonNull(chunkExecutor, "chunkExecutor is required");
+        this.proxy = new ColumnCrudRepositoryProxy<>(repository, classRepresentations, repositoryType, chunkSize,
+                fetchSize, chunkExecutor);
+    }
+
+    /**
+     * Executes a query method
+     *
+     * @param method the repository interface method
+     * @param args   the method arguments
+     * @return the method result
+     * @throws DynamicQueryException when the method is not a query method of the repository interface
+     */
+    public Object invoke(Method method, Object[] args) throws DynamicQueryException {
+        return proxy.invokeQuery(method, args);
+    }
+
+    /**
+     * Returns the query method bound to its template, so it is executed without looking the method up at every
+     * call
+     *
+     * @param method the repository interface method
+     * @return the query method
+     * @throws NullPointerException  when method is null
+     * @throws DynamicQueryException when the method is not a query method of the repository interface
+     */
+    public ColumnQueryMethod get(Method method) throws NullPointerException, DynamicQueryException {
+        Objects.requireNonNull(method, "method is required");
+        return proxy.bind(method);
+    }
+}
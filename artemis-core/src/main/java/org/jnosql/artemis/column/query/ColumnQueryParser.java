@@ -20,14 +20,13 @@
 package org.jnosql.artemis.column.query;
 
 import org.jnosql.artemis.DynamicQueryException;
-import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.reflection.ClassRepresentation;
-import org.jnosql.diana.api.Condition;
-import org.jnosql.diana.api.Sort;
-import org.jnosql.diana.api.column.ColumnCondition;
+import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.artemis.reflection.FieldPathResolver;
 import org.jnosql.diana.api.column.ColumnQuery;
 
-import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Class the returns a {@link ColumnQuery}
@@ -35,93 +34,64 @@ import java.util.logging.Logger;
  */
 class ColumnQueryParser {
 
-    private static final Logger LOGGER = Logger.getLogger(ColumnQueryParser.class.getName());
+    private static final Pattern PREFIX = Pattern.compile("^(findBy|findFirstBy|findTop(\\d+)By|existsBy|countBy)");
 
-    private static final String PREFIX = "findBy";
+    private static final String FIND_FIRST_BY = "findFirstBy";
 
+    private static final String EXISTS_BY = "existsBy";
 
-    ColumnQuery parse(String methodName, Object[] args, ClassRepresentation classRepresentation) {
-        ColumnQuery columnQuery = ColumnQuery.of(classRepresentation.getName());
-        String[] tokens = methodName.replace(PREFIX, ColumnQueryParserUtil.EMPTY).split("(?=AND|OR|OrderBy)");
-        String className = classRepresentation.getClassInstance().getName();
-
-        int index = 0;
-        for (String token : tokens) {
-            if (token.startsWith(ColumnQueryParserUtil.AND)) {
-                index = and(args, columnQuery, index, token, methodName);
-            } else if (token.startsWith(ColumnQueryParserUtil.OR)) {
-                index = or(args, columnQuery, index, token, methodName);
-            } else if (token.startsWith(ColumnQueryParserUtil.ORDER_BY)) {
-                sort(columnQuery, token);
-            } else {
-                ColumnCondition condition = ColumnQueryParserUtil.toCondition(token, index, args, methodName);
-                columnQuery.and(condition);
-                index++;
-            }
-        }
 
-        while (index < args.length) {
-            Object value = args[index];
-            if (Sort.class.isInstance(value)) {
-                columnQuery.addSort(Sort.class.cast(value));
-            } else if (Pagination.class.isInstance(value)) {
-                Pagination pagination = Pagination.class.cast(value);
-                columnQuery.setLimit(pagination.getLimit());
-                columnQuery.setStart(pagination.getStart());
-            } else {
-                LOGGER.info(String.format("Ignoring parameter %s on  methodName %s class name %s arg-number: %d",
-                        String.valueOf(value), methodName, className, index));
-            }
-            index++;
-        }
-        return columnQuery;
+    ColumnQuery parse(String methodName, Object[] args, ClassRepresentation classRepresentation) {
+        return compile(methodName, classRepresentation).toQuery(args);
     }
 
-
-    private void checkContents(int index, int argSize, int required, String method) {
-        if ((index + required) <= argSize) {
-            return;
-        }
-        throw new DynamicQueryException(String.format("There is a missed argument in the method %s",
-                method));
+    ColumnQuery parse(String methodName, Object[] args, ClassRepresentation classRepresentation,
+                      ClassRepresentations classRepresentations) {
+        return compile(methodName, classRepresentation, classRepresentations).toQuery(args);
     }
 
-    private int or(Object[] args, ColumnQuery columnQuery, int index, String token, String methodName) {
-        String field = token.replace(ColumnQueryParserUtil.OR, ColumnQueryParserUtil.EMPTY);
-        ColumnCondition condition = ColumnQueryParserUtil.toCondition(field, index, args, methodName);
-        columnQuery.or(condition);
-        if (Condition.BETWEEN.equals(condition.getCondition())) {
-            return index + 2;
-        } else {
-            return ++index;
-        }
+    ColumnQueryTemplate compile(String methodName, ClassRepresentation classRepresentation) {
+        return compile(methodName, classRepresentation, new FieldPathResolver(classRepresentation));
     }
 
-    private int and(Object[] args, ColumnQuery columnQuery, int index, String token,
-                    String methodName) {
-        String field = token.replace(ColumnQueryParserUtil.AND, ColumnQueryParserUtil.EMPTY);
-        ColumnCondition condition = ColumnQueryParserUtil.toCondition(field, index, args, methodName);
-        columnQuery.and(condition);
-        if (Condition.BETWEEN.equals(condition.getCondition())) {
-            return index + 2;
-        } else {
-            return ++index;
-        }
-
+    /**
+     * Compiles the method, the fields are resolved to their column names following the embedded entities,
+     * e.g. findByAddressCity becomes address.city, a field that is not of the entity is a
+     * {@link DynamicQueryException}
+     */
+    ColumnQueryTemplate compile(String methodName, ClassRepresentation classRepresentation,
+                                ClassRepresentations classRepresentations) {
+        FieldPathResolver resolver = new FieldPathResolver(classRepresentation, classRepresentations);
+        return ColumnQueryParserUtil.checkFields(compile(methodName, classRepresentation, resolver), methodName,
+                resolver);
     }
 
-    private void sort(ColumnQuery columnQuery, String token) {
-        String field = token.replace(ColumnQueryParserUtil.ORDER_BY, ColumnQueryParserUtil.EMPTY);
-        if (field.contains("Desc")) {
-            columnQuery.addSort(Sort.of(getName(field.replace("Desc", ColumnQueryParserUtil.EMPTY)), Sort.SortType.DESC));
-        } else {
-            columnQuery.addSort(Sort.of(getName(field.replace("Asc", ColumnQueryParserUtil.EMPTY)), Sort.SortType.ASC));
+    private ColumnQueryTemplate compile(String methodName, ClassRepresentation classRepresentation,
+                                        FieldPathResolver resolver) {
+        Matcher prefix = PREFIX.matcher(methodName);
+        if (!prefix.find()) {
+            throw new DynamicQueryException(String.format("The method %s does not start with a query prefix",
+                    methodName));
         }
+        return ColumnQueryTemplate.compile(methodName, methodName.substring(prefix.end()),
+                getLimit(prefix, methodName), classRepresentation.getName(),
+                ColumnQueryParserUtil.toNames(resolver));
     }
 
-    private String getName(String token) {
-        return String.valueOf(Character.toLowerCase(token.charAt(0)))
-                .concat(token.substring(1));
+    private long getLimit(Matcher prefix, String methodName) {
+        String top = prefix.group(2);
+        if (top != null) {
+            long limit = Long.parseLong(top);
+            if (limit <= 0) {
+                throw new DynamicQueryException(String.format("The method %s must find top a positive number",
+                        methodName));
+            }
+            return limit;
+        }
+        if (FIND_FIRST_BY.equals(prefix.group(1)) || EXISTS_BY.equals(prefix.group(1))) {
+            return 1L;
+        }
+        return 0L;
     }
 
 }
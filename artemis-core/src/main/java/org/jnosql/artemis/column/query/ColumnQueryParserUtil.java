@@ -20,10 +20,13 @@
 package org.jnosql.artemis.column.query;
 
 import org.jnosql.artemis.DynamicQueryException;
-import org.jnosql.diana.api.column.Column;
-import org.jnosql.diana.api.column.ColumnCondition;
+import org.jnosql.artemis.reflection.FieldPathResolver;
+import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.Sort;
 
-import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Utilitarian class to dynamic query from method on interface
@@ -42,52 +45,99 @@ final class ColumnQueryParserUtil {
     private static final String LESS_THAN_EQUAL = "LessEqualThan";
     private static final String GREATER_THAN_EQUAL = "GreaterEqualThan";
     private static final String LIKE = "Like";
+    private static final String IN = "In";
 
     private ColumnQueryParserUtil() {
     }
 
-    static ColumnCondition toCondition(String token, int index, Object[] args, String methodName) {
-
-        boolean containsBetween = token.contains(BETWEEN);
+    /**
+     * Creates the condition of a token, a token that is a field of the entity is an equals condition,
+     * so a field such as checkIn is not read as an In condition to the field check
+     */
+    static ColumnConditionTemplate toTemplate(String token, boolean or, String methodName,
+                                              Function<String, Optional<String>> names) {
+        if (token.isEmpty()) {
+            throw new DynamicQueryException(String.format("There is a missed field in the method %s", methodName));
+        }
 
-        if (containsBetween) {
-            checkContents(index, args.length, 2, methodName);
-            String name = getName(token).replace(BETWEEN, EMPTY);
-            return ColumnCondition.between(Column.of(name, Arrays.asList(args[index], args[++index])));
+        if (names.apply(token).isPresent()) {
+            return new ColumnConditionTemplate(or, Condition.EQUALS, toName(token, methodName, names));
         }
 
-        checkContents(index, args.length, 1, methodName);
+        if (token.contains(BETWEEN)) {
+            return new ColumnConditionTemplate(or, Condition.BETWEEN, toName(token.replace(BETWEEN, EMPTY),
+                    methodName, names));
+        }
 
         if (token.contains(LESS_THAN)) {
-            String name = getName(token).replace(LESS_THAN, EMPTY);
-            return ColumnCondition.lt(Column.of(name, args[index]));
+            return new ColumnConditionTemplate(or, Condition.LESSER_THAN, toName(token.replace(LESS_THAN, EMPTY),
+                    methodName, names));
         }
 
         if (token.contains(GREATER_THAN)) {
-            String name = getName(token).replace(GREATER_THAN, EMPTY);
-            return ColumnCondition.gt(Column.of(name, args[index]));
+            return new ColumnConditionTemplate(or, Condition.GREATER_THAN, toName(token.replace(GREATER_THAN, EMPTY),
+                    methodName, names));
         }
 
         if (token.contains(LESS_THAN_EQUAL)) {
-            String name = getName(token).replace(LESS_THAN_EQUAL, EMPTY);
-            return ColumnCondition.lte(Column.of(name, args[index]));
+            return new ColumnConditionTemplate(or, Condition.LESSER_EQUALS_THAN,
+                    toName(token.replace(LESS_THAN_EQUAL, EMPTY), methodName, names));
         }
 
         if (token.contains(GREATER_THAN_EQUAL)) {
-            String name = getName(token).replace(GREATER_THAN_EQUAL, EMPTY);
-            return ColumnCondition.gte(Column.of(name, args[index]));
+            return new ColumnConditionTemplate(or, Condition.GREATER_EQUALS_THAN,
+                    toName(token.replace(GREATER_THAN_EQUAL, EMPTY), methodName, names));
         }
 
         if (token.contains(LIKE)) {
-            String name = getName(token).replace(LIKE, EMPTY);
-            return ColumnCondition.like(Column.of(name, args[index]));
+            return new ColumnConditionTemplate(or, Condition.LIKE, toName(token.replace(LIKE, EMPTY),
+                    methodName, names));
+        }
+
+        if (token.endsWith(IN)) {
+            return new ColumnConditionTemplate(or, Condition.IN,
+                    toName(token.substring(0, token.length() - IN.length()), methodName, names));
+        }
+
+        return new ColumnConditionTemplate(or, Condition.EQUALS, toName(token, methodName, names));
+    }
+
+    /**
+     * Creates the function that resolves a field token to its column name, see {@link FieldPathResolver}
+     */
+    static Function<String, Optional<String>> toNames(FieldPathResolver resolver) {
+        return resolver::resolve;
+    }
+
+    /**
+     * Returns the column name of a field token, a token that is not a field is just uncapitalized,
+     * see {@link ColumnQueryParserUtil#checkFields(ColumnQueryTemplate, String, FieldPathResolver)}
+     */
+    static String toName(String field, String methodName, Function<String, Optional<String>> names) {
+        if (field.isEmpty()) {
+            throw new DynamicQueryException(String.format("There is a missed field in the method %s", methodName));
         }
+        return names.apply(field).orElseGet(() -> getName(field));
+    }
 
-        String name = getName(token);
-        return ColumnCondition.eq(Column.of(name, args[index]));
+    /**
+     * Checks that every condition and sort of the template is a field of the entity, so a typo in the method name
+     * is a {@link DynamicQueryException} instead of a query to a column that does not exist
+     */
+    static ColumnQueryTemplate checkFields(ColumnQueryTemplate template, String methodName,
+                                           FieldPathResolver resolver) {
+        Stream.concat(template.getConditions().stream().map(ColumnConditionTemplate::getName),
+                template.getSorts().stream().map(Sort::getName))
+                .filter(name -> !resolver.toReader(name).isPresent())
+                .findFirst()
+                .ifPresent(name -> {
+                    throw new DynamicQueryException(String.format("The method %s has the field %s that is not "
+                            + "a field of the entity", methodName, name));
+                });
+        return template;
     }
 
-    private static void checkContents(int index, int argSize, int required, String method) {
+    static void checkContents(int index, int argSize, int required, String method) {
         if ((index + required) <= argSize) {
             return;
         }
@@ -96,7 +146,7 @@ final class ColumnQueryParserUtil {
     }
 
 
-    private static String getName(String token) {
+    static String getName(String token) {
         return String.valueOf(Character.toLowerCase(token.charAt(0)))
                 .concat(token.substring(1));
     }
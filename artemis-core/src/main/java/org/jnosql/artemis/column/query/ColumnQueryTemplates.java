@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.column.query;
+
+import org.jnosql.artemis.Cursor;
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Pagination;
+import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.diana.api.Sort;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * The {@link ColumnQueryTemplate} of every query and delete method of a repository interface,
+ * they are compiled when the repository proxy is created, so an invalid method fails at that moment
+ * instead of at the first call.
+ */
+final class ColumnQueryTemplates {
+
+    private static final Logger LOGGER = Logger.getLogger(ColumnQueryTemplates.class.getName());
+
+    private static final String FIND = "find";
+    private static final String EXISTS_BY = "existsBy";
+    private static final String COUNT_BY = "countBy";
+    private static final String DELETE_BY = "deleteBy";
+
+    private final Map<Method, ColumnQueryTemplate> templates;
+
+    ColumnQueryTemplates(Class<?> repositoryType, ClassRepresentation classRepresentation,
+                         ClassRepresentations classRepresentations) {
+        ColumnQueryParser queryParser = new ColumnQueryParser();
+        ColumnQueryDeleteParser deleteParser = new ColumnQueryDeleteParser();
+        Map<Method, ColumnQueryTemplate> compiled = new HashMap<>();
+        for (Method method : repositoryType.getMethods()) {
+            if (method.isDefault() || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            String methodName = method.getName();
+            if (methodName.startsWith(FIND) || methodName.startsWith(EXISTS_BY)
+                    || methodName.startsWith(COUNT_BY)) {
+                compiled.put(method, check(method, queryParser.compile(methodName, classRepresentation,
+                        classRepresentations)));
+            } else if (methodName.startsWith(DELETE_BY)) {
+                compiled.put(method, check(method, deleteParser.compile(methodName, classRepresentation,
+                        classRepresentations)));
+            }
+        }
+        this.templates = Collections.unmodifiableMap(compiled);
+    }
+
+    /**
+     * Returns the template of a query or delete method
+     *
+     * @throws DynamicQueryException when the method is not a query or delete method of the repository
+     */
+    ColumnQueryTemplate get(Method method) {
+        ColumnQueryTemplate template = templates.get(method);
+        if (template == null) {
+            throw new DynamicQueryException(String.format("The method %s is not a query method", method.getName()));
+        }
+        return template;
+    }
+
+    private ColumnQueryTemplate check(Method method, ColumnQueryTemplate template) {
+        Class<?>[] types = method.getParameterTypes();
+        ColumnQueryParserUtil.checkContents(0, types.length, template.getParameters(), method.getName());
+        for (int index = template.getParameters(); index < types.length; index++) {
+            Class<?> type = types[index];
+            if (!Sort.class.isAssignableFrom(type) && !Pagination.class.isAssignableFrom(type)
+                    && !Cursor.class.isAssignableFrom(type) && !Consumer.class.isAssignableFrom(type)) {
+                LOGGER.info(String.format("Ignoring parameter of type %s on methodName %s class name %s arg-number: %d",
+                        type.getName(), method.getName(), method.getDeclaringClass().getName(), index));
+            }
+        }
+        return template;
+    }
+}
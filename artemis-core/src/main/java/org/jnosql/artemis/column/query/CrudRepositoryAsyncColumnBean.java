@@ -22,6 +22,7 @@ package org.jnosql.artemis.column.query;
 import org.jnosql.artemis.CrudRepositoryAsync;
 import org.jnosql.artemis.DatabaseQualifier;
 import org.jnosql.artemis.DatabaseType;
+import org.jnosql.artemis.FetchSize;
 import org.jnosql.artemis.column.ColumnRepositoryAsync;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 
@@ -98,7 +99,7 @@ public class CrudRepositoryAsyncColumnBean implements Bean<CrudRepositoryAsync>,
         ColumnRepositoryAsync repository = provider.isEmpty() ? getInstance(ColumnRepositoryAsync.class) :
                 getInstance(ColumnRepositoryAsync.class, provider);
         ColumnCrudRepositoryAsyncProxy handler = new ColumnCrudRepositoryAsyncProxy(repository,
-                classRepresentations, type);
+                classRepresentations, type, getInstance(FetchSize.class));
         return (CrudRepositoryAsync) Proxy.newProxyInstance(type.getClassLoader(),
                 new Class[]{type},
                 handler);
@@ -20,6 +20,7 @@
 package org.jnosql.artemis.column.spi;
 
 
+import org.jnosql.artemis.CallbackExecutor;
 import org.jnosql.artemis.DatabaseQualifier;
 import org.jnosql.artemis.DatabaseType;
 import org.jnosql.artemis.column.ColumnRepositoryAsync;
@@ -80,7 +81,14 @@ class ColumnRepositoryAsyncBean implements Bean<ColumnRepositoryAsync>, Passivat
 
         ColumnRepositoryAsyncProducer producer = getInstance(ColumnRepositoryAsyncProducer.class);
         ColumnFamilyManagerAsync columnFamilyManager = getColumnFamilyManager();
-        return producer.get(columnFamilyManager);
+        return producer.get(columnFamilyManager, getCallbackExecutor());
+    }
+
+    private CallbackExecutor getCallbackExecutor() {
+        if (beanManager.getBeans(CallbackExecutor.class, DatabaseQualifier.ofColumn(provider)).isEmpty()) {
+            return getInstance(CallbackExecutor.class);
+        }
+        return getInstance(CallbackExecutor.class, provider);
     }
 
     private ColumnFamilyManagerAsync getColumnFamilyManager() {
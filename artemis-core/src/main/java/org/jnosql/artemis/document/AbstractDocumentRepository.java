@@ -20,16 +20,25 @@
 package org.jnosql.artemis.document;
 
 
+import org.jnosql.artemis.Cursor;
+import org.jnosql.artemis.Page;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentQuery;
 
 import java.time.Duration;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterators;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
 
 /**
  * This class provides a skeletal implementation of the {@link DocumentRepository} interface,
@@ -38,6 +47,16 @@ import java.util.stream.Collectors;
 public abstract class AbstractDocumentRepository implements DocumentRepository {
 
 
+    private final UnaryOperator<DocumentEntity> saveAction = e -> getManager().save(e);
+
+    private final UnaryOperator<DocumentEntity> updateAction = e -> getManager().update(e);
+
+    private final Function<Iterable<DocumentEntity>, Iterable<DocumentEntity>> saveAllAction =
+            e -> getManager().save(e);
+
+    private final Function<Iterable<DocumentEntity>, Iterable<DocumentEntity>> updateAllAction =
+            e -> getManager().update(e);
+
     protected abstract DocumentEntityConverter getConverter();
 
     protected abstract DocumentCollectionManager getManager();
@@ -46,8 +65,6 @@ public abstract class AbstractDocumentRepository implements DocumentRepository {
 
     @Override
     public <T> T save(T entity) throws NullPointerException {
-
-        UnaryOperator<DocumentEntity> saveAction = e -> getManager().save(e);
         return getWorkflow().flow(entity, saveAction);
     }
 
@@ -62,9 +79,26 @@ public abstract class AbstractDocumentRepository implements DocumentRepository {
 
     @Override
     public <T> T update(T entity) {
+        return getWorkflow().flow(entity, updateAction);
+    }
 
-        UnaryOperator<DocumentEntity> saveAction = e -> getManager().update(e);
-        return getWorkflow().flow(entity, saveAction);
+    @Override
+    public <T> Iterable<T> save(Iterable<T> entities) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        return getWorkflow().batchFlow(entities, saveAllAction);
+    }
+
+    @Override
+    public <T> Iterable<T> save(Iterable<T> entities, Duration ttl) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return getWorkflow().batchFlow(entities, e -> getManager().save(e, ttl));
+    }
+
+    @Override
+    public <T> Iterable<T> update(Iterable<T> entities) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        return getWorkflow().batchFlow(entities, updateAllAction);
     }
 
 
@@ -77,7 +111,44 @@ public abstract class AbstractDocumentRepository implements DocumentRepository {
     @Override
     public <T> List<T> find(DocumentQuery query) throws NullPointerException {
         List<DocumentEntity> entities = getManager().find(query);
-        Function<DocumentEntity, T> function = e -> getConverter().toEntity(e);
-        return entities.stream().map(function).collect(Collectors.toList());
+        return getConverter().toEntities(entities);
+    }
+
+    @Override
+    public boolean exists(DocumentQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return !getManager().find(DocumentQueries.copy(query, 1L)).isEmpty();
+    }
+
+    @Override
+    public long count(DocumentQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return getManager().find(query).size();
+    }
+
+    @Override
+    public <T> Page<T> find(DocumentQuery query, Cursor cursor) throws NullPointerException, IllegalArgumentException {
+        requireNonNull(query, "query is required");
+        requireNonNull(cursor, "cursor is required");
+        List<DocumentEntity> entities = getManager().find(DocumentKeysets.prepare(query, cursor));
+        return DocumentKeysets.page(entities, cursor, query.getSorts(), e -> getConverter().toEntities(e));
+    }
+
+    @Override
+    public <T> Stream<T> stream(DocumentQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        List<DocumentEntity> entities = getManager().find(query);
+        return entities.stream().map(e -> getConverter().toEntity(e));
+    }
+
+    @Override
+    public <T> Stream<T> stream(DocumentQuery query, int fetchSize) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetchSize must be positive");
+        }
+        Iterator<T> iterator = new DocumentQueryIterator<>(query, fetchSize, q -> getManager().find(q),
+                e -> getConverter().toEntity(e));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, ORDERED | NONNULL), false);
     }
 }
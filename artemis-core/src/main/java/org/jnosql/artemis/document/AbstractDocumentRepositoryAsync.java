@@ -20,18 +20,25 @@
 package org.jnosql.artemis.document;
 
 
+import org.jnosql.artemis.CallbackExecutor;
+import org.jnosql.artemis.Cursor;
+import org.jnosql.artemis.Page;
 import org.jnosql.diana.api.ExecuteAsyncQueryException;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.jnosql.diana.api.document.DocumentQuery;
+import org.reactivestreams.Publisher;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 /**
  * This class provides a skeletal implementation of the {@link DocumentRepositoryAsync} interface,
@@ -40,10 +47,56 @@ import static java.util.stream.Collectors.toList;
 public abstract class AbstractDocumentRepositoryAsync implements DocumentRepositoryAsync {
 
 
+    private static final Executor DIRECT = Runnable::run;
+
+    private final DocumentWorkflow conversion = new DocumentWorkflow() {
+
+        @Override
+        public <T> T flow(T entity, UnaryOperator<DocumentEntity> action) throws NullPointerException {
+            requireNonNull(entity, "entity is required");
+            requireNonNull(action, "action is required");
+            return toEntity(entity, action.apply(getConverter().toDocument(entity)));
+        }
+
+        @Override
+        public <T> CompletionStage<T> flowAsync(T entity,
+                                                Function<DocumentEntity, CompletionStage<DocumentEntity>> action)
+                throws NullPointerException {
+            requireNonNull(entity, "entity is required");
+            requireNonNull(action, "action is required");
+            return action.apply(getConverter().toDocument(entity)).thenApply(e -> toEntity(entity, e));
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T toEntity(T entity, DocumentEntity response) {
+            return (T) getConverter().toEntity(entity.getClass(), response);
+        }
+    };
+
     protected abstract DocumentEntityConverter getConverter();
 
     protected abstract DocumentCollectionManagerAsync getManager();
 
+    /**
+     * Returns the workflow of the save and the update, the default one just converts the entity and the response
+     * without firing the events, the implementations replace it to fire them.
+     *
+     * @return the workflow
+     */
+    protected DocumentWorkflow getFlow() {
+        return conversion;
+    }
+
+    /**
+     * Returns the executor where the entities are converted and the callbacks are called, the default one runs
+     * them on the thread where the database completes the operation, as {@link CallbackExecutor} does by default.
+     *
+     * @return the callback executor
+     */
+    protected Executor getCallbackExecutor() {
+        return DIRECT;
+    }
+
     @Override
     public <T> void save(T entity) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
         save(entity, t -> {
@@ -60,8 +113,7 @@ public abstract class AbstractDocumentRepositoryAsync implements DocumentReposit
     public <T> void save(T entity, Consumer<T> callBack) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
         requireNonNull(entity, "entity is required");
         requireNonNull(callBack, "callBack is required");
-        Consumer<DocumentEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
-        getManager().save(getConverter().toDocument(entity), dianaCallBack);
+        DocumentStages.accept(saveAsync(entity), callBack);
     }
 
     @Override
@@ -69,8 +121,7 @@ public abstract class AbstractDocumentRepositoryAsync implements DocumentReposit
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
         requireNonNull(callBack, "callBack is required");
-        Consumer<DocumentEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
-        getManager().save(getConverter().toDocument(entity), ttl, dianaCallBack);
+        DocumentStages.accept(saveAsync(entity, ttl), callBack);
     }
 
     @Override
@@ -84,8 +135,7 @@ public abstract class AbstractDocumentRepositoryAsync implements DocumentReposit
     public <T> void update(T entity, Consumer<T> callBack) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
         requireNonNull(entity, "entity is required");
         requireNonNull(callBack, "callBack is required");
-        Consumer<DocumentEntity> dianaCallBack = c -> callBack.accept((T) getConverter().toEntity(entity.getClass(), c));
-        getManager().update(getConverter().toDocument(entity), dianaCallBack);
+        DocumentStages.accept(updateAsync(entity), callBack);
     }
 
     @Override
@@ -98,7 +148,7 @@ public abstract class AbstractDocumentRepositoryAsync implements DocumentReposit
     public void delete(DocumentDeleteQuery query, Consumer<Void> callBack) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
         requireNonNull(query, "query is required");
         requireNonNull(callBack, "callBack is required");
-        getManager().delete(query);
+        getManager().delete(query, hop(callBack));
     }
 
     @Override
@@ -106,13 +156,93 @@ public abstract class AbstractDocumentRepositoryAsync implements DocumentReposit
         requireNonNull(query, "query is required");
         requireNonNull(callBack, "callBack is required");
 
-        Consumer<List<DocumentEntity>> dianaCallBack = d -> {
-            callBack.accept(
-                    d.stream()
-                            .map(getConverter()::toEntity)
-                            .map(o -> (T) o)
-                            .collect(toList()));
-        };
-        getManager().find(query, dianaCallBack);
+        Consumer<List<DocumentEntity>> dianaCallBack = d -> callBack.accept(getConverter().toEntities(d));
+        getManager().find(query, hop(dianaCallBack));
+    }
+
+    @Override
+    public <T> void find(DocumentQuery query, Cursor cursor, Consumer<Page<T>> callBack) throws
+            ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException, IllegalArgumentException {
+        requireNonNull(query, "query is required");
+        requireNonNull(cursor, "cursor is required");
+        requireNonNull(callBack, "callBack is required");
+        DocumentQuery page = DocumentKeysets.prepare(query, cursor);
+        Consumer<List<DocumentEntity>> dianaCallBack = d -> callBack.accept(DocumentKeysets.page(d, cursor,
+                page.getSorts(), e -> getConverter().toEntities(e)));
+        getManager().find(page, hop(dianaCallBack));
+    }
+
+    @Override
+    public <T> CompletionStage<T> saveAsync(T entity) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        return getFlow().flowAsync(entity, e -> stage(c -> getManager().save(e, c)));
+    }
+
+    @Override
+    public <T> CompletionStage<T> saveAsync(T entity, Duration ttl) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return getFlow().flowAsync(entity, e -> stage(c -> getManager().save(e, ttl, c)));
+    }
+
+    @Override
+    public <T> CompletionStage<T> updateAsync(T entity) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        return getFlow().flowAsync(entity, e -> stage(c -> getManager().update(e, c)));
+    }
+
+    @Override
+    public CompletionStage<Void> deleteAsync(DocumentDeleteQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return stage(c -> getManager().delete(query, c));
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> findAsync(DocumentQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return this.<List<DocumentEntity>>stage(c -> getManager().find(query, c))
+                .thenApply(e -> getConverter().toEntities(e));
+    }
+
+    @Override
+    public <T> CompletionStage<Page<T>> findAsync(DocumentQuery query, Cursor cursor) throws NullPointerException,
+            IllegalArgumentException {
+        requireNonNull(query, "query is required");
+        requireNonNull(cursor, "cursor is required");
+        DocumentQuery page = DocumentKeysets.prepare(query, cursor);
+        return this.<List<DocumentEntity>>stage(c -> getManager().find(page, c))
+                .thenApply(d -> DocumentKeysets.page(d, cursor, page.getSorts(), e -> getConverter().toEntities(e)));
+    }
+
+    @Override
+    public CompletionStage<Boolean> existsAsync(DocumentQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        DocumentQuery first = DocumentQueries.copy(query, 1L);
+        return this.<List<DocumentEntity>>stage(c -> getManager().find(first, c)).thenApply(e -> !e.isEmpty());
+    }
+
+    @Override
+    public CompletionStage<Long> countAsync(DocumentQuery query) throws NullPointerException {
+        requireNonNull(query, "query is required");
+        return this.<List<DocumentEntity>>stage(c -> getManager().find(query, c)).thenApply(e -> (long) e.size());
+    }
+
+    @Override
+    public <T> Publisher<T> publish(DocumentQuery query, int fetchSize) throws NullPointerException,
+            IllegalArgumentException {
+        requireNonNull(query, "query is required");
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("fetchSize must be positive");
+        }
+        return new DocumentQueryPublisher<DocumentEntity, T>(query, fetchSize, (q, c) -> getManager().find(q, c),
+                e -> getConverter().toEntity(e), getCallbackExecutor());
+    }
+
+    private <T> CompletionStage<T> stage(Consumer<Consumer<T>> operation) {
+        return DocumentStages.of(getCallbackExecutor(), operation);
+    }
+
+    private <T> Consumer<T> hop(Consumer<T> callBack) {
+        return DocumentStages.hop(getCallbackExecutor(), callBack);
     }
 }
@@ -19,24 +19,17 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.artemis.BulkConverter;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
-import org.jnosql.artemis.reflection.FieldRepresentation;
-import org.jnosql.artemis.reflection.FieldValue;
-import org.jnosql.artemis.reflection.Reflections;
-import org.jnosql.diana.api.Value;
-import org.jnosql.diana.api.document.Document;
 import org.jnosql.diana.api.document.DocumentEntity;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
-
-import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The default implementation of {@link DocumentEntityConverter}
@@ -48,82 +41,56 @@ class DefaultDocumentEntityConverter implements DocumentEntityConverter {
     private ClassRepresentations classRepresentations;
 
     @Inject
-    private Reflections reflections;
+    private BulkConverter bulkConverter;
+
+    private final Map<Class<?>, DocumentEntityPlan> plans = new ConcurrentHashMap<>();
 
 
     @Override
     public DocumentEntity toDocument(Object entityInstance) {
         Objects.requireNonNull(entityInstance, "Object is required");
-        ClassRepresentation representation = classRepresentations.get(entityInstance.getClass());
-        DocumentEntity entity = DocumentEntity.of(representation.getName());
-        representation.getFields().stream()
-                .map(f -> to(f, entityInstance))
-                .filter(FieldValue::isNotEmpty)
-                .map(f -> f.toDocument(this))
-                .forEach(entity::add);
-        return entity;
-
+        return getPlan(entityInstance.getClass()).toDocument(entityInstance, this);
     }
 
     @Override
     public <T> T toEntity(Class<T> entityClass, DocumentEntity entity) {
-        ClassRepresentation representation = classRepresentations.get(entityClass);
-        T instance = reflections.newInstance(representation.getConstructor());
-        return convertEntity(entity, representation, instance);
-
-
+        return getPlan(entityClass).toEntity(entity, this);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T toEntity(DocumentEntity entity) {
         ClassRepresentation representation = classRepresentations.findByName(entity.getName());
-        T instance = reflections.newInstance(representation.getConstructor());
-        return convertEntity(entity, representation, instance);
+        return getPlan(representation.getClassInstance()).toEntity(entity, this);
     }
 
-    private <T> T convertEntity(DocumentEntity entity, ClassRepresentation representation, T instance) {
-        Map<String, FieldRepresentation> fieldsGroupByName = representation.getFieldsGroupByName();
-        Predicate<String> existField = k -> entity.find(k).isPresent();
-
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(k -> EMBEDDED.equals(fieldsGroupByName.get(k).getType())))
-                .forEach(feedObject(instance, entity, fieldsGroupByName));
-
-        return instance;
+    @Override
+    public List<DocumentEntity> toDocuments(List<?> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return bulkConverter.convert(entities, this::toDocument);
     }
 
-    private <T> Consumer<String> feedObject(T instance, DocumentEntity entity, Map<String, FieldRepresentation> fieldsGroupByName) {
-        return k -> {
-            Optional<Document> document = entity.find(k);
-
-            FieldRepresentation field = fieldsGroupByName.get(k);
-            if (EMBEDDED.equals(field.getType())) {
-                setEmbeddedField(instance, entity, document, field);
-            } else {
-                setSingleField(instance, document, field);
-            }
-        };
+    @Override
+    public <T> List<T> toEntities(Class<T> entityClass, List<DocumentEntity> entities) {
+        Objects.requireNonNull(entityClass, "entityClass is required");
+        Objects.requireNonNull(entities, "entities is required");
+        DocumentEntityPlan plan = getPlan(entityClass);
+        return bulkConverter.convert(entities, e -> plan.<T>toEntity(e, this));
     }
 
-    private <T> void setSingleField(T instance, Optional<Document> document, FieldRepresentation field) {
-        Value value = document.get().getValue();
-        reflections.setValue(instance, field.getField(), field.getValue(value));
+    @Override
+    public <T> List<T> toEntities(List<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return bulkConverter.convert(entities, e -> this.<T>toEntity(e));
     }
 
-    private <T> void setEmbeddedField(T instance, DocumentEntity entity, Optional<Document> document, FieldRepresentation field) {
-        if (document.isPresent()) {
-            Value value = document.get().getValue();
-            DocumentEntity columnEntity = value.get(DocumentEntity.class);
-            reflections.setValue(instance, field.getField(), toEntity(columnEntity));
-        } else {
-            reflections.setValue(instance, field.getField(), toEntity(field.getField().getType(), entity));
+    private DocumentEntityPlan getPlan(Class<?> entityClass) {
+        DocumentEntityPlan plan = plans.get(entityClass);
+        if (plan == null) {
+            plan = DocumentEntityPlan.of(classRepresentations.get(entityClass), this::getPlan);
+            plans.putIfAbsent(entityClass, plan);
         }
-    }
-
-    private FieldValue to(FieldRepresentation field, Object entityInstance) {
-        Object value = reflections.getValue(entityInstance, field.getField());
-        return new FieldValue(value, field);
+        return plan;
     }
 
 }
@@ -22,11 +22,15 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.EntityPostPersit;
 import org.jnosql.artemis.EntityPrePersist;
+import org.jnosql.artemis.EntityTypeQualifier;
+import org.jnosql.artemis.EventObservers;
 import org.jnosql.diana.api.document.DocumentEntity;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The default implementation of {@link DocumentEventPersistManager}
@@ -46,23 +50,73 @@ class DefaultDocumentEventPersistManager implements DocumentEventPersistManager
     @Inject
     private Event<EntityPostPersit> entityPostPersitEvent;
 
+    @Inject
+    private EventObservers observers;
+
+    private final Map<Class<?>, Event<EntityPrePersist>> entityPrePersistEvents = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Event<EntityPostPersit>> entityPostPersitEvents = new ConcurrentHashMap<>();
+
     @Override
     public void firePreDocument(DocumentEntity entity) {
-        documentEntityPrePersistEvent.fire(DocumentEntityPrePersist.of(entity));
+        if (observers.isObserved(DocumentEntityPrePersist.class, entity, DocumentEntityPrePersist::of)) {
+            documentEntityPrePersistEvent.fire(DocumentEntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public void firePostDocument(DocumentEntity entity) {
-        documentEntityPostPersistEvent.fire(DocumentEntityPostPersist.of(entity));
+        if (observers.isObserved(DocumentEntityPostPersist.class, entity, DocumentEntityPostPersist::of)) {
+            documentEntityPostPersistEvent.fire(DocumentEntityPostPersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        Class<?> type = entity.getClass();
+        if (observers.isObserved(EntityPrePersist.class, type, entity, EntityPrePersist::of)) {
+            select(entityPrePersistEvents, entityPrePersistEvent, type).fire(EntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostEntity(T entity) {
-        entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        Class<?> type = entity.getClass();
+        if (observers.isObserved(EntityPostPersit.class, type, entity, EntityPostPersit::of)) {
+            select(entityPostPersitEvents, entityPostPersitEvent, type).fire(EntityPostPersit.of(entity));
+        }
+    }
+
+    @Override
+    public boolean isPreDocumentUnobserved() {
+        return !observers.isObserved(DocumentEntityPrePersist.class, DocumentEntity.of("probe"), DocumentEntityPrePersist::of);
+    }
+
+    @Override
+    public boolean isPostDocumentUnobserved() {
+        return !observers.isObserved(DocumentEntityPostPersist.class, DocumentEntity.of("probe"), DocumentEntityPostPersist::of);
+    }
+
+    @Override
+    public boolean isPreEntityUnobserved(Object entity) {
+        return !observers.isObserved(EntityPrePersist.class, entity.getClass(), entity, EntityPrePersist::of);
+    }
+
+    @Override
+    public boolean isPostEntityUnobserved(Object entity) {
+        return !observers.isObserved(EntityPostPersit.class, entity.getClass(), entity, EntityPostPersit::of);
+    }
+
+    /**
+     * Returns the event selected with the {@link org.jnosql.artemis.EntityType} of the entity type, it is selected
+     * once to each entity type
+     */
+    private static <E> Event<E> select(Map<Class<?>, Event<E>> events, Event<E> event, Class<?> type) {
+        Event<E> selected = events.get(type);
+        if (selected == null) {
+            selected = event.select(EntityTypeQualifier.of(type));
+            events.putIfAbsent(type, selected);
+        }
+        return selected;
     }
 }
@@ -20,10 +20,12 @@
 package org.jnosql.artemis.document;
 
 
+import org.jnosql.artemis.CallbackExecutor;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
+import java.util.concurrent.Executor;
 
 /**
  * The default implementation of {@link DocumentRepository}
@@ -36,10 +38,22 @@ class DefaultDocumentRepositoryAsync extends AbstractDocumentRepositoryAsync {
 
     private Instance<DocumentCollectionManagerAsync> manager;
 
+    private DocumentWorkflow flow;
+
+    private CallbackExecutor callbackExecutor;
+
+    DefaultDocumentRepositoryAsync(DocumentEntityConverter converter, Instance<DocumentCollectionManagerAsync> manager,
+                                   DocumentWorkflow flow) {
+        this(converter, manager, flow, new CallbackExecutor());
+    }
+
     @Inject
-    DefaultDocumentRepositoryAsync(DocumentEntityConverter converter, Instance<DocumentCollectionManagerAsync> manager) {
+    DefaultDocumentRepositoryAsync(DocumentEntityConverter converter, Instance<DocumentCollectionManagerAsync> manager,
+                                   DocumentWorkflow flow, CallbackExecutor callbackExecutor) {
         this.converter = converter;
         this.manager = manager;
+        this.flow = flow;
+        this.callbackExecutor = callbackExecutor;
     }
 
     DefaultDocumentRepositoryAsync() {
@@ -54,4 +68,14 @@ class DefaultDocumentRepositoryAsync extends AbstractDocumentRepositoryAsync {
     protected DocumentCollectionManagerAsync getManager() {
         return manager.get();
     }
+
+    @Override
+    protected DocumentWorkflow getFlow() {
+        return flow;
+    }
+
+    @Override
+    protected Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
 }
@@ -20,11 +20,13 @@
 package org.jnosql.artemis.document;
 
 
+import org.jnosql.artemis.CallbackExecutor;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 
 import javax.enterprise.inject.Vetoed;
 import javax.inject.Inject;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * The default implementation of {@link DocumentRepositoryAsyncProducer}
@@ -35,10 +37,24 @@ class DefaultDocumentRepositoryAsyncProducer implements DocumentRepositoryAsyncP
     @Inject
     private DocumentEntityConverter converter;
 
+    @Inject
+    private DocumentWorkflow documentWorkflow;
+
+    @Inject
+    private CallbackExecutor callbackExecutor;
+
     @Override
     public DocumentRepositoryAsync get(DocumentCollectionManagerAsync collectionManager) throws NullPointerException {
+        return get(collectionManager, callbackExecutor);
+    }
+
+    @Override
+    public DocumentRepositoryAsync get(DocumentCollectionManagerAsync collectionManager, Executor callbackExecutor)
+            throws NullPointerException {
         Objects.requireNonNull(collectionManager, "collectionManager is required");
-        return new ProducerAbstractDocumentRepositoryAsync(converter, collectionManager);
+        Objects.requireNonNull(callbackExecutor, "callbackExecutor is required");
+        return new ProducerAbstractDocumentRepositoryAsync(converter, documentWorkflow, collectionManager,
+                callbackExecutor);
     }
 
     @Vetoed
@@ -46,11 +62,18 @@ class DefaultDocumentRepositoryAsyncProducer implements DocumentRepositoryAsyncP
 
         private DocumentEntityConverter converter;
 
+        private DocumentWorkflow documentWorkflow;
+
         private DocumentCollectionManagerAsync manager;
 
-        ProducerAbstractDocumentRepositoryAsync(DocumentEntityConverter converter, DocumentCollectionManagerAsync manager) {
+        private Executor callbackExecutor;
+
+        ProducerAbstractDocumentRepositoryAsync(DocumentEntityConverter converter, DocumentWorkflow documentWorkflow,
+                                                DocumentCollectionManagerAsync manager, Executor callbackExecutor) {
             this.converter = converter;
+            this.documentWorkflow = documentWorkflow;
             this.manager = manager;
+            this.callbackExecutor = callbackExecutor;
         }
 
         ProducerAbstractDocumentRepositoryAsync() {
@@ -65,5 +88,15 @@ class DefaultDocumentRepositoryAsyncProducer implements DocumentRepositoryAsyncP
         protected DocumentCollectionManagerAsync getManager() {
             return manager;
         }
+
+        @Override
+        protected DocumentWorkflow getFlow() {
+            return documentWorkflow;
+        }
+
+        @Override
+        protected Executor getCallbackExecutor() {
+            return callbackExecutor;
+        }
     }
 }
@@ -22,8 +22,16 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import org.jnosql.artemis.BatchSize;
+
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -37,58 +45,89 @@ class DefaultDocumentWorkflow implements DocumentWorkflow {
 
     private DocumentEntityConverter converter;
 
+    private BatchSize batchSize;
+
+    private final Map<Class<?>, DocumentWorkflowPipeline> pipelines = new ConcurrentHashMap<>();
+
     DefaultDocumentWorkflow() {
     }
 
-    @Inject
     DefaultDocumentWorkflow(DocumentEventPersistManager columnEventPersistManager, DocumentEntityConverter converter) {
+        this(columnEventPersistManager, converter, new BatchSize());
+    }
+
+    @Inject
+    DefaultDocumentWorkflow(DocumentEventPersistManager columnEventPersistManager, DocumentEntityConverter converter, BatchSize batchSize) {
         this.columnEventPersistManager = columnEventPersistManager;
         this.converter = converter;
+        this.batchSize = batchSize;
     }
 
     public <T> T flow(T entity, UnaryOperator<DocumentEntity> action) {
-
-        Function<T, T> flow = getFlow(entity, action);
-
-        return flow.apply(entity);
-
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(action, "action is required");
+        return getPipeline(entity).apply(entity, action);
     }
 
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<DocumentEntity> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            columnEventPersistManager.firePreEntity(t);
-            return t;
-        };
-
-        Function<T, DocumentEntity> converterColumn = t -> converter.toDocument(t);
-
-        UnaryOperator<DocumentEntity> firePreDocument = t -> {
-            columnEventPersistManager.firePreDocument(t);
-            return t;
-        };
-
-        UnaryOperator<DocumentEntity> firePostDocument = t -> {
-            columnEventPersistManager.firePostDocument(t);
-            return t;
-        };
-
-        Function<DocumentEntity, T> converterEntity = t -> converter.toEntity((Class<T>) entity.getClass(), t);
+    @Override
+    public <T> CompletionStage<T> flowAsync(T entity, Function<DocumentEntity, CompletionStage<DocumentEntity>> action) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(action, "action is required");
+        DocumentWorkflowPipeline pipeline = getPipeline(entity);
+        return CompletableFuture.completedFuture(entity)
+                .thenApply(pipeline::before)
+                .thenCompose(action)
+                .thenApply(pipeline::<T>after);
+    }
 
-        UnaryOperator<T> firePostEntity = t -> {
-            columnEventPersistManager.firePostEntity(t);
-            return t;
-        };
+    @Override
+    public <T> List<T> batchFlow(Iterable<T> entities, Function<Iterable<DocumentEntity>, Iterable<DocumentEntity>> action) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(action, "action is required");
+        int size = batchSize.get();
+        List<T> result = new ArrayList<>();
+        List<T> batch = new ArrayList<>(size);
+        for (T entity : entities) {
+            batch.add(Objects.requireNonNull(entity, "entity is required"));
+            if (batch.size() == size) {
+                batchFlow(batch, action, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchFlow(batch, action, result);
+        }
+        return result;
+    }
 
+    private <T> void batchFlow(List<T> batch, Function<Iterable<DocumentEntity>, Iterable<DocumentEntity>> action, List<T> result) {
+        DocumentWorkflowPipeline[] pipelines = new DocumentWorkflowPipeline[batch.size()];
+        List<DocumentEntity> entities = new ArrayList<>(batch.size());
+        for (int index = 0; index < pipelines.length; index++) {
+            T entity = batch.get(index);
+            pipelines[index] = getPipeline(entity);
+            entities.add(pipelines[index].before(entity));
+        }
+        int index = 0;
+        for (DocumentEntity response : action.apply(entities)) {
+            if (index < pipelines.length) {
+                result.add(pipelines[index].after(response));
+            }
+            index++;
+        }
+        if (index != pipelines.length) {
+            throw new IllegalStateException("The database returned " + index + " entities to a batch of "
+                    + pipelines.length);
+        }
+    }
 
-        return validation
-                .andThen(firePreEntity)
-                .andThen(converterColumn)
-                .andThen(firePreDocument)
-                .andThen(action)
-                .andThen(firePostDocument)
-                .andThen(converterEntity)
-                .andThen(firePostEntity);
+    private DocumentWorkflowPipeline getPipeline(Object entity) {
+        Class<?> entityClass = entity.getClass();
+        DocumentWorkflowPipeline pipeline = pipelines.get(entityClass);
+        if (pipeline == null) {
+            pipeline = DocumentWorkflowPipeline.of(entity, columnEventPersistManager, converter);
+            pipelines.putIfAbsent(entityClass, pipeline);
+        }
+        return pipeline;
     }
 }
@@ -21,6 +21,11 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
 /**
  * This interface represents the converter between an entity and the {@link DocumentEntity}
  */
@@ -53,4 +58,47 @@ public interface DocumentEntityConverter {
      * @return the instance from {@link DocumentEntity}
      */
     <T> T toEntity(DocumentEntity entity);
+
+    /**
+     * Converts the entities to {@link DocumentEntity} keeping the order, the default implementation
+     * converts them sequentially using {@link DocumentEntityConverter#toDocument(Object)}
+     *
+     * @param entities the entities
+     * @return the {@link DocumentEntity} list
+     * @throws NullPointerException when entities is null
+     */
+    default List<DocumentEntity> toDocuments(List<?> entities) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        return entities.stream().map(this::toDocument).collect(toList());
+    }
+
+    /**
+     * Converts the {@link DocumentEntity} list to entities keeping the order, the default implementation
+     * converts them sequentially using {@link DocumentEntityConverter#toEntity(Class, DocumentEntity)}
+     *
+     * @param entityClass the entity class
+     * @param entities    the {@link DocumentEntity} list to be converted
+     * @param <T>         the entity type
+     * @return the entities
+     * @throws NullPointerException when either entityClass or entities is null
+     */
+    default <T> List<T> toEntities(Class<T> entityClass, List<DocumentEntity> entities) throws NullPointerException {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(entities, "entities is required");
+        return entities.stream().map(e -> toEntity(entityClass, e)).collect(toList());
+    }
+
+    /**
+     * Similar to {@link DocumentEntityConverter#toEntities(Class, List)}, but
+     * search the instance type from {@link DocumentEntity#getName()}
+     *
+     * @param entities the {@link DocumentEntity} list to be converted
+     * @param <T>      the entity type
+     * @return the entities
+     * @throws NullPointerException when entities is null
+     */
+    default <T> List<T> toEntities(List<DocumentEntity> entities) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        return entities.stream().map(e -> this.<T>toEntity(e)).collect(toList());
+    }
 }
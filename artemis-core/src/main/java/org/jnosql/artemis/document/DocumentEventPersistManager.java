@@ -64,4 +64,50 @@ public interface DocumentEventPersistManager {
      */
     <T> void firePostEntity(T entity);
 
+    /**
+     * Checks whether nobody observes the event fired by {@link DocumentEventPersistManager#firePreDocument(DocumentEntity)},
+     * the {@link DocumentWorkflow} removes the stages that nobody observes. By default every event is observed.
+     *
+     * @return true when the event has no observer
+     */
+    default boolean isPreDocumentUnobserved() {
+        return false;
+    }
+
+    /**
+     * Checks whether nobody observes the event fired by {@link DocumentEventPersistManager#firePostDocument(DocumentEntity)}
+     *
+     * @return true when the event has no observer
+     * @see DocumentEventPersistManager#isPreDocumentUnobserved()
+     */
+    default boolean isPostDocumentUnobserved() {
+        return false;
+    }
+
+    /**
+     * Checks whether nobody observes the event fired by {@link DocumentEventPersistManager#firePreEntity(Object)}
+     * to the type of the entity, the observers are resolved with the event of the given entity and the
+     * result applies to every entity of its type
+     *
+     * @param entity an entity of the type
+     * @return true when the event has no observer
+     * @see DocumentEventPersistManager#isPreDocumentUnobserved()
+     */
+    default boolean isPreEntityUnobserved(Object entity) {
+        return false;
+    }
+
+    /**
+     * Checks whether nobody observes the event fired by {@link DocumentEventPersistManager#firePostEntity(Object)}
+     * to the type of the entity, the observers are resolved with the event of the given entity and the
+     * result applies to every entity of its type
+     *
+     * @param entity an entity of the type
+     * @return true when the event has no observer
+     * @see DocumentEventPersistManager#isPreDocumentUnobserved()
+     */
+    default boolean isPostEntityUnobserved(Object entity) {
+        return false;
+    }
+
 }
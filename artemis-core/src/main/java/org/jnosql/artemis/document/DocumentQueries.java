@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.document;
+
+
+import org.jnosql.diana.api.document.DocumentQuery;
+
+/**
+ * Utilitarian class to copy a {@link DocumentQuery}, the repository reads a page or a limited result with a copy,
+ * so the query of the caller is never changed and it might be reused while the copy is read.
+ */
+final class DocumentQueries {
+
+    private DocumentQueries() {
+    }
+
+    /**
+     * Creates a query with the start, the collection, the condition and the sorts of the query and the given limit
+     *
+     * @param query the query
+     * @param limit the limit of the copy
+     * @return the copy
+     */
+    static DocumentQuery copy(DocumentQuery query, long limit) {
+        return copy(query, query.getStart(), limit);
+    }
+
+    /**
+     * Creates a query with the collection, the condition and the sorts of the query and the given window
+     *
+     * @param query the query
+     * @param start the start of the copy
+     * @param limit the limit of the copy
+     * @return the copy
+     */
+    static DocumentQuery copy(DocumentQuery query, long start, long limit) {
+        DocumentQuery copy = DocumentQuery.of(query.getCollection());
+        query.getCondition().ifPresent(copy::and);
+        query.getSorts().forEach(copy::addSort);
+        copy.setStart(start);
+        copy.setLimit(limit);
+        return copy;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.document;
+
+
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * An {@link Iterator} that reads a {@link DocumentQuery} result in pages of fetch size entities,
+ * reading each page with a copy of the query that moves the start and limit window and converting each entity
+ * when it is pulled. The query itself is never changed.
+ *
+ * @param <T> the entity type
+ */
+final class DocumentQueryIterator<T> implements Iterator<T> {
+
+    private final DocumentQuery query;
+
+    private final int fetchSize;
+
+    private final Function<DocumentQuery, List<DocumentEntity>> finder;
+
+    private final Function<DocumentEntity, T> converter;
+
+    private final long end;
+
+    private long offset;
+
+    private boolean last;
+
+    private Iterator<DocumentEntity> page = Collections.emptyIterator();
+
+    DocumentQueryIterator(DocumentQuery query, int fetchSize, Function<DocumentQuery, List<DocumentEntity>> finder,
+                        Function<DocumentEntity, T> converter) {
+        this.query = query;
+        this.fetchSize = fetchSize;
+        this.finder = finder;
+        this.converter = converter;
+        this.offset = Math.max(query.getStart(), 0L);
+        this.end = query.getLimit() > 0 ? offset + query.getLimit() : Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext() && !last) {
+            fetch();
+        }
+        return page.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There are no more entities in the query: " + query);
+        }
+        return converter.apply(page.next());
+    }
+
+    private void fetch() {
+        long size = Math.min(fetchSize, end - offset);
+        List<DocumentEntity> entities = finder.apply(DocumentQueries.copy(query, offset, size));
+        offset += entities.size();
+        last = entities.size() < size || offset >= end;
+        page = entities.iterator();
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.document;
+
+
+import org.jnosql.diana.api.document.DocumentQuery;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Publisher} of a {@link DocumentQuery} result driven by the subscriber demand. The database is only called
+ * when there is demand, and each entity is converted when it is emitted, so a cancelled subscription stops both
+ * the fetching and the conversion. When there is a fetch size and the query is sorted the result is read in pages,
+ * each one with a copy of the query moving the start and limit window like {@link DocumentQueryIterator}, otherwise
+ * the whole result is read at once with the query, as the pages of an unsorted query are not stable. The query is
+ * never changed.
+ * Each page hops to the executor before it is emitted, when the executor rejects the page, or the database
+ * returns no list, the subscriber receives the error instead of waiting for a page that never comes.
+ * It accepts a single subscriber.
+ *
+ * @param <E> the type read from the database, e.g. {@link org.jnosql.diana.api.document.DocumentEntity}
+ * @param <T> the entity type
+ */
+final class DocumentQueryPublisher<E, T> implements Publisher<T> {
+
+    private final DocumentQuery query;
+
+    private final int fetchSize;
+
+    private final BiConsumer<DocumentQuery, Consumer<List<E>>> finder;
+
+    private final Function<E, T> converter;
+
+    private final Executor executor;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    DocumentQueryPublisher(DocumentQuery query, int fetchSize, BiConsumer<DocumentQuery, Consumer<List<E>>> finder,
+                         Function<E, T> converter, Executor executor) {
+        this.query = query;
+        this.fetchSize = fetchSize;
+        this.finder = finder;
+        this.converter = converter;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        requireNonNull(subscriber, "subscriber is required");
+        if (subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new QuerySubscription(subscriber));
+            return;
+        }
+        subscriber.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        subscriber.onError(new IllegalStateException("The query publisher allows a single subscriber, query: " + query));
+    }
+
+    private final class QuerySubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger work = new AtomicInteger();
+
+        private final long size;
+
+        private final long end;
+
+        private long offset;
+
+        private volatile Iterator<E> page = Collections.emptyIterator();
+
+        private volatile boolean last;
+
+        private volatile boolean fetching;
+
+        private volatile boolean cancelled;
+
+        private volatile Throwable error;
+
+        private boolean done;
+
+        private QuerySubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            this.size = query.getSorts().isEmpty() ? 0L : fetchSize;
+            this.offset = Math.max(query.getStart(), 0L);
+            this.end = query.getLimit() > 0 ? offset + query.getLimit() : Long.MAX_VALUE;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("The subscriber must request a positive number, n: " + n);
+            } else {
+                requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        /**
+         * Emits the entities while there is demand, only a thread at time runs it, the others just mark that
+         * there is more work to do
+         */
+        private void drain() {
+            if (work.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                emit();
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (!done) {
+                if (cancelled) {
+                    finish();
+                    return;
+                }
+                if (error != null) {
+                    finish();
+                    subscriber.onError(error);
+                    return;
+                }
+                if (fetching) {
+                    return;
+                }
+                if (page.hasNext()) {
+                    if (requested.get() == 0L) {
+                        return;
+                    }
+                    T entity;
+                    try {
+                        entity = converter.apply(page.next());
+                    } catch (RuntimeException exception) {
+                        error = exception;
+                        continue;
+                    }
+                    if (requested.get() != Long.MAX_VALUE) {
+                        requested.decrementAndGet();
+                    }
+                    subscriber.onNext(entity);
+                } else if (last) {
+                    finish();
+                    subscriber.onComplete();
+                    return;
+                } else if (requested.get() == 0L) {
+                    return;
+                } else {
+                    fetch();
+                }
+            }
+        }
+
+        private void fetch() {
+            fetching = true;
+            long size = Math.min(this.size, end - offset);
+            DocumentQuery page = size > 0 ? DocumentQueries.copy(query, offset, size) : query;
+            try {
+                finder.accept(page, entities -> {
+                    try {
+                        executor.execute(() -> receive(entities, size));
+                    } catch (RuntimeException exception) {
+                        error = exception;
+                        fetching = false;
+                        drain();
+                    }
+                });
+            } catch (RuntimeException exception) {
+                error = exception;
+                fetching = false;
+            }
+        }
+
+        private void receive(List<E> entities, long size) {
+            if (entities == null) {
+                error = new NullPointerException("The database returned no entities to the query: " + query);
+            } else {
+                offset += entities.size();
+                last = size == 0 || entities.size() < size || offset >= end;
+                page = entities.iterator();
+            }
+            fetching = false;
+            drain();
+        }
+
+        private void finish() {
+            done = true;
+        }
+    }
+}
@@ -22,6 +22,9 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
 
 /**
  * The producer of {@link DocumentRepositoryAsync}
@@ -39,4 +42,22 @@ public interface DocumentRepositoryAsyncProducer<T extends DocumentRepositoryAsy
      */
     T get(DocumentCollectionManagerAsync collectionManager) throws NullPointerException;
 
+    /**
+     * creates a {@link DocumentRepositoryAsync} that converts the entities and calls the callbacks
+     * on the callbackExecutor
+     *
+     * @param collectionManager the collectionManager
+     * @param callbackExecutor  the executor where the entities are converted and the callbacks are called
+     * @return a new instance
+     * @throws NullPointerException          when either collectionManager or callbackExecutor are null
+     * @throws UnsupportedOperationException when the producer does not support a callback executor
+     * @see org.jnosql.artemis.CallbackExecutor
+     */
+    default T get(DocumentCollectionManagerAsync collectionManager, Executor callbackExecutor) throws
+            NullPointerException, UnsupportedOperationException {
+        Objects.requireNonNull(collectionManager, "collectionManager is required");
+        Objects.requireNonNull(callbackExecutor, "callbackExecutor is required");
+        throw new UnsupportedOperationException("The callback executor is not supported by " + getClass().getName());
+    }
+
 }
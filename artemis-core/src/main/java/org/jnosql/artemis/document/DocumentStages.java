@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.document;
+
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.StreamSupport;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Utilitarian class to adapt the callbacks of {@link org.jnosql.diana.api.document.DocumentCollectionManagerAsync}
+ * to {@link CompletionStage} and back to the callback methods of {@link DocumentRepositoryAsync}
+ */
+final class DocumentStages {
+
+    private static final Logger LOGGER = Logger.getLogger(DocumentStages.class.getName());
+
+    private DocumentStages() {
+    }
+
+    /**
+     * Creates a stage completed by the callback given to the operation, the callback hops to the executor before
+     * completing the stage, so the next stages do not run on the driver thread. An error thrown by the operation,
+     * or by the executor when it rejects the hop, completes the stage exceptionally
+     */
+    static <T> CompletionStage<T> of(Executor executor, Consumer<Consumer<T>> operation) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            operation.accept(result -> {
+                try {
+                    executor.execute(() -> future.complete(result));
+                } catch (RuntimeException exception) {
+                    future.completeExceptionally(exception);
+                }
+            });
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
+    /**
+     * Returns a callback that hops to the executor before calling the callBack
+     */
+    static <T> Consumer<T> hop(Executor executor, Consumer<T> callBack) {
+        return result -> executor.execute(() -> callBack.accept(result));
+    }
+
+    /**
+     * Calls the callBack when the stage completes. When the stage has already failed the error is thrown, as the
+     * callback methods always did, otherwise a later error is logged because there is nobody to handle it.
+     */
+    static <T> void accept(CompletionStage<T> stage, Consumer<T> callBack) {
+        CompletableFuture<T> future = stage.toCompletableFuture();
+        if (future.isCompletedExceptionally()) {
+            try {
+                future.join();
+            } catch (CompletionException exception) {
+                if (exception.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) exception.getCause();
+                }
+                throw exception;
+            }
+        }
+        future.whenComplete((result, error) -> {
+            if (error == null) {
+                callBack.accept(result);
+            } else {
+                LOGGER.log(Level.WARNING, "The async operation on document collection has failed", error);
+            }
+        });
+    }
+
+    /**
+     * Runs the operation to each entity and combines the stages keeping the entities order
+     */
+    static <T> CompletionStage<List<T>> allOf(Iterable<T> entities, Function<T, CompletionStage<T>> operation) {
+        List<CompletableFuture<T>> futures = StreamSupport.stream(entities.spliterator(), false)
+                .map(operation)
+                .map(CompletionStage::toCompletableFuture)
+                .collect(toList());
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).collect(toList()));
+    }
+}
@@ -22,8 +22,17 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.diana.api.document.DocumentEntity;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
+import static java.util.Collections.singletonList;
+import static java.util.Objects.requireNonNull;
+
 /**
  * This implementation defines the workflow to save an Entity on {@link DocumentRepository}.
  * The default implementation follows:
@@ -47,4 +56,53 @@ public interface DocumentWorkflow {
      * DocumentRepository#update(Object)
      */
     <T> T flow(T entity, UnaryOperator<DocumentEntity> action) throws NullPointerException;
+
+    /**
+     * Executes the workflow to a batch of entities: the events before the database and the conversion run to
+     * each entity, the action is called with the {@link DocumentEntity} of the entities and then the events after the
+     * database run to each response. The default implementation calls {@link DocumentWorkflow#flow(Object, UnaryOperator)}
+     * to each entity with a single element batch.
+     *
+     * @param entities the entities to be saved
+     * @param action   the alteration to be executed on database, it returns a response to each {@link DocumentEntity}
+     *                 in the same order
+     * @param <T>      the entity type
+     * @return after the workflow the entities response
+     * @throws NullPointerException when either entities or action is null
+     * @see DocumentRepository#save(Iterable) DocumentRepository#update(Iterable)
+     */
+    default <T> List<T> batchFlow(Iterable<T> entities, Function<Iterable<DocumentEntity>, Iterable<DocumentEntity>> action)
+            throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(action, "action is required");
+        List<T> result = new ArrayList<>();
+        for (T entity : entities) {
+            result.add(flow(entity, e -> {
+                Iterator<DocumentEntity> response = action.apply(singletonList(e)).iterator();
+                return response.next();
+            }));
+        }
+        return result;
+    }
+
+    /**
+     * Executes the workflow asynchronously, each step is a stage: the events before the database and the
+     * conversion, the action, and then the events after the database when the action completes. The default
+     * implementation runs {@link DocumentWorkflow#flow(Object, UnaryOperator)} on
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()} waiting for the action, the implementations should
+     * replace it to one that does not block.
+     *
+     * @param entity the entity to be saved
+     * @param action the alteration to be executed on database, it returns the stage of the database response
+     * @param <T>    the entity type
+     * @return the stage of the entity response, it completes exceptionally when any step fails
+     * @throws NullPointerException when either entity or action is null
+     * @see DocumentRepositoryAsync#saveAsync(Object) DocumentRepositoryAsync#updateAsync(Object)
+     */
+    default <T> CompletionStage<T> flowAsync(T entity, Function<DocumentEntity, CompletionStage<DocumentEntity>> action)
+            throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(action, "action is required");
+        return CompletableFuture.supplyAsync(() -> flow(entity, e -> action.apply(e).toCompletableFuture().join()));
+    }
 }
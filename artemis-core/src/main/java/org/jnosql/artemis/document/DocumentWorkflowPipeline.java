@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.document;
+
+
+import org.jnosql.diana.api.document.DocumentEntity;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * The persist pipeline to an entity type, it is built once to each entity type and reused by every
+ * {@link DocumentWorkflow#flow(Object, UnaryOperator)}. The event stages that nobody observes are removed when
+ * the pipeline is built from the first entity of the type, and it keeps no state about a single flow, so it is
+ * safe to share among threads.
+ */
+final class DocumentWorkflowPipeline {
+
+    private final Class<?> entityClass;
+
+    private final DocumentEventPersistManager eventPersistManager;
+
+    private final DocumentEntityConverter converter;
+
+    private final boolean preEntity;
+
+    private final boolean preDocument;
+
+    private final boolean postDocument;
+
+    private final boolean postEntity;
+
+    private DocumentWorkflowPipeline(Object entity, DocumentEventPersistManager eventPersistManager,
+                             DocumentEntityConverter converter) {
+        this.entityClass = entity.getClass();
+        this.eventPersistManager = eventPersistManager;
+        this.converter = converter;
+        this.preEntity = !eventPersistManager.isPreEntityUnobserved(entity);
+        this.preDocument = !eventPersistManager.isPreDocumentUnobserved();
+        this.postDocument = !eventPersistManager.isPostDocumentUnobserved();
+        this.postEntity = !eventPersistManager.isPostEntityUnobserved(entity);
+    }
+
+    <T> T apply(T entity, UnaryOperator<DocumentEntity> action) {
+        return after(action.apply(before(entity)));
+    }
+
+    /**
+     * Runs the stages before the database: the pre entity event, the conversion and the pre document event
+     */
+    <T> DocumentEntity before(T entity) {
+        if (preEntity) {
+            eventPersistManager.firePreEntity(entity);
+        }
+        DocumentEntity documentEntity = converter.toDocument(entity);
+        if (preDocument) {
+            eventPersistManager.firePreDocument(documentEntity);
+        }
+        return documentEntity;
+    }
+
+    /**
+     * Runs the stages after the database: the post document event, the conversion and the post entity event
+     */
+    @SuppressWarnings("unchecked")
+    <T> T after(DocumentEntity response) {
+        if (postDocument) {
+            eventPersistManager.firePostDocument(response);
+        }
+        T result = converter.toEntity((Class<T>) entityClass, response);
+        if (postEntity) {
+            eventPersistManager.firePostEntity(result);
+        }
+        return result;
+    }
+
+    static DocumentWorkflowPipeline of(Object entity, DocumentEventPersistManager eventPersistManager,
+                                DocumentEntityConverter converter) {
+        return new DocumentWorkflowPipeline(entity, eventPersistManager, converter);
+    }
+}
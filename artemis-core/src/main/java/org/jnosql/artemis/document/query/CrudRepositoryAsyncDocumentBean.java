@@ -22,6 +22,7 @@ package org.jnosql.artemis.document.query;
 import org.jnosql.artemis.CrudRepositoryAsync;
 import org.jnosql.artemis.DatabaseQualifier;
 import org.jnosql.artemis.DatabaseType;
+import org.jnosql.artemis.FetchSize;
 import org.jnosql.artemis.document.DocumentRepositoryAsync;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 
@@ -98,7 +99,7 @@ public class CrudRepositoryAsyncDocumentBean implements Bean<CrudRepositoryAsync
         DocumentRepositoryAsync repository = provider.isEmpty() ? getInstance(DocumentRepositoryAsync.class) :
                 getInstance(DocumentRepositoryAsync.class, provider);
         DocumentCrudRepositoryAsyncProxy handler = new DocumentCrudRepositoryAsyncProxy(repository,
-                classRepresentations, type);
+                classRepresentations, type, getInstance(FetchSize.class));
         return (CrudRepositoryAsync) Proxy.newProxyInstance(type.getClassLoader(),
                 new Class[]{type},
                 handler);
@@ -19,9 +19,14 @@
  */
 package org.jnosql.artemis.document.query;
 
+import org.jnosql.artemis.ChunkExecutor;
+import org.jnosql.artemis.ChunkSize;
 import org.jnosql.artemis.CrudRepository;
 import org.jnosql.artemis.DatabaseQualifier;
 import org.jnosql.artemis.DatabaseType;
+import org.jnosql.artemis.FetchSize;
+import org.jnosql.artemis.RepositoryFactories;
+import org.jnosql.artemis.RepositoryFactory;
 import org.jnosql.artemis.document.DocumentRepository;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 
@@ -38,6 +43,7 @@ import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -97,8 +103,14 @@ public class CrudRepositoryDocumentBean implements Bean<CrudRepository>, Passiva
         ClassRepresentations classRepresentations = getInstance(ClassRepresentations.class);
         DocumentRepository repository = provider.isEmpty() ? getInstance(DocumentRepository.class) :
                 getInstance(DocumentRepository.class, provider);
+        Optional<RepositoryFactory> factory = RepositoryFactories.getInstance().get(type, DocumentRepository.class);
+        if (factory.isPresent()) {
+            return (CrudRepository) factory.get().create(repository, classRepresentations,
+                    getInstance(ChunkSize.class), getInstance(FetchSize.class), getInstance(ChunkExecutor.class));
+        }
         DocumentCrudRepositoryProxy handler = new DocumentCrudRepositoryProxy(repository,
-                classRepresentations, type);
+                classRepresentations, type, getInstance(ChunkSize.class),
+                getInstance(FetchSize.class), getInstance(ChunkExecutor.class));
         return (CrudRepository) Proxy.newProxyInstance(type.getClassLoader(),
                 new Class[]{type},
                 handler);
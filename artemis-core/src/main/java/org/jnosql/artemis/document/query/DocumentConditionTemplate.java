@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.document.query;
+
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCondition;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A condition of a {@link DocumentQueryTemplate}: the condition and document name parsed from a method name token,
+ * the document value is bound from the method arguments at every invocation
+ */
+final class DocumentConditionTemplate {
+
+    private final boolean or;
+
+    private final Condition condition;
+
+    private final String name;
+
+    DocumentConditionTemplate(boolean or, Condition condition, String name) {
+        this.or = or;
+        this.condition = condition;
+        this.name = name;
+    }
+
+    boolean isOr() {
+        return or;
+    }
+
+    Condition getCondition() {
+        return condition;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of arguments the condition takes
+     */
+    int getArity() {
+        return Condition.BETWEEN.equals(condition) ? 2 : 1;
+    }
+
+    DocumentCondition toCondition(Object[] args, int index) {
+        switch (condition) {
+            case BETWEEN:
+                return DocumentCondition.between(Document.of(name, Arrays.asList(args[index], args[index + 1])));
+            case LESSER_THAN:
+                return DocumentCondition.lt(Document.of(name, args[index]));
+            case GREATER_THAN:
+                return DocumentCondition.gt(Document.of(name, args[index]));
+            case LESSER_EQUALS_THAN:
+                return DocumentCondition.lte(Document.of(name, args[index]));
+            case GREATER_EQUALS_THAN:
+                return DocumentCondition.gte(Document.of(name, args[index]));
+            case LIKE:
+                return DocumentCondition.like(Document.of(name, args[index]));
+            case IN:
+                return DocumentCondition.in(Document.of(name, toList(args[index])));
+            default:
+                return DocumentCondition.eq(Document.of(name, args[index]));
+        }
+    }
+
+    /**
+     * Returns the values of an In condition argument, that might be an {@link Iterable} or an array
+     */
+    List<Object> toList(Object value) {
+        if (Collection.class.isInstance(value)) {
+            return new ArrayList<>(Collection.class.cast(value));
+        }
+        List<Object> values = new ArrayList<>();
+        if (Iterable.class.isInstance(value)) {
+            Iterable.class.cast(value).forEach(values::add);
+        } else if (value != null && value.getClass().isArray()) {
+            for (int index = 0; index < Array.getLength(value); index++) {
+                values.add(Array.get(value, index));
+            }
+        } else {
+            throw new DynamicQueryException(String.format("The field %s uses the In condition, so it requires an "
+                    + "Iterable or an array instead of %s", name, value));
+        }
+        return values;
+    }
+}
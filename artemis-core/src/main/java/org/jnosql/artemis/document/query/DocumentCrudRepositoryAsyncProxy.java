@@ -22,17 +22,21 @@ package org.jnosql.artemis.document.query;
 
 import org.jnosql.artemis.CrudRepositoryAsync;
 import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.FetchSize;
 import org.jnosql.artemis.document.DocumentRepositoryAsync;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.diana.api.ExecuteAsyncQueryException;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentQuery;
+import org.reactivestreams.Publisher;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 /**
@@ -42,28 +46,37 @@ import java.util.function.Consumer;
  */
 class DocumentCrudRepositoryAsyncProxy<T> implements InvocationHandler {
 
+    private static final String SAVE = "save";
+    private static final String UPDATE = "update";
+    private static final String SAVE_ASYNC = "saveAsync";
+    private static final String UPDATE_ASYNC = "updateAsync";
+    private static final String FIND = "find";
+    private static final String EXISTS_BY = "existsBy";
+    private static final String COUNT_BY = "countBy";
+    private static final String DELETE_BY = "deleteBy";
+
     private final Class<T> typeClass;
 
     private final DocumentRepositoryAsync repository;
 
-
     private final DocumentCrudRepositoryAsync crudRepository;
 
     private final ClassRepresentation classRepresentation;
 
-    private final DocumentQueryParser queryParser;
+    private final DocumentQueryTemplates templates;
 
-    private final DocumentQueryDeleteParser queryDeleteParser;
+    private final FetchSize fetchSize;
 
 
-    DocumentCrudRepositoryAsyncProxy(DocumentRepositoryAsync repository, ClassRepresentations classRepresentations, Class<?> repositoryType) {
+    DocumentCrudRepositoryAsyncProxy(DocumentRepositoryAsync repository, ClassRepresentations classRepresentations,
+                                Class<?> repositoryType, FetchSize fetchSize) {
         this.repository = repository;
+        this.fetchSize = fetchSize;
         this.crudRepository = new DocumentCrudRepositoryAsync(repository);
         this.typeClass = Class.class.cast(ParameterizedType.class.cast(repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0]);
         this.classRepresentation = classRepresentations.get(typeClass);
-        this.queryParser = new DocumentQueryParser();
-        this.queryDeleteParser = new DocumentQueryDeleteParser();
+        this.templates = new DocumentQueryTemplates(repositoryType, classRepresentation, classRepresentations);
     }
 
 
@@ -72,34 +85,84 @@ class DocumentCrudRepositoryAsyncProxy<T> implements InvocationHandler {
 
         String methodName = method.getName();
         switch (methodName) {
-            case "save":
-            case "update":
+            case SAVE:
+            case UPDATE:
+            case SAVE_ASYNC:
+            case UPDATE_ASYNC:
                 return method.invoke(crudRepository, args);
             default:
-
         }
-        if (methodName.startsWith("findBy")) {
-            DocumentQuery query = queryParser.parse(methodName, args, classRepresentation);
-            Object callBack = args[args.length - 1];
+
+
+        if (methodName.startsWith(FIND)) {
+            DocumentQuery query = templates.get(method).toQuery(args);
+            Object callBack = getCallBack(args);
             if (Consumer.class.isInstance(callBack)) {
                 repository.find(query, Consumer.class.cast(callBack));
-            } else {
-                throw new DynamicQueryException("On find async method you must put a java.util.function.Consumer" +
-                        " as end parameter as callback");
+                return null;
+            }
+            if (Publisher.class.equals(method.getReturnType())) {
+                return repository.publish(query, fetchSize.get());
             }
-        } else if (methodName.startsWith("deleteBy")) {
-            Object callBack = args[args.length - 1];
-            DocumentDeleteQuery query = queryDeleteParser.parse(methodName, args, classRepresentation);
+            if (ReturnTypeConverterUtil.isStage(method)) {
+                return ReturnTypeConverterUtil.returnStage(query, repository, typeClass, method, args);
+            }
+
+            throw new DynamicQueryException("On find async method you must put a java.util.function.Consumer" +
+                    " as end parameter as callback or return either a java.util.concurrent.CompletionStage" +
+                    " or an org.reactivestreams.Publisher");
+        }
+
+        if (methodName.startsWith(EXISTS_BY)) {
+            DocumentQuery query = templates.get(method).toQuery(args);
+            return returnStage(repository.existsAsync(query), method, args);
+        }
+
+        if (methodName.startsWith(COUNT_BY)) {
+            DocumentQuery query = templates.get(method).toQuery(args);
+            return returnStage(ReturnTypeConverterUtil.returnCountStage(repository.countAsync(query), method),
+                    method, args);
+        }
+
+        if (methodName.startsWith(DELETE_BY)) {
+            Object callBack = getCallBack(args);
+            DocumentDeleteQuery query = templates.get(method).toDeleteQuery(args);
             if (Consumer.class.isInstance(callBack)) {
                 repository.delete(query, Consumer.class.cast(callBack));
-            } else {
-                repository.delete(query);
+                return null;
+            }
+            if (ReturnTypeConverterUtil.isStage(method)) {
+                return repository.deleteAsync(query);
             }
+
+            repository.delete(query);
             return null;
         }
+
         return null;
     }
 
+    private Object getCallBack(Object[] args) {
+        if (args == null || args.length == 0) {
+            return null;
+        }
+        return args[args.length - 1];
+    }
+
+    private Object returnStage(Object stage, Method method, Object[] args) {
+        Object callBack = getCallBack(args);
+        if (Consumer.class.isInstance(callBack)) {
+            CompletionStage.class.cast(stage).thenAccept(Consumer.class.cast(callBack));
+            return null;
+        }
+        if (ReturnTypeConverterUtil.isStage(method)) {
+            return stage;
+        }
+        throw new DynamicQueryException(String.format("The async method %s must either put a " +
+                "java.util.function.Consumer as end parameter as callback or return a " +
+                "java.util.concurrent.CompletionStage", method.getName()));
+    }
+
 
     class DocumentCrudRepositoryAsync implements CrudRepositoryAsync {
 
@@ -136,7 +199,7 @@ class DocumentCrudRepositoryAsyncProxy<T> implements InvocationHandler {
 
         @Override
         public void update(Object entity) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
-            repository.save(entity);
+            repository.update(entity);
         }
 
         @Override
@@ -153,5 +216,39 @@ class DocumentCrudRepositoryAsyncProxy<T> implements InvocationHandler {
         public void save(Object entity, Consumer callBack) throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
             repository.save(entity, callBack);
         }
+
+        @Override
+        public CompletionStage saveAsync(Object entity) throws UnsupportedOperationException, NullPointerException {
+            return repository.saveAsync(entity);
+        }
+
+        @Override
+        public CompletionStage saveAsync(Object entity, Duration ttl) throws UnsupportedOperationException,
+                NullPointerException {
+            return repository.saveAsync(entity, ttl);
+        }
+
+        @Override
+        public CompletionStage<List> saveAsync(Iterable entities) throws UnsupportedOperationException,
+                NullPointerException {
+            return repository.saveAsync(entities);
+        }
+
+        @Override
+        public CompletionStage<List> saveAsync(Iterable entities, Duration ttl) throws UnsupportedOperationException,
+                NullPointerException {
+            return repository.saveAsync(entities, ttl);
+        }
+
+        @Override
+        public CompletionStage updateAsync(Object entity) throws UnsupportedOperationException, NullPointerException {
+            return repository.updateAsync(entity);
+        }
+
+        @Override
+        public CompletionStage<List> updateAsync(Iterable entities) throws UnsupportedOperationException,
+                NullPointerException {
+            return repository.updateAsync(entities);
+        }
     }
 }
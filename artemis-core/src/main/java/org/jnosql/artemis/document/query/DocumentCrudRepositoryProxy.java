@@ -20,10 +20,14 @@
 package org.jnosql.artemis.document.query;
 
 
+import org.jnosql.artemis.ChunkExecutor;
+import org.jnosql.artemis.ChunkSize;
 import org.jnosql.artemis.CrudRepository;
+import org.jnosql.artemis.FetchSize;
 import org.jnosql.artemis.document.DocumentRepository;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.artemis.reflection.FieldPathResolver;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentQuery;
 
@@ -31,6 +35,7 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.time.Duration;
+import java.util.List;
 
 
 
@@ -50,19 +55,35 @@ class DocumentCrudRepositoryProxy<T> implements InvocationHandler {
 
     private final ClassRepresentation classRepresentation;
 
-    private final DocumentQueryParser queryParser;
+    private final DocumentQueryTemplates templates;
 
-    private final DocumentQueryDeleteParser deleteQueryParser;
+    private final ChunkSize chunkSize;
+
+    private final FetchSize fetchSize;
+
+    private final ChunkExecutor chunkExecutor;
+
+    private final FieldPathResolver resolver;
 
 
     DocumentCrudRepositoryProxy(DocumentRepository repository, ClassRepresentations classRepresentations, Class<?> repositoryType) {
+        this(repository, classRepresentations, repositoryType, new ChunkSize(), new FetchSize(),
+                new ChunkExecutor());
+    }
+
+    DocumentCrudRepositoryProxy(DocumentRepository repository, ClassRepresentations classRepresentations,
+                                Class<?> repositoryType, ChunkSize chunkSize, FetchSize fetchSize,
+                                ChunkExecutor chunkExecutor) {
         this.repository = repository;
+        this.chunkSize = chunkSize;
+        this.fetchSize = fetchSize;
+        this.chunkExecutor = chunkExecutor;
         this.crudRepository = new DocumentCrudRepository(repository);
         this.typeClass = Class.class.cast(ParameterizedType.class.cast(repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0]);
         this.classRepresentation = classRepresentations.get(typeClass);
-        this.queryParser = new DocumentQueryParser();
-        this.deleteQueryParser = new DocumentQueryDeleteParser();
+        this.templates = new DocumentQueryTemplates(repositoryType, classRepresentation, classRepresentations);
+        this.resolver = new FieldPathResolver(classRepresentation, classRepresentations);
     }
 
 
@@ -75,19 +96,76 @@ class DocumentCrudRepositoryProxy<T> implements InvocationHandler {
             case "update":
                 return method.invoke(crudRepository, args);
             default:
+                return invokeQuery(method, args);
+        }
+    }
+
+    /**
+     * Executes a dynamic query method, such as findBy, existsBy, countBy and deleteBy, from its cached template
+     *
+     * @param method the repository method
+     * @param args   the method arguments
+     * @return the method result
+     */
+    Object invokeQuery(Method method, Object[] args) {
+        String methodName = method.getName();
+        if (methodName.startsWith("find") || methodName.startsWith("existsBy") || methodName.startsWith("countBy")
+                || methodName.startsWith("deleteBy")) {
+            return invokeQuery(method, templates.get(method), args);
+        }
+        return null;
+    }
+
+    /**
+     * Binds a dynamic query method to its cached template
+     *
+     * @param method the repository method
+     * @return the query method
+     * @throws org.jnosql.artemis.DynamicQueryException when the method is not a query method of the repository
+     */
+    DocumentQueryMethod bind(Method method) {
+        return new DocumentQueryMethod(this, method, templates.get(method));
+    }
+
+    Object invokeQuery(Method method, DocumentQueryTemplate template, Object[] args) {
+        String methodName = method.getName();
+        if (methodName.startsWith("find")) {
+            if (ReturnTypeConverterUtil.isChunkable(method)) {
+                List<DocumentQuery> queries = template.toQueries(args, chunkSize.get());
+                if (queries.size() > 1) {
+                    return ReturnTypeConverterUtil.returnEntities(findChunks(template, queries, args), method);
+                }
+                return ReturnTypeConverterUtil.returnObject(queries.get(0), repository, typeClass, method, args,
+                        fetchSize.get());
+            }
+            DocumentQuery query = template.toQuery(args);
+            return ReturnTypeConverterUtil.returnObject(query, repository, typeClass, method, args,
+                    fetchSize.get());
+        }
 
+        if (methodName.startsWith("existsBy")) {
+            return repository.exists(template.toQuery(args));
         }
-        if (methodName.startsWith("findBy")) {
-            DocumentQuery query = queryParser.parse(methodName, args, classRepresentation);
-            return ReturnTypeConverterUtil.returnObject(query, repository, typeClass, method);
-        } else if (methodName.startsWith("deleteBy")) {
-            DocumentDeleteQuery query = deleteQueryParser.parse(methodName, args, classRepresentation);
-            repository.delete(query);
+
+        if (methodName.startsWith("countBy")) {
+            return ReturnTypeConverterUtil.returnCount(repository.count(template.toQuery(args)), method);
+        }
+
+        if (methodName.startsWith("deleteBy")) {
+            List<DocumentDeleteQuery> queries = template.toDeleteQueries(args, chunkSize.get());
+            DocumentQueryChunks.delete(repository, queries);
             return null;
         }
         return null;
     }
 
+    private List<Object> findChunks(DocumentQueryTemplate template, List<DocumentQuery> queries, Object[] args) {
+        List<Object> entities = DocumentQueryChunks.find(repository, queries, chunkExecutor.get());
+        resolver.toReader(template.getInName())
+                .ifPresent(reader -> DocumentQueryChunks.sort(entities, template.getInValues(args), reader));
+        return entities;
+    }
+
 
     class DocumentCrudRepository implements CrudRepository {
 
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.document.query;
+
+
+import org.jnosql.artemis.EntityModel;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+
+import java.util.Objects;
+
+/**
+ * A typed builder of {@link DocumentDeleteQuery} from the static metamodel generated by the artemis-processor, e.g.:
+ * {@code DocumentDeleteQueryBuilder.delete(Person_.ENTITY).where(DocumentCriteria.eq(Person_.name, "Ada")).build()}.
+ * This builder is not thread-safe, each {@link DocumentDeleteQueryBuilder#build()} creates a new query.
+ *
+ * @param <E> the entity type
+ * @see DocumentQueryBuilder
+ */
+public final class DocumentDeleteQueryBuilder<E> {
+
+    private final EntityModel<E> entity;
+
+    private DocumentCriteria<E> criteria;
+
+    private DocumentDeleteQueryBuilder(EntityModel<E> entity) {
+        this.entity = entity;
+    }
+
+    /**
+     * Creates a builder to delete the entities of this model
+     *
+     * @param entity the entity model, such as Person_.ENTITY
+     * @param <E>    the entity type
+     * @return a new builder
+     * @throws NullPointerException when entity is null
+     */
+    public static <E> DocumentDeleteQueryBuilder<E> delete(EntityModel<E> entity) throws NullPointerException {
+        Objects.requireNonNull(entity, "entity is required");
+        return new DocumentDeleteQueryBuilder<>(entity);
+    }
+
+    /**
+     * Defines the query criteria, it replaces the previous one
+     *
+     * @param criteria the criteria
+     * @return this builder
+     * @throws NullPointerException when criteria is null
+     */
+    public DocumentDeleteQueryBuilder<E> where(DocumentCriteria<E> criteria) throws NullPointerException {
+        this.criteria = Objects.requireNonNull(criteria, "criteria is required");
+        return this;
+    }
+
+    /**
+     * Appends a criteria that must be true as well
+     *
+     * @param criteria the criteria
+     * @return this builder
+     * @throws NullPointerException when criteria is null
+     */
+    public DocumentDeleteQueryBuilder<E> and(DocumentCriteria<E> criteria) throws NullPointerException {
+        Objects.requireNonNull(criteria, "criteria is required");
+        this.criteria = this.criteria == null ? criteria : this.criteria.and(criteria);
+        return this;
+    }
+
+    /**
+     * Appends a criteria that can be true instead of the current one
+     *
+     * @param criteria the criteria
+     * @return this builder
+     * @throws NullPointerException when criteria is null
+     */
+    public DocumentDeleteQueryBuilder<E> or(DocumentCriteria<E> criteria) throws NullPointerException {
+        Objects.requireNonNull(criteria, "criteria is required");
+        this.criteria = this.criteria == null ? criteria : this.criteria.or(criteria);
+        return this;
+    }
+
+    /**
+     * Creates the query
+     *
+     * @return a new {@link DocumentDeleteQuery}
+     */
+    public DocumentDeleteQuery build() {
+        DocumentDeleteQuery query = DocumentDeleteQuery.of(entity.getName());
+        if (criteria != null) {
+            query.and(criteria.toCondition());
+        }
+        return query;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.document.query;
+
+
+import org.jnosql.artemis.Attribute;
+import org.jnosql.artemis.EntityModel;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A typed builder of {@link DocumentQuery} from the static metamodel generated by the artemis-processor, e.g.:
+ * <pre>{@code
+ * DocumentQuery query = DocumentQueryBuilder.select(Person_.ENTITY)
+ *         .where(DocumentCriteria.eq(Person_.name, "Ada"))
+ *         .and(DocumentCriteria.gt(Person_.age, 20))
+ *         .orderBy(Person_.name)
+ *         .limit(10)
+ *         .build();
+ * }</pre>
+ * The query is checked at compile time and it is built without parsing a method name.
+ * This builder is not thread-safe, each {@link DocumentQueryBuilder#build()} creates a new query.
+ *
+ * @param <E> the entity type
+ * @see DocumentDeleteQueryBuilder
+ */
+public final class DocumentQueryBuilder<E> {
+
+    private final EntityModel<E> entity;
+
+    private final List<Sort> sorts = new ArrayList<>();
+
+    private DocumentCriteria<E> criteria;
+
+    private long start;
+
+    private long limit;
+
+    private DocumentQueryBuilder(EntityModel<E> entity) {
+        this.entity = entity;
+    }
+
+    /**
+     * Creates a builder to select the entities of this model
+     *
+     * @param entity the entity model, such as Person_.ENTITY
+     * @param <E>    the entity type
+     * @return a new builder
+     * @throws NullPointerException when entity is null
+     */
+    public static <E> DocumentQueryBuilder<E> select(EntityModel<E> entity) throws NullPointerException {
+        Objects.requireNonNull(entity, "entity is required");
+        return new DocumentQueryBuilder<>(entity);
+    }
+
+    /**
+     * Defines the query criteria, it replaces the previous one
+     *
+     * @param criteria the criteria
+     * @return this builder
+     * @throws NullPointerException when criteria is null
+     */
+    public DocumentQueryBuilder<E> where(DocumentCriteria<E> criteria) throws NullPointerException {
+        this.criteria = Objects.requireNonNull(criteria, "criteria is required");
+        return this;
+    }
+
+    /**
+     * Appends a criteria that must be true as well
+     *
+     * @param criteria the criteria
+     * @return this builder
+     * @throws NullPointerException when criteria is null
+     */
+    public DocumentQueryBuilder<E> and(DocumentCriteria<E> criteria) throws NullPointerException {
+        Objects.requireNonNull(criteria, "criteria is required");
+        this.criteria = this.criteria == null ? criteria : this.criteria.and(criteria);
+        return this;
+    }
+
+    /**
+     * Appends a criteria that can be true instead of the current one
+     *
+     * @param criteria the criteria
+     * @return this builder
+     * @throws NullPointerException when criteria is null
+     */
+    public DocumentQueryBuilder<E> or(DocumentCriteria<E> criteria) throws NullPointerException {
+        Objects.requireNonNull(criteria, "criteria is required");
+        this.criteria = this.criteria == null ? criteria : this.criteria.or(criteria);
+        return this;
+    }
+
+    /**
+     * Appends an ascending sort
+     *
+     * @param attribute the attribute
+     * @return this builder
+     * @throws NullPointerException when attribute is null
+     */
+    public DocumentQueryBuilder<E> orderBy(Attribute<E, ?> attribute) throws NullPointerException {
+        return sort(attribute, Sort.SortType.ASC);
+    }
+
+    /**
+     * Appends a descending sort
+     *
+     * @param attribute the attribute
+     * @return this builder
+     * @throws NullPointerException when attribute is null
+     */
+    public DocumentQueryBuilder<E> orderByDesc(Attribute<E, ?> attribute) throws NullPointerException {
+        return sort(attribute, Sort.SortType.DESC);
+    }
+
+    /**
+     * Defines the position of the first result
+     *
+     * @param start the first result
+     * @return this builder
+     * @throws IllegalArgumentException when start is negative
+     */
+    public DocumentQueryBuilder<E> start(long start) throws IllegalArgumentException {
+        if (start < 0) {
+            throw new IllegalArgumentException("The start must not be negative");
+        }
+        this.start = start;
+        return this;
+    }
+
+    /**
+     * Defines the maximum number of results
+     *
+     * @param limit the limit
+     * @return this builder
+     * @throws IllegalArgumentException when limit is negative
+     */
+    public DocumentQueryBuilder<E> limit(long limit) throws IllegalArgumentException {
+        if (limit < 0) {
+            throw new IllegalArgumentException("The limit must not be negative");
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Creates the query
+     *
+     * @return a new {@link DocumentQuery}
+     */
+    public DocumentQuery build() {
+        DocumentQuery query = DocumentQuery.of(entity.getName());
+        if (criteria != null) {
+            query.and(criteria.toCondition());
+        }
+        sorts.forEach(query::addSort);
+        query.setStart(start);
+        query.setLimit(limit);
+        return query;
+    }
+
+    private DocumentQueryBuilder<E> sort(Attribute<E, ?> attribute, Sort.SortType type) {
+        Objects.requireNonNull(attribute, "attribute is required");
+        sorts.add(Sort.of(attribute.getName(), type));
+        return this;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.document.query;
+
+import org.jnosql.artemis.document.DocumentRepository;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Utilitarian class to run the chunks of an In condition, see {@link DocumentQueryTemplate#toQueries(Object[], int)},
+ * the chunks of a find run on the executor and the results are merged in the chunk order,
+ * then {@link DocumentQueryChunks#sort(List, List, Function)} puts them in the order of the In values.
+ * The chunks of a delete run sequentially in the chunk order and stop at the first failure, they are not atomic:
+ * the chunks deleted before the failure stay deleted.
+ */
+final class DocumentQueryChunks {
+
+    private DocumentQueryChunks() {
+    }
+
+    static <T> List<T> find(DocumentRepository repository, List<DocumentQuery> queries, Executor executor) {
+        if (queries.size() == 1) {
+            return repository.find(queries.get(0));
+        }
+        List<T> entities = new ArrayList<>();
+        run(queries, repository::<T>find, executor).forEach(entities::addAll);
+        return entities;
+    }
+
+    static void delete(DocumentRepository repository, List<DocumentDeleteQuery> queries) {
+        queries.forEach(repository::delete);
+    }
+
+    /**
+     * Sorts the entities in the order of the In values, the entities that have the same value keep the chunk order
+     * and the entities whose value does not match any In value, e.g.: when the value has another type,
+     * go to the end
+     *
+     * @param entities the entities found by the chunks
+     * @param values   the In values
+     * @param reader   the function that reads the In field of an entity
+     */
+    static <T> void sort(List<T> entities, List<Object> values, Function<Object, Object> reader) {
+        Map<Object, Integer> positions = new HashMap<>();
+        for (int index = 0; index < values.size(); index++) {
+            positions.putIfAbsent(values.get(index), index);
+        }
+        entities.sort(Comparator.comparingInt(e -> positions.getOrDefault(reader.apply(e), values.size())));
+    }
+
+    private static <Q, R> List<R> run(List<Q> queries, Function<Q, R> function, Executor executor) {
+        List<CompletableFuture<R>> futures = queries.stream()
+                .map(q -> CompletableFuture.supplyAsync(() -> function.apply(q), executor))
+                .collect(toList());
+        try {
+            return futures.stream().map(CompletableFuture::join).collect(toList());
+        } catch (CompletionException exception) {
+            futures.forEach(f -> f.cancel(true));
+            if (RuntimeException.class.isInstance(exception.getCause())) {
+                throw RuntimeException.class.cast(exception.getCause());
+            }
+            throw exception;
+        }
+    }
+}
@@ -21,8 +21,8 @@ package org.jnosql.artemis.document.query;
 
 import org.jnosql.artemis.DynamicQueryException;
 import org.jnosql.artemis.reflection.ClassRepresentation;
-import org.jnosql.diana.api.Condition;
-import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.artemis.reflection.FieldPathResolver;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 
 /**
@@ -35,58 +35,42 @@ class DocumentQueryDeleteParser {
 
 
     DocumentDeleteQuery parse(String methodName, Object[] args, ClassRepresentation classRepresentation) {
-        DocumentDeleteQuery documentQuery = DocumentDeleteQuery.of(classRepresentation.getName());
-        String[] tokens = methodName.replace(PREFIX, DocumentQueryParserUtil.EMPTY).split("(?=AND|OR|OrderBy)");
-        String className = classRepresentation.getClassInstance().getName();
-
-        int index = 0;
-        for (String token : tokens) {
-            if (token.startsWith(DocumentQueryParserUtil.AND)) {
-                index = and(args, documentQuery, index, token, methodName);
-            } else if (token.startsWith(DocumentQueryParserUtil.OR)) {
-                index = or(args, documentQuery, index, token, methodName);
-            } else {
-                DocumentCondition condition = DocumentQueryParserUtil.toCondition(token, index, args, methodName);
-                documentQuery.and(condition);
-                index++;
-            }
-        }
-
-        return documentQuery;
+        return compile(methodName, classRepresentation).toDeleteQuery(args);
     }
 
+    DocumentDeleteQuery parse(String methodName, Object[] args, ClassRepresentation classRepresentation,
+                            ClassRepresentations classRepresentations) {
+        return compile(methodName, classRepresentation, classRepresentations).toDeleteQuery(args);
+    }
 
-    private void checkContents(int index, int argSize, int required, String method) {
-        if ((index + required) <= argSize) {
-            return;
-        }
-        throw new DynamicQueryException(String.format("There is a missed argument in the method %s",
-                method));
+    DocumentQueryTemplate compile(String methodName, ClassRepresentation classRepresentation) {
+        return compile(methodName, classRepresentation, new FieldPathResolver(classRepresentation));
     }
 
-    private int or(Object[] args, DocumentDeleteQuery documentQuery, int index, String token, String methodName) {
-        String field = token.replace(DocumentQueryParserUtil.OR, DocumentQueryParserUtil.EMPTY);
-        DocumentCondition condition = DocumentQueryParserUtil.toCondition(field, index, args, methodName);
-        documentQuery.or(condition);
-        if (Condition.BETWEEN.equals(condition.getCondition())) {
-            return index + 2;
-        } else {
-            return ++index;
-        }
+    /**
+     * Compiles the method, the fields are resolved to their document names following the embedded entities,
+     * e.g. deleteByAddressCity becomes address.city, a field that is not of the entity is a
+     * {@link DynamicQueryException}
+     */
+    DocumentQueryTemplate compile(String methodName, ClassRepresentation classRepresentation,
+                                ClassRepresentations classRepresentations) {
+        FieldPathResolver resolver = new FieldPathResolver(classRepresentation, classRepresentations);
+        return DocumentQueryParserUtil.checkFields(compile(methodName, classRepresentation, resolver), methodName,
+                resolver);
     }
 
-    private int and(Object[] args, DocumentDeleteQuery documentQuery, int index, String token,
-                    String methodName) {
-        String field = token.replace(DocumentQueryParserUtil.AND, DocumentQueryParserUtil.EMPTY);
-        DocumentCondition condition = DocumentQueryParserUtil.toCondition(field, index, args, methodName);
-        documentQuery.and(condition);
-        if (Condition.BETWEEN.equals(condition.getCondition())) {
-            return index + 2;
-        } else {
-            return ++index;
+    private DocumentQueryTemplate compile(String methodName, ClassRepresentation classRepresentation,
+                                        FieldPathResolver resolver) {
+        if (!methodName.startsWith(PREFIX)) {
+            throw new DynamicQueryException(String.format("The method %s does not start with %s",
+                    methodName, PREFIX));
         }
-
+        DocumentQueryTemplate template = DocumentQueryTemplate.compile(methodName, methodName.substring(PREFIX.length()),
+                0L, classRepresentation.getName(), DocumentQueryParserUtil.toNames(resolver));
+        if (!template.getSorts().isEmpty()) {
+            throw new DynamicQueryException(String.format("The delete method %s cannot be sorted", methodName));
+        }
+        return template;
     }
 
-
 }
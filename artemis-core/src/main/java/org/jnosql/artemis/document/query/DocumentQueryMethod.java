@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.document.query;
+
+
+import java.lang.reflect.Method;
+
+/**
+ * A dynamic query method of a repository interface bound to its compiled template, see
+ * {@link DocumentQueryMethods#get(Method)}. The repositories generated by the artemis-processor keep one instance to
+ * each query method, so a call goes straight to its template.
+ */
+public final class DocumentQueryMethod {
+
+    private final DocumentCrudRepositoryProxy<?> proxy;
+
+    private final Method method;
+
+    private final DocumentQueryTemplate template;
+
+    DocumentQueryMethod(DocumentCrudRepositoryProxy<?> proxy, Method method, DocumentQueryTemplate template) {
+        this.proxy = proxy;
+        this.method = method;
+        this.template = template;
+    }
+
+    /**
+     * Executes the query method
+     *
+     * @param args the method arguments
+     * @return the method result
+     */
+    public Object invoke(Object... args) {
+        return proxy.invokeQuery(method, template, args);
+    }
+}
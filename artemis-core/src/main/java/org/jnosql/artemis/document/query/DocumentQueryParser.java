@@ -20,108 +20,78 @@
 package org.jnosql.artemis.document.query;
 
 import org.jnosql.artemis.DynamicQueryException;
-import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.reflection.ClassRepresentation;
-import org.jnosql.diana.api.Condition;
-import org.jnosql.diana.api.Sort;
-import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.artemis.reflection.FieldPathResolver;
 import org.jnosql.diana.api.document.DocumentQuery;
 
-import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
- * Class the returns a {@link org.jnosql.diana.api.document.DocumentQuery}
+ * Class the returns a {@link DocumentQuery}
  * on {@link DocumentCrudRepositoryProxy}
  */
 class DocumentQueryParser {
 
-    private static final Logger LOGGER = Logger.getLogger(DocumentQueryParser.class.getName());
+    private static final Pattern PREFIX = Pattern.compile("^(findBy|findFirstBy|findTop(\\d+)By|existsBy|countBy)");
 
-    private static final String PREFIX = "findBy";
+    private static final String FIND_FIRST_BY = "findFirstBy";
 
+    private static final String EXISTS_BY = "existsBy";
 
-    DocumentQuery parse(String methodName, Object[] args, ClassRepresentation classRepresentation) {
-        DocumentQuery documentQuery = DocumentQuery.of(classRepresentation.getName());
-        String[] tokens = methodName.replace(PREFIX, DocumentQueryParserUtil.EMPTY).split("(?=AND|OR|OrderBy)");
-        String className = classRepresentation.getClassInstance().getName();
-
-        int index = 0;
-        for (String token : tokens) {
-            if (token.startsWith(DocumentQueryParserUtil.AND)) {
-                index = and(args, documentQuery, index, token, methodName);
-            } else if (token.startsWith(DocumentQueryParserUtil.OR)) {
-                index = or(args, documentQuery, index, token, methodName);
-            } else if (token.startsWith(DocumentQueryParserUtil.ORDER_BY)) {
-                sort(documentQuery, token);
-            } else {
-                DocumentCondition condition = DocumentQueryParserUtil.toCondition(token, index, args, methodName);
-                documentQuery.and(condition);
-                index++;
-            }
-        }
 
-        while (index < args.length) {
-            Object value = args[index];
-            if (Sort.class.isInstance(value)) {
-                documentQuery.addSort(Sort.class.cast(value));
-            } else if (Pagination.class.isInstance(value)) {
-                Pagination pagination = Pagination.class.cast(value);
-                documentQuery.setLimit(pagination.getLimit());
-                documentQuery.setStart(pagination.getStart());
-            } else {
-                LOGGER.info(String.format("Ignoring parameter %s on  methodName %s class name %s arg-number: %d",
-                        String.valueOf(value), methodName, className, index));
-            }
-            index++;
-        }
-        return documentQuery;
+    DocumentQuery parse(String methodName, Object[] args, ClassRepresentation classRepresentation) {
+        return compile(methodName, classRepresentation).toQuery(args);
     }
 
-
-    private void checkContents(int index, int argSize, int required, String method) {
-        if ((index + required) <= argSize) {
-            return;
-        }
-        throw new DynamicQueryException(String.format("There is a missed argument in the method %s",
-                method));
+    DocumentQuery parse(String methodName, Object[] args, ClassRepresentation classRepresentation,
+                      ClassRepresentations classRepresentations) {
+        return compile(methodName, classRepresentation, classRepresentations).toQuery(args);
     }
 
-    private int or(Object[] args, DocumentQuery documentQuery, int index, String token, String methodName) {
-        String field = token.replace(DocumentQueryParserUtil.OR, DocumentQueryParserUtil.EMPTY);
-        DocumentCondition condition = DocumentQueryParserUtil.toCondition(field, index, args, methodName);
-        documentQuery.or(condition);
-        if (Condition.BETWEEN.equals(condition.getCondition())) {
-            return index + 2;
-        } else {
-            return ++index;
-        }
+    DocumentQueryTemplate compile(String methodName, ClassRepresentation classRepresentation) {
+        return compile(methodName, classRepresentation, new FieldPathResolver(classRepresentation));
     }
 
-    private int and(Object[] args, DocumentQuery documentQuery, int index, String token,
-                    String methodName) {
-        String field = token.replace(DocumentQueryParserUtil.AND, DocumentQueryParserUtil.EMPTY);
-        DocumentCondition condition = DocumentQueryParserUtil.toCondition(field, index, args, methodName);
-        documentQuery.and(condition);
-        if (Condition.BETWEEN.equals(condition.getCondition())) {
-            return index + 2;
-        } else {
-            return ++index;
-        }
-
+    /**
+     * Compiles the method, the fields are resolved to their document names following the embedded entities,
+     * e.g. findByAddressCity becomes address.city, a field that is not of the entity is a
+     * {@link DynamicQueryException}
+     */
+    DocumentQueryTemplate compile(String methodName, ClassRepresentation classRepresentation,
+                                ClassRepresentations classRepresentations) {
+        FieldPathResolver resolver = new FieldPathResolver(classRepresentation, classRepresentations);
+        return DocumentQueryParserUtil.checkFields(compile(methodName, classRepresentation, resolver), methodName,
+                resolver);
     }
 
-    private void sort(DocumentQuery documentQuery, String token) {
-        String field = token.replace(DocumentQueryParserUtil.ORDER_BY, DocumentQueryParserUtil.EMPTY);
-        if (field.contains("Desc")) {
-            documentQuery.addSort(Sort.of(getName(field.replace("Desc", DocumentQueryParserUtil.EMPTY)), Sort.SortType.DESC));
-        } else {
-            documentQuery.addSort(Sort.of(getName(field.replace("Asc", DocumentQueryParserUtil.EMPTY)), Sort.SortType.ASC));
+    private DocumentQueryTemplate compile(String methodName, ClassRepresentation classRepresentation,
+                                        FieldPathResolver resolver) {
+        Matcher prefix = PREFIX.matcher(methodName);
+        if (!prefix.find()) {
+            throw new DynamicQueryException(String.format("The method %s does not start with a query prefix",
+                    methodName));
         }
+        return DocumentQueryTemplate.compile(methodName, methodName.substring(prefix.end()),
+                getLimit(prefix, methodName), classRepresentation.getName(),
+                DocumentQueryParserUtil.toNames(resolver));
     }
 
-    private String getName(String token) {
-        return String.valueOf(Character.toLowerCase(token.charAt(0)))
-                .concat(token.substring(1));
+    private long getLimit(Matcher prefix, String methodName) {
+        String top = prefix.group(2);
+        if (top != null) {
+            long limit = Long.parseLong(top);
+            if (limit <= 0) {
+                throw new DynamicQueryException(String.format("The method %s must find top a positive number",
+                        methodName));
+            }
+            return limit;
+        }
+        if (FIND_FIRST_BY.equals(prefix.group(1)) || EXISTS_BY.equals(prefix.group(1))) {
+            return 1L;
+        }
+        return 0L;
     }
 
 }
@@ -20,10 +20,13 @@
 package org.jnosql.artemis.document.query;
 
 import org.jnosql.artemis.DynamicQueryException;
-import org.jnosql.diana.api.document.Document;
-import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.artemis.reflection.FieldPathResolver;
+import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.Sort;
 
-import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Utilitarian class to dynamic query from method on interface
@@ -42,47 +45,99 @@ final class DocumentQueryParserUtil {
     private static final String LESS_THAN_EQUAL = "LessEqualThan";
     private static final String GREATER_THAN_EQUAL = "GreaterEqualThan";
     private static final String LIKE = "Like";
+    private static final String IN = "In";
 
     private DocumentQueryParserUtil() {
     }
 
-    static DocumentCondition toCondition(String token, int index, Object[] args, String methodName) {
+    /**
+     * Creates the condition of a token, a token that is a field of the entity is an equals condition,
+     * so a field such as checkIn is not read as an In condition to the field check
+     */
+    static DocumentConditionTemplate toTemplate(String token, boolean or, String methodName,
+                                              Function<String, Optional<String>> names) {
+        if (token.isEmpty()) {
+            throw new DynamicQueryException(String.format("There is a missed field in the method %s", methodName));
+        }
+
+        if (names.apply(token).isPresent()) {
+            return new DocumentConditionTemplate(or, Condition.EQUALS, toName(token, methodName, names));
+        }
+
+        if (token.contains(BETWEEN)) {
+            return new DocumentConditionTemplate(or, Condition.BETWEEN, toName(token.replace(BETWEEN, EMPTY),
+                    methodName, names));
+        }
 
-        boolean containsBetween = token.contains(BETWEEN);
+        if (token.contains(LESS_THAN)) {
+            return new DocumentConditionTemplate(or, Condition.LESSER_THAN, toName(token.replace(LESS_THAN, EMPTY),
+                    methodName, names));
+        }
+
+        if (token.contains(GREATER_THAN)) {
+            return new DocumentConditionTemplate(or, Condition.GREATER_THAN, toName(token.replace(GREATER_THAN, EMPTY),
+                    methodName, names));
+        }
+
+        if (token.contains(LESS_THAN_EQUAL)) {
+            return new DocumentConditionTemplate(or, Condition.LESSER_EQUALS_THAN,
+                    toName(token.replace(LESS_THAN_EQUAL, EMPTY), methodName, names));
+        }
 
-        if (containsBetween) {
-            checkContents(index, args.length, 2, methodName);
-        } else {
-            checkContents(index, args.length, 1, methodName);
+        if (token.contains(GREATER_THAN_EQUAL)) {
+            return new DocumentConditionTemplate(or, Condition.GREATER_EQUALS_THAN,
+                    toName(token.replace(GREATER_THAN_EQUAL, EMPTY), methodName, names));
         }
 
-        if (containsBetween) {
-
-            String name = getName(token).replace(BETWEEN, EMPTY);
-            return DocumentCondition.between(Document.of(name, Arrays.asList(args[index], args[++index])));
-
-        } else if (token.contains(LESS_THAN)) {
-            String name = getName(token).replace(LESS_THAN, EMPTY);
-            return DocumentCondition.lt(Document.of(name, args[index]));
-        } else if (token.contains(GREATER_THAN)) {
-            String name = getName(token).replace(GREATER_THAN, EMPTY);
-            return DocumentCondition.gt(Document.of(name, args[index]));
-        } else if (token.contains(LESS_THAN_EQUAL)) {
-            String name = getName(token).replace(LESS_THAN_EQUAL, EMPTY);
-            return DocumentCondition.lte(Document.of(name, args[index]));
-        } else if (token.contains(GREATER_THAN_EQUAL)) {
-            String name = getName(token).replace(GREATER_THAN_EQUAL, EMPTY);
-            return DocumentCondition.gte(Document.of(name, args[index]));
-        } else if (token.contains(LIKE)) {
-            String name = getName(token).replace(LIKE, EMPTY);
-            return DocumentCondition.like(Document.of(name, args[index]));
+        if (token.contains(LIKE)) {
+            return new DocumentConditionTemplate(or, Condition.LIKE, toName(token.replace(LIKE, EMPTY),
+                    methodName, names));
         }
-        String name = getName(token);
-        return DocumentCondition.eq(Document.of(name, args[index]));
 
+        if (token.endsWith(IN)) {
+            return new DocumentConditionTemplate(or, Condition.IN,
+                    toName(token.substring(0, token.length() - IN.length()), methodName, names));
+        }
+
+        return new DocumentConditionTemplate(or, Condition.EQUALS, toName(token, methodName, names));
+    }
+
+    /**
+     * Creates the function that resolves a field token to its document name, see {@link FieldPathResolver}
+     */
+    static Function<String, Optional<String>> toNames(FieldPathResolver resolver) {
+        return resolver::resolve;
+    }
+
+    /**
+     * Returns the document name of a field token, a token that is not a field is just uncapitalized,
+     * see {@link DocumentQueryParserUtil#checkFields(DocumentQueryTemplate, String, FieldPathResolver)}
+     */
+    static String toName(String field, String methodName, Function<String, Optional<String>> names) {
+        if (field.isEmpty()) {
+            throw new DynamicQueryException(String.format("There is a missed field in the method %s", methodName));
+        }
+        return names.apply(field).orElseGet(() -> getName(field));
+    }
+
+    /**
+     * Checks that every condition and sort of the template is a field of the entity, so a typo in the method name
+     * is a {@link DynamicQueryException} instead of a query to a document that does not exist
+     */
+    static DocumentQueryTemplate checkFields(DocumentQueryTemplate template, String methodName,
+                                             FieldPathResolver resolver) {
+        Stream.concat(template.getConditions().stream().map(DocumentConditionTemplate::getName),
+                template.getSorts().stream().map(Sort::getName))
+                .filter(name -> !resolver.toReader(name).isPresent())
+                .findFirst()
+                .ifPresent(name -> {
+                    throw new DynamicQueryException(String.format("The method %s has the field %s that is not "
+                            + "a field of the entity", methodName, name));
+                });
+        return template;
     }
 
-    private static void checkContents(int index, int argSize, int required, String method) {
+    static void checkContents(int index, int argSize, int required, String method) {
         if ((index + required) <= argSize) {
             return;
         }
@@ -91,7 +146,7 @@ final class DocumentQueryParserUtil {
     }
 
 
-    private static String getName(String token) {
+    static String getName(String token) {
         return String.valueOf(Character.toLowerCase(token.charAt(0)))
                 .concat(token.substring(1));
     }
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.document.query;
+
+import org.jnosql.artemis.Cursor;
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Pagination;
+import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentQuery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * A repository method name parsed once: the conditions, the sorts and the limit of the query,
+ * where every invocation just binds the method arguments to create a {@link DocumentQuery}
+ * or a {@link DocumentDeleteQuery}. It is immutable, so it is shared by every invocation.
+ */
+final class DocumentQueryTemplate {
+
+    private static final Logger LOGGER = Logger.getLogger(DocumentQueryTemplate.class.getName());
+
+    private static final Pattern TOKENS = Pattern.compile("(?=AND|OR|OrderBy)");
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final String methodName;
+
+    private final String name;
+
+    private final List<DocumentConditionTemplate> conditions;
+
+    private final List<Sort> sorts;
+
+    private final long limit;
+
+    private final int parameters;
+
+    private final int inIndex;
+
+    private DocumentQueryTemplate(String methodName, String name, List<DocumentConditionTemplate> conditions,
+                                List<Sort> sorts, long limit) {
+        this.methodName = methodName;
+        this.name = name;
+        this.conditions = Collections.unmodifiableList(conditions);
+        this.sorts = Collections.unmodifiableList(sorts);
+        this.limit = limit;
+        this.parameters = conditions.stream().mapToInt(DocumentConditionTemplate::getArity).sum();
+        this.inIndex = getInIndex(conditions);
+    }
+
+    /**
+     * Returns the number of arguments taken by the conditions, the arguments after them
+     * might be {@link Sort}, {@link Pagination} or {@link Cursor}
+     */
+    int getParameters() {
+        return parameters;
+    }
+
+    List<DocumentConditionTemplate> getConditions() {
+        return conditions;
+    }
+
+    List<Sort> getSorts() {
+        return sorts;
+    }
+
+    long getLimit() {
+        return limit;
+    }
+
+    DocumentQuery toQuery(Object[] args) {
+        Object[] values = args == null ? NO_ARGS : args;
+        DocumentQueryParserUtil.checkContents(0, values.length, parameters, methodName);
+        DocumentQuery query = DocumentQuery.of(name);
+        int index = 0;
+        for (DocumentConditionTemplate template : conditions) {
+            DocumentCondition condition = template.toCondition(values, index);
+            if (template.isOr()) {
+                query.or(condition);
+            } else {
+                query.and(condition);
+            }
+            index += template.getArity();
+        }
+        sorts.forEach(query::addSort);
+
+        for (; index < values.length; index++) {
+            Object value = values[index];
+            if (Sort.class.isInstance(value)) {
+                query.addSort(Sort.class.cast(value));
+            } else if (Pagination.class.isInstance(value)) {
+                Pagination pagination = Pagination.class.cast(value);
+                query.setLimit(pagination.getLimit());
+                query.setStart(pagination.getStart());
+            } else if (!Cursor.class.isInstance(value) && LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine(String.format("Ignoring parameter %s on methodName %s arg-number: %d",
+                        String.valueOf(value), methodName, index));
+            }
+        }
+        if (limit > 0 && (query.getLimit() <= 0 || query.getLimit() > limit)) {
+            query.setLimit(limit);
+        }
+        return query;
+    }
+
+    DocumentDeleteQuery toDeleteQuery(Object[] args) {
+        Object[] values = args == null ? NO_ARGS : args;
+        DocumentQueryParserUtil.checkContents(0, values.length, parameters, methodName);
+        DocumentDeleteQuery query = DocumentDeleteQuery.of(name);
+        int index = 0;
+        for (DocumentConditionTemplate template : conditions) {
+            DocumentCondition condition = template.toCondition(values, index);
+            if (template.isOr()) {
+                query.or(condition);
+            } else {
+                query.and(condition);
+            }
+            index += template.getArity();
+        }
+        return query;
+    }
+
+    /**
+     * Creates the queries to these arguments, when the In condition has more values than the chunk size
+     * there is a query to each chunk, otherwise a single query. The values are split only when the conditions
+     * are joined by AND and the query has neither sort nor pagination, so the chunk results are disjoint
+     * and they can be merged.
+     */
+    List<DocumentQuery> toQueries(Object[] args, int chunkSize) {
+        List<Object[]> chunks = toChunks(args, chunkSize);
+        if (chunks.isEmpty()) {
+            return Collections.singletonList(toQuery(args));
+        }
+        DocumentQuery first = toQuery(chunks.get(0));
+        if (!first.getSorts().isEmpty() || first.getLimit() > 0 || first.getStart() > 0) {
+            return Collections.singletonList(toQuery(args));
+        }
+        List<DocumentQuery> queries = new ArrayList<>(chunks.size());
+        queries.add(first);
+        chunks.stream().skip(1).map(this::toQuery).forEach(queries::add);
+        return queries;
+    }
+
+    /**
+     * Creates the delete queries to these arguments, when the In condition has more values than the chunk size
+     * there is a query to each chunk, otherwise a single query.
+     */
+    List<DocumentDeleteQuery> toDeleteQueries(Object[] args, int chunkSize) {
+        List<Object[]> chunks = toChunks(args, chunkSize);
+        if (chunks.isEmpty()) {
+            return Collections.singletonList(toDeleteQuery(args));
+        }
+        List<DocumentDeleteQuery> queries = new ArrayList<>(chunks.size());
+        chunks.stream().map(this::toDeleteQuery).forEach(queries::add);
+        return queries;
+    }
+
+    /**
+     * Returns the name of the In condition that is split in chunks
+     */
+    String getInName() {
+        return getIn().getName();
+    }
+
+    /**
+     * Returns the distinct values of the In condition that is split in chunks, in the order of the argument
+     */
+    List<Object> getInValues(Object[] args) {
+        return new ArrayList<>(new LinkedHashSet<>(getIn().toList(args[inIndex])));
+    }
+
+    private DocumentConditionTemplate getIn() {
+        return conditions.stream().filter(c -> Condition.IN.equals(c.getCondition())).findFirst().get();
+    }
+
+    private List<Object[]> toChunks(Object[] args, int chunkSize) {
+        if (inIndex < 0 || args == null || args.length <= inIndex) {
+            return Collections.emptyList();
+        }
+        List<Object> values = getInValues(args);
+        if (values.size() <= chunkSize) {
+            return Collections.emptyList();
+        }
+        List<Object[]> chunks = new ArrayList<>();
+        for (int start = 0; start < values.size(); start += chunkSize) {
+            Object[] chunk = args.clone();
+            chunk[inIndex] = values.subList(start, Math.min(start + chunkSize, values.size()));
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private static int getInIndex(List<DocumentConditionTemplate> conditions) {
+        if (conditions.stream().anyMatch(DocumentConditionTemplate::isOr)) {
+            return -1;
+        }
+        int index = 0;
+        for (DocumentConditionTemplate condition : conditions) {
+            if (Condition.IN.equals(condition.getCondition())) {
+                return index;
+            }
+            index += condition.getArity();
+        }
+        return -1;
+    }
+
+    /**
+     * Parses the part of the method name after its prefix, e.g. {@code NameANDAgeOrderByName}
+     */
+    static DocumentQueryTemplate compile(String methodName, String query, long limit, String name,
+                                       Function<String, Optional<String>> names) {
+        List<DocumentConditionTemplate> conditions = new ArrayList<>();
+        List<Sort> sorts = new ArrayList<>();
+        for (String token : TOKENS.split(query)) {
+            if (token.startsWith(DocumentQueryParserUtil.AND)) {
+                String field = token.substring(DocumentQueryParserUtil.AND.length());
+                conditions.add(DocumentQueryParserUtil.toTemplate(field, false, methodName, names));
+            } else if (token.startsWith(DocumentQueryParserUtil.OR)) {
+                String field = token.substring(DocumentQueryParserUtil.OR.length());
+                conditions.add(DocumentQueryParserUtil.toTemplate(field, true, methodName, names));
+            } else if (token.startsWith(DocumentQueryParserUtil.ORDER_BY)) {
+                sorts.add(toSort(token.substring(DocumentQueryParserUtil.ORDER_BY.length()), methodName, names));
+            } else {
+                conditions.add(DocumentQueryParserUtil.toTemplate(token, false, methodName, names));
+            }
+        }
+        return new DocumentQueryTemplate(methodName, name, conditions, sorts, limit);
+    }
+
+    private static Sort toSort(String field, String methodName, Function<String, Optional<String>> names) {
+        boolean desc = field.contains("Desc");
+        String sortField = field.replace(desc ? "Desc" : "Asc", DocumentQueryParserUtil.EMPTY);
+        if (sortField.isEmpty()) {
+            throw new DynamicQueryException(String.format("There is a missed field to sort in the method %s",
+                    methodName));
+        }
+        return Sort.of(DocumentQueryParserUtil.toName(sortField, methodName, names),
+                desc ? Sort.SortType.DESC : Sort.SortType.ASC);
+    }
+}
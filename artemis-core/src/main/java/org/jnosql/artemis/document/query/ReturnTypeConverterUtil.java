@@ -19,16 +19,29 @@
  */
 package org.jnosql.artemis.document.query;
 
+import org.jnosql.artemis.Cursor;
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.Page;
 import org.jnosql.artemis.document.DocumentRepository;
+import org.jnosql.artemis.document.DocumentRepositoryAsync;
+import org.jnosql.diana.api.NonUniqueResultException;
 import org.jnosql.diana.api.document.DocumentQuery;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -37,11 +50,22 @@ import java.util.stream.Stream;
  */
 final class ReturnTypeConverterUtil {
 
+    private static final Set<Class<?>> CHUNKABLE_TYPES = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(List.class, Collection.class, Iterable.class, Iterator.class, Set.class, Queue.class,
+                    Stream.class)));
+
     private ReturnTypeConverterUtil() {
     }
 
 
-    static Object returnObject(DocumentQuery query, DocumentRepository repository, Class typeClass, Method method) {
+    /**
+     * Returns the result of a dynamic query, a {@link Stream} or an {@link Iterator} of a sorted query reads the
+     * result in pages of fetchSize entities and an {@link Iterable} is the list of the entities found, so iterating
+     * over it again does not run the query again. A query without sorts is never paged, the pages of a query
+     * without a stable order might repeat or skip entities.
+     */
+    static Object returnObject(DocumentQuery query, DocumentRepository repository, Class typeClass, Method method,
+                               Object[] args, int fetchSize) {
         Class<?> returnType = method.getReturnType();
 
         if (typeClass.equals(returnType)) {
@@ -55,18 +79,148 @@ final class ReturnTypeConverterUtil {
         } else if (Optional.class.equals(returnType)) {
             return repository.singleResult(query);
         } else if (List.class.equals(returnType)
-                || Iterable.class.equals(returnType)
                 || Collection.class.equals(returnType)) {
             return repository.find(query);
+        } else if (Iterable.class.equals(returnType)) {
+            return repository.find(query);
+        } else if (Iterator.class.equals(returnType)) {
+            return stream(query, repository, fetchSize).iterator();
         } else if (Set.class.equals(returnType)) {
             return repository.find(query).stream().collect(Collectors.toSet());
         } else if (Queue.class.equals(returnType)) {
             return repository.find(query).stream().collect(Collectors.toCollection(PriorityQueue::new));
         } else if (Stream.class.equals(returnType)) {
-            return repository.find(query).stream();
+            return stream(query, repository, fetchSize);
+        } else if (Page.class.equals(returnType)) {
+            return repository.find(query, getCursor(method, args));
         }
 
         return repository.find(query);
     }
 
+    private static Stream<Object> stream(DocumentQuery query, DocumentRepository repository, int fetchSize) {
+        if (query.getSorts().isEmpty()) {
+            return repository.stream(query);
+        }
+        return repository.stream(query, fetchSize);
+    }
+
+    /**
+     * Returns the entities found by the chunks of an In condition, see {@link DocumentQueryChunks}
+     */
+    static Object returnEntities(List<Object> entities, Method method) {
+        Class<?> returnType = method.getReturnType();
+        if (Iterator.class.equals(returnType)) {
+            return entities.iterator();
+        } else if (Set.class.equals(returnType)) {
+            return entities.stream().collect(Collectors.toSet());
+        } else if (Queue.class.equals(returnType)) {
+            return entities.stream().collect(Collectors.toCollection(PriorityQueue::new));
+        } else if (Stream.class.equals(returnType)) {
+            return entities.stream();
+        }
+        return entities;
+    }
+
+    /**
+     * Checks if the method returns many entities, so its In condition can be split in chunks
+     */
+    static boolean isChunkable(Method method) {
+        return CHUNKABLE_TYPES.contains(method.getReturnType());
+    }
+
+    static Object returnCount(long count, Method method) {
+        Class<?> returnType = method.getReturnType();
+        if (int.class.equals(returnType) || Integer.class.equals(returnType)) {
+            return Math.toIntExact(count);
+        }
+        return count;
+    }
+
+    /**
+     * Checks if the method returns a {@link CompletionStage}, so the async query method does not need a callback
+     */
+    static boolean isStage(Method method) {
+        Class<?> returnType = method.getReturnType();
+        return !Object.class.equals(returnType) && returnType.isAssignableFrom(CompletableFuture.class);
+    }
+
+    /**
+     * Returns the stage of an async query, the result is converted to the type argument of the
+     * {@link CompletionStage} returned by the method, e.g.: {@code CompletionStage<Optional<Person>>}
+     */
+    static Object returnStage(DocumentQuery query, DocumentRepositoryAsync repository, Class typeClass, Method method,
+                              Object[] args) {
+        Class<?> resultType = getStageType(method);
+
+        if (typeClass.equals(resultType) || Optional.class.equals(resultType)) {
+            if (query.getLimit() <= 0 || query.getLimit() > 2) {
+                query.setLimit(2);
+            }
+            CompletionStage<Optional<Object>> stage = repository.<Object>findAsync(query)
+                    .thenApply(e -> singleResult(e, query));
+            if (Optional.class.equals(resultType)) {
+                return stage;
+            }
+            return stage.thenApply(o -> o.orElse(null));
+        } else if (Page.class.equals(resultType)) {
+            return repository.findAsync(query, getCursor(method, args));
+        }
+
+        CompletionStage<List<Object>> stage = repository.findAsync(query);
+        if (Iterator.class.equals(resultType)) {
+            return stage.thenApply(List::iterator);
+        } else if (Set.class.equals(resultType)) {
+            return stage.thenApply(e -> e.stream().collect(Collectors.toSet()));
+        } else if (Queue.class.equals(resultType)) {
+            return stage.thenApply(e -> e.stream().collect(Collectors.toCollection(PriorityQueue::new)));
+        } else if (Stream.class.equals(resultType)) {
+            return stage.thenApply(List::stream);
+        }
+        return stage;
+    }
+
+    static Object returnCountStage(CompletionStage<Long> count, Method method) {
+        if (Integer.class.equals(getStageType(method))) {
+            return count.thenApply(Math::toIntExact);
+        }
+        return count;
+    }
+
+    private static Optional<Object> singleResult(List<Object> entities, DocumentQuery query) {
+        if (entities.isEmpty()) {
+            return Optional.empty();
+        }
+        if (entities.size() == 1) {
+            return Optional.of(entities.get(0));
+        }
+        throw new NonUniqueResultException("The query returns more than one entity, query: " + query);
+    }
+
+    private static Class<?> getStageType(Method method) {
+        Type type = method.getGenericReturnType();
+        if (type instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (argument instanceof ParameterizedType) {
+                argument = ((ParameterizedType) argument).getRawType();
+            }
+            if (argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+        }
+        return List.class;
+    }
+
+    private static Cursor getCursor(Method method, Object[] args) {
+        if (args != null) {
+            for (Object arg : args) {
+                if (Cursor.class.isInstance(arg)) {
+                    return Cursor.class.cast(arg);
+                }
+            }
+        }
+        throw new DynamicQueryException(String.format("The method %s returns a Page, so it requires a Cursor parameter",
+                method.getName()));
+    }
+
 }
@@ -20,6 +20,7 @@
 package org.jnosql.artemis.document.spi;
 
 
+import org.jnosql.artemis.CallbackExecutor;
 import org.jnosql.artemis.DatabaseQualifier;
 import org.jnosql.artemis.DatabaseType;
 import org.jnosql.artemis.document.DocumentRepositoryAsync;
@@ -80,7 +81,14 @@ class DocumentRepositoryAsyncBean implements Bean<DocumentRepositoryAsync>, Pass
 
         DocumentRepositoryAsyncProducer producer = getInstance(DocumentRepositoryAsyncProducer.class);
         DocumentCollectionManagerAsync manager = getManager();
-        return producer.get(manager);
+        return producer.get(manager, getCallbackExecutor());
+    }
+
+    private CallbackExecutor getCallbackExecutor() {
+        if (beanManager.getBeans(CallbackExecutor.class, DatabaseQualifier.ofDocument(provider)).isEmpty()) {
+            return getInstance(CallbackExecutor.class);
+        }
+        return getInstance(CallbackExecutor.class, provider);
     }
 
     private DocumentCollectionManagerAsync getManager() {
@@ -98,7 +106,7 @@ class DocumentRepositoryAsyncBean implements Bean<DocumentRepositoryAsync>, Pass
     }
 
     private <T> T getInstance(Class<T> clazz, String name) {
-        Bean bean = beanManager.getBeans(clazz, DatabaseQualifier.ofColumn(name)).iterator().next();
+        Bean bean = beanManager.getBeans(clazz, DatabaseQualifier.ofDocument(name)).iterator().next();
         CreationalContext ctx = beanManager.createCreationalContext(bean);
         return (T) beanManager.getReference(bean, clazz, ctx);
     }
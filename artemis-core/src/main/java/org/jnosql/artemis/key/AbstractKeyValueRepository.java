@@ -37,6 +37,11 @@ import java.util.stream.StreamSupport;
  */
 public abstract class AbstractKeyValueRepository implements KeyValueRepository {
 
+    private final UnaryOperator<KeyValueEntity<?>> putAction = k -> {
+        getManager().put(k);
+        return k;
+    };
+
     protected abstract KeyValueEntityConverter getConverter();
 
     protected abstract BucketManager getManager();
@@ -46,11 +51,6 @@ public abstract class AbstractKeyValueRepository implements KeyValueRepository {
 
     @Override
     public <T> T put(T entity) throws NullPointerException {
-        UnaryOperator<KeyValueEntity<?>> putAction = k -> {
-            getManager().put(k);
-            return k;
-
-        };
         return getFlow().flow(entity, putAction);
     }
 
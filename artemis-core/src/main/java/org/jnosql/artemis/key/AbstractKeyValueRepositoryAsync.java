@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.key;
+
+
+import org.jnosql.diana.api.key.BucketManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This class provides a skeletal implementation of the {@link KeyValueRepositoryAsync} interface,
+ * to minimize the effort required to implement this interface.
+ */
+public abstract class AbstractKeyValueRepositoryAsync implements KeyValueRepositoryAsync {
+
+    private final KeyValueBatcher batcher = new KeyValueBatcher(this);
+
+    protected abstract KeyValueEntityConverter getConverter();
+
+    protected abstract BucketManager getManager();
+
+    protected abstract KeyValueWorkflow getFlow();
+
+    protected abstract Executor getExecutor();
+
+    protected abstract KeyValueBatchSize getBatchSize();
+
+    @Override
+    public <T> CompletionStage<T> put(T entity) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        return getFlow().flowAsync(entity, batcher::put);
+    }
+
+    @Override
+    public <T> CompletionStage<T> put(T entity, Duration ttl) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return getFlow().flowAsync(entity, k -> batcher.put(k, ttl));
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> put(Iterable<T> entities) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        return allOf(entities, this::put);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> put(Iterable<T> entities, Duration ttl) throws NullPointerException {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        return allOf(entities, e -> put(e, ttl));
+    }
+
+    @Override
+    public <K, T> CompletionStage<Optional<T>> get(K key, Class<T> entityClass) throws NullPointerException {
+        requireNonNull(key, "key is required");
+        requireNonNull(entityClass, "entityClass is required");
+        return batcher.get(key, entityClass);
+    }
+
+    @Override
+    public <K, T> CompletionStage<Iterable<T>> get(Iterable<K> keys, Class<T> entityClass) throws NullPointerException {
+        requireNonNull(keys, "keys is required");
+        requireNonNull(entityClass, "entityClass is required");
+        return CompletableFuture.supplyAsync(() -> StreamSupport.stream(getManager()
+                .get(keys).spliterator(), false)
+                .map(v -> getConverter().toEntity(entityClass, v))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()), getExecutor());
+    }
+
+    @Override
+    public <K> CompletionStage<Void> remove(K key) throws NullPointerException {
+        requireNonNull(key, "key is required");
+        return CompletableFuture.runAsync(() -> getManager().remove(key), getExecutor());
+    }
+
+    @Override
+    public <K> CompletionStage<Void> remove(Iterable<K> keys) throws NullPointerException {
+        requireNonNull(keys, "keys is required");
+        return CompletableFuture.runAsync(() -> getManager().remove(keys), getExecutor());
+    }
+
+    private <T> CompletionStage<Iterable<T>> allOf(Iterable<T> entities, Function<T, CompletionStage<T>> action) {
+        List<CompletableFuture<T>> stages = StreamSupport.stream(entities.spliterator(), false)
+                .map(action)
+                .map(CompletionStage::toCompletableFuture)
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(stages.toArray(new CompletableFuture[stages.size()]))
+                .thenApply(v -> stages.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+}
@@ -22,12 +22,10 @@ package org.jnosql.artemis.key;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.artemis.reflection.FieldRepresentation;
-import org.jnosql.artemis.reflection.Reflections;
 import org.jnosql.diana.api.Value;
 import org.jnosql.diana.api.key.KeyValueEntity;
 
 import javax.inject.Inject;
-import java.util.List;
 import java.util.Objects;
 
 import static java.util.Objects.requireNonNull;
@@ -40,9 +38,6 @@ class DefaultKeyValueEntityConverter implements KeyValueEntityConverter {
     @Inject
     private ClassRepresentations classRepresentations;
 
-    @Inject
-    private Reflections reflections;
-
     @Override
     public KeyValueEntity<?> toKeyValue(Object entityInstance) {
         requireNonNull(entityInstance, "Object is required");
@@ -50,7 +45,7 @@ class DefaultKeyValueEntityConverter implements KeyValueEntityConverter {
         ClassRepresentation representation = classRepresentations.get(clazz);
 
         FieldRepresentation key = getKey(clazz, representation);
-        Object value = reflections.getValue(entityInstance, key.getField());
+        Object value = key.read(entityInstance);
         requireNonNull(value, String.format("The key field %s is required", key.getName()));
 
         return KeyValueEntity.of(value, entityInstance);
@@ -65,9 +60,9 @@ class DefaultKeyValueEntityConverter implements KeyValueEntityConverter {
             return null;
         }
         FieldRepresentation key = getKey(entityClass, classRepresentations.get(entityClass));
-        Object keyValue = reflections.getValue(t, key.getField());
+        Object keyValue = key.read(t);
         if (Objects.isNull(keyValue) || !keyValue.equals(entity.getKey())) {
-            reflections.setValue(t, key.getField(), entity.getKey());
+            key.write(t, entity.getKey());
         }
         return t;
     }
@@ -82,8 +77,6 @@ class DefaultKeyValueEntityConverter implements KeyValueEntityConverter {
     }
 
     private FieldRepresentation getKey(Class<?> clazz, ClassRepresentation representation) {
-        List<FieldRepresentation> fields = representation.getFields();
-        return fields.stream().filter(FieldRepresentation::isKey)
-                .findFirst().orElseThrow(() -> KeyNotFoundException.newInstance(clazz));
+        return representation.getKey().orElseThrow(() -> KeyNotFoundException.newInstance(clazz));
     }
 }
@@ -22,10 +22,14 @@ package org.jnosql.artemis.key;
 
 import org.jnosql.artemis.EntityPostPersit;
 import org.jnosql.artemis.EntityPrePersist;
+import org.jnosql.artemis.EntityTypeQualifier;
+import org.jnosql.artemis.EventObservers;
 import org.jnosql.diana.api.key.KeyValueEntity;
 
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 class DefaultKeyValueEventPersistManager implements KeyValueEventPersistManager {
 
@@ -41,23 +45,73 @@ class DefaultKeyValueEventPersistManager implements KeyValueEventPersistManager
     @Inject
     private Event<EntityPostPersit> entityPostPersitEvent;
 
+    @Inject
+    private EventObservers observers;
+
+    private final Map<Class<?>, Event<EntityPrePersist>> entityPrePersistEvents = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Event<EntityPostPersit>> entityPostPersitEvents = new ConcurrentHashMap<>();
+
     @Override
     public void firePreKeyValue(KeyValueEntity<?> entity) {
-        keyValueEntityPrePersistEvent.fire(KeyValueEntityPrePersist.of(entity));
+        if (observers.isObserved(KeyValueEntityPrePersist.class, entity, KeyValueEntityPrePersist::of)) {
+            keyValueEntityPrePersistEvent.fire(KeyValueEntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public void firePostKeyValue(KeyValueEntity<?> entity) {
-        keyValueEntityPostPersistEvent.fire(KeyValueEntityPostPersist.of(entity));
+        if (observers.isObserved(KeyValueEntityPostPersist.class, entity, KeyValueEntityPostPersist::of)) {
+            keyValueEntityPostPersistEvent.fire(KeyValueEntityPostPersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        Class<?> type = entity.getClass();
+        if (observers.isObserved(EntityPrePersist.class, type, entity, EntityPrePersist::of)) {
+            select(entityPrePersistEvents, entityPrePersistEvent, type).fire(EntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostEntity(T entity) {
-        entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        Class<?> type = entity.getClass();
+        if (observers.isObserved(EntityPostPersit.class, type, entity, EntityPostPersit::of)) {
+            select(entityPostPersitEvents, entityPostPersitEvent, type).fire(EntityPostPersit.of(entity));
+        }
+    }
+
+    @Override
+    public boolean isPreKeyValueUnobserved() {
+        return !observers.isObserved(KeyValueEntityPrePersist.class, KeyValueEntity.of("probe", "probe"), KeyValueEntityPrePersist::of);
+    }
+
+    @Override
+    public boolean isPostKeyValueUnobserved() {
+        return !observers.isObserved(KeyValueEntityPostPersist.class, KeyValueEntity.of("probe", "probe"), KeyValueEntityPostPersist::of);
+    }
+
+    @Override
+    public boolean isPreEntityUnobserved(Object entity) {
+        return !observers.isObserved(EntityPrePersist.class, entity.getClass(), entity, EntityPrePersist::of);
+    }
+
+    @Override
+    public boolean isPostEntityUnobserved(Object entity) {
+        return !observers.isObserved(EntityPostPersit.class, entity.getClass(), entity, EntityPostPersit::of);
+    }
+
+    /**
+     * Returns the event selected with the {@link org.jnosql.artemis.EntityType} of the entity type, it is selected
+     * once to each entity type
+     */
+    private static <E> Event<E> select(Map<Class<?>, Event<E>> events, Event<E> event, Class<?> type) {
+        Event<E> selected = events.get(type);
+        if (selected == null) {
+            selected = event.select(EntityTypeQualifier.of(type));
+            events.putIfAbsent(type, selected);
+        }
+        return selected;
     }
 }
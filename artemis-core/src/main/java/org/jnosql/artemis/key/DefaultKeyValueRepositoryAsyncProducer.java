@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.key;
+
+
+import org.jnosql.diana.api.key.BucketManager;
+
+import javax.enterprise.inject.Vetoed;
+import javax.inject.Inject;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+class DefaultKeyValueRepositoryAsyncProducer implements KeyValueRepositoryAsyncProducer {
+
+    @Inject
+    private KeyValueEntityConverter converter;
+    @Inject
+    private KeyValueWorkflow flow;
+    @Inject
+    private KeyValueExecutor executor;
+    @Inject
+    private KeyValueBatchSize batchSize;
+
+    @Override
+    public KeyValueRepositoryAsync get(BucketManager manager) throws NullPointerException {
+        Objects.requireNonNull(manager, "manager is required");
+        return new ProducerKeyValueRepositoryAsync(converter, flow, manager, executor, batchSize);
+    }
+
+    @Vetoed
+    static class ProducerKeyValueRepositoryAsync extends AbstractKeyValueRepositoryAsync {
+
+        private KeyValueEntityConverter converter;
+
+        private KeyValueWorkflow flow;
+
+        private BucketManager manager;
+
+        private KeyValueExecutor executor;
+
+        private KeyValueBatchSize batchSize;
+
+        ProducerKeyValueRepositoryAsync(KeyValueEntityConverter converter, KeyValueWorkflow flow,
+                                        BucketManager manager, KeyValueExecutor executor, KeyValueBatchSize batchSize) {
+            this.converter = converter;
+            this.flow = flow;
+            this.manager = manager;
+            this.executor = executor;
+            this.batchSize = batchSize;
+        }
+
+        ProducerKeyValueRepositoryAsync() {
+        }
+
+        @Override
+        protected KeyValueEntityConverter getConverter() {
+            return converter;
+        }
+
+        @Override
+        protected BucketManager getManager() {
+            return manager;
+        }
+
+        @Override
+        protected KeyValueWorkflow getFlow() {
+            return flow;
+        }
+
+        @Override
+        protected Executor getExecutor() {
+            return executor.get();
+        }
+
+        @Override
+        protected KeyValueBatchSize getBatchSize() {
+            return batchSize;
+        }
+    }
+}
@@ -22,7 +22,11 @@ package org.jnosql.artemis.key;
 import org.jnosql.diana.api.key.KeyValueEntity;
 
 import javax.inject.Inject;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -37,6 +41,8 @@ class DefaultKeyValueWorkflow implements KeyValueWorkflow {
 
     private KeyValueEntityConverter converter;
 
+    private final Map<Class<?>, KeyValueWorkflowPipeline> pipelines = new ConcurrentHashMap<>();
+
     DefaultKeyValueWorkflow() {
     }
 
@@ -47,48 +53,29 @@ class DefaultKeyValueWorkflow implements KeyValueWorkflow {
     }
 
     public <T> T flow(T entity, UnaryOperator<KeyValueEntity<?>> action) {
-
-        Function<T, T> flow = getFlow(entity, action);
-
-        return flow.apply(entity);
-
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(action, "action is required");
+        return getPipeline(entity).apply(entity, action);
     }
 
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<KeyValueEntity<?>> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
-            eventPersistManager.firePreEntity(t);
-            return t;
-        };
-
-        Function<T, KeyValueEntity<?>> converterColumn = t -> converter.toKeyValue(t);
-
-        UnaryOperator<KeyValueEntity<?>> firePreDocument = t -> {
-            eventPersistManager.firePreKeyValue(t);
-            return t;
-        };
-
-        UnaryOperator<KeyValueEntity<?>> firePostDocument = t -> {
-            eventPersistManager.firePostKeyValue(t);
-            return t;
-        };
-
-        Function<KeyValueEntity<?>, T> converterEntity = t -> converter.toEntity((Class<T>) entity.getClass(), t);
-
-        UnaryOperator<T> firePostEntity = t -> {
-            eventPersistManager.firePostEntity(t);
-            return t;
-        };
-
+    @Override
+    public <T> CompletionStage<T> flowAsync(T entity, Function<KeyValueEntity<?>, CompletionStage<KeyValueEntity<?>>> action) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(action, "action is required");
+        KeyValueWorkflowPipeline pipeline = getPipeline(entity);
+        return CompletableFuture.completedFuture(entity)
+                .thenApply(pipeline::before)
+                .thenCompose(action)
+                .thenApply(pipeline::<T>after);
+    }
 
-        return validation
-                .andThen(firePreEntity)
-                .andThen(converterColumn)
-                .andThen(firePreDocument)
-                .andThen(action)
-                .andThen(firePostDocument)
-                .andThen(converterEntity)
-                .andThen(firePostEntity);
+    private KeyValueWorkflowPipeline getPipeline(Object entity) {
+        Class<?> entityClass = entity.getClass();
+        KeyValueWorkflowPipeline pipeline = pipelines.get(entityClass);
+        if (pipeline == null) {
+            pipeline = KeyValueWorkflowPipeline.of(entity, eventPersistManager, converter);
+            pipelines.putIfAbsent(entityClass, pipeline);
+        }
+        return pipeline;
     }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.key;
+
+
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * The max number of concurrent gets or puts that {@link KeyValueRepositoryAsync} sends to the
+ * {@link org.jnosql.diana.api.key.BucketManager} together in each round trip. By default it is
+ * {@link KeyValueBatchSize#DEFAULT_SIZE}, to use another size specialize this bean calling
+ * {@link KeyValueBatchSize#KeyValueBatchSize(int)}.
+ */
+@ApplicationScoped
+public class KeyValueBatchSize {
+
+    /**
+     * The default number of gets or puts in each round trip
+     */
+    public static final int DEFAULT_SIZE = 500;
+
+    private final int size;
+
+    public KeyValueBatchSize() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates a {@link KeyValueBatchSize} instance
+     *
+     * @param size the number of gets or puts in each round trip
+     * @throws IllegalArgumentException when size is not positive
+     */
+    public KeyValueBatchSize(int size) throws IllegalArgumentException {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive: " + size);
+        }
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of gets or puts in each round trip
+     *
+     * @return the batch size
+     */
+    public int get() {
+        return size;
+    }
+}
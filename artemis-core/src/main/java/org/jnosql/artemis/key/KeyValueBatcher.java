@@ -0,0 +1,282 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.key;
+
+
+import org.jnosql.diana.api.Value;
+import org.jnosql.diana.api.key.BucketManager;
+import org.jnosql.diana.api.key.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Groups the gets and the puts requested concurrently to a {@link AbstractKeyValueRepositoryAsync}.
+ * The requests are queued and a single drain on the repository executor sends them to the
+ * {@link BucketManager}: while a round trip is running the new requests wait in the queue, so they go together
+ * in the next one, each round trip with up to {@link KeyValueBatchSize} requests.
+ * The consecutive gets of the same entity type are sent with {@link BucketManager#get(Iterable)} and the
+ * consecutive puts with the same time to live with {@link BucketManager#put(Iterable)}, so the requests
+ * are sent in the order they were made and the last put to a key wins.
+ * The entities found by a batched get are matched to the requests by the key of the converted entity, when an
+ * entity does not match any requested key, e.g.: the key was requested as an {@link Integer} and the entity
+ * has a {@link String} key, the requests that were not matched fall back to a get of their own key.
+ * The requests of a round trip are completed in a task of their own on the repository executor, so the stages
+ * that depend on them do not hold the drain and the next round trip.
+ */
+final class KeyValueBatcher {
+
+    private final AbstractKeyValueRepositoryAsync repository;
+
+    private final Queue<Request> requests = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    KeyValueBatcher(AbstractKeyValueRepositoryAsync repository) {
+        this.repository = repository;
+    }
+
+    <T> CompletionStage<Optional<T>> get(Object key, Class<T> entityClass) {
+        Get<T> request = new Get<>(key, entityClass);
+        submit(request);
+        return request.result;
+    }
+
+    CompletionStage<KeyValueEntity<?>> put(KeyValueEntity<?> entity) {
+        return put(entity, null);
+    }
+
+    CompletionStage<KeyValueEntity<?>> put(KeyValueEntity<?> entity, Duration ttl) {
+        Put request = new Put(entity, ttl);
+        submit(request);
+        return request.result;
+    }
+
+    private void submit(Request request) {
+        requests.add(request);
+        if (draining.compareAndSet(false, true)) {
+            try {
+                repository.getExecutor().execute(this::drain);
+            } catch (RuntimeException exception) {
+                draining.set(false);
+                for (Request pending = requests.poll(); pending != null; pending = requests.poll()) {
+                    pending.fail(exception);
+                }
+            }
+        }
+    }
+
+    private void drain() {
+        do {
+            for (List<Request> batch = poll(); !batch.isEmpty(); batch = poll()) {
+                execute(batch);
+            }
+            draining.set(false);
+        } while (!requests.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    private List<Request> poll() {
+        int size = repository.getBatchSize().get();
+        List<Request> batch = new ArrayList<>();
+        for (Request request = requests.poll(); request != null; request = requests.poll()) {
+            batch.add(request);
+            if (batch.size() == size) {
+                break;
+            }
+        }
+        return batch;
+    }
+
+    private void execute(List<Request> batch) {
+        int start = 0;
+        for (int index = 1; index <= batch.size(); index++) {
+            if (index == batch.size() || !batch.get(start).isSameGroup(batch.get(index))) {
+                send(batch.subList(start, index));
+                start = index;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void send(List<Request> group) {
+        List<Runnable> completions = new ArrayList<>(group.size());
+        try {
+            if (group.get(0) instanceof Get) {
+                get((List) group, completions);
+            } else {
+                put((List) group, completions);
+            }
+        } catch (RuntimeException exception) {
+            completions.clear();
+            group.forEach(r -> completions.add(() -> r.fail(exception)));
+        }
+        complete(completions);
+    }
+
+    /**
+     * Runs the completions on the repository executor, when the executor rejects them they run on the drain,
+     * as the requests must be completed anyway
+     */
+    private void complete(List<Runnable> completions) {
+        Runnable task = () -> completions.forEach(Runnable::run);
+        try {
+            repository.getExecutor().execute(task);
+        } catch (RuntimeException exception) {
+            task.run();
+        }
+    }
+
+    private void get(List<Get<?>> group, List<Runnable> completions) {
+        Class<?> entityClass = group.get(0).entityClass;
+        KeyValueEntityConverter converter = repository.getConverter();
+        Set<Object> keys = group.stream().map(g -> g.key).collect(toCollection(LinkedHashSet::new));
+        if (keys.size() == 1) {
+            Optional<?> entity = find(keys.iterator().next(), entityClass);
+            group.forEach(g -> completions.add(() -> g.complete(entity)));
+            return;
+        }
+        Map<Object, Object> entities = new HashMap<>();
+        boolean unmatched = false;
+        for (Value value : repository.getManager().get(keys)) {
+            Object entity = converter.toEntity(entityClass, value);
+            if (entity != null) {
+                Object key = converter.toKeyValue(entity).getKey();
+                entities.put(key, entity);
+                unmatched = unmatched || !keys.contains(key);
+            }
+        }
+        Map<Object, Optional<?>> fallbacks = new HashMap<>();
+        for (Get<?> request : group) {
+            Object entity = entities.get(request.key);
+            if (entity == null && unmatched) {
+                Optional<?> fallback = fallbacks.computeIfAbsent(request.key, k -> find(k, entityClass));
+                completions.add(() -> request.complete(fallback));
+            } else {
+                completions.add(() -> request.complete(Optional.ofNullable(entity)));
+            }
+        }
+    }
+
+    private Optional<?> find(Object key, Class<?> entityClass) {
+        KeyValueEntityConverter converter = repository.getConverter();
+        return repository.getManager().get(key).map(v -> converter.toEntity(entityClass, v));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void put(List<Put> group, List<Runnable> completions) {
+        Duration ttl = group.get(0).ttl;
+        BucketManager manager = repository.getManager();
+        if (group.size() == 1) {
+            KeyValueEntity<?> entity = group.get(0).entity;
+            if (ttl == null) {
+                manager.put(entity);
+            } else {
+                manager.put(entity, ttl);
+            }
+        } else {
+            List<KeyValueEntity<Object>> entities = group.stream()
+                    .map(p -> (KeyValueEntity<Object>) p.entity).collect(toList());
+            if (ttl == null) {
+                manager.put(entities);
+            } else {
+                manager.put(entities, ttl);
+            }
+        }
+        group.forEach(p -> completions.add(() -> p.result.complete(p.entity)));
+    }
+
+    private abstract static class Request {
+
+        abstract Object group();
+
+        abstract void fail(Throwable exception);
+
+        boolean isSameGroup(Request request) {
+            return getClass() == request.getClass() && group().equals(request.group());
+        }
+    }
+
+    private static final class Get<T> extends Request {
+
+        private final Object key;
+
+        private final Class<T> entityClass;
+
+        private final CompletableFuture<Optional<T>> result = new CompletableFuture<>();
+
+        private Get(Object key, Class<T> entityClass) {
+            this.key = key;
+            this.entityClass = entityClass;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void complete(Optional<?> entity) {
+            result.complete((Optional<T>) entity);
+        }
+
+        @Override
+        Object group() {
+            return entityClass;
+        }
+
+        @Override
+        void fail(Throwable exception) {
+            result.completeExceptionally(exception);
+        }
+    }
+
+    private static final class Put extends Request {
+
+        private final KeyValueEntity<?> entity;
+
+        private final Duration ttl;
+
+        private final CompletableFuture<KeyValueEntity<?>> result = new CompletableFuture<>();
+
+        private Put(KeyValueEntity<?> entity, Duration ttl) {
+            this.entity = entity;
+            this.ttl = ttl;
+        }
+
+        @Override
+        Object group() {
+            return Optional.ofNullable(ttl);
+        }
+
+        @Override
+        void fail(Throwable exception) {
+            result.completeExceptionally(exception);
+        }
+    }
+}
@@ -64,4 +64,50 @@ public interface KeyValueEventPersistManager {
      */
     <T> void firePostEntity(T entity);
 
+    /**
+     * Checks whether nobody observes the event fired by {@link KeyValueEventPersistManager#firePreKeyValue(KeyValueEntity)},
+     * the {@link KeyValueWorkflow} removes the stages that nobody observes. By default every event is observed.
+     *
+     * @return true when the event has no observer
+     */
+    default boolean isPreKeyValueUnobserved() {
+        return false;
+    }
+
+    /**
+     * Checks whether nobody observes the event fired by {@link KeyValueEventPersistManager#firePostKeyValue(KeyValueEntity)}
+     *
+     * @return true when the event has no observer
+     * @see KeyValueEventPersistManager#isPreKeyValueUnobserved()
+     */
+    default boolean isPostKeyValueUnobserved() {
+        return false;
+    }
+
+    /**
+     * Checks whether nobody observes the event fired by {@link KeyValueEventPersistManager#firePreEntity(Object)}
+     * to the type of the entity, the observers are resolved with the event of the given entity and the
+     * result applies to every entity of its type
+     *
+     * @param entity an entity of the type
+     * @return true when the event has no observer
+     * @see KeyValueEventPersistManager#isPreKeyValueUnobserved()
+     */
+    default boolean isPreEntityUnobserved(Object entity) {
+        return false;
+    }
+
+    /**
+     * Checks whether nobody observes the event fired by {@link KeyValueEventPersistManager#firePostEntity(Object)}
+     * to the type of the entity, the observers are resolved with the event of the given entity and the
+     * result applies to every entity of its type
+     *
+     * @param entity an entity of the type
+     * @return true when the event has no observer
+     * @see KeyValueEventPersistManager#isPreKeyValueUnobserved()
+     */
+    default boolean isPostEntityUnobserved(Object entity) {
+        return false;
+    }
+
 }
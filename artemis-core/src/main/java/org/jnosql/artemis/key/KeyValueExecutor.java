@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.key;
+
+
+import javax.enterprise.context.ApplicationScoped;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The executor where {@link KeyValueRepositoryAsync} calls the {@link org.jnosql.diana.api.key.BucketManager},
+ * the concurrent gets and puts are sent together in each round trip on it. By default it is
+ * {@link ForkJoinPool#commonPool()}, to use another executor specialize this bean calling
+ * {@link KeyValueExecutor#KeyValueExecutor(Executor)}.
+ */
+@ApplicationScoped
+public class KeyValueExecutor {
+
+    private final Executor executor;
+
+    public KeyValueExecutor() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link KeyValueExecutor} instance
+     *
+     * @param executor the executor that calls the database
+     * @throws NullPointerException when executor is null
+     */
+    public KeyValueExecutor(Executor executor) throws NullPointerException {
+        this.executor = Objects.requireNonNull(executor, "executor is required");
+    }
+
+    /**
+     * Returns the executor that calls the database
+     *
+     * @return the executor
+     */
+    public Executor get() {
+        return executor;
+    }
+}
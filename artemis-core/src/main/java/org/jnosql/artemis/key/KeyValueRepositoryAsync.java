@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.key;
+
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+
+/**
+ * This interface that represents the common operation between an entity and KeyValueEntity to do async operations.
+ * The operations run on the {@link KeyValueExecutor}, the gets and puts requested concurrently are sent to the
+ * {@link org.jnosql.diana.api.key.BucketManager} together, each round trip with up to
+ * {@link KeyValueBatchSize} keys.
+ *
+ * @see KeyValueRepository
+ */
+public interface KeyValueRepositoryAsync {
+
+    /**
+     * Saves the entity asynchronously
+     *
+     * @param entity the entity to be save
+     * @param <T>    the entity type
+     * @return the stage of the saved entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> put(T entity) throws NullPointerException;
+
+    /**
+     * Saves the entity with time to live asynchronously
+     *
+     * @param entity the entity to be save
+     * @param ttl    the defined time to live
+     * @param <T>    the entity type
+     * @return the stage of the saved entity, it completes exceptionally with {@link UnsupportedOperationException}
+     * when expired time is not supported
+     * @throws NullPointerException when either entity or ttl are null
+     */
+    <T> CompletionStage<T> put(T entity, Duration ttl) throws NullPointerException;
+
+    /**
+     * Saves the {@link Iterable} of entities asynchronously
+     *
+     * @param entities entities to be save
+     * @param <T>      the entity type
+     * @return the stage of the saved entities, it completes when all of them are saved
+     * @throws NullPointerException when the iterable is null
+     */
+    <T> CompletionStage<Iterable<T>> put(Iterable<T> entities) throws NullPointerException;
+
+    /**
+     * Saves the {@link Iterable} of entities with a defined time to live asynchronously
+     *
+     * @param entities entities to be save
+     * @param ttl      the time to entity expire
+     * @param <T>      the entity type
+     * @return the stage of the saved entities, it completes when all of them are saved
+     * @throws NullPointerException when either the iterable or ttl are null
+     */
+    <T> CompletionStage<Iterable<T>> put(Iterable<T> entities, Duration ttl) throws NullPointerException;
+
+    /**
+     * Finds the Value from a key asynchronously, the key of the entity is required to send it together
+     * with other gets of the same entity type
+     *
+     * @param key         the key
+     * @param <K>         the key type
+     * @param <T>         the entity type
+     * @param entityClass the entity class to convert the result
+     * @return the stage of the {@link Optional} when is not found will return a {@link Optional#empty()}
+     * @throws NullPointerException when either the key or entityClass are null
+     */
+    <K, T> CompletionStage<Optional<T>> get(K key, Class<T> entityClass) throws NullPointerException;
+
+    /**
+     * Finds a list of values from keys asynchronously
+     *
+     * @param entityClass the entity class
+     * @param keys        the keys to be used in this query
+     * @param <K>         the key type
+     * @param <T>         the entity type
+     * @return the stage of the list of result
+     * @throws NullPointerException when either the keys or the entities values are null
+     */
+    <K, T> CompletionStage<Iterable<T>> get(Iterable<K> keys, Class<T> entityClass) throws NullPointerException;
+
+    /**
+     * Removes an entity from key asynchronously
+     *
+     * @param key the key bound with the entity
+     * @param <K> the key type
+     * @return the stage of the removal
+     * @throws NullPointerException when the key is null
+     */
+    <K> CompletionStage<Void> remove(K key) throws NullPointerException;
+
+    /**
+     * Removes entities from keys asynchronously
+     *
+     * @param keys the keys bound with the entities
+     * @param <K>  the key type
+     * @return the stage of the removal
+     * @throws NullPointerException when the key is null
+     */
+    <K> CompletionStage<Void> remove(Iterable<K> keys) throws NullPointerException;
+}
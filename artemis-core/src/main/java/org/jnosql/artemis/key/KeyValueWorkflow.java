@@ -22,8 +22,13 @@ package org.jnosql.artemis.key;
 
 import org.jnosql.diana.api.key.KeyValueEntity;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * This implementation defines the workflow to save an Entity on {@link KeyValueRepository}.
  * The default implementation follows:
@@ -47,4 +52,25 @@ public interface KeyValueWorkflow {
      * DocumentRepository#update(Object)
      */
     <T> T flow(T entity, UnaryOperator<KeyValueEntity<?>> action) throws NullPointerException;
+
+    /**
+     * Executes the workflow asynchronously, each step is a stage: the events before the database and the
+     * conversion, the action, and then the events after the database when the action completes. The default
+     * implementation runs {@link KeyValueWorkflow#flow(Object, UnaryOperator)} on
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()} waiting for the action, the implementations should
+     * replace it to one that does not block.
+     *
+     * @param entity the entity to be saved
+     * @param action the alteration to be executed on database, it returns the stage of the database response
+     * @param <T>    the entity type
+     * @return the stage of the entity response, it completes exceptionally when any step fails
+     * @throws NullPointerException when either entity or action is null
+     * @see KeyValueRepositoryAsync#put(Object) KeyValueRepositoryAsync#put(Object, java.time.Duration)
+     */
+    default <T> CompletionStage<T> flowAsync(T entity, Function<KeyValueEntity<?>, CompletionStage<KeyValueEntity<?>>> action)
+            throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(action, "action is required");
+        return CompletableFuture.supplyAsync(() -> flow(entity, k -> action.apply(k).toCompletableFuture().join()));
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.key;
+
+
+import org.jnosql.diana.api.key.KeyValueEntity;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * The persist pipeline to an entity type, it is built once to each entity type and reused by every
+ * {@link KeyValueWorkflow#flow(Object, UnaryOperator)}. The event stages that nobody observes are removed when
+ * the pipeline is built from the first entity of the type, and it keeps no state about a single flow, so it is
+ * safe to share among threads.
+ */
+final class KeyValueWorkflowPipeline {
+
+    private final Class<?> entityClass;
+
+    private final KeyValueEventPersistManager eventPersistManager;
+
+    private final KeyValueEntityConverter converter;
+
+    private final boolean preEntity;
+
+    private final boolean preKeyValue;
+
+    private final boolean postKeyValue;
+
+    private final boolean postEntity;
+
+    private KeyValueWorkflowPipeline(Object entity, KeyValueEventPersistManager eventPersistManager,
+                             KeyValueEntityConverter converter) {
+        this.entityClass = entity.getClass();
+        this.eventPersistManager = eventPersistManager;
+        this.converter = converter;
+        this.preEntity = !eventPersistManager.isPreEntityUnobserved(entity);
+        this.preKeyValue = !eventPersistManager.isPreKeyValueUnobserved();
+        this.postKeyValue = !eventPersistManager.isPostKeyValueUnobserved();
+        this.postEntity = !eventPersistManager.isPostEntityUnobserved(entity);
+    }
+
+    <T> T apply(T entity, UnaryOperator<KeyValueEntity<?>> action) {
+        return after(action.apply(before(entity)));
+    }
+
+    /**
+     * Runs the stages before the database: the pre entity event, the conversion and the pre key-value event
+     */
+    <T> KeyValueEntity<?> before(T entity) {
+        if (preEntity) {
+            eventPersistManager.firePreEntity(entity);
+        }
+        KeyValueEntity<?> keyEntity = converter.toKeyValue(entity);
+        if (preKeyValue) {
+            eventPersistManager.firePreKeyValue(keyEntity);
+        }
+        return keyEntity;
+    }
+
+    /**
+     * Runs the stages after the database: the post key-value event, the conversion and the post entity event
+     */
+    @SuppressWarnings("unchecked")
+    <T> T after(KeyValueEntity<?> response) {
+        if (postKeyValue) {
+            eventPersistManager.firePostKeyValue(response);
+        }
+        T result = converter.toEntity((Class<T>) entityClass, response);
+        if (postEntity) {
+            eventPersistManager.firePostEntity(result);
+        }
+        return result;
+    }
+
+    static KeyValueWorkflowPipeline of(Object entity, KeyValueEventPersistManager eventPersistManager,
+                                KeyValueEntityConverter converter) {
+        return new KeyValueWorkflowPipeline(entity, eventPersistManager, converter);
+    }
+}
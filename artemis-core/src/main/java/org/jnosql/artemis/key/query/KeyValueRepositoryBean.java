@@ -21,7 +21,10 @@ package org.jnosql.artemis.key.query;
 
 import org.jnosql.artemis.DatabaseQualifier;
 import org.jnosql.artemis.DatabaseType;
+import org.jnosql.artemis.RepositoryFactories;
+import org.jnosql.artemis.RepositoryFactory;
 import org.jnosql.artemis.key.KeyValueRepository;
+import org.jnosql.artemis.reflection.ClassRepresentations;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.spi.CreationalContext;
@@ -36,6 +39,7 @@ import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -95,6 +99,11 @@ public class KeyValueRepositoryBean implements Bean<KeyValueCrudRepository>, Pas
     public KeyValueCrudRepository create(CreationalContext<KeyValueCrudRepository> creationalContext) {
         KeyValueRepository repository = provider.isEmpty() ? getInstance(KeyValueRepository.class) :
                 getInstance(KeyValueRepository.class, provider);
+        Optional<RepositoryFactory> factory = RepositoryFactories.getInstance().get(type, KeyValueRepository.class);
+        if (factory.isPresent()) {
+            ClassRepresentations classRepresentations = getInstance(ClassRepresentations.class);
+            return (KeyValueCrudRepository) factory.get().create(repository, classRepresentations);
+        }
         KeyValueCrudRepositoryProxy handler = new KeyValueCrudRepositoryProxy(type, repository);
         return (KeyValueCrudRepository) Proxy.newProxyInstance(type.getClassLoader(),
                 new Class[]{type},
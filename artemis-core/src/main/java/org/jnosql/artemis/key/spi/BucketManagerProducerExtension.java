@@ -23,6 +23,8 @@ package org.jnosql.artemis.key.spi;
 import org.jnosql.artemis.Database;
 import org.jnosql.artemis.DatabaseType;
 import org.jnosql.artemis.key.query.KeyValueCrudRepository;
+import org.jnosql.artemis.key.query.KeyValueCrudRepositoryAsync;
+import org.jnosql.artemis.key.query.KeyValueRepositoryAsyncBean;
 import org.jnosql.artemis.key.query.KeyValueRepositoryBean;
 import org.jnosql.diana.api.key.BucketManager;
 
@@ -42,7 +44,9 @@ import java.util.Set;
 import java.util.logging.Logger;
 
 /**
- * Extension to start up {@link org.jnosql.artemis.key.KeyValueRepository} and {@link KeyValueCrudRepository}
+ * Extension to start up {@link org.jnosql.artemis.key.KeyValueRepository},
+ * {@link org.jnosql.artemis.key.KeyValueRepositoryAsync}, {@link KeyValueCrudRepository}
+ * and {@link KeyValueCrudRepositoryAsync}
  * from the {@link javax.enterprise.inject.Default} and {@link Database} qualifier
  */
 class BucketManagerProducerExtension implements Extension {
@@ -53,6 +57,8 @@ class BucketManagerProducerExtension implements Extension {
 
     private final Collection<Class<?>> crudTypes = new HashSet<>();
 
+    private final Collection<Class<?>> crudAsyncTypes = new HashSet<>();
+
     <T, X extends BucketManager> void processProducer(@Observes final ProcessProducer<T, X> pp) {
         Set<Annotation> annotations = pp.getAnnotatedMember().getAnnotations();
         Optional<Database> databaseOptional = annotations.stream().filter(a -> a instanceof Database)
@@ -74,12 +80,20 @@ class BucketManagerProducerExtension implements Extension {
         LOGGER.info("Finished the onProcessAnnotatedType");
     }
 
+    <T extends KeyValueCrudRepositoryAsync> void onProcessAnnotatedTypeAsync(@Observes final ProcessAnnotatedType<T> repo) {
+        LOGGER.info("Starting the onProcessAnnotatedType");
+        crudAsyncTypes.add(repo.getAnnotatedType().getJavaClass());
+        LOGGER.info("Finished the onProcessAnnotatedType");
+    }
+
     void onAfterBeanDiscovery(@Observes final AfterBeanDiscovery afterBeanDiscovery, final BeanManager beanManager) {
         LOGGER.info("Starting the onAfterBeanDiscovery with elements number: " + databases.size());
 
         databases.forEach(type -> {
             final org.jnosql.artemis.key.spi.KeyValueRepositoryBean bean = new org.jnosql.artemis.key.spi.KeyValueRepositoryBean(beanManager, type.provider());
             afterBeanDiscovery.addBean(bean);
+            afterBeanDiscovery.addBean(new org.jnosql.artemis.key.spi.KeyValueRepositoryAsyncBean(beanManager,
+                    type.provider()));
         });
 
         crudTypes.forEach(type -> {
@@ -89,6 +103,13 @@ class BucketManagerProducerExtension implements Extension {
             });
         });
 
+        crudAsyncTypes.forEach(type -> {
+            afterBeanDiscovery.addBean(new KeyValueRepositoryAsyncBean(type, beanManager, ""));
+            databases.forEach(database -> {
+                afterBeanDiscovery.addBean(new KeyValueRepositoryAsyncBean(type, beanManager, database.provider()));
+            });
+        });
+
         LOGGER.info("Finished the onAfterBeanDiscovery");
     }
 
@@ -35,10 +35,16 @@ abstract class AbstractFieldRepresentation implements FieldRepresentation {
 
     protected final String name;
 
-    AbstractFieldRepresentation(FieldType type, Field field, String name) {
+    protected final FieldAccessor accessor;
+
+    protected final ValueReader reader;
+
+    AbstractFieldRepresentation(FieldType type, Field field, String name, FieldAccessor accessor, ValueReader reader) {
         this.type = type;
         this.field = field;
         this.name = name;
+        this.accessor = accessor;
+        this.reader = reader;
     }
 
     @Override
@@ -56,6 +62,46 @@ abstract class AbstractFieldRepresentation implements FieldRepresentation {
         return name;
     }
 
+    @Override
+    public Object read(Object bean) {
+        return accessor.get(bean);
+    }
+
+    @Override
+    public void write(Object bean, Object value) {
+        accessor.set(bean, value);
+    }
+
+    @Override
+    public long getLong(Object bean) {
+        return accessor.getLong(bean);
+    }
+
+    @Override
+    public void setLong(Object bean, long value) {
+        accessor.setLong(bean, value);
+    }
+
+    @Override
+    public int getInt(Object bean) {
+        return accessor.getInt(bean);
+    }
+
+    @Override
+    public void setInt(Object bean, int value) {
+        accessor.setInt(bean, value);
+    }
+
+    @Override
+    public double getDouble(Object bean) {
+        return accessor.getDouble(bean);
+    }
+
+    @Override
+    public void setDouble(Object bean, double value) {
+        accessor.setDouble(bean, value);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -66,6 +112,6 @@ abstract class AbstractFieldRepresentation implements FieldRepresentation {
     }
 
     public Object getValue(Value value) {
-        return value.get(field.getType());
+        return reader.read(value);
     }
 }
@@ -19,11 +19,22 @@
  */
 package org.jnosql.artemis.reflection;
 
+import org.apache.commons.lang3.StringUtils;
+import org.jnosql.artemis.Column;
+import org.jnosql.diana.api.TypeSupplier;
+
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 
@@ -33,6 +44,8 @@ class ClassConverter {
 
     private Reflections reflections;
 
+    private final EntityMappers mappers = EntityMappers.load();
+
     @Inject
     ClassConverter(Reflections reflections) {
         this.reflections = reflections;
@@ -42,35 +55,124 @@ class ClassConverter {
     }
 
     public ClassRepresentation create(Class entityClass) {
-        Constructor constructor = reflections.makeAccessible(entityClass);
         String entityName = reflections.getEntityName(entityClass);
+        Optional<EntityMapper<?>> mapper = mappers.get(entityClass);
         List<FieldRepresentation> fields = reflections.getFields(entityClass)
-                .stream().map(this::to).collect(toList());
+                .stream().map(f -> to(f, mapper)).collect(toList());
         List<String> fieldsName = fields.stream().map(FieldRepresentation::getName).collect(toList());
         return ClassRepresentation.builder().withName(entityName)
                 .withClassInstance(entityClass)
                 .withFields(fields)
                 .withFieldsName(fieldsName)
-                .withConstructor(constructor)
+                .withInstanceCreator(getInstanceCreator(entityClass, fields, mapper))
                 .build();
     }
 
+    /**
+     * Selects how the entity is created: first a constructor whose parameters are all annotated with
+     * {@link Column}, then the no arg constructor and finally the constructor whose parameters names,
+     * when they are available with the -parameters compiler flag, match the fields names.
+     */
+    private InstanceCreator getInstanceCreator(Class<?> entityClass, List<FieldRepresentation> fields,
+                                               Optional<EntityMapper<?>> mapper) {
+
+        List<Constructor<?>> annotated = Stream.of(entityClass.getDeclaredConstructors())
+                .filter(c -> c.getParameterCount() > 0)
+                .filter(c -> Stream.of(c.getParameters()).allMatch(p -> p.getAnnotation(Column.class) != null))
+                .collect(toList());
+        if (annotated.size() > 1) {
+            throw new ConstructorException("There are more than one constructor with all parameters annotated with @Column: "
+                    + entityClass.getName());
+        }
+        if (annotated.size() == 1) {
+            Constructor<?> constructor = annotated.get(0);
+            List<FieldRepresentation> parameters = bind(constructor, fields)
+                    .orElseThrow(() -> new ConstructorException("The constructor parameters do not match the fields: "
+                            + constructor));
+            return InstanceCreator.of(makeAccessible(constructor), parameters);
+        }
+
+        if (Stream.of(entityClass.getDeclaredConstructors()).anyMatch(c -> c.getParameterCount() == 0)) {
+            Constructor constructor = reflections.makeAccessible(entityClass);
+            return InstanceCreator.of(constructor, getInstanceSupplier(constructor, mapper));
+        }
+
+        List<Constructor<?>> named = Stream.of(entityClass.getDeclaredConstructors())
+                .filter(c -> c.getParameterCount() > 0)
+                .filter(c -> bind(c, fields).isPresent())
+                .collect(toList());
+        if (named.size() == 1) {
+            Constructor<?> constructor = named.get(0);
+            return InstanceCreator.of(makeAccessible(constructor), bind(constructor, fields).get());
+        }
+        throw new ConstructorException(entityClass);
+    }
+
+    private Optional<List<FieldRepresentation>> bind(Constructor<?> constructor, List<FieldRepresentation> fields) {
+        List<FieldRepresentation> parameters = new ArrayList<>();
+        for (Parameter parameter : constructor.getParameters()) {
+            Optional<FieldRepresentation> field = bind(parameter, fields);
+            if (!field.isPresent()) {
+                return Optional.empty();
+            }
+            parameters.add(field.get());
+        }
+        return Optional.of(parameters);
+    }
+
+    private Optional<FieldRepresentation> bind(Parameter parameter, List<FieldRepresentation> fields) {
+        String columnName = Optional.ofNullable(parameter.getAnnotation(Column.class))
+                .map(Column::value)
+                .filter(StringUtils::isNotBlank)
+                .orElse(null);
+        if (columnName == null && !parameter.isNamePresent()) {
+            return Optional.empty();
+        }
+        Predicate<FieldRepresentation> sameName = columnName == null ?
+                f -> f.getField().getName().equals(parameter.getName()) :
+                f -> f.getName().equals(columnName);
+        return fields.stream()
+                .filter(sameName)
+                .filter(f -> parameter.getType().isAssignableFrom(f.getField().getType()))
+                .findFirst();
+    }
+
+    private Constructor<?> makeAccessible(Constructor<?> constructor) {
+        if (!Modifier.isPublic(constructor.getModifiers())
+                || !Modifier.isPublic(constructor.getDeclaringClass().getModifiers())) {
+            constructor.setAccessible(true);
+        }
+        return constructor;
+    }
+
+    private Supplier<?> getInstanceSupplier(Constructor constructor, Optional<EntityMapper<?>> mapper) {
+        return mapper.flatMap(EntityMapper::getInstanceSupplier)
+                .<Supplier<?>>map(s -> s)
+                .orElse(() -> reflections.newInstance(constructor));
+    }
+
+    private FieldAccessor getAccessor(Field field, Optional<EntityMapper<?>> mapper) {
+        return mapper.flatMap(m -> m.getAccessor(field.getName()))
+                .orElseGet(() -> FieldAccessor.of(field));
+    }
 
-    private FieldRepresentation to(Field field) {
+    private FieldRepresentation to(Field field, Optional<EntityMapper<?>> mapper) {
         FieldType fieldType = FieldType.of(field);
         reflections.makeAccessible(field);
         String columnName = reflections.getColumnName(field);
         FieldRepresentationBuilder builder = FieldRepresentation.builder().withName(columnName)
-                .withField(field).withType(fieldType);
+                .withField(field).withType(fieldType).withAccessor(getAccessor(field, mapper));
         switch (fieldType) {
             case COLLECTION:
             case MAP:
-                builder.withTypeSupplier(field::getGenericType);
+                TypeSupplier<?> typeSupplier = field::getGenericType;
+                builder.withTypeSupplier(typeSupplier).withReader(ValueReaders.of(field, fieldType, typeSupplier));
                 return builder.buildGeneric();
             case EMBEDDED:
-                return builder.withEntityName(reflections.getEntityName(field.getType())).buildEmedded();
+                return builder.withEntityName(reflections.getEntityName(field.getType()))
+                        .withReader(ValueReaders.of(field.getType())).buildEmedded();
             default:
-                return builder.buildDefault();
+                return builder.withReader(ValueReaders.of(field.getType())).buildDefault();
 
 
         }
@@ -21,17 +21,21 @@ package org.jnosql.artemis.reflection;
 
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 /**
- * This class is a representation of {@link Class} in cached way
+ * This class is a representation of {@link Class} in cached way.
+ * It is immutable and the fields are indexed by name, by ordinal and the key field once it is created.
  */
-public class ClassRepresentation implements Serializable {
+public final class ClassRepresentation implements Serializable {
 
     private final String name;
 
@@ -39,16 +43,30 @@ public class ClassRepresentation implements Serializable {
 
     private final Class<?> classInstance;
 
-    private final List<FieldRepresentation> fields;
+    private final FieldRepresentation[] fields;
 
-    private final Constructor constructor;
+    private final List<FieldRepresentation> fieldsList;
 
-    ClassRepresentation(String name, List<String> fieldsName, Class<?> classInstance, List<FieldRepresentation> fields, Constructor constructor) {
+    private final Map<String, FieldRepresentation> fieldsGroupByName;
+
+    private final FieldRepresentation key;
+
+    private final InstanceCreator instanceCreator;
+
+    ClassRepresentation(String name, List<String> fieldsName, Class<?> classInstance, List<FieldRepresentation> fields,
+                        InstanceCreator instanceCreator) {
         this.name = name;
-        this.fieldsName = fieldsName;
+        this.fieldsName = Collections.unmodifiableList(Arrays.asList(fieldsName.toArray(new String[fieldsName.size()])));
         this.classInstance = classInstance;
-        this.fields = fields;
-        this.constructor = constructor;
+        this.fields = fields.toArray(new FieldRepresentation[fields.size()]);
+        this.fieldsList = Collections.unmodifiableList(Arrays.asList(this.fields));
+        Map<String, FieldRepresentation> groupByName = new LinkedHashMap<>();
+        for (FieldRepresentation field : this.fields) {
+            groupByName.put(field.getName(), field);
+        }
+        this.fieldsGroupByName = Collections.unmodifiableMap(groupByName);
+        this.key = Stream.of(this.fields).filter(FieldRepresentation::isKey).findFirst().orElse(null);
+        this.instanceCreator = instanceCreator;
     }
 
     public String getName() {
@@ -64,11 +82,87 @@ public class ClassRepresentation implements Serializable {
     }
 
     public List<FieldRepresentation> getFields() {
-        return fields;
+        return fieldsList;
+    }
+
+    /**
+     * Returns the field by its ordinal, the position in {@link ClassRepresentation#getFields()}
+     *
+     * @param ordinal the ordinal
+     * @return the field
+     * @throws ArrayIndexOutOfBoundsException when the ordinal is invalid
+     */
+    public FieldRepresentation getField(int ordinal) throws ArrayIndexOutOfBoundsException {
+        return fields[ordinal];
+    }
+
+    /**
+     * Returns the field either from the field name or from {@link org.jnosql.artemis.Column#value()}
+     *
+     * @param name the name
+     * @return the field or {@link Optional#empty()} when there is not field with this name
+     */
+    public Optional<FieldRepresentation> getField(String name) {
+        return Optional.ofNullable(fieldsGroupByName.get(name));
+    }
+
+    /**
+     * Returns the field annotated with {@link org.jnosql.artemis.Key}
+     *
+     * @return the key field or {@link Optional#empty()} when there is not key
+     */
+    public Optional<FieldRepresentation> getKey() {
+        return Optional.ofNullable(key);
     }
 
     public Constructor getConstructor() {
-        return constructor;
+        return instanceCreator.getConstructor();
+    }
+
+    /**
+     * Returns the fields bound to the constructor parameters, in the parameters order. It is empty when the
+     * entity is created from the no arg constructor.
+     *
+     * @return the constructor parameters
+     */
+    public List<FieldRepresentation> getConstructorParameters() {
+        return instanceCreator.getParameters();
+    }
+
+    /**
+     * Returns a new arguments array to {@link ClassRepresentation#newInstance(Object[])} filled with the
+     * default values of the constructor parameters types
+     *
+     * @return a new arguments array
+     */
+    public Object[] newConstructorArguments() {
+        return instanceCreator.newArguments();
+    }
+
+    /**
+     * Creates a new entity instance, either from the generated {@link EntityMapper} or from the constructor.
+     * When the entity is created from the constructor parameters, the default values are used.
+     *
+     * @param <T> the entity type
+     * @return a new instance
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T newInstance() {
+        return (T) instanceCreator.newInstance();
+    }
+
+    /**
+     * Creates a new entity instance from the constructor arguments, see
+     * {@link ClassRepresentation#getConstructorParameters()}
+     *
+     * @param arguments the arguments
+     * @param <T>       the entity type
+     * @return a new instance
+     * @throws ConstructorException when there is an error to create the instance
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T newInstance(Object[] arguments) throws ConstructorException {
+        return (T) instanceCreator.newInstance(arguments);
     }
 
     @Override
@@ -83,12 +177,12 @@ public class ClassRepresentation implements Serializable {
         return Objects.equals(name, that.name) &&
                 Objects.equals(fieldsName, that.fieldsName) &&
                 Objects.equals(classInstance, that.classInstance) &&
-                Objects.equals(fields, that.fields);
+                Objects.equals(fieldsList, that.fieldsList);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, fieldsName, classInstance, fields);
+        return Objects.hash(name, fieldsName, classInstance, fieldsList);
     }
 
     @Override
@@ -97,16 +191,20 @@ public class ClassRepresentation implements Serializable {
                 .append("name", name)
                 .append("fieldsName", fieldsName)
                 .append("classInstance", classInstance)
-                .append("fields", fields)
-                .append("constructor", constructor)
+                .append("fields", fieldsList)
+                .append("constructor", instanceCreator.getConstructor())
                 .toString();
     }
 
 
+    /**
+     * Returns the fields grouped by {@link FieldRepresentation#getName()}, this map is created once and cannot
+     * be changed
+     *
+     * @return the fields grouped by name
+     */
     public Map<String, FieldRepresentation> getFieldsGroupByName() {
-        return fields.stream()
-                .collect(Collectors.toMap(FieldRepresentation::getName,
-                        Function.identity()));
+        return fieldsGroupByName;
     }
 
     static ClassRepresentationBuilder builder() {
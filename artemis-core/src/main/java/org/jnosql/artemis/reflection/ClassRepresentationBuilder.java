@@ -19,7 +19,6 @@
  */
 package org.jnosql.artemis.reflection;
 
-import java.lang.reflect.Constructor;
 import java.util.Collections;
 import java.util.List;
 
@@ -31,7 +30,7 @@ class ClassRepresentationBuilder {
 
     private Class<?> classInstance;
 
-    private Constructor constructor;
+    private InstanceCreator instanceCreator;
 
     private List<FieldRepresentation> fields = Collections.emptyList();
 
@@ -55,12 +54,12 @@ class ClassRepresentationBuilder {
         return this;
     }
 
-    public ClassRepresentationBuilder withConstructor(Constructor constructor) {
-        this.constructor = constructor;
+    public ClassRepresentationBuilder withInstanceCreator(InstanceCreator instanceCreator) {
+        this.instanceCreator = instanceCreator;
         return this;
     }
 
     public ClassRepresentation build() {
-        return new ClassRepresentation(name, fieldsName, classInstance, fields, constructor);
+        return new ClassRepresentation(name, fieldsName, classInstance, fields, instanceCreator);
     }
 }
\ No newline at end of file
@@ -23,11 +23,31 @@ import org.jnosql.artemis.ArtemisException;
 
 
 /**
- * Get the exception when a class has a no arg constructor either public or default
+ * Get the exception when a class has neither a no arg constructor, public or default, nor a constructor
+ * whose parameters are bound to the entity fields
  */
 public class ConstructorException extends ArtemisException {
 
     public ConstructorException(Class clazz) {
         super("This class must have a no arg with either public and default visibility: " + clazz.getName());
     }
+
+    /**
+     * Creates the exception instance
+     *
+     * @param message the message
+     */
+    public ConstructorException(String message) {
+        super(message);
+    }
+
+    /**
+     * Creates the exception instance
+     *
+     * @param message the message
+     * @param cause   the cause
+     */
+    public ConstructorException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
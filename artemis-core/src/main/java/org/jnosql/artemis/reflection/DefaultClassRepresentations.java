@@ -20,7 +20,9 @@
 package org.jnosql.artemis.reflection;
 
 
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
@@ -30,12 +32,15 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 /**
  * The default implementation of {@link ClassRepresentation}.
- * It's storage the class information in a {@link ConcurrentHashMap}
+ * It's storage the class information in a {@link ConcurrentHashMap}, indexed both by class
+ * and by the entity name in lower case.
  */
 @ApplicationScoped
 class DefaultClassRepresentations implements ClassRepresentations {
 
-    private Map<String, ClassRepresentation> representations;
+    private Map<Class<?>, ClassRepresentation> representations;
+
+    private Map<String, ClassRepresentation> representationsByName;
 
 
     @Inject
@@ -47,30 +52,37 @@ class DefaultClassRepresentations implements ClassRepresentations {
     @PostConstruct
     public void init() {
         representations = new ConcurrentHashMap<>();
-        representations.putAll(extension.getRepresentations());
+        representationsByName = new ConcurrentHashMap<>();
+        extension.getRepresentations().values().forEach(this::index);
     }
 
-    void load(Class classEntity) {
-        ClassRepresentation classRepresentation = classConverter.create(classEntity);
-        representations.put(classEntity.getName(), classRepresentation);
+    private ClassRepresentation index(ClassRepresentation classRepresentation) {
+        representations.put(classRepresentation.getClassInstance(), classRepresentation);
+        representationsByName.put(normalize(classRepresentation.getName()), classRepresentation);
+        return classRepresentation;
     }
 
     @Override
     public ClassRepresentation get(Class classEntity) {
-        ClassRepresentation classRepresentation = representations.get(classEntity.getName());
+        Objects.requireNonNull(classEntity, "class is required");
+        ClassRepresentation classRepresentation = representations.get(classEntity);
         if (classRepresentation == null) {
-            load(classEntity);
-            return this.get(classEntity);
+            return index(classConverter.create(classEntity));
         }
         return classRepresentation;
     }
 
     @Override
     public ClassRepresentation findByName(String name) throws ClassInformationNotFoundException {
-        return representations.keySet().stream()
-                .map(k -> representations.get(k))
-                .filter(r -> r.getName().equalsIgnoreCase(name)).findFirst()
-                .orElseThrow(() -> new ClassInformationNotFoundException("There is not entity found with the name: " + name));
+        ClassRepresentation classRepresentation = name == null ? null : representationsByName.get(normalize(name));
+        if (classRepresentation == null) {
+            throw new ClassInformationNotFoundException("There is not entity found with the name: " + name);
+        }
+        return classRepresentation;
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ENGLISH);
     }
 
     @Override
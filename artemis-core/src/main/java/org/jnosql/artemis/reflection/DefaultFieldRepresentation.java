@@ -35,8 +35,8 @@ public class DefaultFieldRepresentation extends AbstractFieldRepresentation {
 
     private final boolean key;
 
-    DefaultFieldRepresentation(FieldType type, Field field, String name) {
-        super(type, field, name);
+    DefaultFieldRepresentation(FieldType type, Field field, String name, FieldAccessor accessor, ValueReader reader) {
+        super(type, field, name, accessor, reader);
         this.key = field.getDeclaredAnnotation(Key.class) != null;
     }
 
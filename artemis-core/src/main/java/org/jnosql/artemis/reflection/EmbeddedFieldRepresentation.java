@@ -30,8 +30,9 @@ public final class EmbeddedFieldRepresentation extends AbstractFieldRepresentati
 
     private final String entityName;
 
-    public EmbeddedFieldRepresentation(FieldType type, Field field, String name, String entityName) {
-        super(type, field, name);
+    public EmbeddedFieldRepresentation(FieldType type, Field field, String name, FieldAccessor accessor,
+                                       ValueReader reader, String entityName) {
+        super(type, field, name, accessor, reader);
         this.entityName = entityName;
     }
 
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.reflection;
+
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * A mapper generated at compile time to an entity, so the entity can be created and its fields read and written
+ * without reflection. The implementations are registered as {@link java.util.ServiceLoader} providers and
+ * {@link ClassConverter} uses them when {@link ClassRepresentation} is created. When either a field or the
+ * constructor is not reachable from the generated code, the reflection way is used instead.
+ * A mapper only gives the access to the entity, the conversion to the database entities is done by the
+ * converters, e.g.: {@link org.jnosql.artemis.column.ColumnEntityConverter}, with the accessors of the mapper.
+ *
+ * @param <T> the entity type
+ */
+public interface EntityMapper<T> {
+
+    /**
+     * Returns the entity class this mapper was generated to
+     *
+     * @return the entity class
+     */
+    Class<T> getEntityClass();
+
+    /**
+     * Returns the supplier that creates a new entity instance
+     *
+     * @return the instance supplier or {@link Optional#empty()} when the no arg constructor is not reachable
+     */
+    Optional<Supplier<T>> getInstanceSupplier();
+
+    /**
+     * Returns the {@link FieldAccessor} to the field name
+     *
+     * @param fieldName the Java field name
+     * @return the accessor or {@link Optional#empty()} when the field is not reachable
+     */
+    Optional<FieldAccessor> getAccessor(String fieldName);
+}
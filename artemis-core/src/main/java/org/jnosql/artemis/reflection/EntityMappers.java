@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.reflection;
+
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@link EntityMapper} instances found in the classpath, indexed by entity class
+ */
+final class EntityMappers {
+
+    private static final Logger LOGGER = Logger.getLogger(EntityMappers.class.getName());
+
+    private final Map<Class<?>, EntityMapper<?>> mappers;
+
+    private EntityMappers(Map<Class<?>, EntityMapper<?>> mappers) {
+        this.mappers = mappers;
+    }
+
+    Optional<EntityMapper<?>> get(Class<?> entityClass) {
+        return Optional.ofNullable(mappers.get(entityClass));
+    }
+
+    static EntityMappers load() {
+        Map<Class<?>, EntityMapper<?>> mappers = new HashMap<>();
+        Iterator<EntityMapper> iterator = ServiceLoader.load(EntityMapper.class).iterator();
+        while (hasNext(iterator)) {
+            try {
+                EntityMapper<?> mapper = iterator.next();
+                mappers.put(mapper.getEntityClass(), mapper);
+            } catch (ServiceConfigurationError error) {
+                LOGGER.log(Level.WARNING, "There is an error to load an entity mapper, the reflection will be used", error);
+            }
+        }
+        return new EntityMappers(Collections.unmodifiableMap(mappers));
+    }
+
+    private static boolean hasNext(Iterator<EntityMapper> iterator) {
+        try {
+            return iterator.hasNext();
+        } catch (ServiceConfigurationError error) {
+            LOGGER.log(Level.WARNING, "There is an error to load the entity mappers, the reflection will be used", error);
+            return false;
+        }
+    }
+}
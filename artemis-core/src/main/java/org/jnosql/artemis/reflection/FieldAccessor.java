@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.reflection;
+
+/**
+ * A getter/setter pair to a single {@link java.lang.reflect.Field}, it is created once when the
+ * {@link ClassRepresentation} is built and then reused on each conversion.
+ */
+public interface FieldAccessor {
+
+    /**
+     * Reads the field value from the bean
+     *
+     * @param bean the bean instance
+     * @return the field value
+     * @throws FieldAccessException when the value cannot be read
+     */
+    Object get(Object bean) throws FieldAccessException;
+
+    /**
+     * Writes the value to the bean field
+     *
+     * @param bean  the bean instance
+     * @param value the new value
+     * @throws FieldAccessException when the value cannot be written
+     */
+    void set(Object bean, Object value) throws FieldAccessException;
+
+    /**
+     * Reads a long field without boxing when the implementation supports it
+     *
+     * @param bean the bean instance
+     * @return the field value
+     * @throws FieldAccessException when the value cannot be read
+     */
+    default long getLong(Object bean) throws FieldAccessException {
+        return ((Number) get(bean)).longValue();
+    }
+
+    /**
+     * Writes to a long field without boxing when the implementation supports it
+     *
+     * @param bean  the bean instance
+     * @param value the new value
+     * @throws FieldAccessException when the value cannot be written
+     */
+    default void setLong(Object bean, long value) throws FieldAccessException {
+        set(bean, value);
+    }
+
+    /**
+     * Reads a int field without boxing when the implementation supports it
+     *
+     * @param bean the bean instance
+     * @return the field value
+     * @throws FieldAccessException when the value cannot be read
+     */
+    default int getInt(Object bean) throws FieldAccessException {
+        return ((Number) get(bean)).intValue();
+    }
+
+    /**
+     * Writes to a int field without boxing when the implementation supports it
+     *
+     * @param bean  the bean instance
+     * @param value the new value
+     * @throws FieldAccessException when the value cannot be written
+     */
+    default void setInt(Object bean, int value) throws FieldAccessException {
+        set(bean, value);
+    }
+
+    /**
+     * Reads a double field without boxing when the implementation supports it
+     *
+     * @param bean the bean instance
+     * @return the field value
+     * @throws FieldAccessException when the value cannot be read
+     */
+    default double getDouble(Object bean) throws FieldAccessException {
+        return ((Number) get(bean)).doubleValue();
+    }
+
+    /**
+     * Writes to a double field without boxing when the implementation supports it
+     *
+     * @param bean  the bean instance
+     * @param value the new value
+     * @throws FieldAccessException when the value cannot be written
+     */
+    default void setDouble(Object bean, double value) throws FieldAccessException {
+        set(bean, value);
+    }
+
+    /**
+     * Creates a {@link FieldAccessor} from {@link java.lang.reflect.Field}, the field must be accessible.
+     *
+     * @param field the field
+     * @return a new {@link FieldAccessor} instance
+     * @throws NullPointerException when field is null
+     * @throws FieldAccessException when the field cannot be unreflected
+     */
+    static FieldAccessor of(java.lang.reflect.Field field) throws NullPointerException, FieldAccessException {
+        return MethodHandleFieldAccessor.of(field);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.reflection;
+
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Resolves a field of a dynamic query method name, such as {@code Name} or {@code AddressCity}, against the
+ * {@link FieldRepresentation} tree of an entity. The result is the name stored in the database, so
+ * {@link org.jnosql.artemis.Column#value()} is used, and the fields of an {@link FieldType#EMBEDDED} entity are
+ * joined by a dot, e.g.: {@code address.city}, the same structure of the conversion plans,
+ * {@code org.jnosql.artemis.column.ColumnEntityPlan} and {@code org.jnosql.artemis.document.DocumentEntityPlan}.
+ * A document stores an embedded entity as a sub document, so a dotted path such as {@code movie.title} is a
+ * meaningful filter to document databases only. A column family stores the embedded entity as a single
+ * sub column, so most column databases are not able to filter by its path.
+ */
+public final class FieldPathResolver {
+
+    private static final char SEPARATOR = '.';
+
+    private final ClassRepresentation classRepresentation;
+
+    private final ClassRepresentations classRepresentations;
+
+    /**
+     * Creates a resolver that does not follow the embedded entities
+     *
+     * @param classRepresentation the entity representation
+     * @throws NullPointerException when classRepresentation is null
+     */
+    public FieldPathResolver(ClassRepresentation classRepresentation) throws NullPointerException {
+        this.classRepresentation = Objects.requireNonNull(classRepresentation, "classRepresentation is required");
+        this.classRepresentations = null;
+    }
+
+    /**
+     * Creates a resolver
+     *
+     * @param classRepresentation  the entity representation
+     * @param classRepresentations the representations to the embedded entities
+     * @throws NullPointerException when there is null parameter
+     */
+    public FieldPathResolver(ClassRepresentation classRepresentation, ClassRepresentations classRepresentations)
+            throws NullPointerException {
+        this.classRepresentation = Objects.requireNonNull(classRepresentation, "classRepresentation is required");
+        this.classRepresentations = Objects.requireNonNull(classRepresentations, "classRepresentations is required");
+    }
+
+    /**
+     * Resolves a field token of a method name
+     *
+     * @param token the token, e.g.: {@code AddressCity}
+     * @return the path, e.g.: {@code address.city}, or {@link Optional#empty()} when there is no such field
+     * @throws NullPointerException when token is null
+     */
+    public Optional<String> resolve(String token) throws NullPointerException {
+        Objects.requireNonNull(token, "token is required");
+        if (token.isEmpty()) {
+            return Optional.empty();
+        }
+        String name = Character.toLowerCase(token.charAt(0)) + token.substring(1);
+        return resolve(name, classRepresentation);
+    }
+
+    /**
+     * Creates the function that reads the value of a path, the result of {@link FieldPathResolver#resolve(String)},
+     * from an entity instance. An embedded entity that is null reads null.
+     *
+     * @param path the path, e.g.: {@code address.city}
+     * @return the function or {@link Optional#empty()} when there is no such field
+     * @throws NullPointerException when path is null
+     */
+    public Optional<Function<Object, Object>> toReader(String path) throws NullPointerException {
+        Objects.requireNonNull(path, "path is required");
+        List<FieldRepresentation> fields = new ArrayList<>();
+        ClassRepresentation representation = classRepresentation;
+        for (String name : path.split("\\" + SEPARATOR)) {
+            if (representation == null) {
+                return Optional.empty();
+            }
+            Optional<FieldRepresentation> field = representation.getFields().stream()
+                    .filter(f -> f.getName().equals(name)).findFirst();
+            if (!field.isPresent()) {
+                return Optional.empty();
+            }
+            fields.add(field.get());
+            representation = FieldType.EMBEDDED.equals(field.get().getType()) && classRepresentations != null
+                    ? classRepresentations.get(field.get().getField().getType()) : null;
+        }
+        return Optional.of(instance -> {
+            Object value = instance;
+            for (FieldRepresentation field : fields) {
+                if (value == null) {
+                    return null;
+                }
+                value = field.read(value);
+            }
+            return value;
+        });
+    }
+
+    private Optional<String> resolve(String name, ClassRepresentation representation) {
+        for (FieldRepresentation field : representation.getFields()) {
+            if (field.getField().getName().equals(name)) {
+                return Optional.of(field.getName());
+            }
+        }
+        if (classRepresentations == null) {
+            return Optional.empty();
+        }
+        List<FieldRepresentation> embedded = representation.getFields().stream()
+                .filter(f -> FieldType.EMBEDDED.equals(f.getType()))
+                .filter(f -> isPrefix(f.getField().getName(), name))
+                .sorted(Comparator.comparingInt((FieldRepresentation f) -> f.getField().getName().length()).reversed())
+                .collect(toList());
+        for (FieldRepresentation field : embedded) {
+            String fieldName = field.getField().getName();
+            String remaining = name.substring(fieldName.length());
+            remaining = Character.toLowerCase(remaining.charAt(0)) + remaining.substring(1);
+            Optional<String> path = resolve(remaining, classRepresentations.get(field.getField().getType()));
+            if (path.isPresent()) {
+                return Optional.of(field.getName() + SEPARATOR + path.get());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isPrefix(String fieldName, String name) {
+        return name.length() > fieldName.length() && name.startsWith(fieldName)
+                && Character.isUpperCase(name.charAt(fieldName.length()));
+    }
+}
@@ -61,6 +61,78 @@ public interface FieldRepresentation extends Serializable {
      */
     Object getValue(Value value);
 
+    /**
+     * Reads the field value from the bean using the {@link FieldAccessor} created to this field
+     *
+     * @param bean the bean instance
+     * @return the field value
+     * @throws FieldAccessException when the value cannot be read
+     */
+    Object read(Object bean) throws FieldAccessException;
+
+    /**
+     * Writes the value to the bean field using the {@link FieldAccessor} created to this field
+     *
+     * @param bean  the bean instance
+     * @param value the new value
+     * @throws FieldAccessException when the value cannot be written
+     */
+    void write(Object bean, Object value) throws FieldAccessException;
+
+    /**
+     * Reads a long field using {@link FieldAccessor#getLong(Object)}
+     *
+     * @param bean the bean instance
+     * @return the field value
+     * @throws FieldAccessException when the value cannot be read
+     */
+    long getLong(Object bean) throws FieldAccessException;
+
+    /**
+     * Writes to a long field using {@link FieldAccessor#setLong(Object, long)}
+     *
+     * @param bean  the bean instance
+     * @param value the new value
+     * @throws FieldAccessException when the value cannot be written
+     */
+    void setLong(Object bean, long value) throws FieldAccessException;
+
+    /**
+     * Reads a int field using {@link FieldAccessor#getInt(Object)}
+     *
+     * @param bean the bean instance
+     * @return the field value
+     * @throws FieldAccessException when the value cannot be read
+     */
+    int getInt(Object bean) throws FieldAccessException;
+
+    /**
+     * Writes to a int field using {@link FieldAccessor#setInt(Object, int)}
+     *
+     * @param bean  the bean instance
+     * @param value the new value
+     * @throws FieldAccessException when the value cannot be written
+     */
+    void setInt(Object bean, int value) throws FieldAccessException;
+
+    /**
+     * Reads a double field using {@link FieldAccessor#getDouble(Object)}
+     *
+     * @param bean the bean instance
+     * @return the field value
+     * @throws FieldAccessException when the value cannot be read
+     */
+    double getDouble(Object bean) throws FieldAccessException;
+
+    /**
+     * Writes to a double field using {@link FieldAccessor#setDouble(Object, double)}
+     *
+     * @param bean  the bean instance
+     * @param value the new value
+     * @throws FieldAccessException when the value cannot be written
+     */
+    void setDouble(Object bean, double value) throws FieldAccessException;
+
     /**
      * Returns true is the field is annotated with {@link org.jnosql.artemis.Key}
      * @return true is annotated with {@link org.jnosql.artemis.Key}
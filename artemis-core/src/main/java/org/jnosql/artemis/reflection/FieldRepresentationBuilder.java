@@ -35,6 +35,10 @@ class FieldRepresentationBuilder {
 
     private TypeSupplier<?> typeSupplier;
 
+    private FieldAccessor accessor;
+
+    private ValueReader reader;
+
     public FieldRepresentationBuilder withType(FieldType type) {
         this.type = type;
         return this;
@@ -55,21 +59,31 @@ class FieldRepresentationBuilder {
         return this;
     }
 
+    public FieldRepresentationBuilder withAccessor(FieldAccessor accessor) {
+        this.accessor = accessor;
+        return this;
+    }
+
+    public FieldRepresentationBuilder withReader(ValueReader reader) {
+        this.reader = reader;
+        return this;
+    }
+
     public FieldRepresentationBuilder withEntityName(String entityName) {
         this.entityName = entityName;
         return this;
     }
 
     public DefaultFieldRepresentation buildDefault() {
-        return new DefaultFieldRepresentation(type, field, name);
+        return new DefaultFieldRepresentation(type, field, name, accessor, reader);
     }
 
     public GenericFieldRepresentation buildGeneric() {
-        return new GenericFieldRepresentation(type, field, name, typeSupplier);
+        return new GenericFieldRepresentation(type, field, name, accessor, reader, typeSupplier);
     }
 
     public EmbeddedFieldRepresentation buildEmedded() {
-        return new EmbeddedFieldRepresentation(type, field, name, entityName);
+        return new EmbeddedFieldRepresentation(type, field, name, accessor, reader, entityName);
     }
 
 }
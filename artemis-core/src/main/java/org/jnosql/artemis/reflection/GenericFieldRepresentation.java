@@ -23,7 +23,6 @@ package org.jnosql.artemis.reflection;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.jnosql.diana.api.TypeSupplier;
-import org.jnosql.diana.api.Value;
 
 import java.lang.reflect.Field;
 import java.util.Objects;
@@ -32,16 +31,12 @@ public class GenericFieldRepresentation extends AbstractFieldRepresentation {
 
     private final TypeSupplier<?> typeSupplier;
 
-    GenericFieldRepresentation(FieldType type, Field field, String name, TypeSupplier<?> typeSupplier) {
-        super(type, field, name);
+    GenericFieldRepresentation(FieldType type, Field field, String name, FieldAccessor accessor,
+                               ValueReader reader, TypeSupplier<?> typeSupplier) {
+        super(type, field, name, accessor, reader);
         this.typeSupplier = typeSupplier;
     }
 
-    @Override
-    public Object getValue(Value value) {
-        return value.get(typeSupplier);
-    }
-
     @Override
     public boolean isKey() {
         return false;
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.reflection;
+
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The instantiation strategy of an entity, either from the no arg constructor or from a constructor whose
+ * parameters are bound to the entity fields. In the last one, the constructor is invoked with a single
+ * {@link MethodHandle} call that spreads the arguments array.
+ */
+final class InstanceCreator {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final Constructor constructor;
+
+    private final Supplier<?> supplier;
+
+    private final List<FieldRepresentation> parameters;
+
+    private final MethodHandle handle;
+
+    private final Object[] defaults;
+
+    private InstanceCreator(Constructor constructor, Supplier<?> supplier, List<FieldRepresentation> parameters,
+                            MethodHandle handle, Object[] defaults) {
+        this.constructor = constructor;
+        this.supplier = supplier;
+        this.parameters = parameters;
+        this.handle = handle;
+        this.defaults = defaults;
+    }
+
+    Constructor getConstructor() {
+        return constructor;
+    }
+
+    List<FieldRepresentation> getParameters() {
+        return parameters;
+    }
+
+    Object[] newArguments() {
+        return defaults.clone();
+    }
+
+    Object newInstance() {
+        if (supplier != null) {
+            return supplier.get();
+        }
+        return newInstance(newArguments());
+    }
+
+    Object newInstance(Object[] arguments) {
+        if (handle == null) {
+            return supplier.get();
+        }
+        try {
+            return (Object) handle.invokeExact(arguments);
+        } catch (Throwable throwable) {
+            throw new ConstructorException("There is an error to create the instance using the constructor: "
+                    + constructor, throwable);
+        }
+    }
+
+    static InstanceCreator of(Constructor constructor, Supplier<?> supplier) {
+        return new InstanceCreator(constructor, supplier, Collections.emptyList(), null, new Object[0]);
+    }
+
+    static InstanceCreator of(Constructor constructor, List<FieldRepresentation> parameters) {
+        try {
+            Class<?>[] types = constructor.getParameterTypes();
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, types.length)
+                    .asType(CONSTRUCTOR_TYPE);
+            Object[] defaults = new Object[types.length];
+            for (int index = 0; index < types.length; index++) {
+                if (types[index].isPrimitive()) {
+                    defaults[index] = Array.get(Array.newInstance(types[index], 1), 0);
+                }
+            }
+            return new InstanceCreator(constructor, null, Collections.unmodifiableList(parameters), handle, defaults);
+        } catch (IllegalAccessException exception) {
+            throw new ConstructorException("There is an error to access the constructor: " + constructor, exception);
+        }
+    }
+}
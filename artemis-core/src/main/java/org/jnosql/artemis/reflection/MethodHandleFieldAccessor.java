@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.reflection;
+
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/**
+ * The {@link FieldAccessor} implementation that uses {@link MethodHandle}, the handles are adapted to the
+ * generic signatures, so the calls are made with {@link MethodHandle#invokeExact(Object...)}
+ * instead of the reflective {@link Field#get(Object)} and {@link Field#set(Object, Object)}.
+ * The primitive fields also have handles typed to the field type, so the long, int and double
+ * accessors do not box the value.
+ */
+final class MethodHandleFieldAccessor implements FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+
+    private final MethodHandle getter;
+
+    private final MethodHandle setter;
+
+    private final MethodHandle primitiveGetter;
+
+    private final MethodHandle primitiveSetter;
+
+    private MethodHandleFieldAccessor(Field field, MethodHandle getter, MethodHandle setter,
+                                      MethodHandle primitiveGetter, MethodHandle primitiveSetter) {
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+        this.primitiveGetter = primitiveGetter;
+        this.primitiveSetter = primitiveSetter;
+    }
+
+    @Override
+    public Object get(Object bean) {
+        try {
+            return (Object) getter.invokeExact(bean);
+        } catch (Throwable throwable) {
+            throw new FieldAccessException(field, throwable);
+        }
+    }
+
+    @Override
+    public void set(Object bean, Object value) {
+        try {
+            setter.invokeExact(bean, value);
+        } catch (Throwable throwable) {
+            throw new FieldAccessException(field, throwable);
+        }
+    }
+
+    @Override
+    public long getLong(Object bean) {
+        if (long.class != field.getType()) {
+            return FieldAccessor.super.getLong(bean);
+        }
+        try {
+            return (long) primitiveGetter.invokeExact(bean);
+        } catch (Throwable throwable) {
+            throw new FieldAccessException(field, throwable);
+        }
+    }
+
+    @Override
+    public void setLong(Object bean, long value) {
+        if (long.class != field.getType()) {
+            FieldAccessor.super.setLong(bean, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(bean, value);
+        } catch (Throwable throwable) {
+            throw new FieldAccessException(field, throwable);
+        }
+    }
+
+    @Override
+    public int getInt(Object bean) {
+        if (int.class != field.getType()) {
+            return FieldAccessor.super.getInt(bean);
+        }
+        try {
+            return (int) primitiveGetter.invokeExact(bean);
+        } catch (Throwable throwable) {
+            throw new FieldAccessException(field, throwable);
+        }
+    }
+
+    @Override
+    public void setInt(Object bean, int value) {
+        if (int.class != field.getType()) {
+            FieldAccessor.super.setInt(bean, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(bean, value);
+        } catch (Throwable throwable) {
+            throw new FieldAccessException(field, throwable);
+        }
+    }
+
+    @Override
+    public double getDouble(Object bean) {
+        if (double.class != field.getType()) {
+            return FieldAccessor.super.getDouble(bean);
+        }
+        try {
+            return (double) primitiveGetter.invokeExact(bean);
+        } catch (Throwable throwable) {
+            throw new FieldAccessException(field, throwable);
+        }
+    }
+
+    @Override
+    public void setDouble(Object bean, double value) {
+        if (double.class != field.getType()) {
+            FieldAccessor.super.setDouble(bean, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(bean, value);
+        } catch (Throwable throwable) {
+            throw new FieldAccessException(field, throwable);
+        }
+    }
+
+    static MethodHandleFieldAccessor of(Field field) {
+        Objects.requireNonNull(field, "field is required");
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle fieldGetter = lookup.unreflectGetter(field);
+            MethodHandle fieldSetter = lookup.unreflectSetter(field);
+            MethodHandle primitiveGetter = null;
+            MethodHandle primitiveSetter = null;
+            if (field.getType().isPrimitive()) {
+                primitiveGetter = fieldGetter.asType(MethodType.methodType(field.getType(), Object.class));
+                primitiveSetter = fieldSetter.asType(MethodType.methodType(void.class, Object.class, field.getType()));
+            }
+            return new MethodHandleFieldAccessor(field, fieldGetter.asType(GETTER_TYPE),
+                    fieldSetter.asType(SETTER_TYPE), primitiveGetter, primitiveSetter);
+        } catch (IllegalAccessException exception) {
+            throw new FieldAccessException(field, exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MethodHandleFieldAccessor{" +
+                "field=" + field +
+                '}';
+    }
+}
@@ -170,7 +170,8 @@ public class Reflections {
      */
     public void makeAccessible(Field field) {
         if ((!Modifier.isPublic(field.getModifiers()) || !Modifier
-                .isPublic(field.getDeclaringClass().getModifiers()))
+                .isPublic(field.getDeclaringClass().getModifiers())
+                || Modifier.isFinal(field.getModifiers()))
                 && !field.isAccessible()) {
             field.setAccessible(true);
         }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.reflection;
+
+
+import org.jnosql.diana.api.TypeSupplier;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Creates the {@link ValueReader} to a field. When the value already has the field type, or when it is
+ * a trivial conversion such as {@link Number} to another boxed number, {@link String} to enum and
+ * {@link List} or {@link Map} of {@link String}, the value is read without
+ * {@link org.jnosql.diana.api.Value#get(Class)} that looks up the converter on each call.
+ */
+final class ValueReaders {
+
+    private static final Map<Class<?>, Class<?>> WRAPPERS;
+
+    private static final Map<Class<?>, Function<Number, Object>> NUMBERS;
+
+    static {
+        Map<Class<?>, Class<?>> wrappers = new HashMap<>();
+        wrappers.put(boolean.class, Boolean.class);
+        wrappers.put(byte.class, Byte.class);
+        wrappers.put(char.class, Character.class);
+        wrappers.put(short.class, Short.class);
+        wrappers.put(int.class, Integer.class);
+        wrappers.put(long.class, Long.class);
+        wrappers.put(float.class, Float.class);
+        wrappers.put(double.class, Double.class);
+        WRAPPERS = Collections.unmodifiableMap(wrappers);
+
+        Map<Class<?>, Function<Number, Object>> numbers = new HashMap<>();
+        numbers.put(Byte.class, Number::byteValue);
+        numbers.put(Short.class, Number::shortValue);
+        numbers.put(Integer.class, Number::intValue);
+        numbers.put(Long.class, Number::longValue);
+        numbers.put(Float.class, Number::floatValue);
+        numbers.put(Double.class, Number::doubleValue);
+        NUMBERS = Collections.unmodifiableMap(numbers);
+    }
+
+    private ValueReaders() {
+    }
+
+    /**
+     * Creates the reader to a field
+     *
+     * @param field        the field
+     * @param type         the field type
+     * @param typeSupplier the generic type to collections and maps
+     * @return the {@link ValueReader} instance
+     */
+    static ValueReader of(Field field, FieldType type, TypeSupplier<?> typeSupplier) {
+        switch (type) {
+            case COLLECTION:
+            case MAP:
+                return ofGeneric(field, typeSupplier);
+            default:
+                return of(field.getType());
+        }
+    }
+
+    static ValueReader of(Class<?> type) {
+        Class<?> boxed = WRAPPERS.getOrDefault(type, type);
+        if (NUMBERS.containsKey(boxed)) {
+            Function<Number, Object> converter = NUMBERS.get(boxed);
+            return value -> {
+                Object raw = value.get();
+                if (boxed.isInstance(raw)) {
+                    return raw;
+                } else if (raw instanceof Number) {
+                    return converter.apply((Number) raw);
+                }
+                return value.get(type);
+            };
+        }
+        if (boxed.isEnum()) {
+            Map<String, Object> constants = new HashMap<>();
+            for (Object constant : boxed.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name(), constant);
+            }
+            return value -> {
+                Object raw = value.get();
+                if (boxed.isInstance(raw)) {
+                    return raw;
+                }
+                Object constant = raw instanceof String ? constants.get(raw) : null;
+                return constant == null ? value.get(type) : constant;
+            };
+        }
+        return value -> {
+            Object raw = value.get();
+            if (boxed.isInstance(raw)) {
+                return raw;
+            }
+            return value.get(type);
+        };
+    }
+
+    private static ValueReader ofGeneric(Field field, TypeSupplier<?> typeSupplier) {
+        Class<?> type = field.getType();
+        Type genericType = field.getGenericType();
+        if (type.isAssignableFrom(ArrayList.class) && isStringArguments(genericType, 1)) {
+            return value -> {
+                Object raw = value.get();
+                if (raw instanceof List && containsOnlyStrings((List<?>) raw)) {
+                    return new ArrayList<>((List<?>) raw);
+                }
+                return value.get(typeSupplier);
+            };
+        }
+        if (type.isAssignableFrom(HashMap.class) && isStringArguments(genericType, 2)) {
+            return value -> {
+                Object raw = value.get();
+                if (raw instanceof Map && containsOnlyStrings(((Map<?, ?>) raw).keySet())
+                        && containsOnlyStrings(((Map<?, ?>) raw).values())) {
+                    return new HashMap<>((Map<?, ?>) raw);
+                }
+                return value.get(typeSupplier);
+            };
+        }
+        return value -> value.get(typeSupplier);
+    }
+
+    private static boolean isStringArguments(Type genericType, int size) {
+        if (!(genericType instanceof ParameterizedType)) {
+            return false;
+        }
+        Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+        if (arguments.length != size) {
+            return false;
+        }
+        for (Type argument : arguments) {
+            if (!String.class.equals(argument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsOnlyStrings(Iterable<?> elements) {
+        for (Object element : elements) {
+            if (!(element instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
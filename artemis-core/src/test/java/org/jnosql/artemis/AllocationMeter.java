@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.Assume.assumeNoException;
+import static org.junit.Assume.assumeNotNull;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Measures the bytes allocated by the current thread, it is shared by the allocation budget tests.
+ * The budgets only hold on a JVM that measures the thread allocation and compiles the code, so
+ * {@link AllocationMeter#of()} skips the test when the JVM is not able to give a meaningful measure:
+ * there is no JIT compiler, e.g.: -Xint, or the JVM does not have {@code com.sun.management.ThreadMXBean}
+ * or the thread allocation measure is either unsupported or disabled.
+ */
+public final class AllocationMeter {
+
+    private static final String THREAD_BEAN = "com.sun.management.ThreadMXBean";
+
+    private final com.sun.management.ThreadMXBean threadBean;
+
+    private AllocationMeter(com.sun.management.ThreadMXBean threadBean) {
+        this.threadBean = threadBean;
+    }
+
+    /**
+     * Returns the meter to the current JVM, it skips the test when the JVM does not measure the allocation
+     *
+     * @return the meter
+     */
+    public static AllocationMeter of() {
+        assumeNotNull(ManagementFactory.getCompilationMXBean());
+        try {
+            Class.forName(THREAD_BEAN);
+        } catch (ClassNotFoundException exception) {
+            assumeNoException(exception);
+        }
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        if (!threadBean.isThreadAllocatedMemoryEnabled()) {
+            try {
+                threadBean.setThreadAllocatedMemoryEnabled(true);
+            } catch (UnsupportedOperationException | SecurityException exception) {
+                assumeNoException(exception);
+            }
+        }
+        assumeTrue(threadBean.isThreadAllocatedMemoryEnabled());
+        return new AllocationMeter(threadBean);
+    }
+
+    /**
+     * Runs the action warmUp times and then returns the average of bytes allocated to each one of the
+     * next iterations
+     *
+     * @param action     the measured action
+     * @param warmUp     the runs before the measure, so the action is compiled
+     * @param iterations the measured runs
+     * @return the bytes allocated to each run
+     */
+    public long bytesPerRun(Runnable action, int warmUp, int iterations) {
+        for (int index = 0; index < warmUp; index++) {
+            action.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int index = 0; index < iterations; index++) {
+            action.run();
+        }
+        return (threadBean.getThreadAllocatedBytes(threadId) - start) / iterations;
+    }
+}
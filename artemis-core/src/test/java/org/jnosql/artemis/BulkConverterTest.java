@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BulkConverterTest {
+
+    private final Function<Integer, String> toText = String::valueOf;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenThresholdIsNotPositive() {
+        new BulkConverter(0, Runnable::run);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenExecutorIsNull() {
+        new BulkConverter(10, null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenValuesIsNull() {
+        new BulkConverter().convert(null, toText);
+    }
+
+    @Test
+    public void shouldConvertSequentiallyUpToThreshold() {
+        List<Runnable> forks = new ArrayList<>();
+        BulkConverter converter = new BulkConverter(10, forks::add);
+        List<String> result = converter.convert(numbers(10), toText);
+        assertEquals(expected(10), result);
+        assertTrue(forks.isEmpty());
+    }
+
+    @Test
+    public void shouldKeepOrderWhenSplit() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BulkConverter converter = new BulkConverter(10, executor);
+            assertEquals(expected(10_000), converter.convert(numbers(10_000), toText));
+            assertEquals(expected(10_000), converter.convert(new LinkedList<>(numbers(10_000)), toText));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldUseExecutorWhenSplit() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            BulkConverter converter = new BulkConverter(10, executor);
+            converter.convert(numbers(10_000), i -> {
+                threads.add(Thread.currentThread().getName());
+                return i;
+            });
+            assertTrue(threads.contains(Thread.currentThread().getName()));
+            assertTrue(threads.size() > 1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldPropagateErrorFromFork() {
+        BulkConverter converter = new BulkConverter(10, Runnable::run);
+        converter.convert(numbers(100), i -> {
+            if (i == 99) {
+                throw new IllegalStateException("error");
+            }
+            return i;
+        });
+    }
+
+    private List<Integer> numbers(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    private List<String> expected(int size) {
+        return IntStream.range(0, size).mapToObj(String::valueOf).collect(Collectors.toList());
+    }
+}
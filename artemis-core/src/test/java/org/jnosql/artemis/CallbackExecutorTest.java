@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CallbackExecutorTest {
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenExecutorIsNull() {
+        new CallbackExecutor(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenCommandIsNull() {
+        new CallbackExecutor().execute(null);
+    }
+
+    @Test
+    public void shouldRunOnTheCallerThreadByDefault() {
+        CallbackExecutor executor = new CallbackExecutor();
+        AtomicBoolean called = new AtomicBoolean();
+        executor.execute(() -> called.set(true));
+        assertTrue(called.get());
+        assertEquals(0, executor.getQueueDepth());
+        assertEquals(1L, executor.getCount());
+    }
+
+    @Test
+    public void shouldMeasureTheQueueDepth() {
+        List<Runnable> tasks = new ArrayList<>();
+        CallbackExecutor executor = new CallbackExecutor(tasks::add);
+        executor.execute(() -> {
+        });
+        executor.execute(() -> {
+        });
+        assertEquals(2, executor.getQueueDepth());
+        assertEquals(0L, executor.getCount());
+
+        tasks.get(0).run();
+        assertEquals(1, executor.getQueueDepth());
+        assertEquals(1L, executor.getCount());
+        tasks.get(1).run();
+        assertEquals(0, executor.getQueueDepth());
+        assertEquals(2, executor.getMaxQueueDepth());
+        assertEquals(2L, executor.getCount());
+    }
+
+    @Test
+    public void shouldMeasureTheLatency() throws InterruptedException {
+        List<Runnable> tasks = new ArrayList<>();
+        CallbackExecutor executor = new CallbackExecutor(tasks::add);
+        assertEquals(Duration.ZERO, executor.getAverageLatency());
+        executor.execute(() -> {
+        });
+        Thread.sleep(10L);
+        tasks.get(0).run();
+        assertTrue(executor.getMaxLatency().compareTo(Duration.ofMillis(10L)) >= 0);
+        assertEquals(executor.getMaxLatency(), executor.getAverageLatency());
+    }
+
+    @Test
+    public void shouldNotCountRejectedCommands() {
+        CallbackExecutor executor = new CallbackExecutor(r -> {
+            throw new RejectedExecutionException();
+        });
+        try {
+            executor.execute(() -> {
+            });
+        } catch (RejectedExecutionException exception) {
+            assertEquals(0, executor.getQueueDepth());
+            assertEquals(0L, executor.getCount());
+            return;
+        }
+        throw new AssertionError("the executor should reject the command");
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CursorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenSizeIsNotPositive() {
+        Cursor.first(0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenTokenIsNull() {
+        Cursor.of(null, 10);
+    }
+
+    @Test
+    public void shouldCreateFirstCursor() {
+        Cursor cursor = Cursor.first(10);
+        assertEquals(10, cursor.getSize());
+        assertTrue(cursor.getKeys().isEmpty());
+        assertEquals(cursor, Cursor.of(cursor.getToken(), 10));
+    }
+
+    @Test
+    public void shouldReadTheKeysBackFromToken() {
+        List<Object> keys = Arrays.asList("Ada", true, 'a', (byte) 1, (short) 2, 3, 4L, 5.5F, 6.5D,
+                BigInteger.TEN, new BigDecimal("10.25"), Instant.ofEpochSecond(1000), LocalDate.of(2017, 1, 2),
+                LocalDateTime.of(2017, 1, 2, 3, 4), new Date(1000L));
+        Cursor cursor = Cursor.after(keys, 20);
+        String token = cursor.getToken();
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+
+        Cursor read = Cursor.of(token, 20);
+        assertEquals(keys, read.getKeys());
+        assertEquals(cursor, read);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenKeyIsNotSupported() {
+        Cursor.after(Collections.singletonList(new Object()), 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenTokenIsNotBase64() {
+        Cursor.of("not a token", 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenTokenIsTruncated() {
+        String token = Cursor.after(Arrays.asList("Ada", 10L), 10).getToken();
+        Cursor.of(token.substring(0, token.length() - 4), 10);
+    }
+
+    @Test
+    public void shouldCreatePage() {
+        Cursor next = Cursor.after(Collections.singletonList(10L), 2);
+        Page<String> page = Page.of(Arrays.asList("Ada", "Poliana"), next);
+        assertEquals(Arrays.asList("Ada", "Poliana"), page.getContent());
+        assertTrue(page.hasNext());
+        assertEquals(next, page.next());
+        assertEquals(next.getToken(), page.getToken().get());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldReturnErrorWhenThereIsNoNextPage() {
+        Page<String> page = Page.of(Collections.singletonList("Ada"), null);
+        assertFalse(page.hasNext());
+        assertFalse(page.getToken().isPresent());
+        page.next();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+import org.jnosql.artemis.model.Person;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Observes the entity events both without qualifier and with the {@link EntityType} of {@link Person}
+ */
+@ApplicationScoped
+public class EntityEventObserver {
+
+    private final List<Object> preEntities = new CopyOnWriteArrayList<>();
+
+    private final List<Object> postPersons = new CopyOnWriteArrayList<>();
+
+    void observePreEntity(@Observes EntityPrePersist event) {
+        preEntities.add(event.getValue());
+    }
+
+    void observePostPerson(@Observes @EntityType(Person.class) EntityPostPersit event) {
+        postPersons.add(event.getValue());
+    }
+
+    public List<Object> getPreEntities() {
+        return preEntities;
+    }
+
+    public List<Object> getPostPersons() {
+        return postPersons;
+    }
+
+    public void clear() {
+        preEntities.clear();
+        postPersons.clear();
+    }
+}
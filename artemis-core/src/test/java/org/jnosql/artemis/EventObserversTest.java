@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.ObserverMethod;
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EventObserversTest {
+
+    @InjectMocks
+    private EventObservers observers;
+
+    @Mock
+    private BeanManager beanManager;
+
+    @Test
+    public void shouldReturnFalseWhenThereIsNotObserver() {
+        doReturn(Collections.emptySet()).when(beanManager).resolveObserverMethods(any(), anyVararg());
+        assertFalse(observers.isObserved(EntityPrePersist.class, "entity", EntityPrePersist::of));
+        assertFalse(observers.isObserved(EntityPrePersist.class, String.class, "entity", EntityPrePersist::of));
+    }
+
+    @Test
+    public void shouldReturnTrueWhenThereIsObserver() {
+        doReturn(Collections.singleton(mock(ObserverMethod.class))).when(beanManager)
+                .resolveObserverMethods(any(), anyVararg());
+        assertTrue(observers.isObserved(EntityPrePersist.class, "entity", EntityPrePersist::of));
+        assertTrue(observers.isObserved(EntityPrePersist.class, String.class, "entity", EntityPrePersist::of));
+    }
+
+    @Test
+    public void shouldResolveOnceByEventType() {
+        doReturn(Collections.emptySet()).when(beanManager).resolveObserverMethods(any(), anyVararg());
+        for (int index = 0; index < 10; index++) {
+            observers.isObserved(EntityPostPersit.class, "entity", EntityPostPersit::of);
+        }
+        verify(beanManager, times(1)).resolveObserverMethods(any(), anyVararg());
+    }
+
+    @Test
+    public void shouldResolveOnceByEntityType() {
+        doReturn(Collections.emptySet()).when(beanManager).resolveObserverMethods(any(), anyVararg());
+        for (int index = 0; index < 10; index++) {
+            observers.isObserved(EntityPostPersit.class, String.class, "entity", EntityPostPersit::of);
+            observers.isObserved(EntityPostPersit.class, Integer.class, 10, EntityPostPersit::of);
+        }
+        verify(beanManager, times(2)).resolveObserverMethods(any(), anyVararg());
+    }
+
+    @Test
+    public void shouldResolveWithEntityTypeQualifier() {
+        doReturn(Collections.emptySet()).when(beanManager).resolveObserverMethods(any(), anyVararg());
+        observers.isObserved(EntityPrePersist.class, String.class, "entity", EntityPrePersist::of);
+        verify(beanManager).resolveObserverMethods(any(EntityPrePersist.class),
+                eq(EntityTypeQualifier.of(String.class)));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenEventTypeIsNull() {
+        observers.isObserved(null, "entity", EntityPrePersist::of);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class PagerTest {
+
+    private final List<Integer> values = Arrays.asList(1, 2, 3, 4, 5);
+
+    private final List<Cursor> cursors = new ArrayList<>();
+
+    private final Function<Cursor, Page<Integer>> fetcher = cursor -> {
+        cursors.add(cursor);
+        int start = cursor.getKeys().isEmpty() ? 0 : values.indexOf(cursor.getKeys().get(0)) + 1;
+        int end = Math.min(start + cursor.getSize(), values.size());
+        Cursor next = end < values.size() ? Cursor.after(Collections.singletonList(values.get(end - 1)),
+                cursor.getSize()) : null;
+        return Page.of(values.subList(start, end), next);
+    };
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenFetcherIsNull() {
+        Pager.of(null, Cursor.first(2), Runnable::run);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenExecutorIsNull() {
+        Pager.of(fetcher, Cursor.first(2), null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenDepthIsNegative() {
+        Pager.of(fetcher, Cursor.first(2), -1, 10, Runnable::run);
+    }
+
+    @Test
+    public void shouldWalkAllPages() {
+        Pager<Integer> pager = Pager.of(fetcher, Cursor.first(2), Runnable::run);
+        List<Integer> result = new ArrayList<>();
+        pager.forEachRemaining(p -> result.addAll(p.getContent()));
+        assertEquals(values, result);
+        assertFalse(pager.hasNext());
+        assertEquals(3, cursors.size());
+    }
+
+    @Test
+    public void shouldPrefetchNextPage() {
+        Pager<Integer> pager = Pager.of(fetcher, Cursor.first(2), 1, Long.MAX_VALUE, Runnable::run);
+        assertEquals(1, cursors.size());
+
+        assertEquals(Arrays.asList(1, 2), pager.next().getContent());
+        assertEquals(2, cursors.size());
+        assertEquals(Collections.singletonList(2), cursors.get(1).getKeys());
+    }
+
+    @Test
+    public void shouldPrefetchUpToDepth() {
+        Pager<Integer> pager = Pager.of(fetcher, Cursor.first(1), 3, Long.MAX_VALUE, Runnable::run);
+        assertEquals(3, cursors.size());
+        pager.next();
+        assertEquals(4, cursors.size());
+    }
+
+    @Test
+    public void shouldBoundPrefetchByBufferedEntities() {
+        Pager<Integer> pager = Pager.of(fetcher, Cursor.first(2), 3, 4, Runnable::run);
+        assertEquals(2, cursors.size());
+    }
+
+    @Test
+    public void shouldNotPrefetchWhenBufferIsLesserThanPage() {
+        Pager<Integer> pager = Pager.of(fetcher, Cursor.first(2), 1, 1, Runnable::run);
+        assertEquals(0, cursors.size());
+        assertEquals(Arrays.asList(1, 2), pager.next().getContent());
+        assertEquals(1, cursors.size());
+    }
+
+    @Test
+    public void shouldNotFetchAfterLastPage() {
+        Pager<Integer> pager = Pager.of(fetcher, Cursor.first(10), 2, Long.MAX_VALUE, Runnable::run);
+        assertEquals(values, pager.next().getContent());
+        assertFalse(pager.hasNext());
+        assertEquals(1, cursors.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldReturnFetcherError() {
+        Pager<Integer> pager = Pager.of(c -> {
+            throw new IllegalStateException("error");
+        }, Cursor.first(2), 1, Long.MAX_VALUE, Runnable::run);
+        pager.next();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldNotReturnPageWhenClosed() {
+        Pager<Integer> pager = Pager.of(fetcher, Cursor.first(2), Runnable::run);
+        pager.close();
+        assertFalse(pager.hasNext());
+        pager.next();
+    }
+
+    @Test
+    public void shouldWalkAllPagesAsync() {
+        Pager<Integer> pager = Pager.ofAsync(c -> CompletableFuture.completedFuture(fetcher.apply(c)),
+                Cursor.first(2), 1, Long.MAX_VALUE);
+        List<Integer> result = new ArrayList<>();
+        while (pager.hasNext()) {
+            result.addAll(pager.next().getContent());
+        }
+        assertEquals(values, result);
+        assertEquals(3, cursors.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldReturnAsyncFetcherError() {
+        Pager<Integer> pager = Pager.ofAsync(c -> {
+            CompletableFuture<Page<Integer>> page = new CompletableFuture<>();
+            page.completeExceptionally(new IllegalStateException("error"));
+            return page;
+        }, Cursor.first(2), 1, Long.MAX_VALUE);
+        pager.next();
+    }
+
+    @Test
+    public void shouldNotFetchAfterClose() {
+        List<CompletableFuture<Page<Integer>>> pending = new ArrayList<>();
+        Pager<Integer> pager = Pager.ofAsync(c -> {
+            CompletableFuture<Page<Integer>> page = new CompletableFuture<>();
+            pending.add(page);
+            return page.thenApply(p -> fetcher.apply(c));
+        }, Cursor.first(2), 2, Long.MAX_VALUE);
+        assertEquals(1, pending.size());
+        pager.close();
+        pending.get(0).complete(null);
+        assertEquals(1, pending.size());
+        assertFalse(pager.hasNext());
+    }
+}
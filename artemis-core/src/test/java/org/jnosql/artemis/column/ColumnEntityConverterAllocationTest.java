@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.artemis.AllocationMeter;
+import org.jnosql.artemis.WeldJUnit4Runner;
+import org.jnosql.artemis.model.Movie;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the bytes allocated to each {@link ColumnEntityConverter#toColumn(Object)}, it is a regression budget
+ * to the write path and it is skipped when the JVM does not measure the thread allocation, see {@link AllocationMeter}.
+ * The budget of each entity is measured on the same JVM: it is the bytes allocated to build the same
+ * {@link ColumnEntity} by hand, that the converter cannot go below, times the headroom.
+ */
+@RunWith(WeldJUnit4Runner.class)
+public class ColumnEntityConverterAllocationTest {
+
+    private static final int WARM_UP = 20_000;
+
+    private static final int ITERATIONS = 10_000;
+
+    /**
+     * The converter might allocate up to twice the entity built by hand, the headroom takes the conversion of the
+     * values, e.g.: the copy of a collection
+     */
+    private static final long HEADROOM = 2;
+
+    @Inject
+    private ColumnEntityConverter converter;
+
+    private AllocationMeter meter;
+
+    private Object sink;
+
+    @Before
+    public void init() {
+        meter = AllocationMeter.of();
+    }
+
+    @Test
+    public void shouldKeepPersonAllocationInBudget() {
+        Person person = Person.builder().withId(12L).withName("Otavio").withAge(10)
+                .withPhones(Arrays.asList("234", "2342")).build();
+        long budget = HEADROOM * bytesPerBuild(() -> {
+            ColumnEntity entity = ColumnEntity.of("Person");
+            entity.add(Column.of("_id", 12L));
+            entity.add(Column.of("name", "Otavio"));
+            entity.add(Column.of("age", 10));
+            entity.add(Column.of("phones", Arrays.asList("234", "2342")));
+            return entity;
+        });
+        long bytes = bytesPerSave(person);
+        assertTrue("Bytes allocated to each Person: " + bytes + ", budget: " + budget, bytes <= budget);
+    }
+
+    @Test
+    public void shouldKeepMovieAllocationInBudget() {
+        Movie movie = new Movie("Matrix", 1999, Collections.singleton("Keanu Reeves"));
+        long budget = HEADROOM * bytesPerBuild(() -> {
+            ColumnEntity entity = ColumnEntity.of("movie");
+            entity.add(Column.of("title", "Matrix"));
+            entity.add(Column.of("year", 1999L));
+            entity.add(Column.of("actors", Collections.singleton("Keanu Reeves")));
+            return entity;
+        });
+        long bytes = bytesPerSave(movie);
+        assertTrue("Bytes allocated to each Movie: " + bytes + ", budget: " + budget, bytes <= budget);
+    }
+
+    private long bytesPerSave(Object entity) {
+        return meter.bytesPerRun(() -> sink = converter.toColumn(entity), WARM_UP, ITERATIONS);
+    }
+
+    private long bytesPerBuild(Supplier<ColumnEntity> builder) {
+        return meter.bytesPerRun(() -> sink = builder.get(), WARM_UP, ITERATIONS);
+    }
+}
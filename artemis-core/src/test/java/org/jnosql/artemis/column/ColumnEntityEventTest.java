@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.artemis.EntityEventObserver;
+import org.jnosql.artemis.WeldJUnit4Runner;
+import org.jnosql.artemis.model.Movie;
+import org.jnosql.artemis.model.Person;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(WeldJUnit4Runner.class)
+public class ColumnEntityEventTest {
+
+    @Inject
+    private ColumnEventPersistManager eventPersistManager;
+
+    @Inject
+    private EntityEventObserver observer;
+
+    @Before
+    public void setUp() {
+        observer.clear();
+    }
+
+    @Test
+    public void shouldFireToObserverWithoutQualifier() {
+        Movie movie = new Movie("Matrix", 1999, Collections.singleton("Keanu Reeves"));
+        assertFalse(eventPersistManager.isPreEntityUnobserved(movie));
+        eventPersistManager.firePreEntity(movie);
+        assertEquals(Collections.singletonList(movie), observer.getPreEntities());
+    }
+
+    @Test
+    public void shouldFireToObserverWithEntityTypeQualifier() {
+        Person person = Person.builder().withName("Ada").build();
+        Movie movie = new Movie("Matrix", 1999, Collections.singleton("Keanu Reeves"));
+        assertFalse(eventPersistManager.isPostEntityUnobserved(person));
+        assertTrue(eventPersistManager.isPostEntityUnobserved(movie));
+        eventPersistManager.firePostEntity(person);
+        eventPersistManager.firePostEntity(movie);
+        assertEquals(Collections.singletonList(person), observer.getPostPersons());
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.column;
+
+import org.jnosql.artemis.WeldContext;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.api.column.ColumnFamilyManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Compares {@link ColumnRepository#save(Object)} through the cached {@link ColumnWorkflowPipeline}
+ * against the workflow that composes the lambdas on each call, both against an in-memory manager.
+ * It is not a unit test, run it with the main method.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ColumnWorkflowBenchmark {
+
+    private ColumnRepository composed;
+
+    private ColumnRepository pipeline;
+
+    private Person person;
+
+    @Setup
+    public void setUp() {
+        ColumnEntityConverter converter = WeldContext.INSTANCE.getBean(ColumnEntityConverter.class);
+        ColumnEventPersistManager eventManager = WeldContext.INSTANCE.getBean(ColumnEventPersistManager.class);
+        ColumnFamilyManager manager = inMemoryManager();
+        composed = new BenchmarkRepository(converter, manager, new ComposedColumnWorkflow(eventManager, converter));
+        pipeline = new BenchmarkRepository(converter, manager, new DefaultColumnWorkflow(eventManager, converter));
+        person = Person.builder().withId(10L).withName("Ada").withAge(36)
+                .withPhones(Arrays.asList("234", "432")).build();
+    }
+
+    @Benchmark
+    public Person saveComposedWorkflow() {
+        return composed.save(person);
+    }
+
+    @Benchmark
+    public Person savePipeline() {
+        return pipeline.save(person);
+    }
+
+    private static ColumnFamilyManager inMemoryManager() {
+        return (ColumnFamilyManager) Proxy.newProxyInstance(ColumnFamilyManager.class.getClassLoader(),
+                new Class[]{ColumnFamilyManager.class}, (proxy, method, args) -> {
+                    if (args != null && args.length > 0 && args[0] instanceof ColumnEntity) {
+                        return args[0];
+                    }
+                    return null;
+                });
+    }
+
+    private static class BenchmarkRepository extends AbstractColumnRepository {
+
+        private final ColumnEntityConverter converter;
+
+        private final ColumnFamilyManager manager;
+
+        private final ColumnWorkflow flow;
+
+        BenchmarkRepository(ColumnEntityConverter converter, ColumnFamilyManager manager, ColumnWorkflow flow) {
+            this.converter = converter;
+            this.manager = manager;
+            this.flow = flow;
+        }
+
+        @Override
+        protected ColumnEntityConverter getConverter() {
+            return converter;
+        }
+
+        @Override
+        protected ColumnFamilyManager getManager() {
+            return manager;
+        }
+
+        @Override
+        protected ColumnWorkflow getFlow() {
+            return flow;
+        }
+    }
+
+    /**
+     * The workflow as it was before the pipeline: the stages are composed on each call
+     */
+    private static class ComposedColumnWorkflow implements ColumnWorkflow {
+
+        private final ColumnEventPersistManager eventManager;
+
+        private final ColumnEntityConverter converter;
+
+        ComposedColumnWorkflow(ColumnEventPersistManager eventManager, ColumnEntityConverter converter) {
+            this.eventManager = eventManager;
+            this.converter = converter;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T flow(T entity, UnaryOperator<ColumnEntity> action) {
+            UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
+            UnaryOperator<T> firePreEntity = t -> {
+                eventManager.firePreEntity(t);
+                return t;
+            };
+            Function<T, ColumnEntity> converterColumn = converter::toColumn;
+            UnaryOperator<ColumnEntity> firePreColumn = t -> {
+                eventManager.firePreColumn(t);
+                return t;
+            };
+            UnaryOperator<ColumnEntity> firePostColumn = t -> {
+                eventManager.firePostColumn(t);
+                return t;
+            };
+            Function<ColumnEntity, T> converterEntity = t -> converter.toEntity((Class<T>) entity.getClass(), t);
+            UnaryOperator<T> firePostEntity = t -> {
+                eventManager.firePostEntity(t);
+                return t;
+            };
+            return validation.andThen(firePreEntity)
+                    .andThen(converterColumn)
+                    .andThen(firePreColumn)
+                    .andThen(action)
+                    .andThen(firePostColumn)
+                    .andThen(converterEntity)
+                    .andThen(firePostEntity)
+                    .apply(entity);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ColumnWorkflowBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -21,7 +21,9 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.WeldJUnit4Runner;
 import org.jnosql.artemis.model.Actor;
+import org.jnosql.artemis.model.Book;
 import org.jnosql.artemis.model.Director;
+import org.jnosql.artemis.model.Employee;
 import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassRepresentations;
@@ -35,13 +37,17 @@ import org.junit.runner.RunWith;
 import javax.inject.Inject;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.Collections.singleton;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 @RunWith(WeldJUnit4Runner.class)
@@ -198,6 +204,98 @@ public class DefaultColumnEntityConverterTest {
     }
 
 
+    @Test
+    public void shouldConvertSelfReferencingEntity() {
+        Employee employee = new Employee("Ada", new Employee("Otavio", null));
+
+        ColumnEntity entity = converter.toColumn(employee);
+        Employee result = converter.toEntity(Employee.class, entity);
+
+        assertEquals("Ada", result.getName());
+        assertEquals("Otavio", result.getManager().getName());
+        assertNull(result.getManager().getManager());
+    }
+
+    @Test
+    public void shouldConvertSelfReferencingEntityWithoutSubColumn() {
+        ColumnEntity entity = ColumnEntity.of("Employee");
+        entity.add(Column.of("name", "Ada"));
+
+        Employee employee = converter.toEntity(Employee.class, entity);
+
+        assertEquals("Ada", employee.getName());
+        assertNull(employee.getManager());
+    }
+
+    @Test
+    public void shouldIgnoreUnknownColumnsWhenConvertToEntity() {
+        ColumnEntity entity = ColumnEntity.of("Actor");
+        Stream.of(columns).forEach(entity::add);
+        entity.add(Column.of("unknown", "value"));
+        entity.add(Column.of("ignore", "value"));
+
+        Actor actor = converter.toEntity(Actor.class, entity);
+        assertNotNull(actor);
+        assertEquals(12L, actor.getId());
+        assertNull(actor.getIgnore());
+    }
+
+    @Test
+    public void shouldConvertToEntityFromConstructor() {
+        ColumnEntity entity = ColumnEntity.of("Book");
+        entity.add(Column.of("_id", 10L));
+        entity.add(Column.of("title", "Effective Java"));
+        entity.add(Column.of("edition", 3));
+        entity.add(Column.of("author", "Joshua Bloch"));
+
+        Book book = converter.toEntity(Book.class, entity);
+        assertEquals(10L, book.getId());
+        assertEquals("Effective Java", book.getTitle());
+        assertEquals(3, book.getEdition());
+        assertEquals("Joshua Bloch", book.getAuthor());
+    }
+
+    @Test
+    public void shouldConvertFromConstructorWhenThereIsMissingColumn() {
+        ColumnEntity entity = ColumnEntity.of("Book");
+        entity.add(Column.of("title", "Effective Java"));
+
+        Book book = converter.toEntity(Book.class, entity);
+        assertEquals(0L, book.getId());
+        assertEquals("Effective Java", book.getTitle());
+        assertEquals(0, book.getEdition());
+        assertNull(book.getAuthor());
+    }
+
+    @Test
+    public void shouldConvertImmutableEntityToColumn() {
+        Book book = new Book(10L, "Effective Java", 3);
+        book.setAuthor("Joshua Bloch");
+        ColumnEntity entity = converter.toColumn(book);
+        assertEquals("Book", entity.getName());
+        assertEquals(book, converter.toEntity(Book.class, entity));
+    }
+
+    @Test
+    public void shouldConvertEntitiesKeepingOrder() {
+        List<Person> people = IntStream.range(0, 2_000)
+                .mapToObj(i -> Person.builder().withId(i).withName("Name " + i).withAge(i % 100).build())
+                .collect(Collectors.toList());
+
+        List<ColumnEntity> entities = converter.toColumns(people);
+        assertEquals(people.size(), entities.size());
+        assertEquals("Name 1500", getValue(entities.get(1500).find("name")));
+
+        List<Person> result = converter.toEntities(Person.class, entities);
+        assertEquals(people.size(), result.size());
+        for (int index = 0; index < people.size(); index++) {
+            assertEquals(people.get(index).getId(), result.get(index).getId());
+            assertEquals(people.get(index).getName(), result.get(index).getName());
+        }
+        List<Person> byName = converter.toEntities(entities);
+        assertEquals(1500L, byName.get(1500).getId());
+    }
+
     private Object getValue(Optional<Column> document) {
         return document.map(Column::getValue).map(Value::get).orElse(null);
     }
@@ -21,8 +21,11 @@ package org.jnosql.artemis.column;
 
 import org.jnosql.artemis.EntityPostPersit;
 import org.jnosql.artemis.EntityPrePersist;
+import org.jnosql.artemis.EntityTypeQualifier;
+import org.jnosql.artemis.EventObservers;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.junit.Assert;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
@@ -32,9 +35,16 @@ import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import javax.enterprise.event.Event;
+import java.util.function.Function;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class DefaultColumnEventPersistManagerTest {
@@ -55,6 +65,18 @@ public class DefaultColumnEventPersistManagerTest {
     @Mock
     private Event<EntityPostPersit> entityPostPersitEvent;
 
+    @Mock
+    private EventObservers observers;
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void setUp() {
+        when(observers.isObserved(any(Class.class), any(), any(Function.class))).thenReturn(true);
+        when(observers.isObserved(any(Class.class), any(Class.class), any(), any(Function.class))).thenReturn(true);
+        when(entityPrePersistEvent.select(anyVararg())).thenReturn(entityPrePersistEvent);
+        when(entityPostPersitEvent.select(anyVararg())).thenReturn(entityPostPersitEvent);
+    }
+
 
     @Test
     public void shouldFirePreColumn() {
@@ -102,6 +124,50 @@ public class DefaultColumnEventPersistManagerTest {
     }
 
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldNotFirePreColumnWhenThereIsNotObserver() {
+        ColumnEntity entity = ColumnEntity.of("columnFamily");
+        when(observers.isObserved(any(Class.class), any(), any(Function.class))).thenReturn(false);
+        subject.firePreColumn(entity);
+        verify(documentEntityPrePersistEvent, never()).fire(any(ColumnEntityPrePersist.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldNotFirePreEntityWhenThereIsNotObserver() {
+        Jedi jedi = new Jedi();
+        when(observers.isObserved(any(Class.class), any(Class.class), any(), any(Function.class))).thenReturn(false);
+        subject.firePreEntity(jedi);
+        verify(entityPrePersistEvent, never()).fire(any(EntityPrePersist.class));
+    }
+
+    @Test
+    public void shouldQualifyEntityEventByType() {
+        Jedi jedi = new Jedi();
+        subject.firePostEntity(jedi);
+        verify(entityPostPersitEvent).select(EntityTypeQualifier.of(Jedi.class));
+    }
+
+    @Test
+    public void shouldSelectEntityEventOnceByType() {
+        subject.firePreEntity(new Jedi());
+        subject.firePreEntity(new Jedi());
+        verify(entityPrePersistEvent, times(1)).select(EntityTypeQualifier.of(Jedi.class));
+        verify(entityPrePersistEvent, times(2)).fire(any(EntityPrePersist.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldResolveEntityObserversWithTheEntity() {
+        Jedi jedi = new Jedi();
+        subject.isPreEntityUnobserved(jedi);
+        subject.isPostEntityUnobserved(jedi);
+        verify(observers).isObserved(eq(EntityPrePersist.class), eq(Jedi.class), eq(jedi), any(Function.class));
+        verify(observers).isObserved(eq(EntityPostPersit.class), eq(Jedi.class), eq(jedi), any(Function.class));
+    }
+
+
     class Jedi {
         private String name;
     }
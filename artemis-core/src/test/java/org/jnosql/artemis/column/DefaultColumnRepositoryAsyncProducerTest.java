@@ -19,6 +19,7 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.artemis.CallbackExecutor;
 import org.jnosql.artemis.WeldJUnit4Runner;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
 import org.junit.Test;
@@ -49,4 +50,16 @@ public class DefaultColumnRepositoryAsyncProducerTest {
         assertNotNull(columnRepository);
     }
 
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenCallbackExecutorIsNull() {
+        producer.get(Mockito.mock(ColumnFamilyManagerAsync.class), null);
+    }
+
+    @Test
+    public void shouldReturnWithCallbackExecutor() {
+        ColumnFamilyManagerAsync manager = Mockito.mock(ColumnFamilyManagerAsync.class);
+        ColumnRepositoryAsync columnRepository = producer.get(manager, new CallbackExecutor());
+        assertNotNull(columnRepository);
+    }
+
 }
\ No newline at end of file
@@ -19,23 +19,38 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.artemis.CallbackExecutor;
+import org.jnosql.artemis.Cursor;
+import org.jnosql.artemis.Page;
 import org.jnosql.artemis.WeldJUnit4Runner;
 import org.jnosql.artemis.model.Person;
+import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnFamilyManager;
 import org.jnosql.diana.api.column.ColumnFamilyManagerAsync;
+import org.jnosql.diana.api.column.ColumnQuery;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -80,7 +95,8 @@ public class DefaultColumnRepositoryAsyncTest {
         captor = ArgumentCaptor.forClass(ColumnEntity.class);
         Instance<ColumnFamilyManagerAsync> instance = Mockito.mock(Instance.class);
         Mockito.when(instance.get()).thenReturn(managerMock);
-        this.subject = new DefaultColumnRepositoryAsync(converter, instance);
+        this.subject = new DefaultColumnRepositoryAsync(converter, instance,
+                new DefaultColumnWorkflow(columnEventPersistManager, converter));
     }
 
     @Test
@@ -124,4 +140,379 @@ public class DefaultColumnRepositoryAsyncTest {
         subject.delete(query);
         verify(managerMock).delete(query);
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldFindPageByCursor() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        ColumnQuery query = ColumnQuery.of("Person").addSort(Sort.of("name", Sort.SortType.ASC));
+        AtomicReference<Page<Person>> reference = new AtomicReference<>();
+
+        long limit = query.getLimit();
+        subject.find(query, Cursor.first(2), reference::set);
+        ArgumentCaptor<ColumnQuery> pageQuery = ArgumentCaptor.forClass(ColumnQuery.class);
+        ArgumentCaptor<Consumer> callBack = ArgumentCaptor.forClass(Consumer.class);
+        verify(managerMock).find(pageQuery.capture(), callBack.capture());
+        assertEquals(3L, pageQuery.getValue().getLimit());
+        assertEquals(limit, query.getLimit());
+        callBack.getValue().accept(Arrays.asList(entity, entity, entity));
+
+        Page<Person> page = reference.get();
+        assertEquals(2, page.getContent().size());
+        assertEquals(Collections.singletonList("Name"), page.next().getKeys());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldExistsAsyncWithLimitOne() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        List<Long> limits = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            limits.add(((ColumnQuery) invocation.getArguments()[0]).getLimit());
+            ((Consumer<List<ColumnEntity>>) invocation.getArguments()[1]).accept(Collections.singletonList(entity));
+            return null;
+        }).when(managerMock).find(Mockito.any(ColumnQuery.class), Mockito.any(Consumer.class));
+
+        ColumnQuery query = ColumnQuery.of("Person");
+        long limit = query.getLimit();
+        assertTrue(subject.existsAsync(query).toCompletableFuture().join());
+        assertEquals(Collections.singletonList(1L), limits);
+        assertEquals(limit, query.getLimit());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldSaveAsyncRunningTheWorkflow() {
+        Mockito.doAnswer(invocation -> {
+            Consumer<ColumnEntity> callBack = (Consumer<ColumnEntity>) invocation.getArguments()[1];
+            callBack.accept((ColumnEntity) invocation.getArguments()[0]);
+            return null;
+        }).when(managerMock).save(Mockito.any(ColumnEntity.class), Mockito.any(Consumer.class));
+
+        Person saved = subject.saveAsync(person).toCompletableFuture().join();
+        assertEquals("Name", saved.getName());
+        verify(columnEventPersistManager).firePreEntity(person);
+        verify(columnEventPersistManager).firePreColumn(Mockito.any(ColumnEntity.class));
+        verify(columnEventPersistManager).firePostColumn(Mockito.any(ColumnEntity.class));
+        verify(columnEventPersistManager).firePostEntity(saved);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldSaveAsyncWhenFlowAndExecutorAreNotDefined() {
+        Mockito.doAnswer(invocation -> {
+            Consumer<ColumnEntity> callBack = (Consumer<ColumnEntity>) invocation.getArguments()[1];
+            callBack.accept((ColumnEntity) invocation.getArguments()[0]);
+            return null;
+        }).when(managerMock).save(Mockito.any(ColumnEntity.class), Mockito.any(Consumer.class));
+        CustomRepositoryAsync repository = new CustomRepositoryAsync();
+
+        Person saved = repository.saveAsync(person).toCompletableFuture().join();
+        assertEquals("Name", saved.getName());
+        verify(managerMock).save(captor.capture(), Mockito.any(Consumer.class));
+        assertEquals("Person", captor.getValue().getName());
+        Mockito.verifyZeroInteractions(columnEventPersistManager);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldCallBackWhenDatabaseResponds() {
+        AtomicReference<Person> reference = new AtomicReference<>();
+        subject.save(person, reference::set);
+        ArgumentCaptor<Consumer> callBack = ArgumentCaptor.forClass(Consumer.class);
+        verify(managerMock).save(captor.capture(), callBack.capture());
+        assertNull(reference.get());
+
+        callBack.getValue().accept(captor.getValue());
+        assertEquals("Name", reference.get().getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldCallBackOnDelete() {
+        ColumnDeleteQuery query = ColumnDeleteQuery.of("delete");
+        AtomicBoolean called = new AtomicBoolean();
+        subject.delete(query, v -> called.set(true));
+        ArgumentCaptor<Consumer> callBack = ArgumentCaptor.forClass(Consumer.class);
+        verify(managerMock).delete(Mockito.eq(query), callBack.capture());
+        assertFalse(called.get());
+
+        callBack.getValue().accept(null);
+        assertTrue(called.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldConvertOnTheCallbackExecutor() {
+        List<Runnable> tasks = new ArrayList<>();
+        CallbackExecutor callbackExecutor = new CallbackExecutor(tasks::add);
+        subject = createSubject(callbackExecutor);
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        ColumnQuery query = ColumnQuery.of("Person");
+        AtomicReference<List<Person>> reference = new AtomicReference<>();
+        subject.<Person>find(query, reference::set);
+        ArgumentCaptor<Consumer> callBack = ArgumentCaptor.forClass(Consumer.class);
+        verify(managerMock).find(Mockito.eq(query), callBack.capture());
+
+        callBack.getValue().accept(Collections.singletonList(entity));
+        assertNull(reference.get());
+        assertEquals(1, callbackExecutor.getQueueDepth());
+
+        tasks.get(0).run();
+        assertEquals("Name", reference.get().get(0).getName());
+        assertEquals(0, callbackExecutor.getQueueDepth());
+        assertEquals(1L, callbackExecutor.getCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldCompleteSaveAsyncOnTheCallbackExecutor() {
+        List<Runnable> tasks = new ArrayList<>();
+        subject = createSubject(new CallbackExecutor(tasks::add));
+        CompletableFuture<Person> stage = subject.saveAsync(person).toCompletableFuture();
+        ArgumentCaptor<Consumer> callBack = ArgumentCaptor.forClass(Consumer.class);
+        verify(managerMock).save(captor.capture(), callBack.capture());
+
+        callBack.getValue().accept(captor.getValue());
+        assertFalse(stage.isDone());
+        verify(columnEventPersistManager, Mockito.never()).firePostEntity(Mockito.any(Person.class));
+
+        tasks.get(0).run();
+        assertEquals("Name", stage.join().getName());
+        verify(columnEventPersistManager).firePostEntity(Mockito.any(Person.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldCompleteExceptionallyWhenTheCallbackExecutorRejects() {
+        subject = createSubject(new CallbackExecutor(r -> {
+            throw new RejectedExecutionException();
+        }));
+        CompletableFuture<Person> stage = subject.saveAsync(person).toCompletableFuture();
+        ArgumentCaptor<Consumer> callBack = ArgumentCaptor.forClass(Consumer.class);
+        verify(managerMock).save(captor.capture(), callBack.capture());
+
+        callBack.getValue().accept(captor.getValue());
+        assertTrue(stage.isCompletedExceptionally());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldDeleteAsync() {
+        ColumnDeleteQuery query = ColumnDeleteQuery.of("delete");
+        CompletableFuture<Void> stage = subject.deleteAsync(query).toCompletableFuture();
+        ArgumentCaptor<Consumer> callBack = ArgumentCaptor.forClass(Consumer.class);
+        verify(managerMock).delete(Mockito.eq(query), callBack.capture());
+        assertFalse(stage.isDone());
+
+        callBack.getValue().accept(null);
+        assertTrue(stage.isDone());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldFindAsync() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        ColumnQuery query = ColumnQuery.of("Person");
+        CompletableFuture<List<Person>> stage = subject.<Person>findAsync(query).toCompletableFuture();
+        ArgumentCaptor<Consumer> callBack = ArgumentCaptor.forClass(Consumer.class);
+        verify(managerMock).find(Mockito.eq(query), callBack.capture());
+
+        callBack.getValue().accept(Collections.singletonList(entity));
+        assertEquals("Name", stage.join().get(0).getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldCompleteExceptionallyWhenDatabaseFails() {
+        Mockito.doThrow(new UnsupportedOperationException()).when(managerMock)
+                .update(Mockito.any(ColumnEntity.class), Mockito.any(Consumer.class));
+        assertTrue(subject.updateAsync(person).toCompletableFuture().isCompletedExceptionally());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldThrowErrorOnCallBackMethodWhenDatabaseFails() {
+        Mockito.doThrow(new UnsupportedOperationException()).when(managerMock)
+                .update(Mockito.any(ColumnEntity.class), Mockito.any(Consumer.class));
+        subject.update(person, p -> {
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldPublishOnDemand() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Publisher<Person> publisher = subject.publish(ColumnQuery.of("Person"));
+        RecordingSubscriber<Person> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+        verify(managerMock, Mockito.never()).find(Mockito.any(ColumnQuery.class), Mockito.any(Consumer.class));
+
+        subscriber.subscription.request(1);
+        ArgumentCaptor<Consumer> callBack = ArgumentCaptor.forClass(Consumer.class);
+        verify(managerMock).find(Mockito.any(ColumnQuery.class), callBack.capture());
+        callBack.getValue().accept(Arrays.asList(entity, entity, entity));
+        assertEquals(1, subscriber.entities.size());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(2);
+        assertEquals(3, subscriber.entities.size());
+        assertEquals("Name", subscriber.entities.get(2).getName());
+        assertTrue(subscriber.completed);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldPublishPagesOnDemand() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        ColumnQuery query = ColumnQuery.of("Person").addSort(Sort.of("name", Sort.SortType.ASC));
+        RecordingSubscriber<Person> subscriber = new RecordingSubscriber<>();
+        subject.<Person>publish(query, 2).subscribe(subscriber);
+
+        subscriber.subscription.request(3);
+        ArgumentCaptor<ColumnQuery> page = ArgumentCaptor.forClass(ColumnQuery.class);
+        ArgumentCaptor<Consumer> callBack = ArgumentCaptor.forClass(Consumer.class);
+        verify(managerMock).find(page.capture(), callBack.capture());
+        assertEquals(0L, page.getValue().getStart());
+        assertEquals(2L, page.getValue().getLimit());
+        callBack.getValue().accept(Arrays.asList(entity, entity));
+
+        verify(managerMock, Mockito.times(2)).find(page.capture(), callBack.capture());
+        assertEquals(2L, page.getValue().getStart());
+        assertEquals(2L, page.getValue().getLimit());
+        assertEquals(query.getSorts(), page.getValue().getSorts());
+        callBack.getValue().accept(Collections.singletonList(entity));
+        assertEquals(3, subscriber.entities.size());
+        assertTrue(subscriber.completed);
+        assertEquals(0L, query.getStart());
+        assertEquals(0L, query.getLimit());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldNotPagePublishingUnsortedQuery() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        ColumnQuery query = ColumnQuery.of("Person");
+        RecordingSubscriber<Person> subscriber = new RecordingSubscriber<>();
+        subject.<Person>publish(query, 2).subscribe(subscriber);
+
+        subscriber.subscription.request(3);
+        ArgumentCaptor<Consumer> callBack = ArgumentCaptor.forClass(Consumer.class);
+        verify(managerMock).find(Mockito.eq(query), callBack.capture());
+        callBack.getValue().accept(Arrays.asList(entity, entity, entity));
+        assertEquals(3, subscriber.entities.size());
+        assertTrue(subscriber.completed);
+        assertEquals(0L, query.getLimit());
+        verify(managerMock).find(Mockito.any(ColumnQuery.class), Mockito.any(Consumer.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldStopPublishingWhenCancelled() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        RecordingSubscriber<Person> subscriber = new RecordingSubscriber<>();
+        subject.<Person>publish(ColumnQuery.of("Person"), 2).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        ArgumentCaptor<Consumer> callBack = ArgumentCaptor.forClass(Consumer.class);
+        verify(managerMock).find(Mockito.any(ColumnQuery.class), callBack.capture());
+        callBack.getValue().accept(Arrays.asList(entity, entity));
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(5);
+
+        assertEquals(1, subscriber.entities.size());
+        assertFalse(subscriber.completed);
+        verify(managerMock).find(Mockito.any(ColumnQuery.class), Mockito.any(Consumer.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldPublishErrorWhenTheCallbackExecutorRejects() {
+        subject = createSubject(new CallbackExecutor(r -> {
+            throw new RejectedExecutionException();
+        }));
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        subject.<Person>publish(ColumnQuery.of("Person")).subscribe(new Subscriber<Person>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Person person) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        ArgumentCaptor<Consumer> callBack = ArgumentCaptor.forClass(Consumer.class);
+        verify(managerMock).find(Mockito.any(ColumnQuery.class), callBack.capture());
+
+        callBack.getValue().accept(Collections.emptyList());
+        assertTrue(error.get() instanceof RejectedExecutionException);
+    }
+
+    @SuppressWarnings("unchecked")
+    private DefaultColumnRepositoryAsync createSubject(CallbackExecutor callbackExecutor) {
+        Instance<ColumnFamilyManagerAsync> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(managerMock);
+        return new DefaultColumnRepositoryAsync(converter, instance,
+                new DefaultColumnWorkflow(columnEventPersistManager, converter), callbackExecutor);
+    }
+
+    private static class RecordingSubscriber<T> implements Subscriber<T> {
+
+        private final List<T> entities = new ArrayList<>();
+
+        private Subscription subscription;
+
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T entity) {
+            entities.add(entity);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new AssertionError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private class CustomRepositoryAsync extends AbstractColumnRepositoryAsync {
+
+        @Override
+        protected ColumnEntityConverter getConverter() {
+            return converter;
+        }
+
+        @Override
+        protected ColumnFamilyManagerAsync getManager() {
+            return managerMock;
+        }
+    }
+}
@@ -19,12 +19,18 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.artemis.Cursor;
+import org.jnosql.artemis.Page;
 import org.jnosql.artemis.WeldJUnit4Runner;
 import org.jnosql.artemis.model.Person;
+import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnCondition;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnFamilyManager;
+import org.jnosql.diana.api.column.ColumnQuery;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -34,11 +40,17 @@ import org.mockito.Mockito;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
 
 @RunWith(WeldJUnit4Runner.class)
@@ -149,4 +161,188 @@ public class DefaultColumnRepositoryTest {
         subject.delete(query);
         verify(managerMock).delete(query);
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldSaveIterableInBatch() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.save(Mockito.any(Iterable.class)))
+                .thenReturn(Arrays.asList(entity, entity));
+
+        Iterable<Person> people = subject.save(Arrays.asList(person, person));
+        ArgumentCaptor<Iterable> batch = ArgumentCaptor.forClass(Iterable.class);
+        verify(managerMock).save(batch.capture());
+        verify(managerMock, Mockito.never()).save(Mockito.any(ColumnEntity.class));
+        verify(columnEventPersistManager, Mockito.times(2)).firePreEntity(Mockito.any(Person.class));
+        verify(columnEventPersistManager, Mockito.times(2)).firePostEntity(Mockito.any(Person.class));
+        List<ColumnEntity> entities = (List<ColumnEntity>) batch.getValue();
+        assertEquals(2, entities.size());
+        assertEquals("Person", entities.get(0).getName());
+        List<Person> result = (List<Person>) people;
+        assertEquals(2, result.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldUpdateIterableInBatch() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.update(Mockito.any(Iterable.class)))
+                .thenReturn(Arrays.asList(entity));
+
+        subject.update(Arrays.asList(person));
+        verify(managerMock).update(Mockito.any(Iterable.class));
+        verify(managerMock, Mockito.never()).update(Mockito.any(ColumnEntity.class));
+    }
+
+    @Test
+    public void shouldConvertLazilyWhenStream() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.find(Mockito.any(ColumnQuery.class)))
+                .thenReturn(Arrays.asList(entity, entity));
+
+        Stream<Person> people = subject.stream(ColumnQuery.of("Person"));
+        verify(managerMock).find(Mockito.any(ColumnQuery.class));
+        assertEquals("Name", people.findFirst().get().getName());
+    }
+
+    @Test
+    public void shouldStreamInPagesOfFetchSize() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        List<Long> starts = new ArrayList<>();
+        List<Long> limits = new ArrayList<>();
+        Mockito.when(managerMock.find(Mockito.any(ColumnQuery.class))).thenAnswer(invocation -> {
+            ColumnQuery query = (ColumnQuery) invocation.getArguments()[0];
+            starts.add(query.getStart());
+            limits.add(query.getLimit());
+            return starts.size() == 1 ? Arrays.asList(entity, entity) : Collections.singletonList(entity);
+        });
+
+        ColumnQuery query = ColumnQuery.of("Person");
+        long limit = query.getLimit();
+        Iterator<Person> people = subject.<Person>stream(query, 2).iterator();
+        verify(managerMock, Mockito.never()).find(Mockito.any(ColumnQuery.class));
+
+        List<Person> result = new ArrayList<>();
+        people.forEachRemaining(result::add);
+        assertEquals(3, result.size());
+        assertEquals(Arrays.asList(0L, 2L), starts);
+        assertEquals(Arrays.asList(2L, 2L), limits);
+        assertEquals(0L, query.getStart());
+        assertEquals(limit, query.getLimit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenFetchSizeIsNotPositive() {
+        subject.stream(ColumnQuery.of("Person"), 0);
+    }
+
+    @Test
+    public void shouldFindFirstPageByCursor() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.find(Mockito.any(ColumnQuery.class)))
+                .thenReturn(Arrays.asList(entity, entity, entity));
+
+        ColumnQuery query = ColumnQuery.of("Person").addSort(Sort.of("name", Sort.SortType.ASC));
+        long limit = query.getLimit();
+        Page<Person> page = subject.find(query, Cursor.first(2));
+        ArgumentCaptor<ColumnQuery> pageQuery = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock).find(pageQuery.capture());
+        assertEquals(2, page.getContent().size());
+        assertEquals(3L, pageQuery.getValue().getLimit());
+        assertFalse(pageQuery.getValue().getCondition().isPresent());
+        assertEquals(limit, query.getLimit());
+        assertEquals(Collections.singletonList("Name"), page.next().getKeys());
+    }
+
+    @Test
+    public void shouldFindNextPageAfterCursorKeys() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.find(Mockito.any(ColumnQuery.class)))
+                .thenReturn(Collections.singletonList(entity));
+
+        ColumnQuery query = ColumnQuery.of("Person").addSort(Sort.of("name", Sort.SortType.ASC));
+        Cursor cursor = Cursor.of(Cursor.after(Collections.singletonList("Ada"), 2).getToken(), 2);
+        Page<Person> page = subject.find(query, cursor);
+        ArgumentCaptor<ColumnQuery> pageQuery = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(managerMock).find(pageQuery.capture());
+        ColumnCondition condition = pageQuery.getValue().getCondition().get();
+        assertFalse(query.getCondition().isPresent());
+        assertEquals(Condition.GREATER_THAN, condition.getCondition());
+        assertEquals(Column.of("name", "Ada"), condition.getColumn());
+        assertEquals(1, page.getContent().size());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    public void shouldStartOnlyTheFirstPage() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        List<Long> starts = new ArrayList<>();
+        Mockito.when(managerMock.find(Mockito.any(ColumnQuery.class))).thenAnswer(invocation -> {
+            starts.add(((ColumnQuery) invocation.getArguments()[0]).getStart());
+            return Arrays.asList(entity, entity, entity);
+        });
+
+        ColumnQuery query = ColumnQuery.of("Person").addSort(Sort.of("name", Sort.SortType.ASC));
+        query.setStart(10);
+        Page<Person> first = subject.find(query, Cursor.first(2));
+        Page<Person> second = subject.find(query, first.next());
+        assertEquals(2, second.getContent().size());
+        assertEquals(Arrays.asList(10L, 0L), starts);
+        assertEquals(10L, query.getStart());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenCursorQueryIsNotSorted() {
+        subject.find(ColumnQuery.of("Person"), Cursor.first(2));
+    }
+
+    @Test
+    public void shouldExistsWithLimitOne() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        List<Long> limits = new ArrayList<>();
+        Mockito.when(managerMock.find(Mockito.any(ColumnQuery.class))).thenAnswer(invocation -> {
+            limits.add(((ColumnQuery) invocation.getArguments()[0]).getLimit());
+            return Collections.singletonList(entity);
+        });
+
+        ColumnQuery query = ColumnQuery.of("Person");
+        long limit = query.getLimit();
+        assertTrue(subject.exists(query));
+        assertEquals(Collections.singletonList(1L), limits);
+        assertEquals(limit, query.getLimit());
+    }
+
+    @Test
+    public void shouldCount() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        Mockito.when(managerMock.find(Mockito.any(ColumnQuery.class)))
+                .thenReturn(Arrays.asList(entity, entity));
+
+        assertEquals(2L, subject.count(ColumnQuery.of("Person")));
+    }
+
+    @Test
+    public void shouldLimitSingleResultToTwo() {
+        ColumnEntity entity = ColumnEntity.of("Person");
+        entity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        List<Long> limits = new ArrayList<>();
+        Mockito.when(managerMock.find(Mockito.any(ColumnQuery.class))).thenAnswer(invocation -> {
+            limits.add(((ColumnQuery) invocation.getArguments()[0]).getLimit());
+            return Collections.singletonList(entity);
+        });
+
+        ColumnQuery query = ColumnQuery.of("Person");
+        long limit = query.getLimit();
+        assertTrue(subject.singleResult(query).isPresent());
+        assertEquals(Collections.singletonList(2L), limits);
+        assertEquals(limit, query.getLimit());
+    }
+}
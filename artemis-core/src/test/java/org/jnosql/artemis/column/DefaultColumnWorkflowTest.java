@@ -19,6 +19,7 @@
  */
 package org.jnosql.artemis.column;
 
+import org.jnosql.artemis.BatchSize;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.junit.Before;
 import org.junit.Test;
@@ -27,9 +28,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -80,4 +90,86 @@ public class DefaultColumnWorkflowTest {
         verify(converter).toColumn(any(Object.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldFollowWorkflowAsync() {
+        CompletableFuture<ColumnEntity> response = new CompletableFuture<>();
+        CompletionStage<String> stage = subject.flowAsync("entity", e -> response);
+
+        verify(columnEventPersistManager).firePreEntity(any(String.class));
+        verify(columnEventPersistManager).firePreColumn(any(ColumnEntity.class));
+        verify(columnEventPersistManager, never()).firePostColumn(any(ColumnEntity.class));
+
+        when(converter.toEntity(String.class, columnEntity)).thenReturn("response");
+        response.complete(columnEntity);
+        assertEquals("response", stage.toCompletableFuture().join());
+        verify(columnEventPersistManager).firePostColumn(any(ColumnEntity.class));
+        verify(columnEventPersistManager).firePostEntity(any(String.class));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenAsyncActionIsNull() {
+        subject.flowAsync("", null);
+    }
+
+    @Test
+    public void shouldSkipUnobservedEvents() {
+        when(columnEventPersistManager.isPreColumnUnobserved()).thenReturn(true);
+        when(columnEventPersistManager.isPostEntityUnobserved("entity")).thenReturn(true);
+        UnaryOperator<ColumnEntity> action = t -> t;
+        subject.flow("entity", action);
+
+        verify(columnEventPersistManager, never()).firePreColumn(any(ColumnEntity.class));
+        verify(columnEventPersistManager).firePostColumn(any(ColumnEntity.class));
+        verify(columnEventPersistManager).firePreEntity(any(String.class));
+        verify(columnEventPersistManager, never()).firePostEntity(any(Object.class));
+    }
+
+    @Test
+    public void shouldBuildPipelineOnceByEntityType() {
+        UnaryOperator<ColumnEntity> action = t -> t;
+        subject.flow("entity", action);
+        subject.flow("other entity", action);
+
+        verify(columnEventPersistManager, times(1)).isPreEntityUnobserved("entity");
+        verify(columnEventPersistManager, never()).isPreEntityUnobserved("other entity");
+        verify(columnEventPersistManager, times(1)).isPreColumnUnobserved();
+        verify(columnEventPersistManager, times(2)).firePreEntity(any(String.class));
+    }
+
+    @Test
+    public void shouldFlowBatchInChunks() {
+        DefaultColumnWorkflow workflow = new DefaultColumnWorkflow(columnEventPersistManager, converter, new BatchSize(2));
+        List<Integer> chunks = new ArrayList<>();
+        Function<Iterable<ColumnEntity>, Iterable<ColumnEntity>> action = entities -> {
+            List<ColumnEntity> response = new ArrayList<>();
+            entities.forEach(response::add);
+            chunks.add(response.size());
+            return response;
+        };
+        when(converter.toEntity(any(Class.class), any(ColumnEntity.class))).thenReturn("response");
+
+        List<String> result = workflow.batchFlow(Arrays.asList("a", "b", "c", "d", "e"), action);
+
+        assertEquals(Arrays.asList(2, 2, 1), chunks);
+        assertEquals(5, result.size());
+        verify(converter, times(5)).toColumn(any(Object.class));
+        verify(columnEventPersistManager, times(5)).firePreColumn(any(ColumnEntity.class));
+        verify(columnEventPersistManager, times(5)).firePostColumn(any(ColumnEntity.class));
+        verify(columnEventPersistManager, times(5)).firePostEntity(any(String.class));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldReturnErrorWhenBatchResponseDoesNotMatch() {
+        DefaultColumnWorkflow workflow = new DefaultColumnWorkflow(columnEventPersistManager, converter, new BatchSize(10));
+        Function<Iterable<ColumnEntity>, Iterable<ColumnEntity>> action = entities -> Arrays.asList(columnEntity);
+        workflow.batchFlow(Arrays.asList("a", "b"), action);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenBatchHasNullEntity() {
+        Function<Iterable<ColumnEntity>, Iterable<ColumnEntity>> action = entities -> entities;
+        DefaultColumnWorkflow workflow = new DefaultColumnWorkflow(columnEventPersistManager, converter, new BatchSize());
+        workflow.batchFlow(Arrays.asList("a", null), action);
+    }
+
+}
@@ -20,12 +20,19 @@
 package org.jnosql.artemis.column.query;
 
 import org.hamcrest.Matchers;
+import org.jnosql.artemis.ChunkExecutor;
+import org.jnosql.artemis.ChunkSize;
 import org.jnosql.artemis.CrudRepository;
+import org.jnosql.artemis.Cursor;
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.FetchSize;
+import org.jnosql.artemis.Page;
 import org.jnosql.artemis.WeldJUnit4Runner;
 import org.jnosql.artemis.column.ColumnRepository;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.column.Column;
 import org.jnosql.diana.api.column.ColumnCondition;
 import org.jnosql.diana.api.column.ColumnDeleteQuery;
@@ -40,6 +47,10 @@ import org.mockito.Mockito;
 import javax.inject.Inject;
 import java.lang.reflect.Proxy;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
@@ -50,10 +61,14 @@ import java.util.stream.Stream;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -213,16 +228,71 @@ public class ColumnCrudRepositoryProxyTest {
         Person ada = Person.builder()
                 .withAge(20).withName("Ada").build();
 
-        when(repository.find(Mockito.any(ColumnQuery.class)))
-                .thenReturn(singletonList(ada));
+        when(repository.stream(Mockito.any(ColumnQuery.class), Mockito.eq(FetchSize.DEFAULT_SIZE)))
+                .thenReturn(Stream.of(ada));
 
         Stream<Person> persons = personRepository.findByNameANDAgeOrderByName("name", 20);
         ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
-        verify(repository).find(captor.capture());
+        verify(repository).stream(captor.capture(), Mockito.eq(FetchSize.DEFAULT_SIZE));
         assertThat(persons.collect(Collectors.toList()), Matchers.contains(ada));
 
     }
 
+    @Test
+    public void shouldFindByNameOrderByName() {
+        Person ada = Person.builder()
+                .withAge(20).withName("Ada").build();
+
+        when(repository.stream(Mockito.any(ColumnQuery.class), Mockito.eq(FetchSize.DEFAULT_SIZE)))
+                .thenReturn(Stream.<Object>of(ada));
+
+        Iterator<Person> persons = personRepository.findByNameOrderByName("name");
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(repository).stream(captor.capture(), Mockito.eq(FetchSize.DEFAULT_SIZE));
+        assertEquals(ada, persons.next());
+        assertFalse(persons.hasNext());
+    }
+
+    @Test
+    public void shouldFindByAgeOrderByName() {
+        Person ada = Person.builder()
+                .withAge(20).withName("Ada").build();
+
+        when(repository.find(Mockito.any(ColumnQuery.class)))
+                .thenReturn(singletonList(ada));
+
+        Iterable<Person> persons = personRepository.findByAgeOrderByName(20);
+        assertThat(persons, Matchers.contains(ada));
+        assertThat(persons, Matchers.contains(ada));
+        verify(repository).find(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldStreamWithTheFetchSize() {
+        PersonRepository personRepository = createRepository(new ChunkSize(), new FetchSize(10));
+        when(repository.stream(Mockito.any(ColumnQuery.class), Mockito.eq(10)))
+                .thenAnswer(invocation -> Stream.empty());
+
+        assertEquals(0L, personRepository.findByNameANDAgeOrderByName("name", 20).count());
+        assertFalse(personRepository.findByNameOrderByName("name").hasNext());
+        verify(repository, Mockito.times(2)).stream(Mockito.any(ColumnQuery.class), Mockito.eq(10));
+        verify(repository, never()).stream(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test
+    public void shouldNotPageUnsortedStream() {
+        Person ada = Person.builder()
+                .withAge(20).withName("Ada").build();
+
+        when(repository.stream(Mockito.any(ColumnQuery.class)))
+                .thenReturn(Stream.<Object>of(ada));
+
+        Stream<Person> persons = personRepository.findByAgeGreaterThan(10);
+        verify(repository).stream(Mockito.any(ColumnQuery.class));
+        verify(repository, never()).stream(Mockito.any(ColumnQuery.class), Mockito.anyInt());
+        assertThat(persons.collect(Collectors.toList()), Matchers.contains(ada));
+    }
+
     @Test
     public void shouldFindByNameANDAgeOrderByAge() {
         Person ada = Person.builder()
@@ -238,6 +308,81 @@ public class ColumnCrudRepositoryProxyTest {
 
     }
 
+    @Test
+    public void shouldFindPageByCursor() {
+        Person ada = Person.builder()
+                .withAge(20).withName("Ada").build();
+        Cursor cursor = Cursor.first(10);
+        Page<Object> page = Page.of(singletonList(ada), null);
+        when(repository.find(Mockito.any(ColumnQuery.class), Mockito.eq(cursor)))
+                .thenReturn(page);
+
+        Page<Person> persons = personRepository.findByNameOrderByAge("Ada", cursor);
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(repository).find(captor.capture(), Mockito.eq(cursor));
+        assertThat(persons.getContent(), Matchers.contains(ada));
+        ColumnQuery query = captor.getValue();
+        assertEquals(Sort.of("age", Sort.SortType.ASC), query.getSorts().get(0));
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenPageHasNoCursor() {
+        personRepository.findByAgeOrderByAge(20);
+    }
+
+    @Test
+    public void shouldFindFirstByName() {
+        Person ada = Person.builder()
+                .withAge(20).withName("Ada").build();
+        when(repository.singleResult(Mockito.any(ColumnQuery.class))).thenReturn(Optional.of(ada));
+
+        Person person = personRepository.findFirstByName("Ada");
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(repository).singleResult(captor.capture());
+        assertEquals(ada, person);
+        assertEquals(1L, captor.getValue().getLimit());
+    }
+
+    @Test
+    public void shouldFindTopByAge() {
+        when(repository.find(Mockito.any(ColumnQuery.class))).thenReturn(singletonList(Person.builder().build()));
+
+        personRepository.findTop5ByAge(20);
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(repository).find(captor.capture());
+        assertEquals(5L, captor.getValue().getLimit());
+    }
+
+    @Test
+    public void shouldExistsByName() {
+        when(repository.exists(Mockito.any(ColumnQuery.class))).thenReturn(true);
+
+        assertTrue(personRepository.existsByName("Ada"));
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(repository).exists(captor.capture());
+        verify(repository, never()).find(Mockito.any(ColumnQuery.class));
+        assertEquals(1L, captor.getValue().getLimit());
+    }
+
+    @Test
+    public void shouldCountByAge() {
+        when(repository.count(Mockito.any(ColumnQuery.class))).thenReturn(3L);
+
+        assertEquals(3L, personRepository.countByAge(20));
+        assertEquals(3, personRepository.countByName("Ada"));
+        verify(repository, Mockito.times(2)).count(Mockito.any(ColumnQuery.class));
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorAtCreationWhenMethodIsInvalid() {
+        new ColumnCrudRepositoryProxy(repository, classRepresentations, InvalidRepository.class);
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorAtCreationWhenArgumentIsMissed() {
+        new ColumnCrudRepositoryProxy(repository, classRepresentations, MissedArgumentRepository.class);
+    }
+
     @Test
     public void shouldDeleteByName() {
         ArgumentCaptor<ColumnDeleteQuery> captor = ArgumentCaptor.forClass(ColumnDeleteQuery.class);
@@ -251,6 +396,91 @@ public class ColumnCrudRepositoryProxyTest {
 
     }
 
+    @Test
+    public void shouldFindByNameInChunks() {
+        PersonRepository personRepository = createRepository(new ChunkSize(2), new FetchSize());
+        Person ada = Person.builder().withName("Ada").build();
+        Person poliana = Person.builder().withName("Poliana").build();
+        when(repository.find(Mockito.any(ColumnQuery.class)))
+                .thenReturn(singletonList(ada))
+                .thenReturn(singletonList(poliana));
+
+        List<Person> people = personRepository.findByNameIn(Arrays.asList("Ada", "Otavio", "Poliana"));
+        assertEquals(2, people.size());
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(repository, Mockito.times(2)).find(captor.capture());
+        Set<Column> columns = captor.getAllValues().stream().map(q -> q.getCondition().get().getColumn())
+                .collect(Collectors.toSet());
+        assertThat(columns, containsInAnyOrder(Column.of("name", Arrays.asList("Ada", "Otavio")),
+                Column.of("name", singletonList("Poliana"))));
+    }
+
+    @Test
+    public void shouldSortInChunksByTheInValues() {
+        List<Runnable> tasks = new ArrayList<>();
+        PersonRepository personRepository = createRepository(new ChunkSize(2), new FetchSize(),
+                new ChunkExecutor(task -> {
+                    tasks.add(task);
+                    task.run();
+                }));
+        Person ada = Person.builder().withName("Ada").build();
+        Person otavio = Person.builder().withName("Otavio").build();
+        Person poliana = Person.builder().withName("Poliana").build();
+        when(repository.find(Mockito.any(ColumnQuery.class)))
+                .thenReturn(Arrays.asList(ada, poliana))
+                .thenReturn(singletonList(otavio));
+
+        List<Person> people = personRepository.findByNameIn(Arrays.asList("Poliana", "Ada", "Otavio"));
+        assertEquals(Arrays.asList(poliana, ada, otavio), people);
+        assertEquals(2, tasks.size());
+    }
+
+    @Test
+    public void shouldFindByNameInSingleQuery() {
+        when(repository.find(Mockito.any(ColumnQuery.class))).thenReturn(singletonList(Person.builder().build()));
+
+        assertEquals(1, personRepository.findByNameIn(Arrays.asList("Ada", "Otavio", "Poliana")).size());
+        ArgumentCaptor<ColumnQuery> captor = ArgumentCaptor.forClass(ColumnQuery.class);
+        verify(repository).find(captor.capture());
+        assertEquals(Condition.IN, captor.getValue().getCondition().get().getCondition());
+    }
+
+    @Test
+    public void shouldDeleteByNameInChunks() {
+        PersonRepository personRepository = createRepository(new ChunkSize(1), new FetchSize());
+        personRepository.deleteByNameIn(new HashSet<>(Arrays.asList("Ada", "Otavio", "Poliana")));
+        verify(repository, Mockito.times(3)).delete(Mockito.any(ColumnDeleteQuery.class));
+    }
+
+    @Test
+    public void shouldDeleteByNameInChunksSequentially() {
+        List<Runnable> tasks = new ArrayList<>();
+        PersonRepository personRepository = createRepository(new ChunkSize(1), new FetchSize(),
+                new ChunkExecutor(tasks::add));
+        Mockito.doNothing().doThrow(new UnsupportedOperationException())
+                .when(repository).delete(Mockito.any(ColumnDeleteQuery.class));
+
+        try {
+            personRepository.deleteByNameIn(new HashSet<>(Arrays.asList("Ada", "Otavio", "Poliana")));
+            fail("The second chunk should fail");
+        } catch (UnsupportedOperationException exception) {
+            verify(repository, Mockito.times(2)).delete(Mockito.any(ColumnDeleteQuery.class));
+            assertTrue(tasks.isEmpty());
+        }
+    }
+
+    private PersonRepository createRepository(ChunkSize chunkSize, FetchSize fetchSize) {
+        return createRepository(chunkSize, fetchSize, new ChunkExecutor(Runnable::run));
+    }
+
+    private PersonRepository createRepository(ChunkSize chunkSize, FetchSize fetchSize, ChunkExecutor executor) {
+        ColumnCrudRepositoryProxy handler = new ColumnCrudRepositoryProxy(repository,
+                classRepresentations, PersonRepository.class, chunkSize, fetchSize, executor);
+        return (PersonRepository) Proxy.newProxyInstance(PersonRepository.class.getClassLoader(),
+                new Class[]{PersonRepository.class},
+                handler);
+    }
+
     interface PersonRepository extends CrudRepository<Person> {
 
         Person findByName(String name);
@@ -265,6 +495,40 @@ public class ColumnCrudRepositoryProxyTest {
 
         Stream<Person> findByNameANDAgeOrderByName(String name, Integer age);
 
+        Stream<Person> findByAgeGreaterThan(Integer age);
+
         Queue<Person> findByNameANDAgeOrderByAge(String name, Integer age);
+
+        Iterator<Person> findByNameOrderByName(String name);
+
+        Iterable<Person> findByAgeOrderByName(Integer age);
+
+        Page<Person> findByNameOrderByAge(String name, Cursor cursor);
+
+        Page<Person> findByAgeOrderByAge(Integer age);
+
+        Person findFirstByName(String name);
+
+        List<Person> findTop5ByAge(Integer age);
+
+        boolean existsByName(String name);
+
+        long countByAge(Integer age);
+
+        int countByName(String name);
+
+        List<Person> findByNameIn(List<String> names);
+
+        void deleteByNameIn(Set<String> names);
+    }
+
+    interface InvalidRepository extends CrudRepository<Person> {
+
+        List<Person> findAll();
+    }
+
+    interface MissedArgumentRepository extends CrudRepository<Person> {
+
+        List<Person> findByNameANDAge(String name);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.column.query;
+
+import org.jnosql.artemis.Attribute;
+import org.jnosql.artemis.EntityModel;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.Sort;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnCondition;
+import org.jnosql.diana.api.column.ColumnDeleteQuery;
+import org.jnosql.diana.api.column.ColumnQuery;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+
+public class ColumnQueryBuilderTest {
+
+    private static final EntityModel<Person> PERSON = EntityModel.of(Person.class, "Person");
+
+    private static final Attribute<Person, Long> ID = Attribute.of(PERSON, "id", "_id");
+
+    private static final Attribute<Person, String> NAME = Attribute.of(PERSON, "name", "name");
+
+    private static final Attribute<Person, Integer> AGE = Attribute.of(PERSON, "age", "age");
+
+    @Test
+    public void shouldSelectAll() {
+        ColumnQuery query = ColumnQueryBuilder.select(PERSON).build();
+        assertEquals("Person", query.getColumnFamily());
+        assertFalse(query.getCondition().isPresent());
+        assertEquals(0L, query.getLimit());
+    }
+
+    @Test
+    public void shouldSelectWithCriteria() {
+        ColumnQuery query = ColumnQueryBuilder.select(PERSON)
+                .where(ColumnCriteria.eq(NAME, "Ada"))
+                .build();
+        ColumnCondition condition = query.getCondition().get();
+        assertEquals(Condition.EQUALS, condition.getCondition());
+        assertEquals(Column.of("name", "Ada"), condition.getColumn());
+    }
+
+    @Test
+    public void shouldUseColumnName() {
+        ColumnQuery query = ColumnQueryBuilder.select(PERSON)
+                .where(ColumnCriteria.gt(ID, 10L))
+                .orderByDesc(ID)
+                .build();
+        assertEquals(Column.of("_id", 10L), query.getCondition().get().getColumn());
+        assertEquals(Sort.of("_id", Sort.SortType.DESC), query.getSorts().get(0));
+    }
+
+    @Test
+    public void shouldAppendCriteria() {
+        ColumnQuery query = ColumnQueryBuilder.select(PERSON)
+                .where(ColumnCriteria.eq(NAME, "Ada"))
+                .and(ColumnCriteria.between(AGE, 10, 20))
+                .build();
+        ColumnCondition expected = ColumnCondition.eq(Column.of("name", "Ada"))
+                .and(ColumnCondition.between(Column.of("age", Arrays.asList(10, 20))));
+        assertEquals(expected, query.getCondition().get());
+    }
+
+    @Test
+    public void shouldSortAndPaginate() {
+        ColumnQuery query = ColumnQueryBuilder.select(PERSON)
+                .orderBy(NAME)
+                .orderByDesc(AGE)
+                .start(5)
+                .limit(10)
+                .build();
+        assertEquals(Arrays.asList(Sort.of("name", Sort.SortType.ASC), Sort.of("age", Sort.SortType.DESC)),
+                query.getSorts());
+        assertEquals(5L, query.getStart());
+        assertEquals(10L, query.getLimit());
+    }
+
+    @Test
+    public void shouldCreateNewQueryAtEachBuild() {
+        ColumnQueryBuilder<Person> builder = ColumnQueryBuilder.select(PERSON).where(ColumnCriteria.like(NAME, "A%"));
+        assertNotSame(builder.build(), builder.build());
+    }
+
+    @Test
+    public void shouldDelete() {
+        ColumnDeleteQuery query = ColumnDeleteQueryBuilder.delete(PERSON)
+                .where(ColumnCriteria.lte(AGE, 20))
+                .build();
+        assertEquals("Person", query.getColumnFamily());
+        ColumnCondition condition = query.getCondition().get();
+        assertEquals(Condition.LESSER_EQUALS_THAN, condition.getCondition());
+        assertEquals(Column.of("age", 20), condition.getColumn());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenEntityIsNull() {
+        ColumnQueryBuilder.select(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenLimitIsNegative() {
+        ColumnQueryBuilder.select(PERSON).limit(-1);
+    }
+}
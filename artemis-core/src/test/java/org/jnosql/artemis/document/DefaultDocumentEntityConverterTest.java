@@ -21,7 +21,9 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.WeldJUnit4Runner;
 import org.jnosql.artemis.model.Actor;
+import org.jnosql.artemis.model.Book;
 import org.jnosql.artemis.model.Director;
+import org.jnosql.artemis.model.Employee;
 import org.jnosql.artemis.model.Movie;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassRepresentations;
@@ -35,13 +37,17 @@ import org.junit.runner.RunWith;
 import javax.inject.Inject;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.Collections.singleton;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 @RunWith(WeldJUnit4Runner.class)
@@ -196,6 +202,98 @@ public class DefaultDocumentEntityConverterTest {
     }
 
 
+    @Test
+    public void shouldConvertSelfReferencingEntity() {
+        Employee employee = new Employee("Ada", new Employee("Otavio", null));
+
+        DocumentEntity entity = converter.toDocument(employee);
+        Employee result = converter.toEntity(Employee.class, entity);
+
+        assertEquals("Ada", result.getName());
+        assertEquals("Otavio", result.getManager().getName());
+        assertNull(result.getManager().getManager());
+    }
+
+    @Test
+    public void shouldConvertSelfReferencingEntityWithoutSubDocument() {
+        DocumentEntity entity = DocumentEntity.of("Employee");
+        entity.add(Document.of("name", "Ada"));
+
+        Employee employee = converter.toEntity(Employee.class, entity);
+
+        assertEquals("Ada", employee.getName());
+        assertNull(employee.getManager());
+    }
+
+    @Test
+    public void shouldIgnoreUnknownDocumentsWhenConvertToEntity() {
+        DocumentEntity entity = DocumentEntity.of("Actor");
+        Stream.of(documents).forEach(entity::add);
+        entity.add(Document.of("unknown", "value"));
+        entity.add(Document.of("ignore", "value"));
+
+        Actor actor = converter.toEntity(Actor.class, entity);
+        assertNotNull(actor);
+        assertEquals(12L, actor.getId());
+        assertNull(actor.getIgnore());
+    }
+
+    @Test
+    public void shouldConvertToEntityFromConstructor() {
+        DocumentEntity entity = DocumentEntity.of("Book");
+        entity.add(Document.of("_id", 10L));
+        entity.add(Document.of("title", "Effective Java"));
+        entity.add(Document.of("edition", 3));
+        entity.add(Document.of("author", "Joshua Bloch"));
+
+        Book book = converter.toEntity(Book.class, entity);
+        assertEquals(10L, book.getId());
+        assertEquals("Effective Java", book.getTitle());
+        assertEquals(3, book.getEdition());
+        assertEquals("Joshua Bloch", book.getAuthor());
+    }
+
+    @Test
+    public void shouldConvertFromConstructorWhenThereIsMissingDocument() {
+        DocumentEntity entity = DocumentEntity.of("Book");
+        entity.add(Document.of("title", "Effective Java"));
+
+        Book book = converter.toEntity(Book.class, entity);
+        assertEquals(0L, book.getId());
+        assertEquals("Effective Java", book.getTitle());
+        assertEquals(0, book.getEdition());
+        assertNull(book.getAuthor());
+    }
+
+    @Test
+    public void shouldConvertImmutableEntityToDocument() {
+        Book book = new Book(10L, "Effective Java", 3);
+        book.setAuthor("Joshua Bloch");
+        DocumentEntity entity = converter.toDocument(book);
+        assertEquals("Book", entity.getName());
+        assertEquals(book, converter.toEntity(Book.class, entity));
+    }
+
+    @Test
+    public void shouldConvertEntitiesKeepingOrder() {
+        List<Person> people = IntStream.range(0, 2_000)
+                .mapToObj(i -> Person.builder().withId(i).withName("Name " + i).withAge(i % 100).build())
+                .collect(Collectors.toList());
+
+        List<DocumentEntity> entities = converter.toDocuments(people);
+        assertEquals(people.size(), entities.size());
+        assertEquals("Name 1500", getValue(entities.get(1500).find("name")));
+
+        List<Person> result = converter.toEntities(Person.class, entities);
+        assertEquals(people.size(), result.size());
+        for (int index = 0; index < people.size(); index++) {
+            assertEquals(people.get(index).getId(), result.get(index).getId());
+            assertEquals(people.get(index).getName(), result.get(index).getName());
+        }
+        List<Person> byName = converter.toEntities(entities);
+        assertEquals(1500L, byName.get(1500).getId());
+    }
+
     private Object getValue(Optional<Document> document) {
         return document.map(Document::getValue).map(Value::get).orElse(null);
     }
@@ -21,11 +21,14 @@ package org.jnosql.artemis.document;
 
 import org.jnosql.artemis.EntityPostPersit;
 import org.jnosql.artemis.EntityPrePersist;
+import org.jnosql.artemis.EntityTypeQualifier;
+import org.jnosql.artemis.EventObservers;
 import org.jnosql.artemis.column.ColumnEntityPostPersist;
 import org.jnosql.artemis.column.ColumnEntityPrePersist;
 import org.jnosql.artemis.column.DefaultColumnEventPersistManagerTest;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.document.DocumentEntity;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
@@ -35,9 +38,16 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
+import java.util.function.Function;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class DefaultDocumentEventPersistManagerTest {
@@ -57,6 +67,18 @@ public class DefaultDocumentEventPersistManagerTest {
     @Mock
     private Event<EntityPostPersit> entityPostPersitEvent;
 
+    @Mock
+    private EventObservers observers;
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void setUp() {
+        when(observers.isObserved(any(Class.class), any(), any(Function.class))).thenReturn(true);
+        when(observers.isObserved(any(Class.class), any(Class.class), any(), any(Function.class))).thenReturn(true);
+        when(entityPrePersistEvent.select(anyVararg())).thenReturn(entityPrePersistEvent);
+        when(entityPostPersitEvent.select(anyVararg())).thenReturn(entityPostPersitEvent);
+    }
+
 
     @Test
     public void shouldFirePreColumn() {
@@ -104,6 +126,50 @@ public class DefaultDocumentEventPersistManagerTest {
     }
 
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldNotFirePreDocumentWhenThereIsNotObserver() {
+        DocumentEntity entity = DocumentEntity.of("collection");
+        when(observers.isObserved(any(Class.class), any(), any(Function.class))).thenReturn(false);
+        subject.firePreDocument(entity);
+        verify(documentEntityPrePersistEvent, never()).fire(any(DocumentEntityPrePersist.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldNotFirePreEntityWhenThereIsNotObserver() {
+        Jedi jedi = new Jedi();
+        when(observers.isObserved(any(Class.class), any(Class.class), any(), any(Function.class))).thenReturn(false);
+        subject.firePreEntity(jedi);
+        verify(entityPrePersistEvent, never()).fire(any(EntityPrePersist.class));
+    }
+
+    @Test
+    public void shouldQualifyEntityEventByType() {
+        Jedi jedi = new Jedi();
+        subject.firePostEntity(jedi);
+        verify(entityPostPersitEvent).select(EntityTypeQualifier.of(Jedi.class));
+    }
+
+    @Test
+    public void shouldSelectEntityEventOnceByType() {
+        subject.firePreEntity(new Jedi());
+        subject.firePreEntity(new Jedi());
+        verify(entityPrePersistEvent, times(1)).select(EntityTypeQualifier.of(Jedi.class));
+        verify(entityPrePersistEvent, times(2)).fire(any(EntityPrePersist.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldResolveEntityObserversWithTheEntity() {
+        Jedi jedi = new Jedi();
+        subject.isPreEntityUnobserved(jedi);
+        subject.isPostEntityUnobserved(jedi);
+        verify(observers).isObserved(eq(EntityPrePersist.class), eq(Jedi.class), eq(jedi), any(Function.class));
+        verify(observers).isObserved(eq(EntityPostPersit.class), eq(Jedi.class), eq(jedi), any(Function.class));
+    }
+
+
     class Jedi {
         private String name;
     }
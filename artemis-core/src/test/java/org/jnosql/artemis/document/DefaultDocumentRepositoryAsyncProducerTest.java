@@ -19,6 +19,7 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.artemis.CallbackExecutor;
 import org.jnosql.artemis.WeldJUnit4Runner;
 import org.jnosql.diana.api.document.DocumentCollectionManagerAsync;
 import org.junit.Test;
@@ -48,4 +49,16 @@ public class DefaultDocumentRepositoryAsyncProducerTest {
         DocumentRepositoryAsync documentRepository = producer.get(manager);
         assertNotNull(documentRepository);
     }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenCallbackExecutorIsNull() {
+        producer.get(Mockito.mock(DocumentCollectionManagerAsync.class), null);
+    }
+
+    @Test
+    public void shouldReturnWithCallbackExecutor() {
+        DocumentCollectionManagerAsync manager = Mockito.mock(DocumentCollectionManagerAsync.class);
+        DocumentRepositoryAsync documentRepository = producer.get(manager, new CallbackExecutor());
+        assertNotNull(documentRepository);
+    }
 }
\ No newline at end of file
@@ -19,10 +19,16 @@
  */
 package org.jnosql.artemis.document;
 
+import org.jnosql.artemis.Cursor;
+import org.jnosql.artemis.Page;
 import org.jnosql.artemis.WeldJUnit4Runner;
 import org.jnosql.artemis.model.Person;
+import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.Sort;
 import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCondition;
 import org.jnosql.diana.api.document.DocumentCollectionManager;
+import org.jnosql.diana.api.document.DocumentQuery;
 import org.jnosql.diana.api.document.DocumentDeleteQuery;
 import org.jnosql.diana.api.document.DocumentEntity;
 import org.junit.Before;
@@ -34,11 +40,17 @@ import org.mockito.Mockito;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -157,4 +169,187 @@ public class DefaultDocumentRepositoryTest {
         verify(managerMock).delete(query);
     }
 
-}
\ No newline at end of file
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldSaveIterableInBatch() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        Mockito.when(managerMock.save(Mockito.any(Iterable.class)))
+                .thenReturn(Arrays.asList(entity, entity));
+
+        Iterable<Person> people = subject.save(Arrays.asList(person, person));
+        ArgumentCaptor<Iterable> batch = ArgumentCaptor.forClass(Iterable.class);
+        verify(managerMock).save(batch.capture());
+        verify(managerMock, Mockito.never()).save(Mockito.any(DocumentEntity.class));
+        verify(documentEventPersistManager, Mockito.times(2)).firePreEntity(Mockito.any(Person.class));
+        verify(documentEventPersistManager, Mockito.times(2)).firePostEntity(Mockito.any(Person.class));
+        List<DocumentEntity> entities = (List<DocumentEntity>) batch.getValue();
+        assertEquals(2, entities.size());
+        assertEquals("Person", entities.get(0).getName());
+        List<Person> result = (List<Person>) people;
+        assertEquals(2, result.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldUpdateIterableInBatch() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        Mockito.when(managerMock.update(Mockito.any(Iterable.class)))
+                .thenReturn(Arrays.asList(entity));
+
+        subject.update(Arrays.asList(person));
+        verify(managerMock).update(Mockito.any(Iterable.class));
+        verify(managerMock, Mockito.never()).update(Mockito.any(DocumentEntity.class));
+    }
+
+    @Test
+    public void shouldConvertLazilyWhenStream() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        Mockito.when(managerMock.find(Mockito.any(DocumentQuery.class)))
+                .thenReturn(Arrays.asList(entity, entity));
+
+        Stream<Person> people = subject.stream(DocumentQuery.of("Person"));
+        verify(managerMock).find(Mockito.any(DocumentQuery.class));
+        assertEquals("Name", people.findFirst().get().getName());
+    }
+
+    @Test
+    public void shouldStreamInPagesOfFetchSize() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        List<Long> starts = new ArrayList<>();
+        List<Long> limits = new ArrayList<>();
+        Mockito.when(managerMock.find(Mockito.any(DocumentQuery.class))).thenAnswer(invocation -> {
+            DocumentQuery query = (DocumentQuery) invocation.getArguments()[0];
+            starts.add(query.getStart());
+            limits.add(query.getLimit());
+            return starts.size() == 1 ? Arrays.asList(entity, entity) : Collections.singletonList(entity);
+        });
+
+        DocumentQuery query = DocumentQuery.of("Person");
+        long limit = query.getLimit();
+        Iterator<Person> people = subject.<Person>stream(query, 2).iterator();
+        verify(managerMock, Mockito.never()).find(Mockito.any(DocumentQuery.class));
+
+        List<Person> result = new ArrayList<>();
+        people.forEachRemaining(result::add);
+        assertEquals(3, result.size());
+        assertEquals(Arrays.asList(0L, 2L), starts);
+        assertEquals(Arrays.asList(2L, 2L), limits);
+        assertEquals(0L, query.getStart());
+        assertEquals(limit, query.getLimit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenFetchSizeIsNotPositive() {
+        subject.stream(DocumentQuery.of("Person"), 0);
+    }
+
+    @Test
+    public void shouldFindFirstPageByCursor() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        Mockito.when(managerMock.find(Mockito.any(DocumentQuery.class)))
+                .thenReturn(Arrays.asList(entity, entity, entity));
+
+        DocumentQuery query = DocumentQuery.of("Person").addSort(Sort.of("name", Sort.SortType.ASC));
+        long limit = query.getLimit();
+        Page<Person> page = subject.find(query, Cursor.first(2));
+        ArgumentCaptor<DocumentQuery> pageQuery = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).find(pageQuery.capture());
+        assertEquals(2, page.getContent().size());
+        assertEquals(3L, pageQuery.getValue().getLimit());
+        assertFalse(pageQuery.getValue().getCondition().isPresent());
+        assertEquals(limit, query.getLimit());
+        assertEquals(Collections.singletonList("Name"), page.next().getKeys());
+    }
+
+    @Test
+    public void shouldFindNextPageAfterCursorKeys() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        Mockito.when(managerMock.find(Mockito.any(DocumentQuery.class)))
+                .thenReturn(Collections.singletonList(entity));
+
+        DocumentQuery query = DocumentQuery.of("Person").addSort(Sort.of("name", Sort.SortType.ASC));
+        Cursor cursor = Cursor.of(Cursor.after(Collections.singletonList("Ada"), 2).getToken(), 2);
+        Page<Person> page = subject.find(query, cursor);
+        ArgumentCaptor<DocumentQuery> pageQuery = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(managerMock).find(pageQuery.capture());
+        DocumentCondition condition = pageQuery.getValue().getCondition().get();
+        assertFalse(query.getCondition().isPresent());
+        assertEquals(Condition.GREATER_THAN, condition.getCondition());
+        assertEquals(Document.of("name", "Ada"), condition.getDocument());
+        assertEquals(1, page.getContent().size());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    public void shouldStartOnlyTheFirstPage() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        List<Long> starts = new ArrayList<>();
+        Mockito.when(managerMock.find(Mockito.any(DocumentQuery.class))).thenAnswer(invocation -> {
+            starts.add(((DocumentQuery) invocation.getArguments()[0]).getStart());
+            return Arrays.asList(entity, entity, entity);
+        });
+
+        DocumentQuery query = DocumentQuery.of("Person").addSort(Sort.of("name", Sort.SortType.ASC));
+        query.setStart(10);
+        Page<Person> first = subject.find(query, Cursor.first(2));
+        Page<Person> second = subject.find(query, first.next());
+        assertEquals(2, second.getContent().size());
+        assertEquals(Arrays.asList(10L, 0L), starts);
+        assertEquals(10L, query.getStart());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenCursorQueryIsNotSorted() {
+        subject.find(DocumentQuery.of("Person"), Cursor.first(2));
+    }
+
+    @Test
+    public void shouldExistsWithLimitOne() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        List<Long> limits = new ArrayList<>();
+        Mockito.when(managerMock.find(Mockito.any(DocumentQuery.class))).thenAnswer(invocation -> {
+            limits.add(((DocumentQuery) invocation.getArguments()[0]).getLimit());
+            return Collections.singletonList(entity);
+        });
+
+        DocumentQuery query = DocumentQuery.of("Person");
+        long limit = query.getLimit();
+        assertTrue(subject.exists(query));
+        assertEquals(Collections.singletonList(1L), limits);
+        assertEquals(limit, query.getLimit());
+    }
+
+    @Test
+    public void shouldCount() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        Mockito.when(managerMock.find(Mockito.any(DocumentQuery.class)))
+                .thenReturn(Arrays.asList(entity, entity));
+
+        assertEquals(2L, subject.count(DocumentQuery.of("Person")));
+    }
+
+    @Test
+    public void shouldLimitSingleResultToTwo() {
+        DocumentEntity entity = DocumentEntity.of("Person");
+        entity.addAll(Stream.of(documents).collect(Collectors.toList()));
+        List<Long> limits = new ArrayList<>();
+        Mockito.when(managerMock.find(Mockito.any(DocumentQuery.class))).thenAnswer(invocation -> {
+            limits.add(((DocumentQuery) invocation.getArguments()[0]).getLimit());
+            return Collections.singletonList(entity);
+        });
+
+        DocumentQuery query = DocumentQuery.of("Person");
+        long limit = query.getLimit();
+        assertTrue(subject.singleResult(query).isPresent());
+        assertEquals(Collections.singletonList(2L), limits);
+        assertEquals(limit, query.getLimit());
+    }
+}
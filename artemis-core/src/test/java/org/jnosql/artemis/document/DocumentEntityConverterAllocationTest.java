@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.document;
+
+import org.jnosql.artemis.AllocationMeter;
+import org.jnosql.artemis.WeldJUnit4Runner;
+import org.jnosql.artemis.model.Movie;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentEntity;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the bytes allocated to each {@link DocumentEntityConverter#toDocument(Object)}, it is a regression budget
+ * to the write path and it is skipped when the JVM does not measure the thread allocation, see {@link AllocationMeter}.
+ * The budget of each entity is measured on the same JVM: it is the bytes allocated to build the same
+ * {@link DocumentEntity} by hand, that the converter cannot go below, times the headroom.
+ */
+@RunWith(WeldJUnit4Runner.class)
+public class DocumentEntityConverterAllocationTest {
+
+    private static final int WARM_UP = 20_000;
+
+    private static final int ITERATIONS = 10_000;
+
+    /**
+     * The converter might allocate up to twice the entity built by hand, the headroom takes the conversion of the
+     * values, e.g.: the copy of a collection
+     */
+    private static final long HEADROOM = 2;
+
+    @Inject
+    private DocumentEntityConverter converter;
+
+    private AllocationMeter meter;
+
+    private Object sink;
+
+    @Before
+    public void init() {
+        meter = AllocationMeter.of();
+    }
+
+    @Test
+    public void shouldKeepPersonAllocationInBudget() {
+        Person person = Person.builder().withId(12L).withName("Otavio").withAge(10)
+                .withPhones(Arrays.asList("234", "2342")).build();
+        long budget = HEADROOM * bytesPerBuild(() -> {
+            DocumentEntity entity = DocumentEntity.of("Person");
+            entity.add(Document.of("_id", 12L));
+            entity.add(Document.of("name", "Otavio"));
+            entity.add(Document.of("age", 10));
+            entity.add(Document.of("phones", Arrays.asList("234", "2342")));
+            return entity;
+        });
+        long bytes = bytesPerSave(person);
+        assertTrue("Bytes allocated to each Person: " + bytes + ", budget: " + budget, bytes <= budget);
+    }
+
+    @Test
+    public void shouldKeepMovieAllocationInBudget() {
+        Movie movie = new Movie("Matrix", 1999, Collections.singleton("Keanu Reeves"));
+        long budget = HEADROOM * bytesPerBuild(() -> {
+            DocumentEntity entity = DocumentEntity.of("movie");
+            entity.add(Document.of("title", "Matrix"));
+            entity.add(Document.of("year", 1999L));
+            entity.add(Document.of("actors", Collections.singleton("Keanu Reeves")));
+            return entity;
+        });
+        long bytes = bytesPerSave(movie);
+        assertTrue("Bytes allocated to each Movie: " + bytes + ", budget: " + budget, bytes <= budget);
+    }
+
+    private long bytesPerSave(Object entity) {
+        return meter.bytesPerRun(() -> sink = converter.toDocument(entity), WARM_UP, ITERATIONS);
+    }
+
+    private long bytesPerBuild(Supplier<DocumentEntity> builder) {
+        return meter.bytesPerRun(() -> sink = builder.get(), WARM_UP, ITERATIONS);
+    }
+}
@@ -21,10 +21,10 @@ package org.jnosql.artemis.document.query;
 
 import org.jnosql.artemis.CrudRepositoryAsync;
 import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.FetchSize;
 import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.WeldJUnit4Runner;
 import org.jnosql.artemis.document.DocumentRepositoryAsync;
-import org.jnosql.artemis.document.query.DocumentCrudRepositoryAsyncProxy;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.diana.api.Condition;
@@ -38,19 +38,26 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.reactivestreams.Publisher;
 
 import javax.inject.Inject;
 import java.lang.reflect.Proxy;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import static java.util.Collections.singletonList;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
-
+import static org.mockito.Mockito.when;
 
 @RunWith(WeldJUnit4Runner.class)
 public class DocumentCrudRepositoryAsyncProxyTest {
@@ -68,7 +75,7 @@ public class DocumentCrudRepositoryAsyncProxyTest {
         this.repository = Mockito.mock(DocumentRepositoryAsync.class);
 
         DocumentCrudRepositoryAsyncProxy handler = new DocumentCrudRepositoryAsyncProxy(repository,
-                classRepresentations, PersonAsyncRepository.class);
+                classRepresentations, PersonAsyncRepository.class, new FetchSize());
 
 
         personRepository = (PersonAsyncRepository) Proxy.newProxyInstance(PersonAsyncRepository.class.getClassLoader(),
@@ -263,6 +270,88 @@ public class DocumentCrudRepositoryAsyncProxyTest {
 
     }
 
+    @Test
+    public void shouldSaveAsync() {
+        Person person = Person.builder().withName("Ada").withId(10L).build();
+        when(repository.saveAsync(person)).thenReturn(CompletableFuture.completedFuture(person));
+        assertEquals(person, personRepository.saveAsync(person).toCompletableFuture().join());
+        verify(repository).saveAsync(person);
+    }
+
+    @Test
+    public void shouldUpdateAsync() {
+        Person person = Person.builder().withName("Ada").withId(10L).build();
+        when(repository.updateAsync(person)).thenReturn(CompletableFuture.completedFuture(person));
+        assertEquals(person, personRepository.updateAsync(person).toCompletableFuture().join());
+        verify(repository).updateAsync(person);
+    }
+
+    @Test
+    public void shouldFindByAgeAsStage() {
+        Person person = Person.builder().withName("Ada").withAge(20).build();
+        when(repository.findAsync(Mockito.any(DocumentQuery.class)))
+                .thenReturn(CompletableFuture.completedFuture(singletonList(person)));
+
+        List<Person> persons = personRepository.findByAge(20).toCompletableFuture().join();
+        assertEquals(singletonList(person), persons);
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(repository).findAsync(captor.capture());
+        DocumentCondition condition = captor.getValue().getCondition().get();
+        assertEquals(Condition.EQUALS, condition.getCondition());
+        assertEquals(Document.of("age", 20), condition.getDocument());
+    }
+
+    @Test
+    public void shouldFindByIdAsOptionalStage() {
+        when(repository.findAsync(Mockito.any(DocumentQuery.class)))
+                .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+
+        Optional<Person> person = personRepository.findById(10L).toCompletableFuture().join();
+        assertFalse(person.isPresent());
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(repository).findAsync(captor.capture());
+        assertEquals(2L, captor.getValue().getLimit());
+    }
+
+    @Test
+    public void shouldExistsByNameAsStage() {
+        when(repository.existsAsync(Mockito.any(DocumentQuery.class)))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        assertTrue(personRepository.existsByName("Ada").toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldCountByNameAsStage() {
+        when(repository.countAsync(Mockito.any(DocumentQuery.class)))
+                .thenReturn(CompletableFuture.completedFuture(2L));
+        assertEquals(Integer.valueOf(2), personRepository.countByName("Ada").toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldDeleteByAgeAsStage() {
+        CompletableFuture<Void> stage = new CompletableFuture<>();
+        when(repository.deleteAsync(Mockito.any(DocumentDeleteQuery.class))).thenReturn(stage);
+        assertEquals(stage, personRepository.deleteByAge(20));
+        ArgumentCaptor<DocumentDeleteQuery> captor = ArgumentCaptor.forClass(DocumentDeleteQuery.class);
+        verify(repository).deleteAsync(captor.capture());
+        assertEquals(Document.of("age", 20), captor.getValue().getCondition().get().getDocument());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldFindByAgeAsPublisher() {
+        Publisher<Person> publisher = Mockito.mock(Publisher.class);
+        when(repository.publish(Mockito.any(DocumentQuery.class), Mockito.eq(FetchSize.DEFAULT_SIZE)))
+                .thenReturn((Publisher) publisher);
+
+        assertEquals(publisher, personRepository.findByAgeGreaterThan(20));
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(repository).publish(captor.capture(), Mockito.eq(FetchSize.DEFAULT_SIZE));
+        DocumentCondition condition = captor.getValue().getCondition().get();
+        assertEquals(Condition.GREATER_THAN, condition.getCondition());
+        assertEquals(Document.of("age", 20), condition.getDocument());
+    }
+
     interface PersonAsyncRepository extends CrudRepositoryAsync<Person> {
 
         void deleteByName(String name);
@@ -278,6 +367,18 @@ public class DocumentCrudRepositoryAsyncProxyTest {
         void findByName(String name, Sort sort, Consumer<List<Person>> callBack);
 
         void findByName(String name, Sort sort, Pagination pagination, Consumer<List<Person>> callBack);
+
+        CompletionStage<List<Person>> findByAge(Integer age);
+
+        CompletionStage<Optional<Person>> findById(Long id);
+
+        CompletionStage<Boolean> existsByName(String name);
+
+        CompletionStage<Integer> countByName(String name);
+
+        CompletableFuture<Void> deleteByAge(Integer age);
+
+        Publisher<Person> findByAgeGreaterThan(Integer age);
     }
 
 }
\ No newline at end of file
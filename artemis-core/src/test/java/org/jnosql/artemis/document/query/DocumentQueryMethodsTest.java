@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.document.query;
+
+import org.jnosql.artemis.CrudRepository;
+import org.jnosql.artemis.DynamicQueryException;
+import org.jnosql.artemis.WeldJUnit4Runner;
+import org.jnosql.artemis.document.DocumentRepository;
+import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.diana.api.Condition;
+import org.jnosql.diana.api.document.Document;
+import org.jnosql.diana.api.document.DocumentCondition;
+import org.jnosql.diana.api.document.DocumentDeleteQuery;
+import org.jnosql.diana.api.document.DocumentQuery;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import javax.inject.Inject;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(WeldJUnit4Runner.class)
+public class DocumentQueryMethodsTest {
+
+    private DocumentRepository repository;
+
+    @Inject
+    private ClassRepresentations classRepresentations;
+
+    private DocumentQueryMethods queries;
+
+    @Before
+    public void setUp() {
+        this.repository = Mockito.mock(DocumentRepository.class);
+        this.queries = new DocumentQueryMethods(repository, classRepresentations, PersonRepository.class);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenRepositoryIsNull() {
+        new DocumentQueryMethods(null, classRepresentations, PersonRepository.class);
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenMethodIsInvalid() {
+        new DocumentQueryMethods(repository, classRepresentations, InvalidRepository.class);
+    }
+
+    @Test
+    public void shouldFindByName() throws NoSuchMethodException {
+        Person ada = Person.builder().withName("Ada").build();
+        when(repository.singleResult(Mockito.any(DocumentQuery.class))).thenReturn(Optional.of(ada));
+
+        Method method = PersonRepository.class.getMethod("findByName", String.class);
+        assertEquals(ada, queries.invoke(method, new Object[]{"Ada"}));
+
+        ArgumentCaptor<DocumentQuery> captor = ArgumentCaptor.forClass(DocumentQuery.class);
+        verify(repository).singleResult(captor.capture());
+        DocumentCondition condition = captor.getValue().getCondition().get();
+        assertEquals("Person", captor.getValue().getCollection());
+        assertEquals(Condition.EQUALS, condition.getCondition());
+        assertEquals(Document.of("name", "Ada"), condition.getDocument());
+    }
+
+    @Test
+    public void shouldExistsAndCount() throws NoSuchMethodException {
+        when(repository.exists(Mockito.any(DocumentQuery.class))).thenReturn(true);
+        when(repository.count(Mockito.any(DocumentQuery.class))).thenReturn(2L);
+
+        assertTrue((Boolean) queries.invoke(PersonRepository.class.getMethod("existsByName", String.class),
+                new Object[]{"Ada"}));
+        assertEquals(2L, queries.invoke(PersonRepository.class.getMethod("countByAge", Integer.class),
+                new Object[]{20}));
+    }
+
+    @Test
+    public void shouldDeleteByName() throws NoSuchMethodException {
+        assertNull(queries.invoke(PersonRepository.class.getMethod("deleteByName", String.class),
+                new Object[]{"Ada"}));
+
+        ArgumentCaptor<DocumentDeleteQuery> captor = ArgumentCaptor.forClass(DocumentDeleteQuery.class);
+        verify(repository).delete(captor.capture());
+        assertEquals(Document.of("name", "Ada"), captor.getValue().getCondition().get().getDocument());
+    }
+
+    @Test
+    public void shouldInvokeBoundQueryMethod() throws NoSuchMethodException {
+        when(repository.exists(Mockito.any(DocumentQuery.class))).thenReturn(true);
+
+        DocumentQueryMethod method = queries.get(PersonRepository.class.getMethod("existsByName", String.class));
+        assertTrue((Boolean) method.invoke("Ada"));
+        assertTrue((Boolean) method.invoke("Poliana"));
+        verify(repository, Mockito.times(2)).exists(Mockito.any(DocumentQuery.class));
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenBoundMethodIsNotFromRepository() throws NoSuchMethodException {
+        queries.get(InvalidRepository.class.getMethod("findAll"));
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenMethodIsNotFromRepository() throws NoSuchMethodException {
+        queries.invoke(InvalidRepository.class.getMethod("findAll"), new Object[0]);
+    }
+
+    interface PersonRepository extends CrudRepository<Person> {
+
+        Person findByName(String name);
+
+        boolean existsByName(String name);
+
+        long countByAge(Integer age);
+
+        void deleteByName(String name);
+    }
+
+    interface InvalidRepository extends CrudRepository<Person> {
+
+        Person findAll();
+    }
+}
@@ -22,7 +22,9 @@ package org.jnosql.artemis.document.query;
 import org.jnosql.artemis.DynamicQueryException;
 import org.jnosql.artemis.Pagination;
 import org.jnosql.artemis.WeldJUnit4Runner;
+import org.jnosql.artemis.model.Director;
 import org.jnosql.artemis.model.Person;
+import org.jnosql.artemis.model.Reservation;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.diana.api.Condition;
@@ -264,4 +266,186 @@ public class DocumentQueryParserTest {
         assertEquals(pagination.getStart(), query.getStart());
         assertEquals(sort, query.getSorts().get(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFindFirstByName() {
+        DocumentQuery query = parser.parse("findFirstByName", new Object[]{"name"}, classRepresentation);
+        assertEquals("Person", query.getCollection());
+        assertEquals(Document.of("name", "name"), query.getCondition().get().getDocument());
+        assertEquals(1L, query.getLimit());
+    }
+
+    @Test
+    public void shouldFindTopByName() {
+        DocumentQuery query = parser.parse("findTop10ByNameOrderByAge", new Object[]{"name"}, classRepresentation);
+        assertEquals(Document.of("name", "name"), query.getCondition().get().getDocument());
+        assertEquals(Sort.of("age", Sort.SortType.ASC), query.getSorts().get(0));
+        assertEquals(10L, query.getLimit());
+    }
+
+    @Test
+    public void shouldKeepTheLowerLimitBetweenTopAndPagination() {
+        DocumentQuery query = parser.parse("findTop3ByName", new Object[]{"name", Pagination.of(0L, 10L)},
+                classRepresentation);
+        assertEquals(3L, query.getLimit());
+        query = parser.parse("findTop30ByName", new Object[]{"name", Pagination.of(0L, 10L)},
+                classRepresentation);
+        assertEquals(10L, query.getLimit());
+    }
+
+    @Test
+    public void shouldExistsByName() {
+        DocumentQuery query = parser.parse("existsByName", new Object[]{"name"}, classRepresentation);
+        assertEquals(Document.of("name", "name"), query.getCondition().get().getDocument());
+        assertEquals(1L, query.getLimit());
+    }
+
+    @Test
+    public void shouldCountByName() {
+        DocumentQuery query = parser.parse("countByName", new Object[]{"name"}, classRepresentation);
+        assertEquals(Condition.EQUALS, query.getCondition().get().getCondition());
+        assertEquals(Document.of("name", "name"), query.getCondition().get().getDocument());
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenTopIsZero() {
+        parser.parse("findTop0ByName", new Object[]{"name"}, classRepresentation);
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenPrefixIsUnknown() {
+        parser.parse("getByName", new Object[]{"name"}, classRepresentation);
+    }
+
+    @Test
+    public void shouldBindTemplateAtEveryCall() {
+        DocumentQueryTemplate template = parser.compile("findByNameANDAgeOrderByName", classRepresentation);
+        assertEquals(2, template.getParameters());
+
+        DocumentQuery ada = template.toQuery(new Object[]{"Ada", 10});
+        DocumentQuery poliana = template.toQuery(new Object[]{"Poliana", 20});
+        assertEquals(Sort.of("name", Sort.SortType.ASC), ada.getSorts().get(0));
+        assertEquals(Sort.of("name", Sort.SortType.ASC), poliana.getSorts().get(0));
+        List<DocumentCondition> adaConditions = ada.getCondition().get().getDocument()
+                .get(new TypeReference<List<DocumentCondition>>() {
+                });
+        List<DocumentCondition> polianaConditions = poliana.getCondition().get().getDocument()
+                .get(new TypeReference<List<DocumentCondition>>() {
+                });
+        assertEquals(Document.of("name", "Ada"), adaConditions.get(0).getDocument());
+        assertEquals(Document.of("name", "Poliana"), polianaConditions.get(0).getDocument());
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenSortHasNoField() {
+        parser.compile("findByNameOrderBy", classRepresentation);
+    }
+
+    @Test
+    public void shouldFindByNameIn() {
+        DocumentQuery query = parser.parse("findByNameIn", new Object[]{Arrays.asList("Ada", "Poliana")},
+                classRepresentation);
+        assertEquals(Condition.IN, query.getCondition().get().getCondition());
+        assertEquals(Document.of("name", Arrays.asList("Ada", "Poliana")), query.getCondition().get().getDocument());
+    }
+
+    @Test
+    public void shouldFindByAgeInWithArray() {
+        DocumentQuery query = parser.parse("findByAgeIn", new Object[]{new int[]{10, 20}}, classRepresentation);
+        assertEquals(Condition.IN, query.getCondition().get().getCondition());
+        assertEquals(Document.of("age", Arrays.asList(10, 20)), query.getCondition().get().getDocument());
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenInValueIsNotIterable() {
+        parser.parse("findByNameIn", new Object[]{"Ada"}, classRepresentation);
+    }
+
+    @Test
+    public void shouldFindByFieldThatEndsWithIn() {
+        ClassRepresentation reservation = classRepresentations.get(Reservation.class);
+        DocumentQuery query = parser.parse("findByCheckInANDLoggedIn", new Object[]{"2017-01-01", true}, reservation);
+        List<DocumentCondition> conditions = query.getCondition().get().getDocument()
+                .get(new TypeReference<List<DocumentCondition>>() {
+                });
+        assertEquals(Condition.EQUALS, conditions.get(0).getCondition());
+        assertEquals(Document.of("checkIn", "2017-01-01"), conditions.get(0).getDocument());
+        assertEquals(Condition.EQUALS, conditions.get(1).getCondition());
+        assertEquals(Document.of("loggedIn", true), conditions.get(1).getDocument());
+    }
+
+    @Test
+    public void shouldFindByInOfFieldThatEndsWithIn() {
+        DocumentQuery query = parser.parse("findByCheckInIn", new Object[]{Arrays.asList("2017-01-01", "2017-01-02")},
+                classRepresentations.get(Reservation.class));
+        assertEquals(Condition.IN, query.getCondition().get().getCondition());
+        assertEquals(Document.of("checkIn", Arrays.asList("2017-01-01", "2017-01-02")),
+                query.getCondition().get().getDocument());
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenInHasNoField() {
+        parser.compile("findByIn", classRepresentation);
+    }
+
+    @Test
+    public void shouldSplitInValuesInChunks() {
+        DocumentQueryTemplate template = parser.compile("findByNameInANDAge", classRepresentation);
+        List<DocumentQuery> queries = template.toQueries(new Object[]{Arrays.asList("Ada", "Poliana", "Ada", "Otavio"),
+                10}, 2);
+        assertEquals(2, queries.size());
+        List<DocumentCondition> first = queries.get(0).getCondition().get().getDocument()
+                .get(new TypeReference<List<DocumentCondition>>() {
+                });
+        List<DocumentCondition> second = queries.get(1).getCondition().get().getDocument()
+                .get(new TypeReference<List<DocumentCondition>>() {
+                });
+        assertEquals(Document.of("name", Arrays.asList("Ada", "Poliana")), first.get(0).getDocument());
+        assertEquals(Document.of("name", Arrays.asList("Otavio")), second.get(0).getDocument());
+        assertEquals(Document.of("age", 10), second.get(1).getDocument());
+    }
+
+    @Test
+    public void shouldNotSplitInValuesWhenThereIsSortOrOr() {
+        DocumentQueryTemplate sorted = parser.compile("findByNameInOrderByName", classRepresentation);
+        DocumentQueryTemplate or = parser.compile("findByNameInORAge", classRepresentation);
+        List<String> names = Arrays.asList("Ada", "Poliana", "Otavio");
+        assertEquals(1, sorted.toQueries(new Object[]{names}, 1).size());
+        assertEquals(1, or.toQueries(new Object[]{names, 10}, 1).size());
+        assertEquals(1, parser.compile("findByNameIn", classRepresentation)
+                .toQueries(new Object[]{names, Pagination.of(0L, 10L)}, 1).size());
+    }
+
+    @Test
+    public void shouldUseTheColumnNameOfTheField() {
+        DocumentQuery query = parser.parse("findById", new Object[]{10L}, classRepresentation);
+        assertEquals(Document.of("_id", 10L), query.getCondition().get().getDocument());
+    }
+
+    @Test
+    public void shouldFindByEmbeddedField() {
+        DocumentQuery query = parser.parse("findByMovieTitleOrderByMovieYearDesc", new Object[]{"Matrix"},
+                classRepresentations.get(Director.class), classRepresentations);
+        assertEquals("Director", query.getCollection());
+        assertEquals(Condition.EQUALS, query.getCondition().get().getCondition());
+        assertEquals(Document.of("movie.title", "Matrix"), query.getCondition().get().getDocument());
+        assertEquals(Sort.of("movie.year", Sort.SortType.DESC), query.getSorts().get(0));
+    }
+
+    @Test
+    public void shouldKeepTheTokenWhenThereIsNoEmbeddedRepresentation() {
+        DocumentQuery query = parser.parse("findByMovieTitle", new Object[]{"Matrix"},
+                classRepresentations.get(Director.class));
+        assertEquals(Document.of("movieTitle", "Matrix"), query.getCondition().get().getDocument());
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenFieldIsUnknown() {
+        parser.parse("findByNmae", new Object[]{"Ada"}, classRepresentation, classRepresentations);
+    }
+
+    @Test(expected = DynamicQueryException.class)
+    public void shouldReturnErrorWhenSortFieldIsUnknown() {
+        parser.parse("findByNameOrderByAgee", new Object[]{"Ada"}, classRepresentation, classRepresentations);
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.key;
+
+import org.jnosql.artemis.WeldJUnit4Runner;
+import org.jnosql.artemis.model.User;
+import org.jnosql.diana.api.Value;
+import org.jnosql.diana.api.key.BucketManager;
+import org.jnosql.diana.api.key.KeyValueEntity;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+
+@RunWith(WeldJUnit4Runner.class)
+public class DefaultKeyValueRepositoryAsyncTest {
+
+    @Inject
+    private KeyValueEntityConverter converter;
+
+    @Inject
+    private KeyValueWorkflow flow;
+
+    private BucketManager manager;
+
+    private QueueExecutor executor;
+
+    private KeyValueRepositoryAsync subject;
+
+
+    @Before
+    public void setUp() {
+        this.manager = Mockito.mock(BucketManager.class);
+        this.executor = new QueueExecutor();
+        this.subject = create(new KeyValueBatchSize());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenEntityIsNull() {
+        subject.put((User) null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenTtlIsNull() {
+        subject.put(new User("otaviojava", "otavio", 27), null);
+    }
+
+    @Test
+    public void shouldPut() {
+        ArgumentCaptor<KeyValueEntity> captor = ArgumentCaptor.forClass(KeyValueEntity.class);
+        User user = new User("otaviojava", "otavio", 27);
+        CompletionStage<User> stage = subject.put(user);
+        verify(manager, never()).put(any(KeyValueEntity.class));
+
+        executor.runAll();
+        verify(manager).put(captor.capture());
+        KeyValueEntity entity = captor.getValue();
+        assertEquals("otaviojava", entity.getKey());
+        assertEquals(user, entity.getValue().get());
+        assertEquals(user, stage.toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldPutConcurrentEntitiesTogether() {
+        ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
+        User otavio = new User("otaviojava", "otavio", 27);
+        User ada = new User("ada", "Ada", 10);
+        CompletionStage<User> otavioStage = subject.put(otavio);
+        CompletionStage<User> adaStage = subject.put(ada);
+
+        executor.runAll();
+        verify(manager).put(captor.capture());
+        verify(manager, never()).put(any(KeyValueEntity.class));
+        List<KeyValueEntity<?>> entities = new ArrayList<>();
+        captor.getValue().forEach(e -> entities.add((KeyValueEntity<?>) e));
+        assertEquals(2, entities.size());
+        assertEquals("otaviojava", entities.get(0).getKey());
+        assertEquals("ada", entities.get(1).getKey());
+        assertEquals(otavio, otavioStage.toCompletableFuture().join());
+        assertEquals(ada, adaStage.toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldPutTogetherByTtl() {
+        ArgumentCaptor<Duration> captor = ArgumentCaptor.forClass(Duration.class);
+        User otavio = new User("otaviojava", "otavio", 27);
+        User ada = new User("ada", "Ada", 10);
+        User poliana = new User("poliana", "Poliana", 20);
+        CompletionStage<Iterable<User>> stage = subject.put(Arrays.asList(otavio, ada), Duration.ofHours(2));
+        subject.put(poliana);
+
+        executor.runAll();
+        verify(manager).put(any(Iterable.class), captor.capture());
+        verify(manager).put(any(KeyValueEntity.class));
+        assertEquals(Duration.ofHours(2), captor.getValue());
+        assertEquals(Arrays.asList(otavio, ada), stage.toCompletableFuture().join());
+    }
+
+    @Test
+    public void shouldKeepTheOrderOfPutsWithDifferentTtl() {
+        User first = new User("otaviojava", "otavio", 27);
+        User second = new User("otaviojava", "Otavio Santana", 28);
+        User third = new User("otaviojava", "otavio", 29);
+        subject.put(first, Duration.ofHours(2));
+        subject.put(second);
+        subject.put(third, Duration.ofHours(2));
+
+        executor.runAll();
+        ArgumentCaptor<KeyValueEntity> captor = ArgumentCaptor.forClass(KeyValueEntity.class);
+        InOrder inOrder = Mockito.inOrder(manager);
+        inOrder.verify(manager).put(captor.capture(), Mockito.eq(Duration.ofHours(2)));
+        inOrder.verify(manager).put(captor.capture());
+        inOrder.verify(manager).put(captor.capture(), Mockito.eq(Duration.ofHours(2)));
+        List<KeyValueEntity> entities = captor.getAllValues();
+        assertEquals(first, entities.get(0).getValue().get());
+        assertEquals(second, entities.get(1).getValue().get());
+        assertEquals(third, entities.get(2).getValue().get());
+    }
+
+    @Test
+    public void shouldSplitConcurrentPutsByBatchSize() {
+        subject = create(new KeyValueBatchSize(2));
+        subject.put(Arrays.asList(new User("otaviojava", "otavio", 27), new User("ada", "Ada", 10),
+                new User("poliana", "Poliana", 20)));
+
+        executor.runAll();
+        verify(manager).put(any(Iterable.class));
+        verify(manager).put(any(KeyValueEntity.class));
+    }
+
+    @Test
+    public void shouldGet() {
+        User user = new User("otaviojava", "otavio", 27);
+        when(manager.get("otaviojava")).thenReturn(Optional.of(Value.of(user)));
+        CompletionStage<Optional<User>> stage = subject.get("otaviojava", User.class);
+        assertFalse(stage.toCompletableFuture().isDone());
+
+        executor.runAll();
+        assertEquals(user, stage.toCompletableFuture().join().get());
+    }
+
+    @Test
+    public void shouldGetConcurrentKeysTogether() {
+        User otavio = new User("otaviojava", "otavio", 27);
+        User ada = new User("ada", "Ada", 10);
+        ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
+        when(manager.get(captor.capture())).thenReturn(Arrays.asList(Value.of(ada), Value.of(otavio)));
+
+        CompletionStage<Optional<User>> otavioStage = subject.get("otaviojava", User.class);
+        CompletionStage<Optional<User>> adaStage = subject.get("ada", User.class);
+        CompletionStage<Optional<User>> polianaStage = subject.get("poliana", User.class);
+        CompletionStage<Optional<User>> otavioAgainStage = subject.get("otaviojava", User.class);
+
+        executor.runAll();
+        List<Object> keys = new ArrayList<>();
+        captor.getValue().forEach(keys::add);
+        assertEquals(Arrays.asList("otaviojava", "ada", "poliana"), keys);
+        assertEquals(otavio, otavioStage.toCompletableFuture().join().get());
+        assertEquals(ada, adaStage.toCompletableFuture().join().get());
+        assertFalse(polianaStage.toCompletableFuture().join().isPresent());
+        assertEquals(otavio, otavioAgainStage.toCompletableFuture().join().get());
+    }
+
+    @Test
+    public void shouldGetEachKeyWhenTheKeyTypeDoesNotMatch() {
+        User one = new User("1", "otavio", 27);
+        User two = new User("2", "Ada", 10);
+        when(manager.get(any(Iterable.class))).thenReturn(Arrays.asList(Value.of(one), Value.of(two)));
+        when(manager.get(1)).thenReturn(Optional.of(Value.of(one)));
+        when(manager.get(2)).thenReturn(Optional.of(Value.of(two)));
+        when(manager.get(3)).thenReturn(Optional.empty());
+
+        CompletionStage<Optional<User>> oneStage = subject.get(1, User.class);
+        CompletionStage<Optional<User>> twoStage = subject.get(2, User.class);
+        CompletionStage<Optional<User>> threeStage = subject.get(3, User.class);
+
+        executor.runAll();
+        assertEquals(one, oneStage.toCompletableFuture().join().get());
+        assertEquals(two, twoStage.toCompletableFuture().join().get());
+        assertFalse(threeStage.toCompletableFuture().join().isPresent());
+        verify(manager).get(1);
+        verify(manager).get(2);
+        verify(manager).get(3);
+    }
+
+    @Test
+    public void shouldKeepTheOrderBetweenPutsAndGets() {
+        User user = new User("otaviojava", "otavio", 27);
+        when(manager.get("otaviojava")).thenReturn(Optional.of(Value.of(user)));
+        subject.put(user);
+        subject.get("otaviojava", User.class);
+
+        executor.runAll();
+        InOrder inOrder = Mockito.inOrder(manager);
+        inOrder.verify(manager).put(any(KeyValueEntity.class));
+        inOrder.verify(manager).get("otaviojava");
+    }
+
+    @Test
+    public void shouldFailTheGetsOfTheRoundTrip() {
+        when(manager.get(any(Iterable.class))).thenThrow(new IllegalStateException("timeout"));
+        CompletionStage<Optional<User>> otavioStage = subject.get("otaviojava", User.class);
+        CompletionStage<Optional<User>> adaStage = subject.get("ada", User.class);
+
+        executor.runAll();
+        assertTrue(otavioStage.toCompletableFuture().isCompletedExceptionally());
+        assertTrue(adaStage.toCompletableFuture().isCompletedExceptionally());
+    }
+
+    @Test
+    public void shouldCompleteOnTheExecutor() {
+        User user = new User("otaviojava", "otavio", 27);
+        CompletionStage<User> stage = subject.put(user);
+
+        executor.runNext();
+        verify(manager).put(any(KeyValueEntity.class));
+        assertFalse(stage.toCompletableFuture().isDone());
+
+        executor.runNext();
+        assertEquals(user, stage.toCompletableFuture().join());
+    }
+
+    @Test(expected = CompletionException.class)
+    public void shouldReturnErrorWhenTheExecutorRejects() {
+        executor.reject = true;
+        subject.get("otaviojava", User.class).toCompletableFuture().join();
+    }
+
+    @Test
+    public void shouldRemove() {
+        CompletionStage<Void> stage = subject.remove("otaviojava");
+        verify(manager, never()).remove("otaviojava");
+
+        executor.runAll();
+        verify(manager).remove("otaviojava");
+        assertTrue(stage.toCompletableFuture().isDone());
+    }
+
+    @Test
+    public void shouldRemoveKeys() {
+        List<String> keys = Collections.singletonList("otaviojava");
+        subject.remove(keys);
+
+        executor.runAll();
+        verify(manager).remove(keys);
+    }
+
+    private KeyValueRepositoryAsync create(KeyValueBatchSize batchSize) {
+        Instance<BucketManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        return new DefaultKeyValueRepositoryAsync(converter, instance, flow, new KeyValueExecutor(executor),
+                batchSize);
+    }
+
+    private static class QueueExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new LinkedList<>();
+
+        private boolean reject;
+
+        @Override
+        public void execute(Runnable command) {
+            if (reject) {
+                throw new RejectedExecutionException("rejected");
+            }
+            tasks.add(command);
+        }
+
+        void runNext() {
+            tasks.poll().run();
+        }
+
+        void runAll() {
+            for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+                task.run();
+            }
+        }
+    }
+}
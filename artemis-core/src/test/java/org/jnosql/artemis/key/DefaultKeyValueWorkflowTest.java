@@ -28,9 +28,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.UnaryOperator;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -79,4 +84,50 @@ public class DefaultKeyValueWorkflowTest {
         verify(eventPersistManager).firePostEntity(any(DocumentEntity.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldFollowWorkflowAsync() {
+        CompletableFuture<KeyValueEntity<?>> response = new CompletableFuture<>();
+        CompletionStage<String> stage = subject.flowAsync("entity", k -> response);
+
+        verify(eventPersistManager).firePreEntity(any(String.class));
+        verify(eventPersistManager).firePreKeyValue(any(KeyValueEntity.class));
+        verify(eventPersistManager, never()).firePostKeyValue(any(KeyValueEntity.class));
+
+        when(converter.toEntity(String.class, keyValueEntity)).thenReturn("response");
+        response.complete(keyValueEntity);
+        assertEquals("response", stage.toCompletableFuture().join());
+        verify(eventPersistManager).firePostKeyValue(any(KeyValueEntity.class));
+        verify(eventPersistManager).firePostEntity(any(String.class));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenAsyncActionIsNull() {
+        subject.flowAsync("", null);
+    }
+
+    @Test
+    public void shouldSkipUnobservedEvents() {
+        when(eventPersistManager.isPreKeyValueUnobserved()).thenReturn(true);
+        when(eventPersistManager.isPostEntityUnobserved("entity")).thenReturn(true);
+        UnaryOperator<KeyValueEntity<?>> action = t -> t;
+        subject.flow("entity", action);
+
+        verify(eventPersistManager, never()).firePreKeyValue(any(KeyValueEntity.class));
+        verify(eventPersistManager).firePostKeyValue(any(KeyValueEntity.class));
+        verify(eventPersistManager).firePreEntity(any(String.class));
+        verify(eventPersistManager, never()).firePostEntity(any(Object.class));
+    }
+
+    @Test
+    public void shouldBuildPipelineOnceByEntityType() {
+        UnaryOperator<KeyValueEntity<?>> action = t -> t;
+        subject.flow("entity", action);
+        subject.flow("other entity", action);
+
+        verify(eventPersistManager, times(1)).isPreEntityUnobserved("entity");
+        verify(eventPersistManager, never()).isPreEntityUnobserved("other entity");
+        verify(eventPersistManager, times(1)).isPreKeyValueUnobserved();
+        verify(eventPersistManager, times(2)).firePreEntity(any(String.class));
+    }
+
+}
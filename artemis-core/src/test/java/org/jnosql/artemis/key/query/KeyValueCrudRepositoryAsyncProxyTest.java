@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.key.query;
+
+import org.jnosql.artemis.key.KeyValueRepositoryAsync;
+import org.jnosql.artemis.model.User;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(MockitoJUnitRunner.class)
+public class KeyValueCrudRepositoryAsyncProxyTest {
+
+    @Mock
+    private KeyValueRepositoryAsync repository;
+
+    private UserRepositoryAsync userRepository;
+
+    @Before
+    public void setUp() {
+
+        KeyValueCrudRepositoryAsyncProxy handler = new KeyValueCrudRepositoryAsyncProxy(UserRepositoryAsync.class,
+                repository);
+        userRepository = (UserRepositoryAsync) Proxy.newProxyInstance(UserRepositoryAsync.class.getClassLoader(),
+                new Class[]{UserRepositoryAsync.class},
+                handler);
+    }
+
+    @Test
+    public void shouldPut() {
+        ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
+
+        User user = new User("ada", "Ada", 10);
+        Mockito.when(repository.put(user)).thenReturn(CompletableFuture.completedFuture(user));
+        assertEquals(user, userRepository.put(user).toCompletableFuture().join());
+        Mockito.verify(repository).put(captor.capture());
+        assertEquals(user, captor.getValue());
+    }
+
+    @Test
+    public void shouldPutWithDdl() {
+        ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
+        ArgumentCaptor<Duration> durationCaptor = ArgumentCaptor.forClass(Duration.class);
+
+        User user = new User("ada", "Ada", 10);
+        userRepository.put(user, Duration.ofHours(2));
+        Mockito.verify(repository).put(captor.capture(), durationCaptor.capture());
+        assertEquals(user, captor.getValue());
+        assertEquals(Duration.ofHours(2), durationCaptor.getValue());
+    }
+
+    @Test
+    public void shouldPutIterable() {
+        ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
+
+        User user = new User("ada", "Ada", 10);
+        userRepository.put(Collections.singleton(user));
+        Mockito.verify(repository).put(captor.capture());
+        assertEquals(user, captor.getValue().iterator().next());
+    }
+
+    @Test
+    public void shouldPutIterableWithDdl() {
+        ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
+        ArgumentCaptor<Duration> durationCaptor = ArgumentCaptor.forClass(Duration.class);
+
+        User user = new User("ada", "Ada", 10);
+        userRepository.put(Collections.singleton(user), Duration.ofHours(2));
+        Mockito.verify(repository).put(captor.capture(), durationCaptor.capture());
+        assertEquals(user, captor.getValue().iterator().next());
+        assertEquals(Duration.ofHours(2), durationCaptor.getValue());
+    }
+
+    @Test
+    public void shouldRemove() {
+        userRepository.remove("key");
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(repository).remove(captor.capture());
+        assertEquals("key", captor.getValue());
+    }
+
+    @Test
+    public void shouldRemoveIterable() {
+        userRepository.remove(Collections.singletonList("key"));
+        ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(repository).remove(captor.capture());
+        assertEquals("key", captor.getValue().iterator().next());
+    }
+
+    @Test
+    public void shouldGet() {
+        User user = new User("ada", "Ada", 10);
+        Mockito.when(repository.get("key", User.class)).thenReturn(
+                CompletableFuture.completedFuture(Optional.of(user)));
+
+        assertEquals(user, userRepository.get("key").toCompletableFuture().join().get());
+    }
+
+    @Test
+    public void shouldGetIterable() {
+        User user = new User("ada", "Ada", 10);
+        User user2 = new User("ada", "Ada", 10);
+        List<String> keys = Arrays.asList("key", "key2");
+        Mockito.when(repository.get(keys, User.class)).thenReturn(
+                CompletableFuture.completedFuture(Arrays.asList(user, user2)));
+
+        assertEquals(Arrays.asList(user, user2), userRepository.get(keys).toCompletableFuture().join());
+    }
+
+    interface UserRepositoryAsync extends KeyValueCrudRepositoryAsync<User> {
+
+    }
+
+}
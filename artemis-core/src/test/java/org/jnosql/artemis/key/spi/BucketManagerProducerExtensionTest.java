@@ -22,8 +22,10 @@ package org.jnosql.artemis.key.spi;
 import org.jnosql.artemis.Database;
 import org.jnosql.artemis.DatabaseType;
 import org.jnosql.artemis.UserRepository;
+import org.jnosql.artemis.UserRepositoryAsync;
 import org.jnosql.artemis.WeldJUnit4Runner;
 import org.jnosql.artemis.key.KeyValueRepository;
+import org.jnosql.artemis.key.KeyValueRepositoryAsync;
 import org.jnosql.artemis.model.Person;
 import org.jnosql.artemis.model.User;
 import org.junit.Test;
@@ -54,6 +56,20 @@ public class BucketManagerProducerExtensionTest {
     @Database(value = DatabaseType.KEY_VALUE, provider = "keyvalueMock")
     private UserRepository userRepositoryMock;
 
+    @Inject
+    private KeyValueRepositoryAsync repositoryAsync;
+
+    @Inject
+    @Database(value = DatabaseType.KEY_VALUE, provider = "keyvalueMock")
+    private KeyValueRepositoryAsync repositoryAsyncMock;
+
+    @Inject
+    private UserRepositoryAsync userRepositoryAsync;
+
+    @Inject
+    @Database(value = DatabaseType.KEY_VALUE, provider = "keyvalueMock")
+    private UserRepositoryAsync userRepositoryAsyncMock;
+
     @Test
     public void shouldPut() {
         Person person = repository.get("key", Person.class).get();
@@ -76,4 +92,17 @@ public class BucketManagerProducerExtensionTest {
         assertEquals("keyvalueMock", userMock.getName());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldGetAsync() {
+        Person person = repositoryAsync.get("key", Person.class).toCompletableFuture().join().get();
+        Person personMock = repositoryAsyncMock.get("key", Person.class).toCompletableFuture().join().get();
+        User user = userRepositoryAsync.get("user").toCompletableFuture().join().get();
+        User userMock = userRepositoryAsyncMock.get("user").toCompletableFuture().join().get();
+
+        assertEquals("Default", person.getName());
+        assertEquals("keyvalueMock", personMock.getName());
+        assertEquals("Default", user.getName());
+        assertEquals("keyvalueMock", userMock.getName());
+    }
+
+}
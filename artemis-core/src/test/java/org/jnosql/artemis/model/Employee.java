@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.model;
+
+
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Entity;
+
+@Entity
+public class Employee {
+
+    @Column
+    private String name;
+
+    @Column
+    private Employee manager;
+
+    Employee() {
+    }
+
+    public Employee(String name, Employee manager) {
+        this.name = name;
+        this.manager = manager;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Employee getManager() {
+        return manager;
+    }
+}
@@ -22,6 +22,7 @@ package org.jnosql.artemis.reflection;
 import org.jnosql.artemis.WeldJUnit4Runner;
 import org.jnosql.artemis.model.Actor;
 import org.jnosql.artemis.model.Animal;
+import org.jnosql.artemis.model.Book;
 import org.jnosql.artemis.model.Director;
 import org.jnosql.artemis.model.Machine;
 import org.jnosql.artemis.model.Person;
@@ -36,6 +37,8 @@ import java.util.function.Predicate;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.jnosql.artemis.reflection.FieldType.DEFAULT;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -99,6 +102,28 @@ public class ClassConverterTest {
 
     }
 
+    @Test
+    public void shouldIndexKeyField() {
+        ClassRepresentation classRepresentation = classConverter.create(User.class);
+        assertEquals("nickname", classRepresentation.getKey().get().getName());
+        assertFalse(classConverter.create(Director.class).getKey().isPresent());
+    }
+
+    @Test
+    public void shouldIndexFieldsByName() {
+        ClassRepresentation classRepresentation = classConverter.create(Person.class);
+        assertEquals("_id", classRepresentation.getField("_id").get().getName());
+        assertEquals(classRepresentation.getField(0), classRepresentation.getFields().get(0));
+        assertFalse(classRepresentation.getField("id").isPresent());
+        assertSame(classRepresentation.getFieldsGroupByName(), classRepresentation.getFieldsGroupByName());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotChangeFields() {
+        ClassRepresentation classRepresentation = classConverter.create(Person.class);
+        classRepresentation.getFields().clear();
+    }
+
     @Test(expected = ConstructorException.class)
     public void shouldReturnErrorWhenThereIsNotConstructor() {
         classConverter.create(Animal.class);
@@ -111,4 +136,35 @@ public class ClassConverterTest {
         assertEquals(1, fields.size());
     }
 
+    @Test
+    public void shouldBindConstructorParameters() {
+        ClassRepresentation classRepresentation = classConverter.create(Book.class);
+        List<FieldRepresentation> parameters = classRepresentation.getConstructorParameters();
+        assertEquals(3, parameters.size());
+        assertEquals("_id", parameters.get(0).getName());
+        assertEquals("title", parameters.get(1).getName());
+        assertEquals("edition", parameters.get(2).getName());
+        assertEquals(4, classRepresentation.getFields().size());
+    }
+
+    @Test
+    public void shouldCreateInstanceFromConstructorArguments() {
+        ClassRepresentation classRepresentation = classConverter.create(Book.class);
+        Object[] arguments = classRepresentation.newConstructorArguments();
+        assertEquals(0L, arguments[0]);
+        assertEquals(0, arguments[2]);
+        arguments[0] = 10L;
+        arguments[1] = "Effective Java";
+        Book book = classRepresentation.newInstance(arguments);
+        assertEquals(10L, book.getId());
+        assertEquals("Effective Java", book.getTitle());
+        assertEquals(0, book.getEdition());
+    }
+
+    @Test
+    public void shouldNotBindParametersWhenIsDefaultConstructor() {
+        ClassRepresentation classRepresentation = classConverter.create(Person.class);
+        assertTrue(classRepresentation.getConstructorParameters().isEmpty());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.WeldJUnit4Runner;
+import org.jnosql.artemis.model.Actor;
+import org.jnosql.artemis.model.Movie;
+import org.jnosql.artemis.model.Person;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+@RunWith(WeldJUnit4Runner.class)
+public class DefaultClassRepresentationsTest {
+
+    @Inject
+    private ClassRepresentations classRepresentations;
+
+    @Test
+    public void shouldReturnSameInstanceByClass() {
+        ClassRepresentation representation = classRepresentations.get(Person.class);
+        assertEquals(Person.class, representation.getClassInstance());
+        assertSame(representation, classRepresentations.get(Person.class));
+    }
+
+    @Test
+    public void shouldFindByNameIgnoringCase() {
+        assertEquals(Movie.class, classRepresentations.findByName("movie").getClassInstance());
+        assertEquals(Movie.class, classRepresentations.findByName("MOVIE").getClassInstance());
+        assertSame(classRepresentations.get(Actor.class), classRepresentations.findByName("actor"));
+    }
+
+    @Test(expected = ClassInformationNotFoundException.class)
+    public void shouldReturnErrorWhenNameIsNotFound() {
+        classRepresentations.findByName("notFound");
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.model.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective {@link Reflections#getValue(Object, Field)} and
+ * {@link Reflections#setValue(Object, Field, Object)} against {@link FieldAccessor}.
+ * The reads consume every value with a {@link Blackhole}, so the JIT does not remove them.
+ * It is not a unit test, run it with the main method.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FieldAccessorBenchmark {
+
+    private Reflections reflections;
+
+    private Field name;
+
+    private Field age;
+
+    private FieldAccessor nameAccessor;
+
+    private FieldAccessor ageAccessor;
+
+    private Person person;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        reflections = new Reflections();
+        name = Person.class.getDeclaredField("name");
+        age = Person.class.getDeclaredField("age");
+        reflections.makeAccessible(name);
+        reflections.makeAccessible(age);
+        nameAccessor = FieldAccessor.of(name);
+        ageAccessor = FieldAccessor.of(age);
+        person = Person.builder().withName("Ada").withAge(10).build();
+    }
+
+    @Benchmark
+    public void readReflection(Blackhole blackhole) {
+        blackhole.consume(reflections.getValue(person, age));
+        blackhole.consume(reflections.getValue(person, name));
+    }
+
+    @Benchmark
+    public void readAccessor(Blackhole blackhole) {
+        blackhole.consume(ageAccessor.get(person));
+        blackhole.consume(nameAccessor.get(person));
+    }
+
+    @Benchmark
+    public Person writeReflection() {
+        reflections.setValue(person, name, "Ada");
+        reflections.setValue(person, age, 10);
+        return person;
+    }
+
+    @Benchmark
+    public Person writeAccessor() {
+        nameAccessor.set(person, "Ada");
+        ageAccessor.set(person, 10);
+        return person;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(FieldAccessorBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.model.Person;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class FieldAccessorTest {
+
+    private Reflections reflections;
+
+    @Before
+    public void setUp() {
+        reflections = new Reflections();
+    }
+
+    @Test
+    public void shouldReadField() throws NoSuchFieldException {
+        Person person = Person.builder().withName("Ada").withAge(10)
+                .withPhones(Collections.singletonList("234")).build();
+
+        assertEquals("Ada", accessor("name").get(person));
+        assertEquals(10, accessor("age").get(person));
+        assertEquals(Collections.singletonList("234"), accessor("phones").get(person));
+    }
+
+    @Test
+    public void shouldWriteField() throws NoSuchFieldException {
+        Person person = Person.builder().build();
+
+        accessor("name").set(person, "Ada");
+        accessor("age").set(person, 10);
+        accessor("phones").set(person, Arrays.asList("234", "432"));
+
+        assertEquals("Ada", person.getName());
+        assertEquals(10, person.getAge());
+        assertEquals(Arrays.asList("234", "432"), person.getPhones());
+    }
+
+    @Test
+    public void shouldAccessPrimitiveField() throws NoSuchFieldException {
+        Person person = Person.builder().withId(10L).withAge(20).build();
+        FieldAccessor id = accessor("id");
+        FieldAccessor age = accessor("age");
+
+        assertEquals(10L, id.getLong(person));
+        assertEquals(20, age.getInt(person));
+        id.setLong(person, 12L);
+        age.setInt(person, 22);
+        assertEquals(12L, person.getId());
+        assertEquals(22, person.getAge());
+        assertEquals(22L, age.getLong(person));
+    }
+
+    @Test(expected = FieldAccessException.class)
+    public void shouldReturnErrorWhenTypeIsInvalid() throws NoSuchFieldException {
+        Person person = Person.builder().build();
+        accessor("age").set(person, "ten");
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenFieldIsNull() {
+        FieldAccessor.of(null);
+    }
+
+    private FieldAccessor accessor(String name) throws NoSuchFieldException {
+        Field field = Person.class.getDeclaredField(name);
+        reflections.makeAccessible(field);
+        return FieldAccessor.of(field);
+    }
+}
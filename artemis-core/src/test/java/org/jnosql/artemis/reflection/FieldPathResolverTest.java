@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.artemis.WeldJUnit4Runner;
+import org.jnosql.artemis.model.Director;
+import org.jnosql.artemis.model.Person;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(WeldJUnit4Runner.class)
+public class FieldPathResolverTest {
+
+    @Inject
+    private ClassRepresentations classRepresentations;
+
+    @Test
+    public void shouldResolveTheColumnName() {
+        FieldPathResolver resolver = new FieldPathResolver(classRepresentations.get(Person.class));
+        assertEquals(Optional.of("_id"), resolver.resolve("Id"));
+        assertEquals(Optional.of("name"), resolver.resolve("Name"));
+    }
+
+    @Test
+    public void shouldResolveEmbeddedField() {
+        FieldPathResolver resolver = new FieldPathResolver(classRepresentations.get(Director.class),
+                classRepresentations);
+        assertEquals(Optional.of("movie"), resolver.resolve("Movie"));
+        assertEquals(Optional.of("movie.title"), resolver.resolve("MovieTitle"));
+        assertEquals(Optional.of("movie.actors"), resolver.resolve("MovieActors"));
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenThereIsNoField() {
+        FieldPathResolver resolver = new FieldPathResolver(classRepresentations.get(Director.class),
+                classRepresentations);
+        assertFalse(resolver.resolve("MovieBudget").isPresent());
+        assertFalse(resolver.resolve("Moviet").isPresent());
+        assertFalse(resolver.resolve("").isPresent());
+    }
+
+    @Test
+    public void shouldNotFollowEmbeddedFieldWithoutRepresentations() {
+        FieldPathResolver resolver = new FieldPathResolver(classRepresentations.get(Director.class));
+        assertFalse(resolver.resolve("MovieTitle").isPresent());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenTokenIsNull() {
+        new FieldPathResolver(classRepresentations.get(Person.class)).resolve(null);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.reflection;
+
+import org.jnosql.diana.api.TypeSupplier;
+import org.jnosql.diana.api.Value;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ValueReadersTest {
+
+    @Test
+    public void shouldReturnSameInstanceWhenTypeMatches() {
+        String name = "Ada";
+        LocalDate date = LocalDate.now();
+        assertSame(name, ValueReaders.of(String.class).read(Value.of(name)));
+        assertSame(date, ValueReaders.of(LocalDate.class).read(Value.of(date)));
+    }
+
+    @Test
+    public void shouldConvertNumbers() {
+        assertEquals(10, ValueReaders.of(int.class).read(Value.of(10L)));
+        assertEquals(10L, ValueReaders.of(Long.class).read(Value.of(10)));
+        assertEquals(10D, ValueReaders.of(double.class).read(Value.of(10)));
+    }
+
+    @Test
+    public void shouldConvertEnum() {
+        assertEquals(DayOfWeek.MONDAY, ValueReaders.of(DayOfWeek.class).read(Value.of("MONDAY")));
+        assertEquals(DayOfWeek.FRIDAY, ValueReaders.of(DayOfWeek.class).read(Value.of(DayOfWeek.FRIDAY)));
+    }
+
+    @Test
+    public void shouldCopyListOfString() throws NoSuchFieldException {
+        List<String> phones = Arrays.asList("234", "432");
+        Object result = reader("phones", FieldType.COLLECTION).read(Value.of(phones));
+        assertEquals(phones, result);
+        assertNotSame(phones, result);
+    }
+
+    @Test
+    public void shouldCopyMapOfString() throws NoSuchFieldException {
+        Map<String, String> characters = Collections.singletonMap("JavaZone", "Jedi");
+        Object result = reader("characters", FieldType.MAP).read(Value.of(characters));
+        assertEquals(characters, result);
+        assertNotSame(characters, result);
+    }
+
+    private ValueReader reader(String name, FieldType type) throws NoSuchFieldException {
+        Field field = Sample.class.getDeclaredField(name);
+        TypeSupplier<?> typeSupplier = field::getGenericType;
+        return ValueReaders.of(field, type, typeSupplier);
+    }
+
+    private static class Sample {
+
+        private List<String> phones;
+
+        private Map<String, String> characters;
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.processor;
+
+
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Key;
+import org.jnosql.artemis.MappedSuperclass;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The source model of the {@link org.jnosql.artemis.reflection.EntityMapper} generated to an entity.
+ * Only the members reachable from the entity package are used, either the field itself or its getter and setter,
+ * the other fields are left to the reflection.
+ */
+final class EntityMapperClass {
+
+    static final String SUFFIX = "_EntityMapper";
+
+    private final TypeElement entity;
+
+    private final String packageName;
+
+    private final String simpleName;
+
+    private final String entityType;
+
+    private final boolean instantiable;
+
+    private final List<FieldMapping> fields;
+
+    private EntityMapperClass(TypeElement entity, String packageName, String simpleName, String entityType,
+                              boolean instantiable, List<FieldMapping> fields) {
+        this.entity = entity;
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.entityType = entityType;
+        this.instantiable = instantiable;
+        this.fields = fields;
+    }
+
+    TypeElement getEntity() {
+        return entity;
+    }
+
+    String getQualifiedName() {
+        return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    }
+
+    static Optional<EntityMapperClass> of(TypeElement entity, ProcessingEnvironment environment) {
+        if (!isReachable(entity)) {
+            return Optional.empty();
+        }
+        Elements elements = environment.getElementUtils();
+        Types types = environment.getTypeUtils();
+        PackageElement packageElement = elements.getPackageOf(entity);
+        String entityType = types.erasure(entity.asType()).toString();
+
+        List<FieldMapping> fields = new ArrayList<>();
+        List<VariableElement> mappedFields = getFields(entity, types);
+        Map<String, Integer> names = new HashMap<>();
+        mappedFields.forEach(f -> names.merge(f.getSimpleName().toString(), 1, Integer::sum));
+        for (VariableElement field : mappedFields) {
+            if (names.get(field.getSimpleName().toString()) == 1) {
+                FieldMapping.of(field, entity, packageElement, entityType, environment).ifPresent(fields::add);
+            }
+        }
+
+        boolean instantiable = !entity.getModifiers().contains(Modifier.ABSTRACT)
+                && ElementFilter.constructorsIn(entity.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE));
+
+        return Optional.of(new EntityMapperClass(entity, packageElement.getQualifiedName().toString(),
+                getSimpleName(entity), entityType, instantiable, fields));
+    }
+
+    String toSource() {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * The {@link org.jnosql.artemis.reflection.EntityMapper} to {@link ").append(entityType)
+                .append("}, generated by the artemis-processor.\n")
+                .append(" */\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements org.jnosql.artemis.reflection.EntityMapper<").append(entityType).append("> {\n\n")
+                .append("    private final java.util.Map<String, org.jnosql.artemis.reflection.FieldAccessor> accessors;\n\n")
+                .append("    public ").append(simpleName).append("() {\n")
+                .append("        java.util.Map<String, org.jnosql.artemis.reflection.FieldAccessor> accessors")
+                .append(" = new java.util.HashMap<>();\n");
+        for (FieldMapping field : fields) {
+            field.appendTo(source);
+        }
+        source.append("        this.accessors = java.util.Collections.unmodifiableMap(accessors);\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Class<").append(entityType).append("> getEntityClass() {\n")
+                .append("        return ").append(entityType).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.Optional<java.util.function.Supplier<").append(entityType)
+                .append(">> getInstanceSupplier() {\n");
+        if (instantiable) {
+            source.append("        return java.util.Optional.of(").append(entityType).append("::new);\n");
+        } else {
+            source.append("        return java.util.Optional.empty();\n");
+        }
+        source.append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.Optional<org.jnosql.artemis.reflection.FieldAccessor> getAccessor(String fieldName) {\n")
+                .append("        return java.util.Optional.ofNullable(accessors.get(fieldName));\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private static String getSimpleName(TypeElement entity) {
+        StringBuilder name = new StringBuilder(entity.getSimpleName());
+        Element enclosing = entity.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append(SUFFIX).toString();
+    }
+
+    static boolean isReachable(TypeElement entity) {
+        Element element = entity;
+        while (element instanceof TypeElement) {
+            TypeElement type = (TypeElement) element;
+            if (type.getModifiers().contains(Modifier.PRIVATE) || NestingKind.LOCAL.equals(type.getNestingKind())
+                    || NestingKind.ANONYMOUS.equals(type.getNestingKind())) {
+                return false;
+            }
+            if (NestingKind.MEMBER.equals(type.getNestingKind()) && !type.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            element = type.getEnclosingElement();
+        }
+        return true;
+    }
+
+    static List<VariableElement> getFields(TypeElement entity, Types types) {
+        List<VariableElement> fields = new ArrayList<>();
+        TypeMirror superclass = entity.getSuperclass();
+        if (TypeKind.DECLARED.equals(superclass.getKind())) {
+            TypeElement parent = (TypeElement) ((DeclaredType) superclass).asElement();
+            if (parent.getAnnotation(MappedSuperclass.class) != null) {
+                fields.addAll(getFields(parent, types));
+            }
+        }
+        for (VariableElement field : ElementFilter.fieldsIn(entity.getEnclosedElements())) {
+            if (field.getAnnotation(Column.class) != null || field.getAnnotation(Key.class) != null) {
+                fields.add(field);
+            }
+        }
+        return Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * The accessor source to a single field
+     */
+    static final class FieldMapping {
+
+        private final String name;
+
+        private final String entityType;
+
+        private final String valueType;
+
+        private final String primitive;
+
+        private final String read;
+
+        private final String write;
+
+        private FieldMapping(String name, String entityType, String valueType, String primitive, String read,
+                             String write) {
+            this.name = name;
+            this.entityType = entityType;
+            this.valueType = valueType;
+            this.primitive = primitive;
+            this.read = read;
+            this.write = write;
+        }
+
+        static Optional<FieldMapping> of(VariableElement field, TypeElement entity, PackageElement packageElement,
+                                         String entityType, ProcessingEnvironment environment) {
+
+            Types types = environment.getTypeUtils();
+            TypeMirror type = field.asType();
+            if (field.getModifiers().contains(Modifier.STATIC) || hasTypeVariable(type)) {
+                return Optional.empty();
+            }
+            String name = field.getSimpleName().toString();
+            String valueType = type.getKind().isPrimitive() ? types.boxedClass((javax.lang.model.type.PrimitiveType) type)
+                    .getQualifiedName().toString() : types.erasure(type).toString();
+
+            TypeElement declaringType = (TypeElement) field.getEnclosingElement();
+            boolean fieldReachable = isReachable(field, declaringType, packageElement, environment);
+            Optional<String> read = Optional.empty();
+            Optional<String> write = Optional.empty();
+            if (fieldReachable) {
+                read = Optional.of("((" + entityType + ") bean)." + name);
+                if (!field.getModifiers().contains(Modifier.FINAL)) {
+                    write = Optional.of("((" + entityType + ") bean)." + name + " = %s");
+                }
+            }
+
+            String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            List<ExecutableElement> methods = ElementFilter.methodsIn(environment.getElementUtils().getAllMembers(entity));
+            for (ExecutableElement method : methods) {
+                if (!isReachable(method, (TypeElement) method.getEnclosingElement(), packageElement, environment)
+                        || method.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                String methodName = method.getSimpleName().toString();
+                if (!read.isPresent() && method.getParameters().isEmpty()
+                        && types.isSameType(method.getReturnType(), type)
+                        && (methodName.equals("get" + capitalized)
+                        || (TypeKind.BOOLEAN.equals(type.getKind()) && methodName.equals("is" + capitalized)))) {
+                    read = Optional.of("((" + entityType + ") bean)." + methodName + "()");
+                }
+                if (!write.isPresent() && method.getParameters().size() == 1
+                        && TypeKind.VOID.equals(method.getReturnType().getKind())
+                        && types.isSameType(method.getParameters().get(0).asType(), type)
+                        && methodName.equals("set" + capitalized)) {
+                    write = Optional.of("((" + entityType + ") bean)." + methodName + "(%s)");
+                }
+            }
+            if (read.isPresent() && write.isPresent()) {
+                String primitive = getPrimitive(type);
+                return Optional.of(new FieldMapping(name, entityType, valueType, primitive, read.get(), write.get()));
+            }
+            return Optional.empty();
+        }
+
+        void appendTo(StringBuilder source) {
+            source.append("        accessors.put(\"").append(name).append("\", new org.jnosql.artemis.reflection.FieldAccessor() {\n")
+                    .append("            @Override\n")
+                    .append("            public Object get(Object bean) {\n")
+                    .append("                return ").append(read).append(";\n")
+                    .append("            }\n\n")
+                    .append("            @Override\n")
+                    .append("            public void set(Object bean, Object value) {\n")
+                    .append("                ").append(String.format(write, "(" + valueType + ") value")).append(";\n")
+                    .append("            }\n");
+            if (primitive != null) {
+                String suffix = Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1);
+                source.append("\n")
+                        .append("            @Override\n")
+                        .append("            public ").append(primitive).append(" get").append(suffix)
+                        .append("(Object bean) {\n")
+                        .append("                return ").append(read).append(";\n")
+                        .append("            }\n\n")
+                        .append("            @Override\n")
+                        .append("            public void set").append(suffix).append("(Object bean, ")
+                        .append(primitive).append(" value) {\n")
+                        .append("                ").append(String.format(write, "value")).append(";\n")
+                        .append("            }\n");
+            }
+            source.append("        });\n");
+        }
+
+        private static String getPrimitive(TypeMirror type) {
+            switch (type.getKind()) {
+                case LONG:
+                    return "long";
+                case INT:
+                    return "int";
+                case DOUBLE:
+                    return "double";
+                default:
+                    return null;
+            }
+        }
+
+        private static boolean isReachable(Element member, TypeElement declaringType, PackageElement packageElement,
+                                           ProcessingEnvironment environment) {
+            if (member.getModifiers().contains(Modifier.PRIVATE) || declaringType.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (packageElement.equals(environment.getElementUtils().getPackageOf(declaringType))) {
+                return true;
+            }
+            return member.getModifiers().contains(Modifier.PUBLIC) && declaringType.getModifiers().contains(Modifier.PUBLIC);
+        }
+
+        static boolean hasTypeVariable(TypeMirror type) {
+            switch (type.getKind()) {
+                case TYPEVAR:
+                case WILDCARD:
+                case INTERSECTION:
+                    return true;
+                case ARRAY:
+                    return hasTypeVariable(((javax.lang.model.type.ArrayType) type).getComponentType());
+                case DECLARED:
+                    return ((DeclaredType) type).getTypeArguments().stream().anyMatch(FieldMapping::hasTypeVariable);
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "FieldMapping{" +
+                    "name='" + name + '\'' +
+                    ", entityType='" + entityType + '\'' +
+                    ", valueType='" + valueType + '\'' +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.processor;
+
+
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Entity;
+import org.jnosql.artemis.Key;
+import org.jnosql.artemis.MappedSuperclass;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The annotation processor that generates an {@link org.jnosql.artemis.reflection.EntityMapper} to each
+ * class either annotated with {@link Entity} or with fields annotated with {@link Column} or {@link Key},
+ * the fields of {@link MappedSuperclass} parents are included. The mappers are registered to the
+ * {@link java.util.ServiceLoader}, so the reflection is not required to create and to fill those entities.
+ * It also generates the static metamodel, e.g.: Person_, to each {@link Entity}, that is used to build
+ * typed queries.
+ *
+ * <p>The scope of the mappers is the access to the entity: its instance supplier and a
+ * {@link org.jnosql.artemis.reflection.FieldAccessor} to each field. They do not convert the entity to and from
+ * ColumnEntity, DocumentEntity or KeyValueEntity: the converters build a conversion plan to each entity once,
+ * on top of those accessors, so the steady state conversion does not use reflection either. Neither do they
+ * replace the scanning of the entities at boot, the {@link org.jnosql.artemis.reflection.ClassRepresentation}
+ * is still read from the annotations, the mapper just takes the place of the reflective access.</p>
+ */
+public class EntityProcessor extends AbstractProcessor {
+
+    static final String SERVICE_FILE = "META-INF/services/org.jnosql.artemis.reflection.EntityMapper";
+
+    private final Set<String> processed = new HashSet<>();
+
+    private final Set<String> mappers = new TreeSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(Entity.class.getName(), Column.class.getName(),
+                Key.class.getName(), MappedSuperclass.class.getName()));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        Set<TypeElement> entities = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(Entity.class)) {
+            if (ElementKind.CLASS.equals(element.getKind())) {
+                entities.add((TypeElement) element);
+            }
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(Column.class)) {
+            addEnclosingClass(entities, element);
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(Key.class)) {
+            addEnclosingClass(entities, element);
+        }
+
+        for (TypeElement entity : entities) {
+            if (processed.add(entity.getQualifiedName().toString())) {
+                EntityMapperClass.of(entity, processingEnv).ifPresent(this::write);
+                MetamodelClass.of(entity, processingEnv).ifPresent(this::write);
+            }
+        }
+        return false;
+    }
+
+    private void addEnclosingClass(Set<TypeElement> entities, Element element) {
+        Element enclosing = element.getEnclosingElement();
+        if (ElementKind.FIELD.equals(element.getKind()) && ElementKind.CLASS.equals(enclosing.getKind())) {
+            entities.add((TypeElement) enclosing);
+        }
+    }
+
+    private void write(EntityMapperClass mapper) {
+        try {
+            JavaFileObject file = processingEnv.getFiler()
+                    .createSourceFile(mapper.getQualifiedName(), mapper.getEntity());
+            try (Writer writer = file.openWriter()) {
+                writer.write(mapper.toSource());
+            }
+            mappers.add(mapper.getQualifiedName());
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "There is an error to write the entity mapper: " + exception.getMessage(), mapper.getEntity());
+        }
+    }
+
+    private void write(MetamodelClass metamodel) {
+        try {
+            JavaFileObject file = processingEnv.getFiler()
+                    .createSourceFile(metamodel.getQualifiedName(), metamodel.getEntity());
+            try (Writer writer = file.openWriter()) {
+                writer.write(metamodel.toSource());
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "There is an error to write the metamodel: " + exception.getMessage(), metamodel.getEntity());
+        }
+    }
+
+    private void writeServiceFile() {
+        ServiceFiles.write(processingEnv, SERVICE_FILE, mappers);
+    }
+}
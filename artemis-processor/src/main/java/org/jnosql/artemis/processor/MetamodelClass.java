@@ -0,0 +1,170 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.processor;
+
+
+import org.jnosql.artemis.Column;
+import org.jnosql.artemis.Entity;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The source model of the static metamodel generated to an {@link Entity}, e.g.: Person_. It has the
+ * {@link org.jnosql.artemis.EntityModel} as the ENTITY constant and an {@link org.jnosql.artemis.Attribute}
+ * constant, named as the field, to each field annotated with either {@link Column} or
+ * {@link org.jnosql.artemis.Key}. The names follow the same rules of the {@link org.jnosql.artemis.reflection.ClassRepresentation}.
+ */
+final class MetamodelClass {
+
+    static final String SUFFIX = "_";
+
+    static final String ENTITY = "ENTITY";
+
+    private final TypeElement entity;
+
+    private final String packageName;
+
+    private final String simpleName;
+
+    private final String entityType;
+
+    private final String entityName;
+
+    private final List<String> attributes;
+
+    private MetamodelClass(TypeElement entity, String packageName, String simpleName, String entityType,
+                           String entityName, List<String> attributes) {
+        this.entity = entity;
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.entityType = entityType;
+        this.entityName = entityName;
+        this.attributes = attributes;
+    }
+
+    TypeElement getEntity() {
+        return entity;
+    }
+
+    String getQualifiedName() {
+        return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    }
+
+    static Optional<MetamodelClass> of(TypeElement entity, ProcessingEnvironment environment) {
+        Entity annotation = entity.getAnnotation(Entity.class);
+        if (annotation == null || !EntityMapperClass.isReachable(entity)) {
+            return Optional.empty();
+        }
+        Elements elements = environment.getElementUtils();
+        Types types = environment.getTypeUtils();
+        String entityType = types.erasure(entity.asType()).toString();
+        String entityName = annotation.value().trim().isEmpty() ? entity.getSimpleName().toString()
+                : annotation.value();
+
+        List<VariableElement> fields = EntityMapperClass.getFields(entity, types);
+        Map<String, Integer> names = new HashMap<>();
+        fields.forEach(f -> names.merge(f.getSimpleName().toString(), 1, Integer::sum));
+        List<String> attributes = new ArrayList<>();
+        for (VariableElement field : fields) {
+            String fieldName = field.getSimpleName().toString();
+            if (names.get(fieldName) > 1 || ENTITY.equals(fieldName) || field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            attributes.add("    public static final org.jnosql.artemis.Attribute<" + entityType + ", "
+                    + getValueType(field.asType(), types) + "> " + fieldName + " =\n"
+                    + "            org.jnosql.artemis.Attribute.of(" + ENTITY + ", \"" + fieldName + "\", \""
+                    + getColumnName(field) + "\");\n");
+        }
+
+        return Optional.of(new MetamodelClass(entity, elements.getPackageOf(entity).getQualifiedName().toString(),
+                getSimpleName(entity), entityType, entityName, Collections.unmodifiableList(attributes)));
+    }
+
+    String toSource() {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * The static metamodel of {@link ").append(entityType)
+                .append("}, generated by the artemis-processor.\n")
+                .append(" */\n")
+                .append("@SuppressWarnings(\"rawtypes\")\n")
+                .append("public final class ").append(simpleName).append(" {\n\n")
+                .append("    public static final org.jnosql.artemis.EntityModel<").append(entityType).append("> ")
+                .append(ENTITY).append(" =\n")
+                .append("            org.jnosql.artemis.EntityModel.of(").append(entityType).append(".class, \"")
+                .append(escape(entityName)).append("\");\n");
+        for (String attribute : attributes) {
+            source.append('\n').append(attribute);
+        }
+        source.append('\n')
+                .append("    private ").append(simpleName).append("() {\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private static String getColumnName(VariableElement field) {
+        Column column = field.getAnnotation(Column.class);
+        if (column == null || column.value().trim().isEmpty()) {
+            return field.getSimpleName().toString();
+        }
+        return escape(column.value());
+    }
+
+    private static String getValueType(TypeMirror type, Types types) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        if (EntityMapperClass.FieldMapping.hasTypeVariable(type)) {
+            return types.erasure(type).toString();
+        }
+        return type.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static String getSimpleName(TypeElement entity) {
+        StringBuilder name = new StringBuilder(entity.getSimpleName());
+        Element enclosing = entity.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append(SUFFIX).toString();
+    }
+}
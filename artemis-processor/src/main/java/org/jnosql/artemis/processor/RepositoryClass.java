@@ -0,0 +1,409 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.processor;
+
+
+import org.jnosql.artemis.CrudRepository;
+import org.jnosql.artemis.column.ColumnRepository;
+import org.jnosql.artemis.column.query.ColumnQueryMethod;
+import org.jnosql.artemis.column.query.ColumnQueryMethods;
+import org.jnosql.artemis.document.DocumentRepository;
+import org.jnosql.artemis.document.query.DocumentQueryMethod;
+import org.jnosql.artemis.document.query.DocumentQueryMethods;
+import org.jnosql.artemis.key.KeyValueRepository;
+import org.jnosql.artemis.key.query.KeyValueCrudRepository;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The source model of the {@link org.jnosql.artemis.RepositoryFactory} generated to a repository interface.
+ * The CRUD methods call the repository directly and each query method, such as findBy, calls a field bound once
+ * to its template by {@link ColumnQueryMethods} or {@link DocumentQueryMethods}, so there is no lookup at the call.
+ */
+final class RepositoryClass {
+
+    private static final String CONFIGURATION = "org.jnosql.artemis.ChunkSize chunkSize, "
+            + "org.jnosql.artemis.FetchSize fetchSize, org.jnosql.artemis.ChunkExecutor chunkExecutor";
+
+    private final TypeElement repository;
+
+    private final Backend backend;
+
+    private final String packageName;
+
+    private final String simpleName;
+
+    private final String repositoryType;
+
+    private final List<String> methods;
+
+    private final List<String> queries;
+
+    private RepositoryClass(TypeElement repository, Backend backend, String packageName, String simpleName,
+                            String repositoryType, List<String> methods, List<String> queries) {
+        this.repository = repository;
+        this.backend = backend;
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.repositoryType = repositoryType;
+        this.methods = methods;
+        this.queries = queries;
+    }
+
+    TypeElement getRepository() {
+        return repository;
+    }
+
+    String getQualifiedName() {
+        return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    }
+
+    static Optional<RepositoryClass> of(TypeElement repository, Backend backend, ProcessingEnvironment environment) {
+        Elements elements = environment.getElementUtils();
+        Types types = environment.getTypeUtils();
+        if (!isReachable(repository) || !repository.getTypeParameters().isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<String> entityType = getEntityType(repository.asType(), backend, types);
+        if (!entityType.isPresent()) {
+            return Optional.empty();
+        }
+
+        DeclaredType repositoryDeclared = (DeclaredType) repository.asType();
+        List<ExecutableElement> objectMethods = ElementFilter.methodsIn(
+                elements.getTypeElement(Object.class.getName()).getEnclosedElements());
+        List<String> methods = new ArrayList<>();
+        List<String> queries = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(repository))) {
+            TypeElement declaring = (TypeElement) method.getEnclosingElement();
+            if (!ElementKind.INTERFACE.equals(declaring.getKind()) || method.isDefault()
+                    || method.getModifiers().contains(Modifier.STATIC)
+                    || objectMethods.stream().anyMatch(o -> elements.overrides(method, o, repository))) {
+                continue;
+            }
+            ExecutableType type = (ExecutableType) types.asMemberOf(repositoryDeclared, method);
+            String name = method.getSimpleName().toString();
+            StringBuilder source = new StringBuilder();
+            source.append("        @Override\n")
+                    .append("        public ").append(getTypeParameters(type)).append(type.getReturnType())
+                    .append(' ').append(name).append('(').append(getParameters(method, type)).append(") {\n");
+            boolean isVoid = TypeKind.VOID.equals(type.getReturnType().getKind());
+            String arguments = getArguments(method);
+            if (backend.getBase().equals(declaring.getQualifiedName().toString())) {
+                source.append("            ").append(isVoid ? "" : "return ")
+                        .append(backend.delegate(name, arguments, entityType.get())).append(";\n");
+            } else if (backend.getQueryMethods() != null) {
+                String field = "query" + queries.size();
+                queries.add("lookup(\"" + name + '"' + getParameterClasses(method, types) + ")");
+                String invoke = field + ".invoke(" + getVarArguments(method, type, arguments) + ")";
+                if (isVoid) {
+                    source.append("            ").append(invoke).append(";\n");
+                } else {
+                    source.append("            return (").append(getCastType(type.getReturnType(), types)).append(") ")
+                            .append(invoke).append(";\n");
+                }
+            } else {
+                return Optional.empty();
+            }
+            source.append("        }\n");
+            methods.add(source.toString());
+        }
+
+        return Optional.of(new RepositoryClass(repository, backend,
+                elements.getPackageOf(repository).getQualifiedName().toString(),
+                getSimpleName(repository, backend), types.erasure(repository.asType()).toString(),
+                Collections.unmodifiableList(methods), Collections.unmodifiableList(queries)));
+    }
+
+    String toSource() {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        String delegate = backend.getDelegate();
+        source.append("/**\n")
+                .append(" * The {@link org.jnosql.artemis.RepositoryFactory} to {@link ").append(repositoryType)
+                .append("} on {@link ").append(delegate).append("}, generated by the artemis-processor.\n")
+                .append(" */\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements org.jnosql.artemis.RepositoryFactory<").append(repositoryType).append(", ")
+                .append(delegate).append("> {\n\n")
+                .append("    @Override\n")
+                .append("    public Class<").append(repositoryType).append("> getRepositoryType() {\n")
+                .append("        return ").append(repositoryType).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Class<").append(delegate).append("> getDelegateType() {\n")
+                .append("        return ").append(delegate).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public ").append(repositoryType).append(" create(").append(delegate)
+                .append(" repository, org.jnosql.artemis.reflection.ClassRepresentations classRepresentations) {\n");
+        if (queries.isEmpty()) {
+            source.append("        java.util.Objects.requireNonNull(repository, \"repository is required\");\n")
+                    .append("        return new Implementation(repository);\n")
+                    .append("    }\n\n");
+        } else {
+            source.append("        return create(repository, classRepresentations, new org.jnosql.artemis.ChunkSize(),")
+                    .append(" new org.jnosql.artemis.FetchSize(),\n")
+                    .append("                new org.jnosql.artemis.ChunkExecutor());\n")
+                    .append("    }\n\n")
+                    .append("    @Override\n")
+                    .append("    public ").append(repositoryType).append(" create(").append(delegate)
+                    .append(" repository, org.jnosql.artemis.reflection.ClassRepresentations classRepresentations,\n")
+                    .append("            ").append(CONFIGURATION).append(") {\n")
+                    .append("        java.util.Objects.requireNonNull(repository, \"repository is required\");\n")
+                    .append("        return new Implementation(new ").append(backend.getQueryMethods())
+                    .append("(repository, classRepresentations,\n")
+                    .append("                ").append(repositoryType)
+                    .append(".class, chunkSize, fetchSize, chunkExecutor), repository);\n")
+                    .append("    }\n\n");
+        }
+        source.append("    private static final class Implementation implements ").append(repositoryType)
+                .append(" {\n\n")
+                .append("        private final ").append(delegate).append(" repository;\n");
+        for (int index = 0; index < queries.size(); index++) {
+            source.append('\n').append("        private final ").append(backend.getQueryMethod()).append(" query")
+                    .append(index).append(";\n");
+        }
+        source.append('\n');
+        if (queries.isEmpty()) {
+            source.append("        Implementation(").append(delegate).append(" repository) {\n");
+        } else {
+            source.append("        Implementation(").append(backend.getQueryMethods()).append(" queries, ")
+                    .append(delegate).append(" repository) {\n");
+        }
+        source.append("            this.repository = repository;\n");
+        for (int index = 0; index < queries.size(); index++) {
+            source.append("            this.query").append(index).append(" = queries.get(")
+                    .append(queries.get(index)).append(");\n");
+        }
+        source.append("        }\n");
+        for (String method : methods) {
+            source.append('\n').append(method);
+        }
+        if (!queries.isEmpty()) {
+            source.append('\n')
+                    .append("        private static java.lang.reflect.Method lookup(String name, Class<?>... parameterTypes) {\n")
+                    .append("            try {\n")
+                    .append("                return ").append(repositoryType).append(".class.getMethod(name, parameterTypes);\n")
+                    .append("            } catch (NoSuchMethodException exception) {\n")
+                    .append("                throw new IllegalStateException(\"There is not the method \" + name")
+                    .append(" + \" in the repository ").append(repositoryType).append("\", exception);\n")
+                    .append("            }\n")
+                    .append("        }\n");
+        }
+        source.append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private static Optional<String> getEntityType(TypeMirror type, Backend backend, Types types) {
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            DeclaredType declared = (DeclaredType) supertype;
+            if (backend.getBase().equals(((TypeElement) declared.asElement()).getQualifiedName().toString())) {
+                List<? extends TypeMirror> arguments = declared.getTypeArguments();
+                if (arguments.size() == 1 && TypeKind.DECLARED.equals(arguments.get(0).getKind())) {
+                    return Optional.of(types.erasure(arguments.get(0)).toString());
+                }
+                return Optional.empty();
+            }
+            Optional<String> entityType = getEntityType(supertype, backend, types);
+            if (entityType.isPresent()) {
+                return entityType;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String getTypeParameters(ExecutableType type) {
+        if (type.getTypeVariables().isEmpty()) {
+            return "";
+        }
+        return type.getTypeVariables().stream().map(RepositoryClass::getTypeParameter)
+                .collect(Collectors.joining(", ", "<", "> "));
+    }
+
+    private static String getTypeParameter(TypeVariable variable) {
+        TypeMirror bound = variable.getUpperBound();
+        String name = variable.asElement().getSimpleName().toString();
+        if (TypeKind.INTERSECTION.equals(bound.getKind())) {
+            return name + " extends " + ((IntersectionType) bound).getBounds().stream().map(TypeMirror::toString)
+                    .collect(Collectors.joining(" & "));
+        }
+        if (Object.class.getName().equals(bound.toString())) {
+            return name;
+        }
+        return name + " extends " + bound;
+    }
+
+    private static String getParameters(ExecutableElement method, ExecutableType type) {
+        List<? extends TypeMirror> parameters = type.getParameterTypes();
+        List<String> source = new ArrayList<>();
+        for (int index = 0; index < parameters.size(); index++) {
+            TypeMirror parameter = parameters.get(index);
+            if (method.isVarArgs() && index == parameters.size() - 1 && TypeKind.ARRAY.equals(parameter.getKind())) {
+                source.add(((ArrayType) parameter).getComponentType() + "... arg" + index);
+            } else {
+                source.add(parameter + " arg" + index);
+            }
+        }
+        return String.join(", ", source);
+    }
+
+    private static String getArguments(ExecutableElement method) {
+        List<String> arguments = new ArrayList<>();
+        for (int index = 0; index < method.getParameters().size(); index++) {
+            arguments.add("arg" + index);
+        }
+        return String.join(", ", arguments);
+    }
+
+    /**
+     * A single array argument is wrapped, otherwise it would be taken as the array of arguments
+     */
+    private static String getVarArguments(ExecutableElement method, ExecutableType type, String arguments) {
+        if (method.getParameters().size() == 1 && TypeKind.ARRAY.equals(type.getParameterTypes().get(0).getKind())) {
+            return "new Object[]{" + arguments + '}';
+        }
+        return arguments;
+    }
+
+    private static String getParameterClasses(ExecutableElement method, Types types) {
+        StringBuilder classes = new StringBuilder();
+        for (VariableElement parameter : method.getParameters()) {
+            classes.append(", ").append(types.erasure(parameter.asType())).append(".class");
+        }
+        return classes.toString();
+    }
+
+    private static String getCastType(TypeMirror type, Types types) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return type.toString();
+    }
+
+    private static String getSimpleName(TypeElement repository, Backend backend) {
+        StringBuilder name = new StringBuilder(repository.getSimpleName());
+        Element enclosing = repository.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append(backend.getSuffix()).toString();
+    }
+
+    private static boolean isReachable(TypeElement repository) {
+        Element element = repository;
+        while (element instanceof TypeElement) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * The repository that the generated implementation delegates to
+     */
+    enum Backend {
+        COLUMN("_ColumnRepositoryFactory", CrudRepository.class.getName(), ColumnRepository.class.getName(),
+                ColumnQueryMethods.class.getName(), ColumnQueryMethod.class.getName()),
+        DOCUMENT("_DocumentRepositoryFactory", CrudRepository.class.getName(), DocumentRepository.class.getName(),
+                DocumentQueryMethods.class.getName(), DocumentQueryMethod.class.getName()),
+        KEY_VALUE("_KeyValueRepositoryFactory", KeyValueCrudRepository.class.getName(),
+                KeyValueRepository.class.getName(), null, null) {
+            @Override
+            String delegate(String name, String arguments, String entityType) {
+                if ("get".equals(name)) {
+                    return "repository.get(" + arguments + ", " + entityType + ".class)";
+                }
+                return super.delegate(name, arguments, entityType);
+            }
+        };
+
+        private final String suffix;
+
+        private final String base;
+
+        private final String delegate;
+
+        private final String queryMethods;
+
+        private final String queryMethod;
+
+        Backend(String suffix, String base, String delegate, String queryMethods, String queryMethod) {
+            this.suffix = suffix;
+            this.base = base;
+            this.delegate = delegate;
+            this.queryMethods = queryMethods;
+            this.queryMethod = queryMethod;
+        }
+
+        String getSuffix() {
+            return suffix;
+        }
+
+        String getBase() {
+            return base;
+        }
+
+        String getDelegate() {
+            return delegate;
+        }
+
+        String getQueryMethods() {
+            return queryMethods;
+        }
+
+        String getQueryMethod() {
+            return queryMethod;
+        }
+
+        String delegate(String name, String arguments, String entityType) {
+            return "repository." + name + '(' + arguments + ')';
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.processor;
+
+
+import org.jnosql.artemis.CrudRepository;
+import org.jnosql.artemis.key.query.KeyValueCrudRepository;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The annotation processor that generates a {@link org.jnosql.artemis.RepositoryFactory} to each interface that
+ * extends either {@link CrudRepository}, to column and document, or {@link KeyValueCrudRepository}.
+ * The factories are registered to the {@link java.util.ServiceLoader}, so the repositories are plain classes
+ * instead of a {@link java.lang.reflect.Proxy} and the methods are not dispatched by reflection.
+ * The repository interfaces are not annotated, so this processor looks at every type of the compilation and
+ * does not claim any annotation.
+ */
+public class RepositoryProcessor extends AbstractProcessor {
+
+    static final String SERVICE_FILE = "META-INF/services/org.jnosql.artemis.RepositoryFactory";
+
+    private final Set<String> processed = new HashSet<>();
+
+    private final Set<String> factories = new TreeSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            ServiceFiles.write(processingEnv, SERVICE_FILE, factories);
+            return false;
+        }
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror crudRepository = getType(CrudRepository.class.getName());
+        TypeMirror keyValueRepository = getType(KeyValueCrudRepository.class.getName());
+        for (TypeElement repository : getInterfaces(ElementFilter.typesIn(roundEnv.getRootElements()))) {
+            if (!processed.add(repository.getQualifiedName().toString())) {
+                continue;
+            }
+            TypeMirror type = types.erasure(repository.asType());
+            if (crudRepository != null && !types.isSameType(type, crudRepository)
+                    && types.isAssignable(type, crudRepository)) {
+                RepositoryClass.of(repository, RepositoryClass.Backend.COLUMN, processingEnv).ifPresent(this::write);
+                RepositoryClass.of(repository, RepositoryClass.Backend.DOCUMENT, processingEnv).ifPresent(this::write);
+            }
+            if (keyValueRepository != null && !types.isSameType(type, keyValueRepository)
+                    && types.isAssignable(type, keyValueRepository)) {
+                RepositoryClass.of(repository, RepositoryClass.Backend.KEY_VALUE, processingEnv).ifPresent(this::write);
+            }
+        }
+        return false;
+    }
+
+    private TypeMirror getType(String name) {
+        TypeElement element = processingEnv.getElementUtils().getTypeElement(name);
+        return element == null ? null : processingEnv.getTypeUtils().erasure(element.asType());
+    }
+
+    private Set<TypeElement> getInterfaces(Iterable<TypeElement> elements) {
+        Set<TypeElement> interfaces = new LinkedHashSet<>();
+        for (TypeElement element : elements) {
+            if (ElementKind.INTERFACE.equals(element.getKind())) {
+                interfaces.add(element);
+            }
+            interfaces.addAll(getInterfaces(ElementFilter.typesIn(element.getEnclosedElements())));
+        }
+        return interfaces;
+    }
+
+    private void write(RepositoryClass repository) {
+        try {
+            JavaFileObject file = processingEnv.getFiler()
+                    .createSourceFile(repository.getQualifiedName(), repository.getRepository());
+            try (Writer writer = file.openWriter()) {
+                writer.write(repository.toSource());
+            }
+            factories.add(repository.getQualifiedName());
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "There is an error to write the repository factory: " + exception.getMessage(),
+                    repository.getRepository());
+        }
+    }
+}
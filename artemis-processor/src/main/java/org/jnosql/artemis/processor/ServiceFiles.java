@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.processor;
+
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Writes the {@link java.util.ServiceLoader} files of the generated classes, the services already registered
+ * in the class output are kept.
+ */
+final class ServiceFiles {
+
+    private ServiceFiles() {
+    }
+
+    static void write(ProcessingEnvironment environment, String serviceFile, Set<String> generated) {
+        if (generated.isEmpty()) {
+            return;
+        }
+        Set<String> services = new TreeSet<>(generated);
+        read(environment, serviceFile).ifPresent(services::addAll);
+        try {
+            FileObject file = environment.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", serviceFile);
+            try (Writer writer = file.openWriter()) {
+                for (String service : services) {
+                    writer.write(service);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException exception) {
+            environment.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "There is an error to write the service file: " + exception.getMessage());
+        }
+    }
+
+    private static Optional<Set<String>> read(ProcessingEnvironment environment, String serviceFile) {
+        try {
+            FileObject file = environment.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", serviceFile);
+            Set<String> services = new TreeSet<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.openInputStream(),
+                    StandardCharsets.UTF_8))) {
+                reader.lines().map(String::trim).filter(l -> !l.isEmpty()).forEach(services::add);
+            }
+            return Optional.of(services);
+        } catch (IOException | IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+    }
+}
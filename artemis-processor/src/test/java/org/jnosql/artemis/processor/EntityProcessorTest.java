@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.Attribute;
+import org.jnosql.artemis.EntityModel;
+import org.jnosql.artemis.reflection.EntityMapper;
+import org.jnosql.artemis.reflection.FieldAccessor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class EntityProcessorTest {
+
+    private static final String BOOK = "package sample;\n" +
+            "import org.jnosql.artemis.*;\n" +
+            "@Entity\n" +
+            "public class Book {\n" +
+            "    @Key @Column String isbn;\n" +
+            "    @Column private String title;\n" +
+            "    @Column private int pages;\n" +
+            "    @Column private java.util.List<String> authors;\n" +
+            "    @Column long stock;\n" +
+            "    @Column(\"published_year\") int year;\n" +
+            "    public String getTitle() { return title; }\n" +
+            "    public void setTitle(String title) { this.title = title; }\n" +
+            "    public int getPages() { return pages; }\n" +
+            "}\n";
+
+    private static final String REVIEW = "package sample;\n" +
+            "import org.jnosql.artemis.*;\n" +
+            "public class Review {\n" +
+            "    @Key private long id;\n" +
+            "    private Review(long id) { this.id = id; }\n" +
+            "    public long getId() { return id; }\n" +
+            "    public void setId(long id) { this.id = id; }\n" +
+            "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File output;
+
+    @Before
+    public void setUp() throws IOException {
+        File source = folder.newFolder("sample");
+        output = folder.newFolder("classes");
+        Files.write(new File(source, "Book.java").toPath(), BOOK.getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(source, "Review.java").toPath(), REVIEW.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null, "-d", output.getAbsolutePath(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", EntityProcessor.class.getName(),
+                new File(source, "Book.java").getAbsolutePath(),
+                new File(source, "Review.java").getAbsolutePath());
+        assertEquals(0, result);
+    }
+
+    @Test
+    public void shouldRegisterMappers() throws IOException {
+        List<String> services = Files.readAllLines(new File(output, EntityProcessor.SERVICE_FILE).toPath());
+        assertEquals(2, services.size());
+        assertTrue(services.contains("sample.Book_EntityMapper"));
+        assertTrue(services.contains("sample.Review_EntityMapper"));
+    }
+
+    @Test
+    public void shouldCreateAccessorsToReachableFields() throws Exception {
+        EntityMapper<Object> mapper = getMapper("sample.Book_EntityMapper");
+        Object book = mapper.getInstanceSupplier().get().get();
+        assertEquals("sample.Book", mapper.getEntityClass().getName());
+
+        FieldAccessor isbn = mapper.getAccessor("isbn").get();
+        FieldAccessor title = mapper.getAccessor("title").get();
+        isbn.set(book, "978");
+        title.set(book, "Artemis");
+        assertEquals("978", isbn.get(book));
+        assertEquals("Artemis", title.get(book));
+
+        FieldAccessor stock = mapper.getAccessor("stock").get();
+        stock.setLong(book, 10L);
+        assertEquals(10L, stock.getLong(book));
+        assertEquals(10L, stock.get(book));
+
+        assertFalse(mapper.getAccessor("pages").isPresent());
+        assertFalse(mapper.getAccessor("authors").isPresent());
+    }
+
+    @Test
+    public void shouldNotCreateInstanceSupplierWithoutNoArgConstructor() throws Exception {
+        EntityMapper<Object> mapper = getMapper("sample.Review_EntityMapper");
+        assertFalse(mapper.getInstanceSupplier().isPresent());
+        assertTrue(mapper.getAccessor("id").isPresent());
+    }
+
+    @Test
+    public void shouldCreateMetamodel() throws Exception {
+        Class<?> metamodel = getLoader().loadClass("sample.Book_");
+        EntityModel<?> entity = (EntityModel<?>) metamodel.getField("ENTITY").get(null);
+        assertEquals("sample.Book", entity.getEntityClass().getName());
+        assertEquals("Book", entity.getName());
+
+        Attribute<?, ?> year = (Attribute<?, ?>) metamodel.getField("year").get(null);
+        assertEquals("year", year.getFieldName());
+        assertEquals("published_year", year.getName());
+        assertEquals(entity, year.getEntity());
+
+        Attribute<?, ?> title = (Attribute<?, ?>) metamodel.getField("title").get(null);
+        assertEquals("title", title.getName());
+        assertTrue(Modifier.isStatic(metamodel.getField("authors").getModifiers()));
+    }
+
+    @Test(expected = ClassNotFoundException.class)
+    public void shouldNotCreateMetamodelWithoutEntity() throws Exception {
+        getLoader().loadClass("sample.Review_");
+    }
+
+    private ClassLoader getLoader() throws IOException {
+        return new URLClassLoader(new URL[]{output.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    @SuppressWarnings("unchecked")
+    private EntityMapper<Object> getMapper(String name) throws Exception {
+        return (EntityMapper<Object>) getLoader().loadClass(name).getDeclaredConstructor().newInstance();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017 Otavio Santana and others
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.jnosql.artemis.processor;
+
+import org.jnosql.artemis.ChunkExecutor;
+import org.jnosql.artemis.ChunkSize;
+import org.jnosql.artemis.CrudRepository;
+import org.jnosql.artemis.FetchSize;
+import org.jnosql.artemis.RepositoryFactory;
+import org.jnosql.artemis.column.ColumnRepository;
+import org.jnosql.artemis.document.DocumentRepository;
+import org.jnosql.artemis.key.KeyValueRepository;
+import org.jnosql.artemis.key.query.KeyValueCrudRepository;
+import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RepositoryProcessorTest {
+
+    private static final String PERSON = "package sample;\n" +
+            "public class Person {\n" +
+            "    private String name;\n" +
+            "    private Integer age;\n" +
+            "}\n";
+
+    private static final String PERSON_REPOSITORY = "package sample;\n" +
+            "import org.jnosql.artemis.CrudRepository;\n" +
+            "public interface PersonRepository extends CrudRepository<Person> {\n" +
+            "    Person findByName(String name);\n" +
+            "    java.util.List<Person> findByAgeOrderByName(Integer age);\n" +
+            "    boolean existsByName(String name);\n" +
+            "    long countByAge(Integer age);\n" +
+            "    void deleteByName(String name);\n" +
+            "    default Person findAda() { return findByName(\"Ada\"); }\n" +
+            "}\n";
+
+    private static final String STORE = "package sample;\n" +
+            "import org.jnosql.artemis.CrudRepository;\n" +
+            "import org.jnosql.artemis.key.query.KeyValueCrudRepository;\n" +
+            "public class Store {\n" +
+            "    interface BookRepository extends CrudRepository<Person> {\n" +
+            "    }\n" +
+            "    public interface UserRepository extends KeyValueCrudRepository<Person> {\n" +
+            "    }\n" +
+            "    private interface HiddenRepository extends CrudRepository<Person> {\n" +
+            "    }\n" +
+            "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File output;
+
+    private ClassLoader loader;
+
+    private final List<String> invocations = new ArrayList<>();
+
+    @Before
+    public void setUp() throws IOException {
+        File source = folder.newFolder("sample");
+        output = folder.newFolder("classes");
+        Files.write(new File(source, "Person.java").toPath(), PERSON.getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(source, "PersonRepository.java").toPath(),
+                PERSON_REPOSITORY.getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(source, "Store.java").toPath(), STORE.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null, "-d", output.getAbsolutePath(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", RepositoryProcessor.class.getName(),
+                new File(source, "Person.java").getAbsolutePath(),
+                new File(source, "PersonRepository.java").getAbsolutePath(),
+                new File(source, "Store.java").getAbsolutePath());
+        assertEquals(0, result);
+        loader = new URLClassLoader(new URL[]{output.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    @Test
+    public void shouldRegisterFactories() throws IOException {
+        List<String> services = Files.readAllLines(new File(output, RepositoryProcessor.SERVICE_FILE).toPath());
+        assertEquals(Arrays.asList("sample.PersonRepository_ColumnRepositoryFactory",
+                "sample.PersonRepository_DocumentRepositoryFactory",
+                "sample.Store_BookRepository_ColumnRepositoryFactory",
+                "sample.Store_BookRepository_DocumentRepositoryFactory",
+                "sample.Store_UserRepository_KeyValueRepositoryFactory"), services);
+    }
+
+    @Test
+    public void shouldCreateFactoryToQueryMethods() throws Exception {
+        RepositoryFactory<?, ?> factory = getFactory("sample.PersonRepository_DocumentRepositoryFactory");
+        assertEquals("sample.PersonRepository", factory.getRepositoryType().getName());
+        assertEquals(DocumentRepository.class, factory.getDelegateType());
+        Method create = factory.getClass().getMethod("create", DocumentRepository.class,
+                ClassRepresentations.class, ChunkSize.class, FetchSize.class, ChunkExecutor.class);
+        assertEquals(factory.getClass(), create.getDeclaringClass());
+    }
+
+    @Test
+    public void shouldDelegateCrudMethods() throws Exception {
+        RepositoryFactory<CrudRepository<Object>, ColumnRepository> factory =
+                getFactory("sample.Store_BookRepository_ColumnRepositoryFactory");
+        assertEquals(ColumnRepository.class, factory.getDelegateType());
+
+        CrudRepository<Object> repository = factory.create(record(ColumnRepository.class), null);
+        assertFalse(Proxy.isProxyClass(repository.getClass()));
+
+        Object person = loader.loadClass("sample.Person").getDeclaredConstructor().newInstance();
+        assertEquals(person, repository.save(person));
+        assertEquals(person, repository.update(person));
+        assertEquals(Arrays.asList("save", "update"), invocations);
+    }
+
+    @Test
+    public void shouldDelegateKeyValueMethods() throws Exception {
+        RepositoryFactory<KeyValueCrudRepository<Object>, KeyValueRepository> factory =
+                getFactory("sample.Store_UserRepository_KeyValueRepositoryFactory");
+        KeyValueCrudRepository<Object> repository = factory.create(record(KeyValueRepository.class), null);
+
+        assertFalse(repository.get("ada").isPresent());
+        repository.remove("ada");
+        assertEquals(Arrays.asList("get:ada:sample.Person", "remove:ada"), invocations);
+    }
+
+    @Test
+    public void shouldIgnorePrivateRepository() {
+        assertFalse(new File(output, "sample/Store_HiddenRepository_ColumnRepositoryFactory.class").exists());
+        assertTrue(new File(output, "sample/Store_BookRepository_ColumnRepositoryFactory.class").exists());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R, M> RepositoryFactory<R, M> getFactory(String name) throws Exception {
+        return (RepositoryFactory<R, M>) loader.loadClass(name).getDeclaredConstructor().newInstance();
+    }
+
+    private <T> T record(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (proxy, method, args) -> {
+            StringBuilder invocation = new StringBuilder(method.getName());
+            for (Object arg : args) {
+                invocation.append(':').append(arg instanceof Class ? ((Class<?>) arg).getName() : arg);
+            }
+            if ("get".equals(method.getName())) {
+                invocations.add(invocation.toString());
+                return Optional.empty();
+            }
+            invocations.add(args[0].getClass().getName().equals("sample.Person") ? method.getName()
+                    : invocation.toString());
+            return "remove".equals(method.getName()) ? null : args[0];
+        }));
+    }
+}